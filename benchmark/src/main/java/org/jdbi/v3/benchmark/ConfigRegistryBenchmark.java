@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Handles;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares full and layered config copies. Run with the GC profiler ({@code -prof gc}) to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class ConfigRegistryBenchmark {
+
+    @Param({"false", "true"})
+    public boolean layered;
+
+    private JdbiRule db;
+    private Handle handle;
+    private ConfigRegistry config;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ConfigRegistryBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2()
+                .withPlugin(new SqlObjectPlugin());
+        db.before();
+        db.getJdbi().getConfig(Handles.class).setLayeredConfig(layered);
+        db.getJdbi().getConfig(SqlStatements.class).setLayeredConfig(layered);
+        handle = db.getJdbi().open();
+        config = handle.getConfig();
+    }
+
+    @TearDown
+    public void close() {
+        handle.close();
+        db.after();
+    }
+
+    @Benchmark
+    public ConfigRegistry copyRegistry() {
+        return layered ? config.createLayeredCopy() : config.createCopy();
+    }
+
+    @Benchmark
+    public Query createQuery() {
+        try (Query query = handle.createQuery("select 1")) {
+            return query;
+        }
+    }
+
+    @Benchmark
+    public int executeQuery() {
+        return handle.createQuery("select 1")
+                .mapTo(int.class)
+                .one();
+    }
+
+    @Benchmark
+    public int openHandleAndExecuteQuery() {
+        return db.getJdbi().withHandle(h -> h.createQuery("select 1")
+                .mapTo(int.class)
+                .one());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.ClockJdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures cache throughput with 1 to 64 threads sharing a single cache, comparable to the SQL parser and template
+ * caches under load. With {@code keys} below the cache size, all lookups are hits. With more keys than the cache
+ * holds, a part of the lookups are misses that load a value and evict another entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class JdbiCacheBenchmark {
+
+    private static final int CACHE_SIZE = 1_000;
+
+    @Param({"default", "clock"})
+    public String cache;
+
+    @Param({"500", "1200"})
+    public int keys;
+
+    private JdbiCache<String, String> jdbiCache;
+    private String[] keyValues;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JdbiCacheBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JdbiCacheBuilder builder = "clock".equals(cache) ? ClockJdbiCacheBuilder.builder() : DefaultJdbiCacheBuilder.builder();
+        jdbiCache = builder.maxSize(CACHE_SIZE).buildWithLoader(key -> "select * from table where id = " + key);
+
+        keyValues = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyValues[i] = "key" + i;
+            jdbiCache.get(keyValues[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threads01() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String threads04() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String threads16() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return lookup();
+    }
+
+    private String lookup() {
+        return jdbiCache.get(keyValues[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.jackson2.Jackson2Plugin;
+import org.jdbi.v3.json.Json;
+import org.jdbi.v3.json.JsonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping {@code @Json} values from Strings with character streams
+ * ({@link JsonConfig#setStreaming(boolean)}) on H2. Run with {@code -prof gc} to compare the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class JsonStreamingBenchmark {
+
+    private static final QualifiedType<List<Item>> ITEMS = QualifiedType.of(new GenericType<List<Item>>() {}).with(Json.class);
+
+    @Param({"100", "10000"})
+    private int items;
+
+    private Jdbi jdbi;
+    private Handle stringHandle;
+    private Handle streamingHandle;
+    private List<Item> value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        jdbi = Jdbi.create("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=-1").installPlugin(new Jackson2Plugin());
+
+        value = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            value.add(new Item(i, "item number " + i, i * 0.5));
+        }
+
+        stringHandle = jdbi.open();
+        stringHandle.execute("create table doc (id int primary key, body clob)");
+        stringHandle.createUpdate("insert into doc (id, body) values (1, :body)").bindByType("body", value, ITEMS).execute();
+
+        streamingHandle = jdbi.open();
+        streamingHandle.getConfig(JsonConfig.class).setStreaming(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stringHandle.execute("drop table doc");
+        stringHandle.close();
+        streamingHandle.close();
+    }
+
+    @Benchmark
+    public List<Item> mapString() {
+        return map(stringHandle);
+    }
+
+    @Benchmark
+    public List<Item> mapStreaming() {
+        return map(streamingHandle);
+    }
+
+    private List<Item> map(Handle handle) {
+        return handle.createQuery("select body from doc where id = 1")
+            .mapTo(ITEMS)
+            .one();
+    }
+
+    public static class Item {
+        public int id;
+        public String name;
+        public double amount;
+
+        public Item() {}
+
+        Item(int id, String name, double amount) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+}
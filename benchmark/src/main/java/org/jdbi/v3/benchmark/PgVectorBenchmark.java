@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.pgvector.PGvector;
+import org.jdbi.v3.postgres.internal.PgVectorFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding and decoding an embedding through {@link PGvector}, which uses the text representation, with the
+ * text and binary representations of the {@code @Vector float[]} support of the postgres plugin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class PgVectorBenchmark {
+
+    @Param({"384", "1536"})
+    private int dimensions;
+
+    private float[] vector;
+    private String text;
+    private byte[] textBytes;
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        text = new PGvector(vector).getValue();
+        textBytes = text.getBytes(StandardCharsets.US_ASCII);
+        binary = formatBinary();
+    }
+
+    @Benchmark
+    public String formatPGobject() {
+        return new PGvector(vector).getValue();
+    }
+
+    @Benchmark
+    public String formatText() {
+        return PgVectorFormat.VECTOR.toText(vector);
+    }
+
+    @Benchmark
+    public byte[] formatBinary() {
+        byte[] bytes = new byte[PgVectorFormat.VECTOR.binaryLength(vector)];
+        PgVectorFormat.VECTOR.toBinary(vector, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public float[] parsePGobject() throws SQLException {
+        return new PGvector(text).toArray();
+    }
+
+    @Benchmark
+    public float[] parseText() {
+        return PgVectorFormat.VECTOR.parse(textBytes);
+    }
+
+    @Benchmark
+    public float[] parseBinary() {
+        return PgVectorFormat.VECTOR.parse(binary);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark.sqlobject;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.h2.Driver;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultProducers;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per row overhead of iterating over a result set with a {@link ResultIterator}, compared to reading
+ * the same rows with plain JDBC.
+ */
+public class H2ResultIteratorBenchmark extends AbstractSqlObjectBenchmark {
+    static {
+        Driver.load();
+    }
+
+    private static final String SELECT_ALL = "SELECT id, name, description FROM tbl ORDER BY id";
+
+    @Param({"1", "100", "10000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean checkConfinement;
+
+    private Handle handle;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=10");
+        jdbi.getConfig(ResultProducers.class).setCheckIteratorConfinement(checkConfinement);
+
+        handle = jdbi.open();
+        handle.execute("drop table if exists tbl");
+        handle.execute("create table tbl (id identity, name varchar, description varchar)");
+
+        try (PreparedBatch batch = handle.prepareBatch(INSERT)) {
+            for (int i = 0; i < rows; i++) {
+                batch.bind("name", "name " + i).bind("description", "description " + i).add();
+            }
+            batch.execute();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() {
+        if (handle != null) {
+            handle.close();
+            handle = null;
+        }
+    }
+
+    @Benchmark
+    public void jdbcResultSet(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = handle.getConnection().prepareStatement(SELECT_ALL);
+            ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void resultIterator(Blackhole blackhole) {
+        try (ResultIterator<Long> iterator = handle.createQuery(SELECT_ALL).map((rs, ctx) -> rs.getLong(1)).iterator()) {
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void resultStream(Blackhole blackhole) {
+        handle.createQuery(SELECT_ALL)
+            .map((rs, ctx) -> rs.getLong(1))
+            .useStream(stream -> stream.forEach(blackhole::consume));
+    }
+}
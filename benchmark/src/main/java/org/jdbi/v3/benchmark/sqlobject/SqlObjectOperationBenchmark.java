@@ -27,6 +27,8 @@ import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.UseRowMapper;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -51,6 +53,8 @@ public class SqlObjectOperationBenchmark {
     private Jdbi jdbi;
     private Handle handle;
     private long totalCount;
+    private AttachedDao attachedDao;
+    private int nextId;
 
     @Setup(Level.Iteration)
     public void setUp() {
@@ -63,6 +67,7 @@ public class SqlObjectOperationBenchmark {
         handle.execute("create table tbl (id identity, name varchar, description varchar)");
 
         this.totalCount = insertRows(1000);
+        this.attachedDao = handle.attach(AttachedDao.class);
     }
 
     private int insertRows(int count) {
@@ -109,6 +114,27 @@ public class SqlObjectOperationBenchmark {
         return jdbi.withExtension(RowMapperClassDao.class, RowMapperClassDao::getData);
     }
 
+    @Benchmark
+    public Data attachedById() {
+        return attachedDao.getById(nextId());
+    }
+
+    @Benchmark
+    public Data attachedUseRowMapper() {
+        return attachedDao.getByIdWithMapper(nextId());
+    }
+
+    @Benchmark
+    public int attachedUpdate() {
+        final int id = nextId();
+        return attachedDao.rename(id, "Name for " + id);
+    }
+
+    private int nextId() {
+        nextId = (nextId + 1) % (int) totalCount;
+        return nextId;
+    }
+
     public interface NakedDao {
 
         @SqlQuery("SELECT * FROM tbl")
@@ -129,7 +155,20 @@ public class SqlObjectOperationBenchmark {
         List<Data> getData();
     }
 
-    static class Data {
+    public interface AttachedDao {
+
+        @SqlQuery("SELECT * FROM tbl WHERE id = :id")
+        Data getById(int id);
+
+        @UseRowMapper(DataMapper.class)
+        @SqlQuery("SELECT * FROM tbl WHERE id = :id")
+        Data getByIdWithMapper(int id);
+
+        @SqlUpdate("UPDATE tbl SET name = :name WHERE id = :id")
+        int rename(int id, String name);
+    }
+
+    public static class Data {
 
         private final int id;
         private final String name;
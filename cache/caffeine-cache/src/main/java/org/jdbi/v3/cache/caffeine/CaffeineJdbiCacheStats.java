@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+
+/**
+ * Adapts the Caffeine cache statistics. Hits, misses and evictions are only recorded if the
+ * {@link com.github.benmanes.caffeine.cache.Caffeine} builder was configured to record statistics.
+ */
+final class CaffeineJdbiCacheStats implements JdbiCacheStats {
+
+    private final CacheStats stats;
+    private final int cacheSize;
+    private final int maxSize;
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+
+    CaffeineJdbiCacheStats(Cache<?, ?> cache, long loadCount, long totalLoadTimeNanos) {
+        this.stats = cache.stats();
+        this.cacheSize = (int) Math.min(cache.estimatedSize(), Integer.MAX_VALUE);
+        this.maxSize = cache.policy().eviction()
+            .map(eviction -> (int) Math.min(eviction.getMaximum(), Integer.MAX_VALUE))
+            .orElse(-1);
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    @Override
+    public int cacheSize() {
+        return cacheSize;
+    }
+
+    @Override
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long hitCount() {
+        return stats.hitCount();
+    }
+
+    @Override
+    public long missCount() {
+        return stats.missCount();
+    }
+
+    @Override
+    public long loadCount() {
+        return loadCount;
+    }
+
+    @Override
+    public long totalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    @Override
+    public long evictionCount() {
+        return stats.evictionCount();
+    }
+}
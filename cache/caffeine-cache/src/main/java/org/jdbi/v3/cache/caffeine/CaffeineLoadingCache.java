@@ -18,6 +18,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 
 /**
  * Cache implementation using the caffeine cache library.
@@ -51,4 +52,10 @@ public final class CaffeineLoadingCache<K, V> implements JdbiCache<K, V> {
     public CacheStats getStats() {
         return loadingCache.stats();
     }
+
+    @Override
+    public JdbiCacheStats getJdbiCacheStats() {
+        final CacheStats stats = loadingCache.stats();
+        return new CaffeineJdbiCacheStats(loadingCache, stats.loadCount(), stats.totalLoadTime());
+    }
 }
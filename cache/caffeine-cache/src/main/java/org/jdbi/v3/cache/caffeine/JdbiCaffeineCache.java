@@ -14,6 +14,7 @@
 package org.jdbi.v3.cache.caffeine;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -21,11 +22,16 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 
 class JdbiCaffeineCache<K, V> implements JdbiCache<K, V> {
     private final Cache<K, CompletableFuture<V>> cache;
     private final JdbiCacheLoader<K, V> loader;
 
+    // Caffeine only sees the creation of the future, so loads are recorded here
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
     JdbiCaffeineCache(Caffeine<Object, Object> caffeine, JdbiCacheLoader<K, V> loader) {
         this.loader = loader;
         this.cache = caffeine.build();
@@ -51,15 +57,33 @@ class JdbiCaffeineCache<K, V> implements JdbiCache<K, V> {
         }
         synchronized (future) {
             if (!future.isDone()) {
-                future.complete(loader == null ? null : loader.create(key));
+                future.complete(load(key, loader));
             }
             return future.join();
         }
     }
 
+    private V load(K key, JdbiCacheLoader<K, V> loader) {
+        if (loader == null) {
+            return null;
+        }
+        final long start = System.nanoTime();
+        try {
+            return loader.create(key);
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public CacheStats getStats() {
         return cache.stats();
     }
+
+    @Override
+    public JdbiCacheStats getJdbiCacheStats() {
+        return new CaffeineJdbiCacheStats(cache, loads.sum(), loadNanos.sum());
+    }
 }
@@ -22,7 +22,7 @@ import org.jdbi.v3.core.cache.internal.JdbiCacheTest;
 class CaffeineCacheTest extends JdbiCacheTest {
     @Override
     protected JdbiCacheBuilder setupBuilder() {
-        Caffeine<Object, Object> caffeine = Caffeine.newBuilder().expireAfterAccess(Duration.ofSeconds(5)).initialCapacity(10);
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder().expireAfterAccess(Duration.ofSeconds(5)).initialCapacity(10).recordStats();
         return new CaffeineCacheBuilder(caffeine);
     }
 }
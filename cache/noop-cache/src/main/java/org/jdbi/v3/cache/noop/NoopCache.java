@@ -13,9 +13,12 @@
  */
 package org.jdbi.v3.cache.noop;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 
 /**
  * A no operation cache implementation.
@@ -29,6 +32,10 @@ public final class NoopCache<K, V> implements JdbiCache<K, V> {
 
     private final JdbiCacheLoader<K, V> cacheLoader;
 
+    // every lookup is a miss that loads a value
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
     /**
      * Returns a new {@link JdbiCacheBuilder} which can be used to construct the internal caches.
      *
@@ -45,7 +52,7 @@ public final class NoopCache<K, V> implements JdbiCache<K, V> {
     @Override
     public V get(K key) {
         if (cacheLoader != null) {
-            return cacheLoader.create(key);
+            return load(key, cacheLoader);
         } else {
             throw new UnsupportedOperationException();
         }
@@ -53,7 +60,17 @@ public final class NoopCache<K, V> implements JdbiCache<K, V> {
 
     @Override
     public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
-        return loader.create(key);
+        return load(key, loader);
+    }
+
+    private V load(K key, JdbiCacheLoader<K, V> loader) {
+        final long start = System.nanoTime();
+        try {
+            return loader.create(key);
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
     }
 
     @Override
@@ -61,4 +78,37 @@ public final class NoopCache<K, V> implements JdbiCache<K, V> {
     public Object getStats() {
         return NOOP_CACHE_STATS;
     }
+
+    @Override
+    public JdbiCacheStats getJdbiCacheStats() {
+        final long loadCount = loads.sum();
+        final long totalLoadTimeNanos = loadNanos.sum();
+
+        return new JdbiCacheStats() {
+            @Override
+            public int cacheSize() {
+                return 0;
+            }
+
+            @Override
+            public int maxSize() {
+                return 0;
+            }
+
+            @Override
+            public long missCount() {
+                return loadCount;
+            }
+
+            @Override
+            public long loadCount() {
+                return loadCount;
+            }
+
+            @Override
+            public long totalLoadTimeNanos() {
+                return totalLoadTimeNanos;
+            }
+        };
+    }
 }
@@ -17,6 +17,7 @@ import java.util.UUID;
 
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 import org.jdbi.v3.core.cache.internal.JdbiCacheTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +29,21 @@ class NoopCacheTest extends JdbiCacheTest {
         return NoopCache.builder();
     }
 
+    @Override
+    protected void doTestStats(JdbiCache<String, String> cache) {
+        String key = UUID.randomUUID().toString();
+
+        // no cache, every lookup loads a value
+        cache.get(key);
+        cache.get(key);
+
+        JdbiCacheStats stats = cache.getJdbiCacheStats();
+        assertThat(stats.cacheSize()).isZero();
+        assertThat(stats.hitCount()).isZero();
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.loadCount()).isEqualTo(2);
+    }
+
     @Override
     protected void doTestWithGlobalLoader(JdbiCache<String, String> cache) {
         assertThat(cacheLoader.created()).isZero();
@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -34,6 +36,8 @@ import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.exceptions.ThrowableSuppressor;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.statement.Batch;
+import org.jdbi.v3.core.statement.BulkLoad;
+import org.jdbi.v3.core.statement.BulkLoadResult;
 import org.jdbi.v3.core.statement.Call;
 import org.jdbi.v3.core.statement.Cleanable;
 import org.jdbi.v3.core.statement.MetaData;
@@ -105,11 +109,13 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.connection = connection;
 
         // create a copy to detach config from the jdbi to allow local changes.
-        this.defaultExtensionContext = ExtensionContext.forConfig(jdbi.getConfig().createCopy());
+        final ConfigRegistry jdbiConfig = jdbi.getConfig();
+        final ConfigRegistry handleConfig = jdbiConfig.get(Handles.class).isLayeredConfig() ? jdbiConfig.createLayeredCopy() : jdbiConfig.createCopy();
+        this.defaultExtensionContext = ExtensionContext.forConfig(handleConfig);
         this.currentExtensionContext = defaultExtensionContext;
 
         this.statementBuilder = statementBuilder;
-        this.handleListeners = getConfig().get(Handles.class).copyListeners();
+        this.handleListeners = getConfig().read(Handles.class).copyListeners();
 
         addCleanable(() -> statementBuilder.close(connection));
 
@@ -238,7 +244,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         }
 
         // do this at call time, otherwise running the cleanables may affect the state of the other handle objects (e.g. the config)
-        final boolean doForceEndTransactions = this.forceEndTransactions && getConfig().get(Handles.class).isForceEndTransactions();
+        final boolean doForceEndTransactions = this.forceEndTransactions && getConfig().read(Handles.class).isForceEndTransactions();
 
         try {
             ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
@@ -400,6 +406,35 @@ public class Handle implements Closeable, Configurable<Handle> {
         return prepareBatch((CharSequence) sql);
     }
 
+    /**
+     * Create a bulk load that executes the given statement for a large number of rows in chunks.
+     *
+     * @param sql the SQL executed for each row.
+     * @return a bulk load which can be configured and executed.
+     * @since 3.52.0
+     */
+    @Beta
+    public BulkLoad createBulkLoad(CharSequence sql) {
+        return new BulkLoad(this, sql);
+    }
+
+    /**
+     * Execute the given statement for each row of the stream, using the default chunk size. The stream
+     * is consumed lazily and closed when this method returns.
+     *
+     * @param sql the SQL executed for each row.
+     * @param rows the rows to load.
+     * @param binder binds the values of a row to the batch.
+     * @param <T> the row type.
+     * @return a summary of the bulk load.
+     * @see BulkLoad
+     * @since 3.52.0
+     */
+    @Beta
+    public <T> BulkLoadResult bulkLoad(CharSequence sql, Stream<T> rows, BiConsumer<PreparedBatch, ? super T> binder) {
+        return createBulkLoad(sql).execute(rows, binder);
+    }
+
     /**
      * Create a call to a stored procedure.
      *
@@ -17,7 +17,9 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for handles.
@@ -25,6 +27,7 @@ import org.jdbi.v3.core.config.JdbiConfig;
 public class Handles implements JdbiConfig<Handles> {
 
     private boolean forceEndTransactions = true;
+    private boolean layeredConfig;
 
     private final Set<HandleListener> handleListeners;
 
@@ -34,6 +37,7 @@ public class Handles implements JdbiConfig<Handles> {
 
     private Handles(Handles that) {
         this.forceEndTransactions = that.forceEndTransactions;
+        this.layeredConfig = that.layeredConfig;
         this.handleListeners = new CopyOnWriteArraySet<>(that.handleListeners);
     }
 
@@ -64,6 +68,32 @@ public class Handles implements JdbiConfig<Handles> {
         this.forceEndTransactions = forceEndTransactions;
     }
 
+    /**
+     * Returns whether handles use a layered copy of the {@link Jdbi} configuration.
+     *
+     * @return whether handles use a layered copy of the {@link Jdbi} configuration.
+     * @see ConfigRegistry#createLayeredCopy()
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isLayeredConfig() {
+        return layeredConfig;
+    }
+
+    /**
+     * Sets whether handles use a layered copy of the {@link Jdbi} configuration instead of a full copy. A layered
+     * copy only copies configuration objects that are modified through a handle. However, changes to the
+     * {@link Jdbi} configuration made after a handle was created may become visible to that handle. The default is false.
+     *
+     * @param layeredConfig whether handles use a layered copy of the {@link Jdbi} configuration.
+     * @see ConfigRegistry#createLayeredCopy()
+     * @since 3.52.0
+     */
+    @Beta
+    public void setLayeredConfig(boolean layeredConfig) {
+        this.layeredConfig = layeredConfig;
+    }
+
     /**
      * Add a {@link HandleListener} which is called for specific events. Adding a listener will add
      * it to all Handles that are subsequently created (this call does not affect existing handles).
@@ -16,6 +16,9 @@ package org.jdbi.v3.core;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
@@ -24,8 +27,11 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.Configurable;
+import org.jdbi.v3.core.config.internal.ConfigCaches;
 import org.jdbi.v3.core.extension.ExtensionCallback;
 import org.jdbi.v3.core.extension.ExtensionConsumer;
 import org.jdbi.v3.core.extension.ExtensionFactory;
@@ -34,6 +40,7 @@ import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.OnDemandExtensions;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.DefaultStatementBuilder;
 import org.jdbi.v3.core.statement.SqlStatements;
@@ -43,6 +50,7 @@ import org.jdbi.v3.core.transaction.LocalTransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -272,6 +280,27 @@ public class Jdbi implements Configurable<Jdbi> {
         return this.statementBuilderFactory.get();
     }
 
+    /**
+     * Returns statistics for all caches of this Jdbi instance, keyed by cache name. The map contains the
+     * caches of {@link SqlStatements#getCacheStats()}, the specialized mapper cache ({@code specializedMappers})
+     * if it is enabled in {@link ReflectionMappers} and the metadata caches ({@code configCaches}).
+     * <br>
+     * The statistics are a snapshot and can be polled periodically to export them to a metrics system.
+     *
+     * @return A map of cache names to cache statistics.
+     * @since 3.52.0
+     */
+    @Beta
+    public Map<String, JdbiCacheStats> getCacheStats() {
+        final Map<String, JdbiCacheStats> stats = new LinkedHashMap<>(getConfig(SqlStatements.class).getCacheStats());
+        final JdbiCache<?, ?> specializedMapperCache = getConfig(ReflectionMappers.class).getSpecializedMapperCache();
+        if (specializedMapperCache != null) {
+            stats.put("specializedMappers", specializedMapperCache.getJdbiCacheStats());
+        }
+        stats.put("configCaches", getConfig(ConfigCaches.class).getStats());
+        return Collections.unmodifiableMap(stats);
+    }
+
     @Override
     public ConfigRegistry getConfig() {
         return config;
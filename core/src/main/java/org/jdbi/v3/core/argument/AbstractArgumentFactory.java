@@ -76,9 +76,14 @@ public abstract class AbstractArgumentFactory<T> implements ArgumentFactory.Prep
         }
     }
 
+    // true if this factory prepares arguments for the given type
+    boolean isSupported(Type type) {
+        return isInstance.test(type, null);
+    }
+
     @Override
     public Optional<Function<Object, Argument>> prepare(Type type, ConfigRegistry config) {
-        return isInstance.test(type, null)
+        return isSupported(type)
                 ? Optional.of(value -> innerBuild(type, value, config))
                 : Optional.empty();
     }
@@ -13,9 +13,11 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.sql.Types;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,11 +25,16 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.internal.IterableLike;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.meta.Beta;
 
 /**
@@ -39,8 +46,14 @@ import org.jdbi.v3.meta.Beta;
  */
 public class Arguments implements JdbiConfig<Arguments> {
     private final List<QualifiedArgumentFactory> factories;
+    // for the built-in and adapted factories, the types that the factory supports or declines without using the configuration.
+    // Replaced on registration, so copies can share it. The replaced fields are volatile as a config is read by many threads.
+    private volatile Map<QualifiedArgumentFactory, Predicate<QualifiedType<?>>> configIndependentTypes = new IdentityHashMap<>();
+    // prepared functions capture the registry they were prepared with, so copies do not inherit them
     private final Map<QualifiedType<?>, Function<Object, Argument>> preparedFactories = new ConcurrentHashMap<>();
     private final Set<QualifiedType<?>> didPrepare = ConcurrentHashMap.newKeySet();
+    // prepared functions that do not depend on the configuration, shared by all copies of the same generation
+    private volatile ResolutionCache<QualifiedType<?>, Function<Object, Argument>> sharedFactories = new ResolutionCache<>();
 
     private ConfigRegistry registry;
     private Argument untypedNullArgument = new NullArgument(Types.OTHER);
@@ -54,27 +67,32 @@ public class Arguments implements JdbiConfig<Arguments> {
         // register built-in factories, priority of factories is by reverse registration order
 
         // the null factory must be interrogated last to preserve types!
-        register(new UntypedNullArgumentFactory());
-
-        register(new PrimitivesArgumentFactory());
-        register(new BoxedArgumentFactory());
-        register(new SqlArgumentFactory());
-        register(new InternetArgumentFactory());
-        register(new SqlTimeArgumentFactory());
-        register(new JavaTimeArgumentFactory());
-        register(new SqlArrayArgumentFactory());
-        register(new CharSequenceArgumentFactory()); // register before EssentialsArgumentFactory which handles String
-        register(new EssentialsArgumentFactory());
-        register(new JavaTimeZoneIdArgumentFactory());
-        register(new NVarcharArgumentFactory());
+        register(new UntypedNullArgumentFactory(), type -> true);
+
+        register(new PrimitivesArgumentFactory(), type -> true);
+        register(new BoxedArgumentFactory(), type -> true);
+        register(new SqlArgumentFactory(), type -> true);
+        register(new InternetArgumentFactory(), type -> true);
+        register(new SqlTimeArgumentFactory(), type -> true);
+        register(new JavaTimeArgumentFactory(), type -> true);
+        // supported arrays and collections depend on the SqlArrayTypes
+        register(new SqlArrayArgumentFactory(), type -> IterableLike.elementTypeOf(type).isEmpty());
+        // register before EssentialsArgumentFactory which handles String
+        register(new CharSequenceArgumentFactory(), type -> true);
+        register(new EssentialsArgumentFactory(), type -> true);
+        register(new JavaTimeZoneIdArgumentFactory(), type -> true);
+        register(new NVarcharArgumentFactory(), type -> true);
         register(new EnumArgumentFactory());
-        register(new OptionalArgumentFactory());
+        // optional values are prepared by the factory of the nested type
+        register(new OptionalArgumentFactory(), type -> !Optional.class.equals(GenericTypes.getErasedType(type)));
         register(new DirectArgumentFactory());
-        register(new LegacyArgumentFactory());
+        register(new LegacyArgumentFactory(), (QualifiedType<?> type) -> true);
     }
 
     private Arguments(final Arguments that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
+        configIndependentTypes = that.configIndependentTypes;
+        sharedFactories = that.sharedFactories;
         untypedNullArgument = that.untypedNullArgument;
         bindingNullToPrimitivesPermitted = that.bindingNullToPrimitivesPermitted;
         preparedArgumentsEnabled = that.preparedArgumentsEnabled;
@@ -92,7 +110,31 @@ public class Arguments implements JdbiConfig<Arguments> {
      * @return this
      */
     public Arguments register(final ArgumentFactory factory) {
-        return register(QualifiedArgumentFactory.adapt(registry, factory));
+        return register(factory, type -> false);
+    }
+
+    // configIndependent returns true for the types that the factory supports or declines without using the configuration
+    private Arguments register(final ArgumentFactory factory, final Predicate<Type> configIndependent) {
+        final QualifiedArgumentFactory qualifiedFactory = QualifiedArgumentFactory.adapt(registry, factory);
+        if (qualifiedFactory instanceof QualifiedArgumentFactory.Preparable preparable) {
+            // the functions prepared by an AbstractArgumentFactory hold the registry they were prepared with,
+            // they are never shared so that the shared functions do not keep a statement configuration reachable
+            final Predicate<Type> shareable = factory instanceof AbstractArgumentFactory<?> abstractFactory
+                    ? type -> !abstractFactory.isSupported(type) && configIndependent.test(type)
+                    : configIndependent;
+            // the adapted factory declines all types with other qualifiers, whatever the configuration
+            final Set<Annotation> qualifiers = registry.get(Qualifiers.class).findFor(factory.getClass());
+            return register(preparable,
+                    (QualifiedType<?> type) -> !type.getQualifiers().equals(qualifiers) || shareable.test(type.getType()));
+        }
+        return register(qualifiedFactory);
+    }
+
+    private Arguments register(final QualifiedArgumentFactory factory, final Predicate<QualifiedType<?>> configIndependent) {
+        final Map<QualifiedArgumentFactory, Predicate<QualifiedType<?>>> types = new IdentityHashMap<>(configIndependentTypes);
+        types.put(factory, configIndependent);
+        configIndependentTypes = types;
+        return register(factory);
     }
 
     /**
@@ -103,6 +145,7 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public Arguments register(final QualifiedArgumentFactory factory) {
         factories.add(0, factory);
+        resetPreparedFactories();
         return this;
     }
 
@@ -125,16 +168,18 @@ public class Arguments implements JdbiConfig<Arguments> {
      * @return an Argument for the given value.
      */
     public Optional<Argument> findFor(final QualifiedType<?> type, final Object value) {
-        final Function<Object, Argument> prepared = preparedFactories.get(type);
-        if (prepared != null) {
-            return Optional.of(prepared.apply(value));
+        final Function<Object, Argument> preparedFactory = findPrepared(type);
+        if (preparedFactory != null) {
+            return Optional.of(preparedFactory.apply(value));
         }
+        boolean shared = true;
         for (final QualifiedArgumentFactory factory : factories) {
+            shared = shared && isConfigIndependent(factory, type);
             final Optional<Argument> maybeBuilt = factory.build(type, value, registry);
             if (maybeBuilt.isPresent()) {
                 if (factory instanceof QualifiedArgumentFactory.Preparable p && didPrepare.add(type)) {
-                    p.prepare(type, registry).ifPresent(argumentFactory ->
-                            preparedFactories.putIfAbsent(type, argumentFactory));
+                    final boolean publish = shared;
+                    p.prepare(type, registry).ifPresent(argumentFactory -> addPrepared(type, argumentFactory, publish));
                 }
                 return maybeBuilt;
             }
@@ -163,15 +208,53 @@ public class Arguments implements JdbiConfig<Arguments> {
         if (!isPreparedArgumentsEnabled()) {
             return Optional.empty();
         }
-        final Function<Object, Argument> prepared = preparedFactories.get(type);
-        if (prepared != null) {
-            return Optional.of(prepared);
+        final Function<Object, Argument> preparedFactory = findPrepared(type);
+        if (preparedFactory != null) {
+            return Optional.of(preparedFactory);
+        }
+        boolean shared = true;
+        for (final QualifiedArgumentFactory factory : factories) {
+            if (factory instanceof QualifiedArgumentFactory.Preparable preparable) {
+                shared = shared && isConfigIndependent(factory, type);
+                final Optional<Function<Object, Argument>> argumentFactory = preparable.prepare(type, registry);
+                if (argumentFactory.isPresent()) {
+                    addPrepared(type, argumentFactory.get(), shared);
+                    return argumentFactory;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Obtain a prepared argument function for the given type that only depends on the argument factories and settings
+     * of this configuration. Such a function can be shared by all configurations with the same
+     * {@link #getResolutionGeneration() resolution generation}, e.g. by the statements of different handles.
+     * <br>
+     * Returns empty if no factory prepares the type, or if the factory that prepares the type, or any factory that
+     * is consulted before it, may depend on other configuration objects such as {@code SqlArrayTypes} or a JSON mapper.
+     *
+     * @param type the qualified type of the argument.
+     * @return an Argument factory function for the given value.
+     * @since 3.52.0
+     */
+    @Beta
+    public Optional<Function<Object, Argument>> prepareSharedFor(final QualifiedType<?> type) {
+        if (!isPreparedArgumentsEnabled()) {
+            return Optional.empty();
+        }
+        final Function<Object, Argument> sharedFactory = sharedFactories.get(type);
+        if (sharedFactory != null) {
+            return Optional.of(sharedFactory);
         }
         for (final QualifiedArgumentFactory factory : factories) {
             if (factory instanceof QualifiedArgumentFactory.Preparable preparable) {
+                if (!isConfigIndependent(factory, type)) {
+                    return Optional.empty();
+                }
                 final Optional<Function<Object, Argument>> argumentFactory = preparable.prepare(type, registry);
                 if (argumentFactory.isPresent()) {
-                    preparedFactories.putIfAbsent(type, argumentFactory.get());
+                    sharedFactories.putIfAbsent(type, argumentFactory.get());
                     return argumentFactory;
                 }
             }
@@ -179,6 +262,25 @@ public class Arguments implements JdbiConfig<Arguments> {
         return Optional.empty();
     }
 
+    private Function<Object, Argument> findPrepared(final QualifiedType<?> type) {
+        final Function<Object, Argument> preparedFactory = preparedFactories.get(type);
+        return preparedFactory != null ? preparedFactory : sharedFactories.get(type);
+    }
+
+    // functions that no factory could have prepared differently for another configuration of the same generation are published to all copies
+    private void addPrepared(final QualifiedType<?> type, final Function<Object, Argument> argumentFactory, final boolean shared) {
+        if (shared) {
+            sharedFactories.putIfAbsent(type, argumentFactory);
+        } else {
+            preparedFactories.putIfAbsent(type, argumentFactory);
+        }
+    }
+
+    private boolean isConfigIndependent(final QualifiedArgumentFactory factory, final QualifiedType<?> type) {
+        final Predicate<QualifiedType<?>> configIndependent = configIndependentTypes.get(factory);
+        return configIndependent != null && configIndependent.test(type);
+    }
+
     public List<QualifiedArgumentFactory> getFactories() {
         return Collections.unmodifiableList(factories);
     }
@@ -220,6 +322,8 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public void setBindingNullToPrimitivesPermitted(final boolean bindingNullToPrimitivesPermitted) {
         this.bindingNullToPrimitivesPermitted = bindingNullToPrimitivesPermitted;
+        // prepared functions for primitive types check the setting when they are prepared
+        resetPreparedFactories();
     }
 
     /**
@@ -239,6 +343,28 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public void setPreparedArgumentsEnabled(final boolean preparedArgumentsEnabled) {
         this.preparedArgumentsEnabled = preparedArgumentsEnabled;
+        resetPreparedFactories();
+    }
+
+    /**
+     * Returns an opaque token that identifies the argument factories and settings of this configuration. Copies of this
+     * configuration share the token until a factory is registered or a setting is changed that affects argument
+     * resolution. Argument functions may also depend on other configuration objects (e.g. {@code SqlArrayTypes}), so
+     * two configurations with the same token do not necessarily resolve a type to equivalent argument functions.
+     *
+     * @return An opaque token that must only be compared by identity.
+     * @since 3.52.0
+     */
+    @Beta
+    public Object getResolutionGeneration() {
+        return sharedFactories.generation();
+    }
+
+    // drops the prepared functions and starts a new generation. Copies created before keep the current generation.
+    private void resetPreparedFactories() {
+        preparedFactories.clear();
+        didPrepare.clear();
+        sharedFactories = new ResolutionCache<>();
     }
 
     @Override
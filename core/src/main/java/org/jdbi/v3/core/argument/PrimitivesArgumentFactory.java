@@ -35,8 +35,10 @@ class PrimitivesArgumentFactory extends DelegatingArgumentFactory {
 
     @Override
     public Optional<Function<Object, Argument>> prepare(Type type, ConfigRegistry config) {
+        // read the setting once, the prepared function must not hold on to the configuration
+        final boolean nullPermitted = config.get(Arguments.class).isBindingNullToPrimitivesPermitted();
         return super.prepare(type, config)
-                .map(prepared -> value -> prepared.apply(checkForNull(config, type, value)));
+                .map(prepared -> value -> prepared.apply(checkForNull(nullPermitted, type, value)));
     }
     @Override
     public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
@@ -45,7 +47,14 @@ class PrimitivesArgumentFactory extends DelegatingArgumentFactory {
 
     private Object checkForNull(ConfigRegistry cfg, Type type, Object value) {
         if (value == null || value instanceof NullArgument) {
-            if (cfg.get(Arguments.class).isBindingNullToPrimitivesPermitted()) {
+            return checkForNull(cfg.get(Arguments.class).isBindingNullToPrimitivesPermitted(), type, value);
+        }
+        return value;
+    }
+
+    private Object checkForNull(boolean nullPermitted, Type type, Object value) {
+        if (value == null || value instanceof NullArgument) {
+            if (nullPermitted) {
                 return null;
             } else {
                 throw new IllegalArgumentException(String.format(
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.argument.internal;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.reflect.GenerateMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
+
+/**
+ * Base class of the argument finders that the {@code jdbi3-generator} annotation processor creates for types
+ * annotated with {@link GenerateMapper}. Subclasses return the property values with direct method calls. Nested
+ * properties use the generated argument finder of their type if there is one, and pojo property arguments otherwise.
+ */
+public abstract class GeneratedPropertyArguments extends ObjectPropertyNamedArgumentFinder {
+    private final ConfigRegistry config;
+    private final Set<String> names;
+
+    protected GeneratedPropertyArguments(String prefix, Object obj, ConfigRegistry config, Set<String> names) {
+        super(prefix, obj);
+        this.config = config;
+        this.names = names;
+    }
+
+    @Override
+    public Collection<String> getNames() {
+        return names;
+    }
+
+    @Override
+    protected NamedArgumentFinder getNestedArgumentFinder(TypedValue value) {
+        return GeneratedMappers.findArgumentFinder(null, value.getValue(), config)
+            .orElseGet(() -> new PojoPropertyArguments(null, value.getValue(), value.getType().getType(), config));
+    }
+
+    @Override
+    public String toString() {
+        return "{generated property arguments \"" + obj + "\"}";
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.internal.exceptions.CheckedFunction;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link JdbiExecutor} that limits the number of callbacks that run at the same time. Set the limit to the size of
+ * the connection pool to fan out many small database tasks without exhausting the pool.
+ * <p>
+ * Each callback waits for a permit on the thread that runs it. Permits are handed out in submission order, so waiting
+ * callbacks are served fairly. A callback that does not get a permit within the acquire timeout fails with a
+ * {@link TimeoutException}. Waiting does not pin a virtual thread to its carrier.
+ * <p>
+ * {@link JdbiExecutor#createVirtual(Jdbi, int, Duration)} runs each callback on a new virtual thread, which makes
+ * waiting callbacks cheap. This requires Java 21 or later. That executor belongs to the {@code BoundedJdbiExecutor},
+ * call {@link #close()} to shut it down. An executor passed to {@link JdbiExecutor#createBounded(Jdbi, Executor, int, Duration)}
+ * belongs to the caller and is not shut down by {@link #close()}.
+ *
+ * @since 3.52.0
+ */
+@Beta
+public final class BoundedJdbiExecutor extends AbstractJdbiExecutor implements AutoCloseable {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final Jdbi jdbi;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final int maxConcurrency;
+    private final long acquireTimeoutNanos;
+    private final Semaphore permits;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    BoundedJdbiExecutor(Jdbi jdbi, Executor executor, int maxConcurrency, Duration acquireTimeout) {
+        this(jdbi, executor, false, maxConcurrency, acquireTimeout);
+    }
+
+    BoundedJdbiExecutor(Jdbi jdbi, Executor executor, boolean ownsExecutor, int maxConcurrency, Duration acquireTimeout) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.jdbi = requireNonNull(jdbi, "jdbi is null");
+        this.executor = requireNonNull(executor, "executor is null");
+        this.ownsExecutor = ownsExecutor;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutNanos = requireNonNull(acquireTimeout, "acquireTimeout is null").toNanos();
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    static ExecutorService newVirtualThreadExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Could not create a virtual thread executor", t);
+        }
+    }
+
+    private static MethodHandle findVirtualThreadExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected <T> CompletionStage<T> withExecute(final CheckedFunction<Jdbi, T> callback) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return callback.apply(jdbi);
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Shuts down the executor created by {@link JdbiExecutor#createVirtual(Jdbi, int, Duration)} and waits until all
+     * submitted callbacks have completed. Callbacks submitted after closing fail with a
+     * {@link java.util.concurrent.RejectedExecutionException}. Does nothing if the executor was passed in by the caller.
+     */
+    @Override
+    public void close() {
+        if (!ownsExecutor || !(executor instanceof ExecutorService executorService)) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            boolean terminated = executorService.isTerminated();
+            while (!terminated) {
+                terminated = executorService.awaitTermination(1, TimeUnit.DAYS);
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acquire() {
+        final long start = System.nanoTime();
+        queueDepth.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                timeoutCount.increment();
+                throw new CompletionException(new TimeoutException(
+                    String.format("No permit available within %s, %d callbacks running", Duration.ofNanos(acquireTimeoutNanos), maxConcurrency)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            queueDepth.decrementAndGet();
+        }
+
+        final long waitNanos = System.nanoTime() - start;
+        acquireCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Returns the maximum number of callbacks that run at the same time.
+     *
+     * @return The maximum number of concurrent callbacks.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of callbacks that are currently running.
+     *
+     * @return The number of running callbacks.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of callbacks that currently wait for a permit.
+     *
+     * @return The number of waiting callbacks.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the number of callbacks that got a permit.
+     *
+     * @return The number of started callbacks.
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * Returns the number of callbacks that failed because no permit was available within the acquire timeout.
+     *
+     * @return The number of timed out callbacks.
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Returns the total time that callbacks waited for a permit, not counting callbacks that timed out.
+     *
+     * @return The total wait time.
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+    /**
+     * Returns the longest time a callback waited for a permit, not counting callbacks that timed out.
+     *
+     * @return The maximum wait time.
+     */
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", BoundedJdbiExecutor.class.getSimpleName() + "[", "]")
+            .add("maxConcurrency=" + maxConcurrency)
+            .add("active=" + getActiveCount())
+            .add("queueDepth=" + getQueueDepth())
+            .add("acquired=" + getAcquireCount())
+            .add("timeouts=" + getTimeoutCount())
+            .add("maxWait=" + getMaxWaitTime())
+            .toString();
+    }
+}
@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.async;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
@@ -45,6 +46,39 @@ public interface JdbiExecutor {
         return new JdbiExecutorImpl(jdbi, executor);
     }
 
+    /**
+     * Create a {@link JdbiExecutor} that runs at most {@code maxConcurrency} callbacks at the same time. Callbacks are
+     * run by the given executor and wait on their thread until fewer than {@code maxConcurrency} callbacks are running.
+     * A callback that waits longer than {@code acquireTimeout} fails with a {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param jdbi           the initialized Jdbi class
+     * @param executor       an executor to use for all database calls
+     * @param maxConcurrency the maximum number of concurrent callbacks, usually the size of the connection pool
+     * @param acquireTimeout the maximum time a callback waits before it is run
+     * @return a bounded executor that reports its queue depth and wait times
+     * @since 3.52.0
+     */
+    static BoundedJdbiExecutor createBounded(Jdbi jdbi, Executor executor, int maxConcurrency, Duration acquireTimeout) {
+        return new BoundedJdbiExecutor(jdbi, executor, maxConcurrency, acquireTimeout);
+    }
+
+    /**
+     * Create a {@link JdbiExecutor} that runs each callback on a new virtual thread and runs at most
+     * {@code maxConcurrency} callbacks at the same time. Waiting callbacks only hold a parked virtual thread, so
+     * thousands of callbacks can be submitted at once. Requires Java 21 or later. Close the returned executor to shut
+     * down its virtual thread executor.
+     *
+     * @param jdbi           the initialized Jdbi class
+     * @param maxConcurrency the maximum number of concurrent callbacks, usually the size of the connection pool
+     * @param acquireTimeout the maximum time a callback waits before it is run
+     * @return a bounded executor that reports its queue depth and wait times
+     * @throws UnsupportedOperationException if virtual threads are not available
+     * @since 3.52.0
+     */
+    static BoundedJdbiExecutor createVirtual(Jdbi jdbi, int maxConcurrency, Duration acquireTimeout) {
+        return new BoundedJdbiExecutor(jdbi, BoundedJdbiExecutor.newVirtualThreadExecutor(), true, maxConcurrency, acquireTimeout);
+    }
+
     /**
      * A convenience function which manages the lifecycle of a handle and yields it to a callback for use by clients.
      *
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.cache;
 
+import org.jdbi.v3.meta.Beta;
+
 /**
  * A generic cache implementation for JDBI internal use.
  * <br/>
@@ -49,4 +51,30 @@ public interface JdbiCache<K, V> {
      * @return An implementation specific object
      */
     <T> T getStats();
+
+    /**
+     * Returns statistics for the cache object in an implementation independent format. Implementations
+     * that do not record a value report zero for it.
+     *
+     * @return A snapshot of the cache statistics.
+     * @since 3.52.0
+     */
+    @Beta
+    default JdbiCacheStats getJdbiCacheStats() {
+        final Object stats = getStats();
+        if (stats instanceof JdbiCacheStats jdbiCacheStats) {
+            return jdbiCacheStats;
+        }
+        return new JdbiCacheStats() {
+            @Override
+            public int cacheSize() {
+                return 0;
+            }
+
+            @Override
+            public int maxSize() {
+                return 0;
+            }
+        };
+    }
 }
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.cache;
 
+import org.jdbi.v3.meta.Beta;
+
 /**
  * Simple statistics about a {@link JdbiCache} instance. The values in this object are a snapshot of
  * the cache status. Calling any method multiple times should be cheap and constant time.
@@ -30,4 +32,54 @@ public interface JdbiCacheStats {
      * @return The maximum size of the cache.
      */
     int maxSize();
+
+    /**
+     * Returns the number of lookups that returned a cached value.
+     * @return The number of cache hits.
+     * @since 3.52.0
+     */
+    @Beta
+    default long hitCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached value.
+     * @return The number of cache misses.
+     * @since 3.52.0
+     */
+    @Beta
+    default long missCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of values created by a cache loader.
+     * @return The number of loaded values.
+     * @since 3.52.0
+     */
+    @Beta
+    default long loadCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the total time spent in cache loaders.
+     * @return The total load time in nanoseconds.
+     * @since 3.52.0
+     */
+    @Beta
+    default long totalLoadTimeNanos() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of values that were removed from the cache to keep it within its maximum size.
+     * @return The number of evicted values.
+     * @since 3.52.0
+     */
+    @Beta
+    default long evictionCount() {
+        return 0;
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+
+/**
+ * Statistics counters shared by the built-in cache implementations.
+ */
+final class CacheCounters {
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder loads = new LongAdder();
+    final LongAdder loadNanos = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    /**
+     * Calls the loader and records the load. A null loader creates a null value and is not counted.
+     */
+    <K, V> V load(JdbiCacheLoader<K, V> loader, K key) {
+        if (loader == null) {
+            return null;
+        }
+        final long start = System.nanoTime();
+        try {
+            return loader.create(key);
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+
+final class ClockJdbiCache<K, V> implements JdbiCache<K, V> {
+
+    private final ConcurrentMap<K, Entry<K, V>> cache;
+
+    // loaded entries in insertion order, the head is the next eviction candidate
+    private final Queue<Entry<K, V>> clock;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final JdbiCacheLoader<K, V> cacheLoader;
+
+    private final int maxSize;
+
+    private final CacheCounters counters = new CacheCounters();
+
+    ClockJdbiCache(ClockJdbiCacheBuilder builder, JdbiCacheLoader<K, V> cacheLoader) {
+        this.cache = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.cacheLoader = cacheLoader;
+
+        this.maxSize = builder.getMaxSize();
+    }
+
+    @Override
+    public V get(K key) {
+        return doGet(key, cacheLoader);
+    }
+
+    @Override
+    public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
+        return doGet(key, loader);
+    }
+
+    private V doGet(final K key, final JdbiCacheLoader<K, V> loader) {
+        // a caller that retries after a failed load of another thread is counted once, as a miss
+        boolean missed = false;
+        while (true) {
+            var entry = cache.get(key);
+            if (entry == null) {
+                entry = cache.computeIfAbsent(key, Entry::new);
+            }
+
+            if (entry.value.isDone()) {
+                if (entry.value.isCompletedExceptionally()) {
+                    // the load of this entry failed and the entry was removed, retry with a new entry
+                    continue;
+                }
+                // cache hit, only record the access. Avoid the write if the entry is already marked.
+                if (!missed) {
+                    counters.hits.increment();
+                }
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                return entry.value.join();
+            }
+
+            // load outside of the map to avoid the striped lock of the map (#2834)
+            if (!missed) {
+                missed = true;
+                counters.misses.increment();
+            }
+            synchronized (entry) {
+                if (entry.value.isCompletedExceptionally()) {
+                    // another thread failed to load this entry while this thread was waiting
+                    continue;
+                }
+                if (!entry.value.isDone()) {
+                    try {
+                        entry.value.complete(counters.load(loader, key));
+                    } catch (RuntimeException | Error e) {
+                        // do not keep an entry without value, the next access retries the load. Threads waiting for
+                        // this entry must not load into it, as it is no longer in the map and not in the clock.
+                        cache.remove(key, entry);
+                        entry.value.completeExceptionally(e);
+                        throw e;
+                    }
+                    size.incrementAndGet();
+                    if (maxSize > 0) {
+                        clock.add(entry);
+                    }
+                }
+            }
+
+            evict();
+            return entry.value.join();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DefaultJdbiCacheStats getStats() {
+        return new DefaultJdbiCacheStats(size.get(), maxSize, counters);
+    }
+
+    private void evict() {
+        if (maxSize <= 0 || size.get() <= maxSize) {
+            return;
+        }
+
+        // only one thread evicts, all others continue. A thread that adds an entry
+        // while entries are evicted triggers the next round.
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            // every entry gets at most one second chance per round, so that
+            // constant hits on all entries can not keep the eviction going.
+            int secondChances = size.get();
+            while (size.get() > maxSize) {
+                var entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (entry.referenced && secondChances-- > 0) {
+                    entry.referenced = false;
+                    clock.add(entry);
+                } else {
+                    size.decrementAndGet();
+                    counters.evictions.increment();
+                    cache.remove(entry.key, entry);
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+
+        // set on every hit, cleared when the clock hand passes the entry
+        private volatile boolean referenced;
+
+        Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Builder for a Jdbi cache implementation that does not lock on cache hits. Bounded caches evict entries with
+ * the CLOCK (second chance) algorithm, which approximates least recently used eviction. Use this cache if many
+ * threads execute the same statements concurrently:
+ * <pre>
+ * SqlStatements config = jdbi.getConfig(SqlStatements.class);
+ * config.setTemplateCache(ClockJdbiCacheBuilder.builder().maxSize(1_000));
+ * config.setSqlParser(new ColonPrefixSqlParser(ClockJdbiCacheBuilder.builder().maxSize(1_000)));
+ * </pre>
+ *
+ * @since 3.52.0
+ */
+@Beta
+public final class ClockJdbiCacheBuilder implements JdbiCacheBuilder {
+
+    private int maxSize = -1;
+
+    /**
+     * Returns a new Builder.
+     * @return A new builder instance for a {@link ClockJdbiCache} instance.
+     */
+    public static ClockJdbiCacheBuilder builder() {
+        return new ClockJdbiCacheBuilder();
+    }
+
+    private ClockJdbiCacheBuilder() {}
+
+    @Override
+    public <K, V> JdbiCache<K, V> build() {
+        return new ClockJdbiCache<>(this, null);
+    }
+
+    @Override
+    public <K, V> JdbiCache<K, V> buildWithLoader(JdbiCacheLoader<K, V> loader) {
+        return new ClockJdbiCache<>(this, loader);
+    }
+
+    @Override
+    public ClockJdbiCacheBuilder maxSize(int maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+}
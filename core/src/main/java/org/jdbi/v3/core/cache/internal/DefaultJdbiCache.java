@@ -34,6 +34,8 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
 
     private final int maxSize;
 
+    private final CacheCounters counters = new CacheCounters();
+
     DefaultJdbiCache(DefaultJdbiCacheBuilder builder, JdbiCacheLoader<K, V> cacheLoader) {
         this.cache = new ConcurrentHashMap<>();
         this.expungeQueue = new DoubleLinkedList<>();
@@ -64,6 +66,7 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
         var node = cache.computeIfAbsent(key, k ->
                 DoubleLinkedList.createNode(key, new CompletableFuture<>()));
         if (node.value.isDone()) {
+            counters.hits.increment();
             if (!node.value.isCompletedExceptionally()) {
                 refresh(node);
             }
@@ -74,6 +77,7 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
         // CHM and friends use a striped lock which can lead to surprising exclusions
         // https://github.com/jdbi/jdbi/issues/2834
         // so take a more specific lock instead
+        counters.misses.increment();
         synchronized (node) {
             // Double-check in case of race
             if (!node.value.isDone()) {
@@ -82,7 +86,7 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
                         expungeQueue.addHead(node);
                     }
                 }
-                node.value.complete(loader == null ? null : loader.create(key));
+                node.value.complete(counters.load(loader, key));
             }
             return node.value.join();
         }
@@ -92,7 +96,7 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
     @SuppressWarnings("unchecked")
     public DefaultJdbiCacheStats getStats() {
         synchronized (expungeQueue) {
-            return new DefaultJdbiCacheStats(expungeQueue.size, maxSize);
+            return new DefaultJdbiCacheStats(maxSize > 0 ? expungeQueue.size : cache.size(), maxSize, counters);
         }
     }
 
@@ -143,6 +147,7 @@ final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
             }
         }
 
+        counters.evictions.add(purgeList.size());
         purgeList.forEach(cache::remove);
     }
 }
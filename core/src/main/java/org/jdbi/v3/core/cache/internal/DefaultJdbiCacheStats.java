@@ -13,18 +13,32 @@
  */
 package org.jdbi.v3.core.cache.internal;
 
+import java.util.StringJoiner;
+
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+
 /**
  * Simple statistics for an {@link DefaultJdbiCache} instance. The values in this object are a snapshot of
  * the cache status. Calling any method multiple times is cheap and constant time.
  */
-public final class DefaultJdbiCacheStats {
+public final class DefaultJdbiCacheStats implements JdbiCacheStats {
 
     private final int cacheSize;
     private final int maxSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+    private final long evictionCount;
 
-    DefaultJdbiCacheStats(int cacheSize, int maxSize) {
+    DefaultJdbiCacheStats(int cacheSize, int maxSize, CacheCounters counters) {
         this.cacheSize = cacheSize;
         this.maxSize = maxSize;
+        this.hitCount = counters.hits.sum();
+        this.missCount = counters.misses.sum();
+        this.loadCount = counters.loads.sum();
+        this.totalLoadTimeNanos = counters.loadNanos.sum();
+        this.evictionCount = counters.evictions.sum();
     }
 
     /**
@@ -32,6 +46,7 @@ public final class DefaultJdbiCacheStats {
      *
      * @return The current size of the cache.
      */
+    @Override
     public int cacheSize() {
         return cacheSize;
     }
@@ -41,7 +56,46 @@ public final class DefaultJdbiCacheStats {
      *
      * @return The maximum size of the cache.
      */
+    @Override
     public int maxSize() {
         return maxSize;
     }
+
+    @Override
+    public long hitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long missCount() {
+        return missCount;
+    }
+
+    @Override
+    public long loadCount() {
+        return loadCount;
+    }
+
+    @Override
+    public long totalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", DefaultJdbiCacheStats.class.getSimpleName() + "[", "]")
+            .add("cacheSize=" + cacheSize)
+            .add("maxSize=" + maxSize)
+            .add("hitCount=" + hitCount)
+            .add("missCount=" + missCount)
+            .add("loadCount=" + loadCount)
+            .add("totalLoadTimeNanos=" + totalLoadTimeNanos)
+            .add("evictionCount=" + evictionCount)
+            .toString();
+    }
 }
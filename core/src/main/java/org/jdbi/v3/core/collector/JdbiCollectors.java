@@ -22,6 +22,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collector;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Registry of collector factories.
@@ -29,11 +30,14 @@ import org.jdbi.v3.core.config.JdbiConfig;
  */
 public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     private final List<CollectorFactory> factories;
-    private ConcurrentMap<Type, Optional<CollectorFactory>> factoryCache;
+    // replaced on registration, volatile as a config is read by many threads
+    private volatile ConcurrentMap<Type, Optional<CollectorFactory>> factoryCache;
+    private volatile Object resolutionGeneration;
 
     public JdbiCollectors() {
         factories = new CopyOnWriteArrayList<>();
         factoryCache = new ConcurrentHashMap<>();
+        resolutionGeneration = new Object();
         register(new MapCollectorFactory());
         register(new OptionalCollectorFactory());
         register(new ListCollectorFactory());
@@ -45,6 +49,7 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
 
     private JdbiCollectors(JdbiCollectors that) {
         factoryCache = that.factoryCache;
+        resolutionGeneration = that.resolutionGeneration;
         factories = new CopyOnWriteArrayList<>(that.factories);
     }
 
@@ -56,6 +61,7 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     public JdbiCollectors register(CollectorFactory factory) {
         factories.add(0, factory);
         factoryCache = new ConcurrentHashMap<>();
+        resolutionGeneration = new Object();
         return this;
     }
 
@@ -93,6 +99,19 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
                 .flatMap(f -> f.elementType(containerType));
     }
 
+    /**
+     * Returns an opaque token that identifies the collector factories of this configuration. Copies of this
+     * configuration share the token until a factory is registered, so a collector found for a type may be reused
+     * by every configuration with the same token.
+     *
+     * @return An opaque token that must only be compared by identity.
+     * @since 3.52.0
+     */
+    @Beta
+    public Object getResolutionGeneration() {
+        return resolutionGeneration;
+    }
+
     private Optional<CollectorFactory> findFactoryFor(Type containerType) {
         Optional<CollectorFactory> entry = factoryCache.get(containerType);
         if (entry != null) {
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.config;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.jdbi.v3.core.argument.Arguments;
@@ -26,6 +27,7 @@ import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * A registry of {@link JdbiConfig} instances by type.
@@ -39,11 +41,15 @@ public final class ConfigRegistry {
     private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>(32);
     private final Map<Class<? extends JdbiConfig<?>>, Function<ConfigRegistry, JdbiConfig<?>>> configFactories;
 
+    // only set for layered registries; configs are copied from the parent on first access
+    private final ConfigRegistry parent;
+
     /**
      * Creates a new config registry.
      */
     public ConfigRegistry() {
         configFactories = new ConcurrentHashMap<>();
+        parent = null;
         get(ConfigCaches.class);
         get(SqlStatements.class);
         get(Arguments.class);
@@ -53,13 +59,15 @@ public final class ConfigRegistry {
         get(JdbiCollectors.class);
     }
 
-    private ConfigRegistry(ConfigRegistry that) {
+    private ConfigRegistry(ConfigRegistry that, boolean layered) {
         configFactories = that.configFactories;
-        that.configs.forEach((type, config) -> {
-            JdbiConfig<?> copy = config.createCopy();
-            configs.put(type, copy);
-        });
-        configs.values().forEach(c -> c.setRegistry(this));
+        if (layered) {
+            parent = that;
+        } else {
+            parent = null;
+            that.forEachConfig((type, config) -> configs.putIfAbsent(type, config.createCopy()));
+            configs.values().forEach(c -> c.setRegistry(this));
+        }
     }
 
     /**
@@ -76,10 +84,70 @@ public final class ConfigRegistry {
         if (lookup != null) {
             return configClass.cast(lookup);
         }
-        C config = configClass.cast(configFactory(configClass).apply(this));
+        C config = configClass.cast(createConfig(configClass));
         return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
     }
 
+    /**
+     * Returns the instance of the given config class for reading. The caller must not modify the returned object, use
+     * {@link #get(Class)} to change a config object.
+     * <br>
+     * For a registry created with {@link #createLayeredCopy()} that has not copied any config object yet, this returns
+     * the instance of the parent registry instead of copying it, so reading from an unmodified layered registry copies
+     * nothing. Once a config object was copied (by {@link #get(Class)}), all config objects are copied on first
+     * access, because the config objects of the parent resolve other config objects in the parent registry.
+     * For all other registries, this is the same as {@link #get(Class)}.
+     *
+     * @param configClass the config class type.
+     * @param <C>         the config class type.
+     * @return the given config class instance that this registry uses.
+     * @since 3.52.0
+     */
+    @Beta
+    public <C extends JdbiConfig<C>> C read(Class<C> configClass) {
+        final JdbiConfig<?> lookup = configs.get(configClass);
+        if (lookup != null) {
+            return configClass.cast(lookup);
+        }
+        if (parent != null && configs.isEmpty()) {
+            return parent.read(configClass);
+        }
+        return get(configClass);
+    }
+
+    private JdbiConfig<?> createConfig(Class<? extends JdbiConfig<?>> configClass) {
+        if (parent != null) {
+            final JdbiConfig<?> parentConfig = parent.find(configClass);
+            if (parentConfig != null) {
+                JdbiConfig<?> copy = parentConfig.createCopy();
+                copy.setRegistry(this);
+                return copy;
+            }
+        }
+        return configFactory(configClass).apply(this);
+    }
+
+    // locate a config instance in this registry or its parents without materializing it.
+    private JdbiConfig<?> find(Class<? extends JdbiConfig<?>> configClass) {
+        final JdbiConfig<?> lookup = configs.get(configClass);
+        if (lookup != null || parent == null) {
+            return lookup;
+        }
+        return parent.find(configClass);
+    }
+
+    // visits all config instances visible from this registry. Local instances shadow instances from a parent.
+    private void forEachConfig(BiConsumer<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> consumer) {
+        configs.forEach(consumer);
+        if (parent != null) {
+            parent.forEachConfig((type, config) -> {
+                if (!configs.containsKey(type)) {
+                    consumer.accept(type, config);
+                }
+            });
+        }
+    }
+
     private Function<ConfigRegistry, JdbiConfig<?>> configFactory(Class<? extends JdbiConfig<?>> configClass) {
         return configFactories.computeIfAbsent(configClass, klass -> {
             var handleHolder = JdbiClassUtils.findConstructor(klass, JDBI_CONFIG_TYPES);
@@ -99,6 +167,24 @@ public final class ConfigRegistry {
      * config objects from this registry.
      */
     public ConfigRegistry createCopy() {
-        return new ConfigRegistry(this);
+        return new ConfigRegistry(this, false);
+    }
+
+    /**
+     * Returns a layered copy of this config registry. Unlike {@link #createCopy()}, no config object is copied when
+     * the layered registry is created. Instead, each config object is copied from this registry the first time it is
+     * requested through {@link #get(Class)} on the layered registry. Config objects that are never requested are never copied,
+     * and as long as no config object has been copied, {@link #read(Class)} returns the config objects of this registry.
+     * <br>
+     * As config objects are copied on first access and not at creation time of the layered registry, any change to this
+     * registry is visible in the layered registry until the corresponding config object has been requested from the
+     * layered registry. Changes to the layered registry are never visible in this registry.
+     *
+     * @return a layered copy of this config registry
+     * @since 3.52.0
+     */
+    @Beta
+    public ConfigRegistry createLayeredCopy() {
+        return new ConfigRegistry(this, true);
     }
 }
@@ -13,11 +13,18 @@
  */
 package org.jdbi.v3.core.config.internal;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+import org.jdbi.v3.core.cache.internal.ClockJdbiCacheBuilder;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 
@@ -26,13 +33,22 @@ import org.jdbi.v3.core.config.JdbiConfig;
  * For example, bean property accessors, or normalized enum constants.
  * Note that unlike most JdbiConfig types, this cache is Jdbi level and shared,
  * so it should not hold data that needs to respect reconfiguration.
- * Additionally, currently there is no expiration policy, as nearly all keys are
- * references to JVM constant pool entries.
  * <b>This makes it unsuitable as a general-purpose shared cache.</b>
+ * <br>
+ * Every declared cache is backed by its own {@link JdbiCache}, which holds up to {@link #CONFIG_CACHE_SIZE}
+ * entries by default, so the declarations do not evict each other's entries. Evicted entries are computed again
+ * on the next access. The cache implementation can be replaced with {@link #setCacheBuilder(JdbiCacheBuilder)}.
+ * <br>
+ * The cache of a declaration is kept as long as this object, so declarations must be static constants. A cached
+ * value must not declare another cache, as every load of an evicted entry would add a new cache.
  */
 public final class ConfigCaches implements JdbiConfig<ConfigCaches> {
 
-    private final Map<ConfigCache<?, ?>, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+    /** The default number of cached entries of each declared cache. */
+    public static final int CONFIG_CACHE_SIZE = 10_000;
+
+    private final Map<ConfigCache<?, ?>, JdbiCache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private volatile JdbiCacheBuilder cacheBuilder = ClockJdbiCacheBuilder.builder().maxSize(CONFIG_CACHE_SIZE);
 
     /**
      * Does not actually create a copy!!
@@ -42,8 +58,86 @@ public final class ConfigCaches implements JdbiConfig<ConfigCaches> {
         return this;
     }
 
+    /**
+     * Replaces the caches of all declarations. All cached entries are dropped.
+     *
+     * @param cacheBuilder The cache builder to create the cache of each declaration.
+     * @return this
+     */
+    public ConfigCaches setCacheBuilder(JdbiCacheBuilder cacheBuilder) {
+        this.cacheBuilder = cacheBuilder;
+        caches.clear();
+        return this;
+    }
+
+    /**
+     * Returns the combined statistics of the caches of all declarations. The maximum size is the size of a single cache.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public JdbiCacheStats getStats() {
+        final List<JdbiCacheStats> stats = caches.values().stream().map(JdbiCache::getJdbiCacheStats).collect(Collectors.toList());
+        final int cacheSize = stats.stream().mapToInt(JdbiCacheStats::cacheSize).sum();
+        final int maxSize = stats.stream().mapToInt(JdbiCacheStats::maxSize).max().orElse(0);
+        final long hitCount = stats.stream().mapToLong(JdbiCacheStats::hitCount).sum();
+        final long missCount = stats.stream().mapToLong(JdbiCacheStats::missCount).sum();
+        final long loadCount = stats.stream().mapToLong(JdbiCacheStats::loadCount).sum();
+        final long totalLoadTimeNanos = stats.stream().mapToLong(JdbiCacheStats::totalLoadTimeNanos).sum();
+        final long evictionCount = stats.stream().mapToLong(JdbiCacheStats::evictionCount).sum();
+
+        return new JdbiCacheStats() {
+            @Override
+            public int cacheSize() {
+                return cacheSize;
+            }
+
+            @Override
+            public int maxSize() {
+                return maxSize;
+            }
+
+            @Override
+            public long hitCount() {
+                return hitCount;
+            }
+
+            @Override
+            public long missCount() {
+                return missCount;
+            }
+
+            @Override
+            public long loadCount() {
+                return loadCount;
+            }
+
+            @Override
+            public long totalLoadTimeNanos() {
+                return totalLoadTimeNanos;
+            }
+
+            @Override
+            public long evictionCount() {
+                return evictionCount;
+            }
+        };
+    }
+
+    private JdbiCache<Object, Object> cacheFor(ConfigCache<?, ?> declaration) {
+        final JdbiCache<Object, Object> cache = caches.get(declaration);
+        return cache != null ? cache : caches.computeIfAbsent(declaration, d -> cacheBuilder.build());
+    }
+
+    @SuppressWarnings("unchecked")
     public static <K, V> ConfigCache<K, V> declare(Function<K, V> computer) {
-        return declare(Function.identity(), computer);
+        // the key is not normalized and no config is needed, so the loader does not depend on the lookup
+        final JdbiCacheLoader<Object, Object> loader = key -> computer.apply((K) key);
+        return new ConfigCache<>() {
+            @Override
+            public V get(K key, ConfigRegistry config) {
+                return (V) config.get(ConfigCaches.class).cacheFor(this).getWithLoader(key, loader);
+            }
+        };
     }
 
     public static <K, V> ConfigCache<K, V> declare(Function<K, ?> keyNormalizer, Function<K, V> computer) {
@@ -59,9 +153,8 @@ public final class ConfigCaches implements JdbiConfig<ConfigCaches> {
             @SuppressWarnings("unchecked")
             @Override
             public V get(K key, ConfigRegistry config) {
-                return (V) config.get(ConfigCaches.class).caches
-                    .computeIfAbsent(this, x -> new ConcurrentHashMap<>())
-                    .computeIfAbsent(keyNormalizer.apply(key), x -> computer.apply(config, key));
+                return (V) config.get(ConfigCaches.class).cacheFor(this)
+                    .getWithLoader(keyNormalizer.apply(key), x -> computer.apply(config, key));
             }
         };
     }
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches resolved values (e.g. mappers) for a configuration object.
+ * <br>
+ * A copy of a configuration object creates a child of this cache. The child shares all entries
+ * of its parent without copying them, new entries are only added to the child and are never published to the parent,
+ * as resolved values may capture the configuration of the child. A configuration object
+ * that changes how values are resolved (e.g. by registering a new factory) must start a new generation
+ * by replacing its cache with a new, empty cache. Children that were created before keep
+ * using the previous generation, which is no longer modified by the configuration object.
+ * <br>
+ * Values that do not depend on the configuration may be shared by all copies instead: the configuration
+ * object and its copies then hold the same cache, without creating children, and add such values directly
+ * to it (see {@code Arguments}).
+ * <br>
+ * This cache does not support {@code null} keys or values.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ResolutionCache<K, V> {
+
+    // limits the number of lookups for a single get() call. Deeper hierarchies are flattened.
+    private static final int MAX_DEPTH = 8;
+
+    private final ResolutionCache<K, V> parent;
+    private final Map<K, V> entries;
+    private final int depth;
+    private final Object generation;
+
+    public ResolutionCache() {
+        this.parent = null;
+        this.entries = new ConcurrentHashMap<>();
+        this.depth = 0;
+        this.generation = new Object();
+    }
+
+    private ResolutionCache(ResolutionCache<K, V> parent) {
+        this.entries = new ConcurrentHashMap<>();
+        this.generation = parent.generation;
+
+        // skip empty layers, they only add lookups
+        ResolutionCache<K, V> base = parent;
+        while (base.parent != null && base.entries.isEmpty()) {
+            base = base.parent;
+        }
+
+        if (base.depth < MAX_DEPTH) {
+            this.parent = base;
+            this.depth = base.depth + 1;
+        } else {
+            this.parent = null;
+            this.depth = 0;
+            base.copyInto(entries);
+        }
+    }
+
+    /**
+     * Returns a new cache that shares all entries with this cache. Used when a configuration object is copied.
+     *
+     * @return A new child cache.
+     */
+    public ResolutionCache<K, V> createChild() {
+        return new ResolutionCache<>(this);
+    }
+
+    /**
+     * Returns an opaque token that identifies the generation of this cache. All children of a cache
+     * share its token, a new cache starts a new generation.
+     *
+     * @return The generation token.
+     */
+    public Object generation() {
+        return generation;
+    }
+
+    /**
+     * Returns the value for the given key from this cache or any of its parents.
+     *
+     * @param key The key. Must not be null.
+     * @return The value or null if no value was found.
+     */
+    public V get(K key) {
+        ResolutionCache<K, V> cache = this;
+        do {
+            V value = cache.entries.get(key);
+            if (value != null) {
+                return value;
+            }
+            cache = cache.parent;
+        } while (cache != null);
+
+        return null;
+    }
+
+    /**
+     * Adds a value to this cache.
+     *
+     * @param key   The key. Must not be null.
+     * @param value The value. Must not be null.
+     */
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Adds a value to this cache if neither this cache nor any of its parents has a value for the key.
+     *
+     * @param key   The key. Must not be null.
+     * @param value The value. Must not be null.
+     * @return True if the value was added.
+     */
+    public boolean putIfAbsent(K key, V value) {
+        if (parent != null && parent.get(key) != null) {
+            return false;
+        }
+        return entries.putIfAbsent(key, value) == null;
+    }
+
+    private void copyInto(Map<K, V> target) {
+        if (parent != null) {
+            parent.copyInto(target);
+        }
+        target.putAll(entries);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.IdentityHashMap;
 import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
@@ -40,14 +41,14 @@ class BoxedMapperFactory implements ColumnMapperFactory {
     private final IdentityHashMap<Class<?>, ColumnMapper<?>> mappers = new IdentityHashMap<>();
 
     BoxedMapperFactory() {
-        mappers.put(Boolean.class, new GetterMapper<>(ResultSet::getBoolean));
+        mappers.put(Boolean.class, new BooleanMapper());
         mappers.put(Byte.class, new GetterMapper<>(ResultSet::getByte));
         mappers.put(Character.class, new GetterMapper<>(BoxedMapperFactory::getCharacter));
         mappers.put(Short.class, new GetterMapper<>(ResultSet::getShort));
-        mappers.put(Integer.class, new GetterMapper<>(ResultSet::getInt));
-        mappers.put(Long.class, new GetterMapper<>(ResultSet::getLong));
+        mappers.put(Integer.class, new IntMapper());
+        mappers.put(Long.class, new LongMapper());
         mappers.put(Float.class, new GetterMapper<>(ResultSet::getFloat));
-        mappers.put(Double.class, new GetterMapper<>(ResultSet::getDouble));
+        mappers.put(Double.class, new DoubleMapper());
     }
 
     @Override
@@ -61,4 +62,58 @@ class BoxedMapperFactory implements ColumnMapperFactory {
         String s = r.getString(i);
         return s == null || s.isEmpty() ? null : s.charAt(0);
     }
+
+    // the boxed mappers for the unboxed column mapper types also return unboxed values, which the reflective mappers
+    // use to set primitive properties. A boxed value is null for SQL null, an unboxed value is checked with wasNull()
+    private static final class BooleanMapper implements BooleanColumnMapper {
+        @Override
+        public boolean mapBoolean(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            return r.getBoolean(i);
+        }
+
+        @Override
+        public Boolean map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            boolean value = r.getBoolean(i);
+            return r.wasNull() ? null : value;
+        }
+    }
+
+    private static final class IntMapper implements IntColumnMapper {
+        @Override
+        public int mapInt(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            return r.getInt(i);
+        }
+
+        @Override
+        public Integer map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            int value = r.getInt(i);
+            return r.wasNull() ? null : value;
+        }
+    }
+
+    private static final class LongMapper implements LongColumnMapper {
+        @Override
+        public long mapLong(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            return r.getLong(i);
+        }
+
+        @Override
+        public Long map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            long value = r.getLong(i);
+            return r.wasNull() ? null : value;
+        }
+    }
+
+    private static final class DoubleMapper implements DoubleColumnMapper {
+        @Override
+        public double mapDouble(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            return r.getDouble(i);
+        }
+
+        @Override
+        public Double map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            double value = r.getDouble(i);
+            return r.wasNull() ? null : value;
+        }
+    }
 }
@@ -15,7 +15,6 @@ package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
@@ -26,9 +25,10 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.enums.internal.EnumMapperFactory;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.interceptor.JdbiInterceptionChainHolder;
-import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration registry for {@link ColumnMapperFactory} instances.
@@ -38,7 +38,8 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     private final JdbiInterceptionChainHolder<ColumnMapper<?>, QualifiedColumnMapperFactory> inferenceInterceptors;
 
     private final List<QualifiedColumnMapperFactory> factories;
-    private final Map<QualifiedType<?>, Optional<? extends ColumnMapper<?>>> cache;
+    // replaced on registration, volatile as a config is read by many threads
+    private volatile ResolutionCache<QualifiedType<?>, Optional<? extends ColumnMapper<?>>> cache;
 
     private boolean coalesceNullPrimitivesToDefaults = true;
     private ConfigRegistry registry;
@@ -46,7 +47,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     public ColumnMappers() {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredColumnMapperFactory::new);
         factories = new CopyOnWriteArrayList<>();
-        cache = new CopyOnWriteHashMap<>();
+        cache = new ResolutionCache<>();
         register(new SqlArrayMapperFactory());
         register(new JavaTimeMapperFactory());
         register(new SqlTimeMapperFactory());
@@ -62,7 +63,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
 
     private ColumnMappers(ColumnMappers that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
-        cache = new CopyOnWriteHashMap<>(that.cache);
+        cache = that.cache.createChild();
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
         coalesceNullPrimitivesToDefaults = that.coalesceNullPrimitivesToDefaults;
     }
@@ -157,7 +158,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
      */
     public ColumnMappers register(QualifiedColumnMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        cache = new ResolutionCache<>();
         return this;
     }
 
@@ -207,7 +208,8 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
         // Since column mappers can decorate other column mappers, we have to populate the cache the old fashioned way.
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        Optional<ColumnMapper<T>> cached = (Optional) cache.get(type);
+        final ResolutionCache<QualifiedType<?>, Optional<? extends ColumnMapper<?>>> resolved = cache;
+        Optional<ColumnMapper<T>> cached = (Optional) resolved.get(type);
 
         if (cached != null) {
             return cached;
@@ -218,12 +220,12 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
             ColumnMapper<T> mapper = maybeMapper.orElse(null);
             if (mapper != null) {
                 mapper.init(registry);
-                cache.put(type, maybeMapper);
+                resolved.put(type, maybeMapper);
                 return maybeMapper;
             }
         }
 
-        cache.put(type, Optional.empty());
+        resolved.put(type, Optional.empty());
         return Optional.empty();
     }
 
@@ -248,6 +250,19 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         this.coalesceNullPrimitivesToDefaults = coalesceNullPrimitivesToDefaults;
     }
 
+    /**
+     * Returns an opaque token that identifies the column mapper factories of this configuration. Copies of this
+     * configuration share the token until a factory is registered. Column mappers may also depend on other configuration
+     * objects, so two configurations with the same token do not necessarily resolve a type to equivalent column mappers.
+     *
+     * @return An opaque token that must only be compared by identity.
+     * @since 3.52.0
+     */
+    @Beta
+    public Object getResolutionGeneration() {
+        return cache.generation();
+    }
+
     @Override
     public ColumnMappers createCopy() {
         return new ColumnMappers(this);
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Read-only row map that stores the column values of a single row in an array. The column names and
+ * their positions are shared by all rows of a result set.
+ *
+ * @see MapMappers#setCompactRows(boolean)
+ */
+@SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "serialized as a LinkedHashMap by writeReplace()")
+final class CompactRowMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Columns columns;
+    private final transient Object[] values;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    CompactRowMap(Columns columns, Object[] values) {
+        // the values array is created for this row only
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return columns.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int index = columns.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Entry<String, Object> entry = new SimpleImmutableEntry<>(columns.names[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+
+    // serialized as a regular map, the shared columns are not part of the serialized form
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * The column names of a result set and their positions.
+     */
+    static final class Columns {
+
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        Columns(List<String> columnNames) {
+            this.names = columnNames.toArray(new String[0]);
+            this.indexes = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int indexOf(Object name) {
+            final Integer index = indexes.get(name);
+            return index == null ? -1 : index;
+        }
+    }
+}
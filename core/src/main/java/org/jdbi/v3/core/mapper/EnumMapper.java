@@ -15,11 +15,9 @@ package org.jdbi.v3.core.mapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiPredicate;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import org.jdbi.v3.core.config.internal.ConfigCache;
 import org.jdbi.v3.core.config.internal.ConfigCaches;
@@ -66,9 +64,8 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
     }
 
     static class EnumByNameColumnMapper<E extends Enum<E>> implements ColumnMapper<E> {
-        private static final ConfigCache<Class<? extends Enum<?>>, ConfigCache<String, Enum<?>>> BY_NAME_CACHE =
-                ConfigCaches.declare(e -> ConfigCaches.declare(
-                        name -> e.cast(getValueByName(e, name))));
+        private static final ConfigCache<Class<? extends Enum<?>>, EnumNames> BY_NAME_CACHE =
+                ConfigCaches.declare(EnumNames::new);
         private final Class<E> enumClass;
 
         private EnumByNameColumnMapper(Class<E> enumClass) {
@@ -81,31 +78,48 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
 
             return name == null || name.isEmpty() // some vendors treat null and empty varchar as the same
                 ? null
-                : enumClass.cast(BY_NAME_CACHE.get(enumClass, ctx).get(name, ctx));
+                : enumClass.cast(BY_NAME_CACHE.get(enumClass, ctx).valueOf(name));
+        }
+    }
+
+    // the database names of the constants of an enum, matched exactly first and then ignoring case
+    private static final class EnumNames {
+        private final Class<? extends Enum<?>> enumClass;
+        private final Map<String, Enum<?>> byName = new HashMap<>();
+        private final String[] names;
+        private final Enum<?>[] constants;
+
+        EnumNames(Class<? extends Enum<?>> enumClass) {
+            this.enumClass = enumClass;
+            this.constants = enumClass.getEnumConstants();
+            this.names = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                names[i] = databaseName(constants[i]);
+                byName.putIfAbsent(names[i], constants[i]);
+            }
         }
 
-        private static Object getValueByName(Class<? extends Enum<?>> enumClass, String name) {
-            return Stream.concat(
-                        enumConstants(enumClass).filter(enumValueMatches(name, String::equals)),
-                        enumConstants(enumClass).filter(enumValueMatches(name, String::equalsIgnoreCase))
-                    )
-                    .findFirst()
-                    .orElseThrow(() -> new UnableToProduceResultException(
-                        String.format("no %s value could be matched to the name %s", enumClass.getSimpleName(), name)));
+        Enum<?> valueOf(String name) {
+            Enum<?> value = byName.get(name);
+            if (value != null) {
+                return value;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(name)) {
+                    return constants[i];
+                }
+            }
+            throw new UnableToProduceResultException(
+                String.format("no %s value could be matched to the name %s", enumClass.getSimpleName(), name));
         }
 
-        private static Predicate<Enum<?>> enumValueMatches(String name, BiPredicate<String, String> comparer) {
-            return e -> Optional.ofNullable(
+        private static String databaseName(Enum<?> e) {
+            return Optional.ofNullable(
                 Unchecked.function(e.getDeclaringClass()::getField)
                     .apply(e.name())
                     .getAnnotation(DatabaseValue.class))
                 .map(DatabaseValue::value)
-                .map(dbName -> comparer.test(dbName, name))
-                .orElseGet(() -> comparer.test(e.name(), name));
-        }
-
-        private static Stream<Enum<?>> enumConstants(Class<? extends Enum<?>> enumClass) {
-            return Arrays.stream(enumClass.getEnumConstants());
+                .orElseGet(e::name);
         }
     }
 
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import org.jdbi.v3.core.result.internal.RowValuesMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 
 /**
@@ -64,7 +65,46 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
     public RowMapper<Map<String, Object>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final List<String> columnNames = getColumnNames(rs, caseStrategy.apply(ctx));
 
-        return (r, c) -> {
+        if (ctx.getConfig(MapMappers.class).isCompactRows()) {
+            return new CompactRowMapper(new CompactRowMap.Columns(columnNames));
+        }
+
+        return new LinkedRowMapper(columnNames);
+    }
+
+    private static final class CompactRowMapper implements RowValuesMapper<Map<String, Object>> {
+        private final CompactRowMap.Columns columns;
+
+        CompactRowMapper(CompactRowMap.Columns columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Map<String, Object> map(ResultSet rs, StatementContext ctx) throws SQLException {
+            Object[] values = new Object[columns.size()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+
+            return new CompactRowMap(columns, values);
+        }
+
+        @Override
+        public Map<String, Object> mapValues(Object[] values) {
+            return new CompactRowMap(columns, values);
+        }
+    }
+
+    private static final class LinkedRowMapper implements RowValuesMapper<Map<String, Object>> {
+        private final List<String> columnNames;
+
+        LinkedRowMapper(List<String> columnNames) {
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public Map<String, Object> map(ResultSet rs, StatementContext ctx) throws SQLException {
             Map<String, Object> row = new LinkedHashMap<>(columnNames.size());
 
             for (int i = 0; i < columnNames.size(); i++) {
@@ -72,7 +112,18 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
             }
 
             return row;
-        };
+        }
+
+        @Override
+        public Map<String, Object> mapValues(Object[] values) {
+            Map<String, Object> row = new LinkedHashMap<>(columnNames.size());
+
+            for (int i = 0; i < columnNames.size(); i++) {
+                row.put(columnNames.get(i), values[i]);
+            }
+
+            return row;
+        }
     }
 
     private static List<String> getColumnNames(ResultSet rs, UnaryOperator<String> caseChange) throws SQLException {
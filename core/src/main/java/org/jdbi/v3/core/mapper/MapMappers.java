@@ -16,10 +16,12 @@ package org.jdbi.v3.core.mapper;
 import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 public class MapMappers implements JdbiConfig<MapMappers> {
 
     private UnaryOperator<String> caseChange;
+    private boolean compactRows;
 
     public MapMappers() {
         caseChange = CaseStrategy.LOCALE_LOWER;
@@ -27,6 +29,7 @@ public class MapMappers implements JdbiConfig<MapMappers> {
 
     private MapMappers(MapMappers that) {
         caseChange = that.caseChange;
+        compactRows = that.compactRows;
     }
 
     /**
@@ -50,6 +53,34 @@ public class MapMappers implements JdbiConfig<MapMappers> {
         return this;
     }
 
+    /**
+     * Returns whether the map mapper returns compact rows.
+     *
+     * @return True if rows are mapped to compact, read-only maps.
+     * @see #setCompactRows(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isCompactRows() {
+        return compactRows;
+    }
+
+    /**
+     * Sets whether {@link MapMapper} maps rows to compact, read-only maps. A compact row stores the column values
+     * in an array and shares the column names with all other rows of the result set, which uses much less memory
+     * than a hash map per row for large results. Compact rows keep the column order and can not be modified.
+     * The default is false.
+     *
+     * @param compactRows If true, rows are mapped to compact, read-only maps.
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public MapMappers setCompactRows(boolean compactRows) {
+        this.compactRows = compactRows;
+        return this;
+    }
+
     @Override
     public MapMappers createCopy() {
         return new MapMappers(this);
@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
@@ -41,14 +42,14 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
     private final IdentityHashMap<Class<?>, ColumnMapper<?>> mappers = new IdentityHashMap<>();
 
     PrimitiveMapperFactory() {
-        mappers.put(boolean.class, primitiveMapper(ResultSet::getBoolean));
+        mappers.put(boolean.class, (BooleanColumnMapper) (r, i, ctx) -> checkNull(r.getBoolean(i), r, i, ctx));
         mappers.put(byte.class, primitiveMapper(ResultSet::getByte));
         mappers.put(char.class, primitiveMapper(PrimitiveMapperFactory::getChar));
         mappers.put(short.class, primitiveMapper(ResultSet::getShort));
-        mappers.put(int.class, primitiveMapper(ResultSet::getInt));
-        mappers.put(long.class, primitiveMapper(ResultSet::getLong));
+        mappers.put(int.class, (IntColumnMapper) (r, i, ctx) -> checkNull(r.getInt(i), r, i, ctx));
+        mappers.put(long.class, (LongColumnMapper) (r, i, ctx) -> checkNull(r.getLong(i), r, i, ctx));
         mappers.put(float.class, primitiveMapper(ResultSet::getFloat));
-        mappers.put(double.class, primitiveMapper(ResultSet::getDouble));
+        mappers.put(double.class, (DoubleColumnMapper) (r, i, ctx) -> checkNull(r.getDouble(i), r, i, ctx));
     }
 
     @Override
@@ -61,17 +62,41 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
     private static <T> ColumnMapper<T> primitiveMapper(ColumnGetter<T> getter) {
         return (r, i, ctx) -> {
             T value = getter.get(r, i);
-            if (r.wasNull() && !ctx.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
-                String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
-                    + " could not map column %s (%s)."
-                    + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
-                throw new UnableToProduceResultException(msg);
-            } else {
-                return value;
-            }
+            checkNull(r, i, ctx);
+            return value;
         };
     }
 
+    // the int, long, double and boolean mappers return unboxed values, see IntColumnMapper etc.
+    private static int checkNull(int value, ResultSet r, int i, StatementContext ctx) throws SQLException {
+        checkNull(r, i, ctx);
+        return value;
+    }
+
+    private static long checkNull(long value, ResultSet r, int i, StatementContext ctx) throws SQLException {
+        checkNull(r, i, ctx);
+        return value;
+    }
+
+    private static double checkNull(double value, ResultSet r, int i, StatementContext ctx) throws SQLException {
+        checkNull(r, i, ctx);
+        return value;
+    }
+
+    private static boolean checkNull(boolean value, ResultSet r, int i, StatementContext ctx) throws SQLException {
+        checkNull(r, i, ctx);
+        return value;
+    }
+
+    private static void checkNull(ResultSet r, int i, StatementContext ctx) throws SQLException {
+        if (r.wasNull() && !ctx.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
+            String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
+                + " could not map column %s (%s)."
+                + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
+            throw new UnableToProduceResultException(msg);
+        }
+    }
+
     private static char getChar(ResultSet r, int i) throws SQLException {
         Character character = getCharacter(r, i);
         return character == null ? '\000' : character;
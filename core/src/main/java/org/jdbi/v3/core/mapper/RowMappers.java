@@ -15,7 +15,6 @@ package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -23,7 +22,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.interceptor.JdbiInterceptionChainHolder;
-import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
+import org.jdbi.v3.core.internal.ResolutionCache;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoMapperFactory;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.meta.Alpha;
@@ -36,22 +35,24 @@ public class RowMappers implements JdbiConfig<RowMappers> {
     private final JdbiInterceptionChainHolder<RowMapper<?>, RowMapperFactory> inferenceInterceptors;
 
     private final List<RowMapperFactory> factories;
-    private final Map<Type, Optional<RowMapper<?>>> cache;
+    // replaced on registration, volatile as a config is read by many threads
+    private volatile ResolutionCache<Type, Optional<RowMapper<?>>> cache;
 
     private ConfigRegistry registry;
 
     public RowMappers() {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredRowMapperFactory::new);
         factories = new CopyOnWriteArrayList<>();
-        cache = new CopyOnWriteHashMap<>();
+        cache = new ResolutionCache<>();
         register(MapEntryMapper.factory());
         register(new PojoMapperFactory());
         register(new OptionalRowMapperFactory());
+        register(new GeneratedRowMapperFactory());
     }
 
     private RowMappers(RowMappers that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
-        cache = new CopyOnWriteHashMap<>(that.cache);
+        cache = that.cache.createChild();
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
     }
 
@@ -121,7 +122,7 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      */
     public RowMappers register(RowMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        cache = new ResolutionCache<>();
         return this;
     }
 
@@ -161,7 +162,8 @@ public class RowMappers implements JdbiConfig<RowMappers> {
         // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
         // Since row mappers can decorate other row mappers, we have to populate the cache the old fashioned way.
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        Optional<RowMapper<?>> cached = cache.get(type);
+        final ResolutionCache<Type, Optional<RowMapper<?>>> resolved = cache;
+        Optional<RowMapper<?>> cached = resolved.get(type);
 
         if (cached != null) {
             return cached;
@@ -172,12 +174,12 @@ public class RowMappers implements JdbiConfig<RowMappers> {
             RowMapper<?> mapper = maybeMapper.orElse(null);
             if (mapper != null) {
                 mapper.init(registry);
-                cache.put(type, maybeMapper);
+                resolved.put(type, maybeMapper);
                 return maybeMapper;
             }
         }
 
-        cache.put(type, Optional.empty());
+        resolved.put(type, Optional.empty());
         return Optional.empty();
     }
 
@@ -63,6 +63,11 @@ class ConstructorInstanceFactory<T> extends InstanceFactory<T> {
         }
     }
 
+    @Override
+    MethodHandle getMethodHandle() {
+        return constructorHandle;
+    }
+
     @Override
     public String toString() {
         return constructor.toString();
@@ -15,6 +15,9 @@ package org.jdbi.v3.core.mapper.reflect;
 
 import java.beans.ConstructorProperties;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -33,6 +36,12 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.BooleanColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -63,6 +72,12 @@ import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnName
 public final class ConstructorMapper<T> implements RowMapper<T> {
     private static final String DEFAULT_PREFIX = "";
 
+    private static final MethodHandle MAP_ROW = findMapMethod(RowMapper.class, "map", Object.class, ResultSet.class, StatementContext.class);
+    private static final MethodHandle MAP_INT = findMapMethod(IntColumnMapper.class, "mapInt", int.class, ResultSet.class, int.class, StatementContext.class);
+    private static final MethodHandle MAP_LONG = findMapMethod(LongColumnMapper.class, "mapLong", long.class, ResultSet.class, int.class, StatementContext.class);
+    private static final MethodHandle MAP_DOUBLE = findMapMethod(DoubleColumnMapper.class, "mapDouble", double.class, ResultSet.class, int.class, StatementContext.class);
+    private static final MethodHandle MAP_BOOLEAN = findMapMethod(BooleanColumnMapper.class, "mapBoolean", boolean.class, ResultSet.class, int.class, StatementContext.class);
+
     @SuppressWarnings("InlineFormatString")
     private static final String UNMATCHED_CONSTRUCTOR_PARAMETERS =
         "Instance factory '%s' could not match any parameter to any columns in the result set. "
@@ -279,15 +294,16 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
                     int colIndex = columnIndex.getAsInt();
                     final QualifiedType<?> type = QualifiedType.of(parameterType)
                         .withAnnotations(ctx.getConfig(Qualifiers.class).findFor(parameter));
-                    paramData.add(new ParameterData(i, parameter, ctx.findColumnMapperFor(type)
-                        .map(mapper -> new SingleColumnMapper<>(mapper, colIndex + 1))
+                    final ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
                         .orElseThrow(() -> new IllegalArgumentException(
-                            format("Could not find column mapper for type '%s' of parameter '%s' for instance factory '%s'", type, paramName, factory)))));
+                            format("Could not find column mapper for type '%s' of parameter '%s' for instance factory '%s'", type, paramName, factory)));
+                    paramData.add(new ParameterData(i, parameter, new SingleColumnMapper<>(mapper, colIndex + 1),
+                        unboxedReader(parameter.getType(), mapper, colIndex + 1)));
 
                     matchedColumns = true;
                     unmatchedColumns.remove(columnNames.get(colIndex));
                 } else if (nullable) {
-                    paramData.add(new ParameterData(i, parameter, null));
+                    paramData.add(new ParameterData(i, parameter, null, null));
                 } else {
                     unmatchedParameters.add(paramName);
                 }
@@ -311,10 +327,10 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
 
                 }
                 if (nestedMapper.isPresent()) {
-                    paramData.add(new ParameterData(i, parameter, nestedMapper.get()));
+                    paramData.add(new ParameterData(i, parameter, nestedMapper.get(), null));
                     matchedColumns = true;
                 } else if (nullable) {
-                    paramData.add(new ParameterData(i, parameter, null));
+                    paramData.add(new ParameterData(i, parameter, null, null));
                 } else {
                     unmatchedParameters.add(paramName(parameters, i, constructorProperties));
                 }
@@ -382,6 +398,31 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
             });
     }
 
+    // reads a primitive argument without boxing, (ResultSet, StatementContext) -> primitive, if the column mapper can
+    private static MethodHandle unboxedReader(Class<?> parameterType, ColumnMapper<?> mapper, int columnNumber) {
+        final MethodHandle mapColumn;
+        if (parameterType == int.class && mapper instanceof IntColumnMapper) {
+            mapColumn = MAP_INT.bindTo(mapper);
+        } else if (parameterType == long.class && mapper instanceof LongColumnMapper) {
+            mapColumn = MAP_LONG.bindTo(mapper);
+        } else if (parameterType == double.class && mapper instanceof DoubleColumnMapper) {
+            mapColumn = MAP_DOUBLE.bindTo(mapper);
+        } else if (parameterType == boolean.class && mapper instanceof BooleanColumnMapper) {
+            mapColumn = MAP_BOOLEAN.bindTo(mapper);
+        } else {
+            return null;
+        }
+        return MethodHandles.insertArguments(mapColumn, 1, columnNumber);
+    }
+
+    private static MethodHandle findMapMethod(Class<?> mapperType, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(mapperType, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private String debugName(Parameter parameter) {
         return format("%s constructor parameter %s",
             factory.getDeclaringClass().getSimpleName(),
@@ -390,10 +431,11 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
 
     private static class ParameterData {
 
-        ParameterData(int index, Parameter parameter, RowMapper<?> mapper) {
+        ParameterData(int index, Parameter parameter, RowMapper<?> mapper, MethodHandle unboxedReader) {
             this.index = index;
             this.parameter = parameter;
             this.mapper = mapper;
+            this.unboxedReader = unboxedReader;
             propagateNull = checkPropagateNullAnnotation(parameter);
             isPrimitive = parameter.getType().isPrimitive();
         }
@@ -409,9 +451,21 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
             return propagateNullValue.isPresent();
         }
 
+        // (ResultSet, StatementContext) -> parameter type
+        MethodHandle reader(Class<?> parameterType) {
+            if (unboxedReader != null) {
+                return unboxedReader;
+            }
+            final MethodHandle mapRow = mapper == null
+                ? MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, ResultSet.class, StatementContext.class)
+                : MAP_ROW.bindTo(mapper);
+            return mapRow.asType(MethodType.methodType(parameterType, ResultSet.class, StatementContext.class));
+        }
+
         final int index;
         final Parameter parameter;
         final RowMapper<?> mapper;
+        final MethodHandle unboxedReader;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
@@ -434,15 +488,48 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
         private final List<ParameterData> paramData;
         private final int count;
         private final Function<T, R> postProcessor;
+        // (ResultSet, StatementContext) -> Object, reads all arguments and creates the instance
+        private final MethodHandle instantiate;
 
         BoundConstructorMapper(List<ParameterData> paramData, Function<T, R> postProcessor) {
             this.paramData = paramData;
             this.count = factory.getParameterCount();
             this.postProcessor = postProcessor;
+            // primitive arguments are passed unboxed, unless an argument must be checked for @PropagateNull first
+            this.instantiate = paramData.stream().anyMatch(p -> p.unboxedReader != null) && paramData.stream().noneMatch(p -> p.propagateNull)
+                ? instantiateHandle()
+                : null;
+        }
+
+        private MethodHandle instantiateHandle() {
+            final MethodHandle target = factory.getMethodHandle();
+            final MethodHandle[] readers = new MethodHandle[count];
+            for (ParameterData p : paramData) {
+                readers[p.index] = p.reader(target.type().parameterType(p.index));
+            }
+            // replaces each parameter with its reader, from the last one so that the arguments are read in order
+            MethodHandle readArguments = target.asType(target.type().changeReturnType(Object.class));
+            final int[] reorder = new int[count * 2];
+            for (int i = count - 1; i >= 0; i--) {
+                readArguments = MethodHandles.collectArguments(readArguments, i, readers[i]);
+                reorder[i * 2 + 1] = 1;
+            }
+            return MethodHandles.permuteArguments(readArguments, MethodType.methodType(Object.class, ResultSet.class, StatementContext.class), reorder);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public R map(ResultSet rs, StatementContext ctx) throws SQLException {
+            if (instantiate != null) {
+                final Object instance;
+                try {
+                    instance = instantiate.invokeExact(rs, ctx);
+                } catch (Throwable t) {
+                    throw Sneaky.throwAnyway(t);
+                }
+                return postProcessor.apply((T) instance);
+            }
+
             final Object[] params = new Object[count];
             for (ParameterData p : paramData) {
                 params[p.index] = p.mapper == null ? null : p.mapper.map(rs, ctx);
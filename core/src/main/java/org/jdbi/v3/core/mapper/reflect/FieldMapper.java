@@ -31,7 +31,11 @@ import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.annotation.internal.JdbiAnnotations;
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.mapper.BooleanColumnMapper;
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -159,7 +163,8 @@ public final class FieldMapper<T> implements RowMapper<T> {
                                 .withAnnotations(ctx.getConfig(Qualifiers.class).findFor(field));
                             ColumnMapper<?> mapper = ctx.findColumnMapperFor(fieldType)
                                 .orElse(getDefaultColumnMapper());
-                            fields.add(new FieldData(field, new SingleColumnMapper<>(mapper, index + 1)));
+                            fields.add(new FieldData(field, new SingleColumnMapper<>(mapper, index + 1),
+                                primitiveWriter(field, mapper, index + 1)));
                             unmatchedColumns.remove(columnNames.get(index));
                         });
                 } else {
@@ -182,7 +187,7 @@ public final class FieldMapper<T> implements RowMapper<T> {
                         }
 
                         nestedMapper.ifPresent(mapper ->
-                                fields.add(new FieldData(field, mapper)));
+                                fields.add(new FieldData(field, mapper, null)));
                     }
                 }
             }
@@ -237,6 +242,41 @@ public final class FieldMapper<T> implements RowMapper<T> {
         return format("%s.%s", type.getSimpleName(), field.getName());
     }
 
+    // writes a primitive field from a column without boxing, if the column mapper can return an unboxed value
+    private static PrimitiveWriter primitiveWriter(Field field, ColumnMapper<?> mapper, int columnNumber) {
+        final Class<?> fieldType = field.getType();
+        if (fieldType == int.class && mapper instanceof IntColumnMapper intMapper) {
+            return (obj, rs, ctx) -> {
+                int value = intMapper.mapInt(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                field.setInt(obj, value);
+                return wasNull;
+            };
+        } else if (fieldType == long.class && mapper instanceof LongColumnMapper longMapper) {
+            return (obj, rs, ctx) -> {
+                long value = longMapper.mapLong(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                field.setLong(obj, value);
+                return wasNull;
+            };
+        } else if (fieldType == double.class && mapper instanceof DoubleColumnMapper doubleMapper) {
+            return (obj, rs, ctx) -> {
+                double value = doubleMapper.mapDouble(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                field.setDouble(obj, value);
+                return wasNull;
+            };
+        } else if (fieldType == boolean.class && mapper instanceof BooleanColumnMapper booleanMapper) {
+            return (obj, rs, ctx) -> {
+                boolean value = booleanMapper.mapBoolean(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                field.setBoolean(obj, value);
+                return wasNull;
+            };
+        }
+        return null;
+    }
+
     public static boolean checkPropagateNullAnnotation(Field field) {
         final Optional<String> propagateNullValue = Optional.ofNullable(field.getAnnotation(PropagateNull.class)).map(PropagateNull::value);
         propagateNullValue.ifPresent(v -> {
@@ -250,19 +290,27 @@ public final class FieldMapper<T> implements RowMapper<T> {
 
     private static class FieldData {
 
-        FieldData(Field field, RowMapper<?> mapper) {
+        FieldData(Field field, RowMapper<?> mapper, PrimitiveWriter primitiveWriter) {
             this.field = field;
             this.mapper = mapper;
+            this.primitiveWriter = primitiveWriter;
             propagateNull = checkPropagateNullAnnotation(field);
             isPrimitive = field.getType().isPrimitive();
         }
 
         final Field field;
         final RowMapper<?> mapper;
+        final PrimitiveWriter primitiveWriter;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
 
+    @FunctionalInterface
+    private interface PrimitiveWriter {
+        // returns whether the column was null
+        boolean write(Object obj, ResultSet rs, StatementContext ctx) throws SQLException, IllegalAccessException;
+    }
+
     class BoundFieldMapper<R> implements RowMapper<R> {
         private final Constructor<T> constructor;
         private final List<FieldData> fields;
@@ -279,6 +327,13 @@ public final class FieldMapper<T> implements RowMapper<T> {
             T obj = construct();
 
             for (FieldData f : fields) {
+                if (f.primitiveWriter != null) {
+                    if (writePrimitiveField(obj, f, rs, ctx) && f.propagateNull) {
+                        return postProcessor.apply(null);
+                    }
+                    continue;
+                }
+
                 Object value = f.mapper.map(rs, ctx);
                 boolean wasNull = (value == null || (f.isPrimitive && rs.wasNull()));
                 if (f.propagateNull && wasNull) {
@@ -298,6 +353,14 @@ public final class FieldMapper<T> implements RowMapper<T> {
             }
         }
 
+        private boolean writePrimitiveField(T obj, FieldData f, ResultSet rs, StatementContext ctx) throws SQLException {
+            try {
+                return f.primitiveWriter.write(obj, rs, ctx);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(format("Unable to access property, %s", f.field.getName()), e);
+            }
+        }
+
         private void writeField(T obj, Field field, Object value) {
             try {
                 field.set(obj, value);
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Beta;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Decorate a record or a bean to instruct the {@code jdbi3-generator} annotation processor to create a
+ * compiled row mapper and a compiled argument finder for it. The generated code reads and binds the properties
+ * with direct method calls instead of reflection.
+ * <p>
+ * The generated row mapper is used for the type unless another row mapper is registered for it. It maps records
+ * with their canonical constructor and beans with their public no-argument constructor and setters. Column names are
+ * matched with the configured {@link ColumnNameMatcher}s, and {@link ColumnName} is honored. All properties are read
+ * with the registered column mappers, which are looked up once per result set. Qualifying annotations such as
+ * {@link org.jdbi.v3.core.qualifier.NVarchar} and {@link org.jdbi.v3.core.annotation.JdbiProperty} are honored as by
+ * the reflection mappers. {@link org.jdbi.v3.core.mapper.Nested} properties are not supported.
+ * <p>
+ * The generated argument finder binds the record components or bean properties of the object. It is used by
+ * {@code bindPojo} and {@code bindBean}. Prepared batches keep using their prepared bindings.
+ *
+ * @since 3.52.0
+ */
+@Beta
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface GenerateMapper {}
@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.mapper.reflect;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -68,6 +69,9 @@ abstract class InstanceFactory<T> {
 
     abstract T newInstance(Object... params);
 
+    // fixed arity handle of the constructor or factory method, its parameter types are those of the executable
+    abstract MethodHandle getMethodHandle();
+
     @Override
     public abstract String toString();
 }
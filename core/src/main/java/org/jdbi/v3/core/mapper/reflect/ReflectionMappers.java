@@ -21,9 +21,14 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.mapper.CaseStrategy;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.DO_NOT_MAKE_ACCESSIBLE;
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.FORCE_MAKE_ACCESSIBLE;
@@ -33,10 +38,18 @@ import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.FORCE_MAK
  */
 public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
 
+    /**
+     * The default size of the specialized mapper cache.
+     *
+     * @since 3.52.0
+     */
+    public static final int SPECIALIZED_MAPPER_CACHE_SIZE = 1_000;
+
     private List<ColumnNameMatcher> columnNameMatchers;
     private boolean strictMatching;
     private UnaryOperator<String> caseChange;
     private Consumer<AccessibleObject> makeAccessible;
+    private JdbiCache<Object, RowMapper<?>> specializedMapperCache;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -56,6 +69,7 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         strictMatching = that.strictMatching;
         caseChange = that.caseChange;
         makeAccessible = that.makeAccessible;
+        specializedMapperCache = that.specializedMapperCache;
     }
 
     /**
@@ -155,6 +169,63 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return accessibleObject;
     }
 
+    /**
+     * Returns true if reflective row mappers cache their specialized mappers.
+     *
+     * @return True if the specialized mapper cache is enabled.
+     * @see #setSpecializedMapperCacheEnabled(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isSpecializedMapperCacheEnabled() {
+        return specializedMapperCache != null;
+    }
+
+    /**
+     * Sets whether reflective row mappers cache their specialized mappers. A bean or pojo mapper matches the columns of
+     * each result set to its properties and looks up a column mapper for every property. With this cache enabled, the
+     * result is reused for result sets with the same column labels. The cache is shared by all copies of this
+     * configuration. The default is false.
+     * <br>
+     * Specialized mappers are shared between statements that use the same column mappers and column name matching settings.
+     * Column mappers are resolved with the configuration of the statement that first uses a specialized mapper, so changes
+     * to other configuration objects on a single statement are not visible to the cached mapper.
+     *
+     * @param enabled If true, reflective row mappers cache their specialized mappers.
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public ReflectionMappers setSpecializedMapperCacheEnabled(boolean enabled) {
+        specializedMapperCache = enabled ? DefaultJdbiCacheBuilder.builder().maxSize(SPECIALIZED_MAPPER_CACHE_SIZE).build() : null;
+        return this;
+    }
+
+    /**
+     * Enables the specialized mapper cache using the given cache builder.
+     *
+     * @param cacheBuilder the cache builder to use to create the cache.
+     * @return this
+     * @see #setSpecializedMapperCacheEnabled(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public ReflectionMappers setSpecializedMapperCache(JdbiCacheBuilder cacheBuilder) {
+        specializedMapperCache = cacheBuilder.build();
+        return this;
+    }
+
+    /**
+     * Returns the specialized mapper cache. This method is intended for reflective row mapper implementations.
+     *
+     * @return The specialized mapper cache or null if the cache is disabled.
+     * @since 3.52.0
+     */
+    @Beta
+    public JdbiCache<Object, RowMapper<?>> getSpecializedMapperCache() {
+        return specializedMapperCache;
+    }
+
     @Override
     public ReflectionMappers createCopy() {
         return new ReflectionMappers(this);
@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -25,6 +26,7 @@ import static java.util.Objects.requireNonNull;
 
 class StaticMethodInstanceFactory<T> extends InstanceFactory<T> {
     private final Class<T> type;
+    private final MethodHandle methodHandle;
     private final Function<Object[], Object> method;
 
     StaticMethodInstanceFactory(Class<T> type, Method method) {
@@ -34,10 +36,9 @@ class StaticMethodInstanceFactory<T> extends InstanceFactory<T> {
         if (!isStaticFactoryMethodFor(method, type)) {
             throw new IllegalArgumentException(format("Given method \"%s\" is not a valid factory method for %s", method, type));
         }
-        this.method = Unchecked.function(
-                Unchecked.function(MethodHandles.lookup()::unreflect)
-                    .apply(method)
-                ::invokeWithArguments);
+        this.methodHandle = Unchecked.function(MethodHandles.lookup()::unreflect)
+                .apply(method);
+        this.method = Unchecked.function(methodHandle::invokeWithArguments);
     }
 
     private static boolean isStaticFactoryMethodFor(Method method, Class<?> type) {
@@ -50,6 +51,11 @@ class StaticMethodInstanceFactory<T> extends InstanceFactory<T> {
         return type.cast(method.apply(params));
     }
 
+    @Override
+    MethodHandle getMethodHandle() {
+        return methodHandle.asFixedArity();
+    }
+
     @Override
     public String toString() {
         return method.toString();
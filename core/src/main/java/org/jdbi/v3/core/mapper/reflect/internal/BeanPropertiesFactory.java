@@ -17,6 +17,7 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
@@ -40,6 +41,7 @@ import org.jdbi.v3.core.config.internal.ConfigCaches;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
 import org.jdbi.v3.core.internal.JdbiClassUtils.MethodHandleHolder;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory.BeanPojoProperties.PropertiesHolder;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -95,6 +97,42 @@ public class BeanPropertiesFactory {
                             .accept(instance, value);
                 }
 
+                @Override
+                public void setInt(PojoProperty<T> property, int value) {
+                    try {
+                        holder.properties.get(property.getName()).primitiveSetter().invokeExact(instance, value);
+                    } catch (Throwable t) {
+                        throw Sneaky.throwAnyway(t);
+                    }
+                }
+
+                @Override
+                public void setLong(PojoProperty<T> property, long value) {
+                    try {
+                        holder.properties.get(property.getName()).primitiveSetter().invokeExact(instance, value);
+                    } catch (Throwable t) {
+                        throw Sneaky.throwAnyway(t);
+                    }
+                }
+
+                @Override
+                public void setDouble(PojoProperty<T> property, double value) {
+                    try {
+                        holder.properties.get(property.getName()).primitiveSetter().invokeExact(instance, value);
+                    } catch (Throwable t) {
+                        throw Sneaky.throwAnyway(t);
+                    }
+                }
+
+                @Override
+                public void setBoolean(PojoProperty<T> property, boolean value) {
+                    try {
+                        holder.properties.get(property.getName()).primitiveSetter().invokeExact(instance, value);
+                    } catch (Throwable t) {
+                        throw Sneaky.throwAnyway(t);
+                    }
+                }
+
                 @Override
                 public T build() {
                     return instance;
@@ -109,6 +147,8 @@ public class BeanPropertiesFactory {
             final ConcurrentMap<Class<?>, Optional<Annotation>> annoCache = new ConcurrentHashMap<>();
             final Function<Object, Object> getter;
             final BiConsumer<Object, Object> setter;
+            // takes the unboxed value if the setter has a primitive parameter
+            final MethodHandle primitiveSetter;
             final Type actualBeanType;
 
             BeanPojoProperty(PropertyDescriptor property, Type actualBeanType) {
@@ -125,6 +165,11 @@ public class BeanPropertiesFactory {
                         .map(mh -> mh.asType(MethodType.methodType(void.class, Object.class, Object.class)))
                         .map(mh -> Unchecked.biConsumer(mh::invokeExact))
                         .orElse(null);
+                primitiveSetter = Optional.ofNullable(descriptor.getWriteMethod())
+                        .filter(m -> m.getParameterTypes()[0].isPrimitive())
+                        .map(Unchecked.function(MethodHandles.lookup()::unreflect))
+                        .map(mh -> mh.asType(MethodType.methodType(void.class, Object.class, mh.type().parameterType(1))))
+                        .orElse(null);
             }
 
             protected Function<Object, Object> getter() {
@@ -145,6 +190,15 @@ public class BeanPropertiesFactory {
                 return setter;
             }
 
+            protected MethodHandle primitiveSetter() {
+                if (primitiveSetter == null) {
+                    throw new UnableToCreateStatementException(String.format(
+                            "No primitive setter method found for bean property [%s] on [%s]",
+                            getName(), qualifiedType));
+                }
+                return primitiveSetter;
+            }
+
             @Override
             public String getName() {
                 return descriptor.getName();
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.GenerateMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifiers;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.lang.String.format;
+
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
+
+/**
+ * Finds the classes that the {@code jdbi3-generator} annotation processor creates for types annotated with
+ * {@link GenerateMapper}, and provides the methods that the generated code calls.
+ */
+public final class GeneratedMappers {
+
+    /** Suffix of the generated row mapper class name. */
+    public static final String ROW_MAPPER_SUFFIX = "GeneratedMapper";
+
+    /** Suffix of the generated argument finder class name. */
+    public static final String ARGUMENTS_SUFFIX = "GeneratedArguments";
+
+    private static final MethodType ARGUMENTS_CONSTRUCTOR = MethodType.methodType(NamedArgumentFinder.class, String.class, Object.class, ConfigRegistry.class);
+
+    private static final ClassValue<Optional<RowMapper<?>>> ROW_MAPPERS = new ClassValue<>() {
+        @Override
+        protected Optional<RowMapper<?>> computeValue(Class<?> type) {
+            if (!type.isAnnotationPresent(GenerateMapper.class)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of((RowMapper<?>) loadGeneratedClass(type, ROW_MAPPER_SUFFIX).getConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(format("Could not create the generated row mapper for %s", type.getName()), e);
+            }
+        }
+    };
+
+    private static final ClassValue<Optional<MethodHandle>> ARGUMENT_FINDERS = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            if (!type.isAnnotationPresent(GenerateMapper.class)) {
+                return Optional.empty();
+            }
+            try {
+                final Class<?> argumentsClass = loadGeneratedClass(type, ARGUMENTS_SUFFIX);
+                return Optional.of(MethodHandles.publicLookup()
+                    .findConstructor(argumentsClass, MethodType.methodType(void.class, String.class, type, ConfigRegistry.class))
+                    .asType(ARGUMENTS_CONSTRUCTOR));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(format("Could not find the generated argument finder for %s", type.getName()), e);
+            }
+        }
+    };
+
+    private GeneratedMappers() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Returns the generated row mapper for a type that is annotated with {@link GenerateMapper}.
+     *
+     * @param type the mapped type
+     * @return the generated row mapper, or empty if the type is not annotated
+     */
+    public static Optional<RowMapper<?>> findRowMapper(Class<?> type) {
+        return ROW_MAPPERS.get(type);
+    }
+
+    /**
+     * Returns a generated argument finder for an object whose type is annotated with {@link GenerateMapper}.
+     *
+     * @param prefix the prefix of the bound names, may be null
+     * @param value the object to bind
+     * @param config the configuration
+     * @return the generated argument finder, or empty if the type of the object is not annotated
+     */
+    public static Optional<NamedArgumentFinder> findArgumentFinder(String prefix, Object value, ConfigRegistry config) {
+        return ARGUMENT_FINDERS.get(value.getClass())
+            .map(constructor -> {
+                try {
+                    return (NamedArgumentFinder) constructor.invokeExact(prefix, value, config);
+                } catch (Throwable t) {
+                    throw Sneaky.throwAnyway(t);
+                }
+            });
+    }
+
+    /**
+     * Returns the column numbers of the given properties, called by generated row mappers.
+     *
+     * @param rs the result set
+     * @param ctx the statement context
+     * @param type the mapped type
+     * @param propertyNames the column names of the properties
+     * @param required whether a column must exist for each property
+     * @return the column numbers, starting at 1, or 0 for properties without a column
+     * @throws SQLException if the result set metadata can not be read
+     */
+    public static int[] findColumns(ResultSet rs, StatementContext ctx, Class<?> type, String[] propertyNames, boolean[] required) throws SQLException {
+        final ReflectionMappers reflectionMappers = ctx.getConfig(ReflectionMappers.class);
+        final List<String> columnNames = getColumnNames(rs, reflectionMappers.getCaseChange());
+        final List<ColumnNameMatcher> columnNameMatchers = reflectionMappers.getColumnNameMatchers();
+        final List<String> unmatchedColumns = new ArrayList<>(columnNames);
+        final List<String> unmatchedProperties = new ArrayList<>();
+
+        final int[] columns = new int[propertyNames.length];
+        boolean matched = false;
+        for (int i = 0; i < propertyNames.length; i++) {
+            final String propertyName = propertyNames[i];
+            final OptionalInt columnIndex = findColumnIndex(propertyName, columnNames, columnNameMatchers, () -> type.getName() + "." + propertyName);
+            if (columnIndex.isPresent()) {
+                columns[i] = columnIndex.getAsInt() + 1;
+                unmatchedColumns.remove(columnNames.get(columnIndex.getAsInt()));
+                matched = true;
+            } else if (required[i]) {
+                unmatchedProperties.add(propertyName);
+            }
+        }
+
+        if (!unmatchedProperties.isEmpty()) {
+            throw new IllegalArgumentException(format("Mapping type %s could not match columns for properties: %s", type.getName(), unmatchedProperties));
+        }
+        if (!matched) {
+            throw new IllegalArgumentException(format("Mapping type %s didn't find any matching columns in result set", type.getName()));
+        }
+        if (reflectionMappers.isStrictMatching() && !unmatchedColumns.isEmpty()) {
+            throw new IllegalArgumentException(format("Mapping type %s could not match properties for columns: %s", type.getName(), unmatchedColumns));
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns the column mapper for a property, called by generated row mappers.
+     *
+     * @param ctx the statement context
+     * @param type the qualified property type
+     * @param <T> the property type
+     * @return the column mapper
+     * @throws NoSuchMapperException if no column mapper is registered for the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnMapper<T> findColumnMapper(StatementContext ctx, QualifiedType<?> type) {
+        return (ColumnMapper<T>) ctx.findColumnMapperFor(type)
+            .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + type));
+    }
+
+    /**
+     * Returns the type of a property with the qualifiers of its annotated elements, called when a generated class is
+     * initialized.
+     *
+     * @param type the property type
+     * @param elements the annotated elements of the property
+     * @return the qualified property type
+     */
+    public static QualifiedType<?> qualifiedType(Type type, AnnotatedElement... elements) {
+        return QualifiedType.of(type).withAnnotations(new Qualifiers().findFor(elements));
+    }
+
+    /**
+     * Returns a method of a type or one of its supertypes, called when a generated class is initialized.
+     *
+     * @param type the type
+     * @param name the method name
+     * @param parameterTypes the erased parameter types
+     * @return the method
+     */
+    public static Method method(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name, parameterTypes);
+            } catch (NoSuchMethodException ignored) {
+                // continue with the superclass
+            }
+        }
+        try {
+            // default methods of interfaces
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(format("Method %s of %s not found, the generated classes are outdated", name, type.getName()), e);
+        }
+    }
+
+    /**
+     * Returns a parameter of the canonical constructor of a record, called when a generated class is initialized.
+     *
+     * @param type the record type
+     * @param index the parameter index
+     * @return the constructor parameter
+     */
+    public static Parameter recordParameter(Class<?> type, int index) {
+        final Class<?>[] parameterTypes = Arrays.stream(type.getRecordComponents())
+            .map(RecordComponent::getType)
+            .toArray(Class<?>[]::new);
+        try {
+            return type.getDeclaredConstructor(parameterTypes).getParameters()[index];
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(format("Canonical constructor of %s not found", type.getName()), e);
+        }
+    }
+
+    private static Class<?> loadGeneratedClass(Class<?> type, String suffix) throws ClassNotFoundException {
+        final String className = type.getPackage().getName() + "." + type.getSimpleName() + suffix;
+        try {
+            return Class.forName(className, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new ClassNotFoundException(format("Generated class %s not found. Ensure the @GenerateMapper annotation is processed by the "
+                + "`jdbi3-generator` annotation processor.", className), e);
+        }
+    }
+}
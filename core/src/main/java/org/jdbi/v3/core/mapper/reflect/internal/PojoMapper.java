@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.StringJoiner;
@@ -29,9 +30,17 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.annotation.internal.JdbiAnnotations;
+import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.mapper.BooleanColumnMapper;
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.NoSuchMapperException;
 import org.jdbi.v3.core.mapper.PropagateNull;
@@ -71,17 +80,27 @@ public class PojoMapper<T> implements RowMapper<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
-        final List<String> columnNames = getColumnNames(rs, caseChange);
-        final List<ColumnNameMatcher> columnNameMatchers =
-            ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        final ReflectionMappers reflectionMappers = ctx.getConfig(ReflectionMappers.class);
+        final List<String> columnNames = getColumnNames(rs, reflectionMappers.getCaseChange());
+        final JdbiCache<Object, RowMapper<?>> specializedMapperCache = reflectionMappers.getSpecializedMapperCache();
+        if (specializedMapperCache == null) {
+            return specialize(ctx, reflectionMappers, columnNames);
+        }
+
+        final SpecializationKey key = new SpecializationKey(this, reflectionMappers, columnNames, ctx.getConfig());
+        return (RowMapper<T>) specializedMapperCache.getWithLoader(key, k -> specialize(ctx, reflectionMappers, columnNames));
+    }
+
+    private RowMapper<T> specialize(StatementContext ctx, ReflectionMappers reflectionMappers, List<String> columnNames) {
+        final List<ColumnNameMatcher> columnNameMatchers = reflectionMappers.getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
         RowMapper<T> result = createSpecializedRowMapper(ctx, columnNames, columnNameMatchers, unmatchedColumns, Function.identity())
             .orElseThrow(() -> new IllegalArgumentException(format("Mapping bean %s didn't find any matching columns in result set", type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (reflectionMappers.isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
 
             throw new IllegalArgumentException(
@@ -118,7 +137,8 @@ public class PojoMapper<T> implements RowMapper<T> {
                                 return ColumnMapper.getDefaultColumnMapper();
                             });
 
-                        propList.add(new PropertyData<>(property, new SingleColumnMapper<>(mapper, index + 1)));
+                        propList.add(new PropertyData<>(property, new SingleColumnMapper<>(mapper, index + 1),
+                            primitiveSetter(property, mapper, index + 1)));
                         unmatchedColumns.remove(columnNames.get(index));
                     });
             } else {
@@ -143,7 +163,7 @@ public class PojoMapper<T> implements RowMapper<T> {
 
                     nestedMapper
                         .ifPresent(mapper ->
-                            propList.add(new PropertyData<>(property, mapper)));
+                            propList.add(new PropertyData<>(property, mapper, null)));
                 }
             }
         }
@@ -154,7 +174,7 @@ public class PojoMapper<T> implements RowMapper<T> {
 
         propList.sort(Comparator.comparing(p -> p.propagateNull ? 1 : 0));
 
-        RowMapper<R> boundMapper = new BoundPojoMapper<>(propList, postProcessor);
+        RowMapper<R> boundMapper = new BoundPojoMapper<>(type, prefix, getProperties(ctx.getConfig()), propList, postProcessor);
         OptionalInt propagateNullColumnIndex = locatePropagateNullColumnIndex(columnNames, columnNameMatchers);
 
         if (propagateNullColumnIndex.isPresent()) {
@@ -188,6 +208,49 @@ public class PojoMapper<T> implements RowMapper<T> {
     }
 
 
+    // sets a primitive property from a column without boxing, if the column mapper can return an unboxed value
+    private static <T> PrimitiveSetter<T> primitiveSetter(PojoProperty<T> property, ColumnMapper<?> mapper, int columnNumber) {
+        final Class<?> propertyType = GenericTypes.getErasedType(property.getQualifiedType().getType());
+        if (propertyType == int.class && mapper instanceof IntColumnMapper intMapper) {
+            return (pojo, rs, ctx) -> {
+                int value = intMapper.mapInt(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                if (!wasNull) {
+                    pojo.setInt(property, value);
+                }
+                return wasNull;
+            };
+        } else if (propertyType == long.class && mapper instanceof LongColumnMapper longMapper) {
+            return (pojo, rs, ctx) -> {
+                long value = longMapper.mapLong(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                if (!wasNull) {
+                    pojo.setLong(property, value);
+                }
+                return wasNull;
+            };
+        } else if (propertyType == double.class && mapper instanceof DoubleColumnMapper doubleMapper) {
+            return (pojo, rs, ctx) -> {
+                double value = doubleMapper.mapDouble(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                if (!wasNull) {
+                    pojo.setDouble(property, value);
+                }
+                return wasNull;
+            };
+        } else if (propertyType == boolean.class && mapper instanceof BooleanColumnMapper booleanMapper) {
+            return (pojo, rs, ctx) -> {
+                boolean value = booleanMapper.mapBoolean(rs, columnNumber, ctx);
+                boolean wasNull = rs.wasNull();
+                if (!wasNull) {
+                    pojo.setBoolean(property, value);
+                }
+                return wasNull;
+            };
+        }
+        return null;
+    }
+
     private String getName(PojoProperty<T> property) {
         return property.getAnnotation(ColumnName.class)
             .map(ColumnName::value)
@@ -200,9 +263,10 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     private static class PropertyData<T> {
 
-        PropertyData(PojoProperty<T> property, RowMapper<?> mapper) {
+        PropertyData(PojoProperty<T> property, RowMapper<?> mapper, PrimitiveSetter<T> primitiveSetter) {
             this.property = property;
             this.mapper = mapper;
+            this.primitiveSetter = primitiveSetter;
             propagateNull = checkPropagateNullAnnotation(property);
             isPrimitive = GenericTypes.getErasedType(property.getQualifiedType().getType()).isPrimitive();
         }
@@ -220,24 +284,45 @@ public class PojoMapper<T> implements RowMapper<T> {
 
         final PojoProperty<T> property;
         final RowMapper<?> mapper;
+        final PrimitiveSetter<T> primitiveSetter;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
 
-    class BoundPojoMapper<R> implements RowMapper<R> {
+    @FunctionalInterface
+    private interface PrimitiveSetter<T> {
+        // returns whether the column was null, the property is not set then
+        boolean set(PojoBuilder<T> pojo, ResultSet rs, StatementContext ctx) throws SQLException;
+    }
+
+    // does not reference the pojo mapper, so a cached instance does not keep the first mapper and its nested mappers
+    private static final class BoundPojoMapper<T, R> implements RowMapper<R> {
 
+        private final Type type;
+        private final String prefix;
+        private final PojoProperties<T> properties;
         private final List<PropertyData<T>> propList;
         private final Function<T, R> postProcessor;
 
-        BoundPojoMapper(List<PropertyData<T>> propList, Function<T, R> postProcessor) {
+        BoundPojoMapper(Type type, String prefix, PojoProperties<T> properties, List<PropertyData<T>> propList, Function<T, R> postProcessor) {
+            this.type = type;
+            this.prefix = prefix;
+            this.properties = properties;
             this.propList = propList;
             this.postProcessor = postProcessor;
         }
 
         @Override
         public R map(ResultSet rs, StatementContext ctx) throws SQLException {
-            final PojoBuilder<T> pojo = getProperties(ctx.getConfig()).create();
+            final PojoBuilder<T> pojo = properties.create();
             for (PropertyData<T> p : propList) {
+                if (p.primitiveSetter != null) {
+                    if (p.primitiveSetter.set(pojo, rs, ctx) && p.propagateNull) {
+                        return postProcessor.apply(null);
+                    }
+                    continue;
+                }
+
                 Object value = p.mapper.map(rs, ctx);
                 boolean wasNull = (value == null || (p.isPrimitive && rs.wasNull()));
                 if (p.propagateNull && wasNull) {
@@ -260,4 +345,61 @@ public class PojoMapper<T> implements RowMapper<T> {
                 .toString();
         }
     }
+
+    private static final class SpecializationKey {
+
+        private final Class<?> mapperClass;
+        private final Type type;
+        private final String prefix;
+        private final boolean strictColumnTypeMapping;
+        private final List<String> columnNames;
+        private final List<ColumnNameMatcher> columnNameMatchers;
+        private final boolean strictMatching;
+        private final UnaryOperator<String> caseChange;
+        private final Object columnMappersGeneration;
+        private final Object pojoTypesGeneration;
+        private final EnumStrategy enumStrategy;
+
+        SpecializationKey(PojoMapper<?> mapper, ReflectionMappers reflectionMappers, List<String> columnNames, ConfigRegistry config) {
+            this.mapperClass = mapper.getClass();
+            this.type = mapper.type;
+            this.prefix = mapper.prefix;
+            this.strictColumnTypeMapping = mapper.strictColumnTypeMapping;
+            this.columnNames = columnNames;
+            this.columnNameMatchers = reflectionMappers.getColumnNameMatchers();
+            this.strictMatching = reflectionMappers.isStrictMatching();
+            this.caseChange = reflectionMappers.getCaseChange();
+            // the configuration that decides which properties and column mappers are used
+            this.columnMappersGeneration = config.get(ColumnMappers.class).getResolutionGeneration();
+            this.pojoTypesGeneration = config.get(PojoTypes.class).getGeneration();
+            this.enumStrategy = config.get(Enums.class).getDefaultStrategy();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SpecializationKey that = (SpecializationKey) o;
+            return mapperClass == that.mapperClass
+                && columnMappersGeneration == that.columnMappersGeneration
+                && pojoTypesGeneration == that.pojoTypesGeneration
+                && enumStrategy == that.enumStrategy
+                && caseChange == that.caseChange
+                && strictColumnTypeMapping == that.strictColumnTypeMapping
+                && strictMatching == that.strictMatching
+                && type.equals(that.type)
+                && Objects.equals(prefix, that.prefix)
+                && columnNames.equals(that.columnNames)
+                && columnNameMatchers.equals(that.columnNameMatchers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mapperClass, type, prefix, columnNames, System.identityHashCode(columnMappersGeneration));
+        }
+    }
 }
@@ -44,6 +44,23 @@ public abstract class PojoProperties<T> {
             set(property.getName(), value);
         }
 
+        // the primitive setters avoid boxing if the builder supports it
+        default void setInt(PojoProperty<T> property, int value) {
+            set(property, value);
+        }
+
+        default void setLong(PojoProperty<T> property, long value) {
+            set(property, value);
+        }
+
+        default void setDouble(PojoProperty<T> property, double value) {
+            set(property, value);
+        }
+
+        default void setBoolean(PojoProperty<T> property, boolean value) {
+            set(property, value);
+        }
+
         T build();
     }
 
@@ -23,7 +23,11 @@ import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
 
 public class PojoTypes implements JdbiConfig<PojoTypes> {
+    // configurations without registered factories are equivalent, even if they were created independently
+    private static final Object INITIAL_GENERATION = new Object();
+
     private final Map<Class<?>, PojoPropertiesFactory> factories;
+    private volatile Object generation = INITIAL_GENERATION;
     private ConfigRegistry registry;
 
     public PojoTypes() {
@@ -32,6 +36,7 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
 
     private PojoTypes(PojoTypes other) {
         factories = new CopyOnWriteHashMap<>(other.factories);
+        generation = other.generation;
     }
 
     @Override
@@ -41,9 +46,19 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
 
     public PojoTypes register(Class<?> key, PojoPropertiesFactory factory) {
         factories.put(key, factory);
+        generation = new Object();
         return this;
     }
 
+    /**
+     * Returns an opaque token that is shared by copies of this configuration until a factory is registered.
+     *
+     * @return An opaque token that must only be compared by identity.
+     */
+    public Object getGeneration() {
+        return generation;
+    }
+
     public Optional<PojoProperties<?>> findFor(Type type) {
         return Optional.ofNullable(factories.get(GenericTypes.getErasedType(type)))
                 .map(ppf -> ppf.create(type, registry));
@@ -0,0 +1,501 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A result set that was read column by column into arrays. Columns of type {@code int}, {@code long},
+ * {@code double} and {@code boolean} are stored in primitive arrays with a separate null bitmap,
+ * {@code String} columns in a {@code String[]} and all other columns in an {@code Object[]}. No object is
+ * created per row.
+ * <p>
+ * Columns are addressed by column number, starting at 1 as in JDBC, and rows by index, starting at 0. The
+ * arrays returned by the getters are not copied; callers must not modify them.
+ *
+ * @see ResultBearing#collectColumns(Class[])
+ * @since 3.52.0
+ */
+@Beta
+public final class ColumnarResult {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // a fetch size larger than this does not size the first allocation, the arrays grow as needed
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private final List<String> columnNames;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private ColumnarResult(List<String> columnNames, Column[] columns, int rowCount) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Reads all remaining rows of the result set.
+     *
+     * @param resultSet The result set.
+     * @param columnTypes The types of the leading columns, see {@link ResultBearing#collectColumns(Class[])}.
+     * @return The columnar result.
+     * @throws SQLException if the result set can not be read or provides no metadata.
+     */
+    static ColumnarResult read(ResultSet resultSet, Class<?>... columnTypes) throws SQLException {
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        if (metaData == null) {
+            throw new SQLException("Result set provides no metadata, can not determine the columns");
+        }
+        final int columnCount = metaData.getColumnCount();
+        if (columnTypes.length > columnCount) {
+            throw new IllegalArgumentException(String.format("%d column types given for a result with %d columns", columnTypes.length, columnCount));
+        }
+
+        final int initialCapacity = initialCapacity(resultSet);
+        final String[] names = new String[columnCount];
+        final Column[] columns = new Column[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = metaData.getColumnLabel(i + 1);
+            final Class<?> type = i < columnTypes.length && columnTypes[i] != null ? columnTypes[i] : typeOf(metaData, i + 1);
+            columns[i] = createColumn(type, initialCapacity);
+        }
+
+        int rows = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                columns[i].read(resultSet, i + 1, rows);
+            }
+            rows++;
+        }
+
+        for (Column column : columns) {
+            column.trim(rows);
+        }
+
+        return new ColumnarResult(Collections.unmodifiableList(Arrays.asList(names)), columns, rows);
+    }
+
+    // the first fetch is a good estimate for the number of rows if the driver honors the fetch size
+    private static int initialCapacity(ResultSet resultSet) {
+        try {
+            final int fetchSize = resultSet.getFetchSize();
+            return fetchSize > 0 && fetchSize <= MAX_INITIAL_CAPACITY ? fetchSize : INITIAL_CAPACITY;
+        } catch (SQLException e) {
+            return INITIAL_CAPACITY;
+        }
+    }
+
+    private static Class<?> typeOf(ResultSetMetaData metaData, int columnNumber) throws SQLException {
+        return switch (metaData.getColumnType(columnNumber)) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> int.class;
+            case Types.BIGINT -> long.class;
+            case Types.REAL, Types.FLOAT, Types.DOUBLE -> double.class;
+            case Types.BOOLEAN -> boolean.class;
+            // BIT(n) is a bit string, only a single bit is a boolean
+            case Types.BIT -> metaData.getPrecision(columnNumber) == 1 ? boolean.class : Object.class;
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR -> String.class;
+            default -> Object.class;
+        };
+    }
+
+    private static Column createColumn(Class<?> type, int initialCapacity) {
+        if (type == int.class) {
+            return new IntColumn(initialCapacity);
+        } else if (type == long.class) {
+            return new LongColumn(initialCapacity);
+        } else if (type == double.class) {
+            return new DoubleColumn(initialCapacity);
+        } else if (type == boolean.class) {
+            return new BooleanColumn(initialCapacity);
+        } else if (type == String.class) {
+            return new StringColumn(initialCapacity);
+        } else if (type == Object.class) {
+            return new ObjectColumn(initialCapacity);
+        }
+        throw new IllegalArgumentException("Unsupported column type " + type.getName()
+            + ", use int, long, double, boolean, String or Object");
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the column labels in result set order.
+     *
+     * @return The column labels.
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Returns the column number of the column with the given label. The label is matched case-insensitively.
+     *
+     * @param columnLabel The column label.
+     * @return The column number, starting at 1.
+     * @throws IllegalArgumentException if no column has the given label.
+     */
+    public int getColumnNumber(String columnLabel) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnLabel)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException(String.format("No column '%s' in %s", columnLabel, columnNames));
+    }
+
+    /**
+     * Returns the type the given column is stored as: one of {@code int.class}, {@code long.class},
+     * {@code double.class}, {@code boolean.class}, {@code String.class} or {@code Object.class}.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The column type.
+     */
+    public Class<?> getColumnType(int columnNumber) {
+        return column(columnNumber).type();
+    }
+
+    /**
+     * Returns true if the value in the given column and row was SQL {@code NULL}. The primitive arrays contain the
+     * default value ({@code 0} or {@code false}) for null values.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @param row The row index, starting at 0.
+     * @return True if the value was null.
+     */
+    public boolean isNull(int columnNumber, int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException(String.format("Row %d out of bounds for %d rows", row, rowCount));
+        }
+        return column(columnNumber).nulls.get(row);
+    }
+
+    /**
+     * Returns the values of an {@code int} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public int[] getInts(int columnNumber) {
+        return column(columnNumber, IntColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code long} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public long[] getLongs(int columnNumber) {
+        return column(columnNumber, LongColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code double} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public double[] getDoubles(int columnNumber) {
+        return column(columnNumber, DoubleColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code boolean} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public boolean[] getBooleans(int columnNumber) {
+        return column(columnNumber, BooleanColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code String} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public String[] getStrings(int columnNumber) {
+        return column(columnNumber, StringColumn.class).values;
+    }
+
+    /**
+     * Returns the values of an {@code Object} column.
+     *
+     * @param columnNumber The column number, starting at 1.
+     * @return The values.
+     */
+    public Object[] getObjects(int columnNumber) {
+        return column(columnNumber, ObjectColumn.class).values;
+    }
+
+    private Column column(int columnNumber) {
+        if (columnNumber < 1 || columnNumber > columns.length) {
+            throw new IndexOutOfBoundsException(String.format("Column %d out of bounds for %d columns", columnNumber, columns.length));
+        }
+        return columns[columnNumber - 1];
+    }
+
+    private <C extends Column> C column(int columnNumber, Class<C> columnClass) {
+        final Column column = column(columnNumber);
+        if (!columnClass.isInstance(column)) {
+            throw new IllegalStateException(String.format("Column %d (%s) is stored as %s", columnNumber, columnNames.get(columnNumber - 1),
+                column.type().getSimpleName().toLowerCase(Locale.ROOT)));
+        }
+        return columnClass.cast(column);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarResult[columns=" + columnNames + ", rows=" + rowCount + "]";
+    }
+
+    private abstract static class Column {
+
+        final BitSet nulls = new BitSet();
+        private final int initialCapacity;
+
+        Column(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+
+        abstract Class<?> type();
+
+        abstract void read(ResultSet resultSet, int columnNumber, int row) throws SQLException;
+
+        abstract void trim(int rows);
+
+        int grow(int length) {
+            return length == 0 ? initialCapacity : length + Math.max(1, length >> 1);
+        }
+    }
+
+    private static final class IntColumn extends Column {
+
+        private int[] values = new int[0];
+
+        IntColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return int.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getInt(columnNumber);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        private long[] values = new long[0];
+
+        LongColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return long.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getLong(columnNumber);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        private double[] values = new double[0];
+
+        DoubleColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return double.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getDouble(columnNumber);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+
+        private boolean[] values = new boolean[0];
+
+        BooleanColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return boolean.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getBoolean(columnNumber);
+            if (resultSet.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    private static final class StringColumn extends Column {
+
+        private String[] values = new String[0];
+
+        StringColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return String.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getString(columnNumber);
+            if (values[row] == null) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+
+        private Object[] values = new Object[0];
+
+        ObjectColumn(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        @Override
+        Class<?> type() {
+            return Object.class;
+        }
+
+        @Override
+        void read(ResultSet resultSet, int columnNumber, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(row));
+            }
+            values[row] = resultSet.getObject(columnNumber);
+            if (values[row] == null) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void trim(int rows) {
+            if (values.length != rows) {
+                values = Arrays.copyOf(values, rows);
+            }
+        }
+    }
+}
@@ -21,6 +21,9 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.collector.ElementTypeNotFoundException;
@@ -36,8 +39,10 @@ import org.jdbi.v3.core.mapper.RowViewMapper;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.BeanMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.result.internal.PrimitiveResultStreams;
 import org.jdbi.v3.core.result.internal.RowViewImpl;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Provides access to the contents of a {@link ResultSet} by mapping to Java types.
@@ -134,6 +139,49 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Maps the first column of this result set to an {@link IntStream}. The values are read with the
+     * {@link org.jdbi.v3.core.mapper.IntColumnMapper} registered for {@code int} and are not boxed.
+     * Use {@code mapToInt().toArray()} to collect the values into an {@code int[]}.
+     * <p>
+     * The returned stream holds database resources open until it is exhausted or closed.
+     *
+     * @return an {@link IntStream} of the first column.
+     * @since 3.52.0
+     */
+    @Beta
+    default IntStream mapToInt() {
+        return scanResultSet(PrimitiveResultStreams::intStream);
+    }
+
+    /**
+     * Maps the first column of this result set to a {@link LongStream}. The values are read with the
+     * {@link org.jdbi.v3.core.mapper.LongColumnMapper} registered for {@code long} and are not boxed.
+     * <p>
+     * The returned stream holds database resources open until it is exhausted or closed.
+     *
+     * @return a {@link LongStream} of the first column.
+     * @since 3.52.0
+     */
+    @Beta
+    default LongStream mapToLong() {
+        return scanResultSet(PrimitiveResultStreams::longStream);
+    }
+
+    /**
+     * Maps the first column of this result set to a {@link DoubleStream}. The values are read with the
+     * {@link org.jdbi.v3.core.mapper.DoubleColumnMapper} registered for {@code double} and are not boxed.
+     * <p>
+     * The returned stream holds database resources open until it is exhausted or closed.
+     *
+     * @return a {@link DoubleStream} of the first column.
+     * @since 3.52.0
+     */
+    @Beta
+    default DoubleStream mapToDouble() {
+        return scanResultSet(PrimitiveResultStreams::doubleStream);
+    }
+
     /**
      * Maps this result set to a {@link ResultIterable} of the given element type, using {@link BeanMapper}.
      *
@@ -307,6 +355,49 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Reads all rows into a {@link ColumnarResult}, which stores each column in a single array. The storage type of
+     * each column is derived from its JDBC type: integer types up to {@code INTEGER} are stored as {@code int},
+     * {@code BIGINT} as {@code long}, floating point types as {@code double}, {@code BOOLEAN} and {@code BIT} with a
+     * precision of 1 as {@code boolean}, character types as {@code String} and all other types as {@code Object}.
+     * <p>
+     * This avoids creating an object for each row when large results are only needed as arrays, e.g. for analytics.
+     * Column mappers are not used.
+     *
+     * @return the columnar result.
+     * @since 3.52.0
+     */
+    @Beta
+    default ColumnarResult collectColumns() {
+        return collectColumns(new Class<?>[0]);
+    }
+
+    /**
+     * Reads all rows into a {@link ColumnarResult}, which stores each column in a single array. The given types
+     * override the storage type of the leading columns, in result set order. Supported types are {@code int.class},
+     * {@code long.class}, {@code double.class}, {@code boolean.class}, {@code String.class} and {@code Object.class}.
+     * A {@code null} type, or a column without a given type, uses the type derived from the JDBC type as
+     * described in {@link #collectColumns()}.
+     *
+     * @param columnTypes the storage types of the leading columns.
+     * @return the columnar result.
+     * @since 3.52.0
+     */
+    @Beta
+    default ColumnarResult collectColumns(Class<?>... columnTypes) {
+        return scanResultSet((resultSetSupplier, context) -> {
+            try (context) {
+                final ResultSet resultSet = resultSetSupplier.get();
+                if (resultSet == null) {
+                    throw new NoResultsException("Statement returned no results", context);
+                }
+                return ColumnarResult.read(resultSet, columnTypes);
+            } catch (SQLException e) {
+                throw new UnableToProduceResultException(e, context);
+            }
+        });
+    }
+
     /**
      * Collect the results using the given collector. Do not attempt to accumulate the
      * {@link RowView} objects into the result--they are only valid within the
@@ -22,6 +22,8 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,9 +36,11 @@ import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.internal.ResultIterablePublisher;
 import org.jdbi.v3.core.result.internal.ResultSetResultIterable;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 import static java.util.Spliterators.spliteratorUnknownSize;
 
@@ -268,6 +272,88 @@ public interface ResultIterable<T> extends Iterable<T> {
                 .onClose(iterator::close);
     }
 
+    /**
+     * Returns a parallel stream of the results, using batches of 1024 rows.
+     *
+     * @return a parallel stream of the results.
+     * @see #parallelStream(int)
+     * @since 3.52.0
+     */
+    @Beta
+    default Stream<T> parallelStream() {
+        return parallelStream(1024);
+    }
+
+    /**
+     * Returns a parallel stream of the results. For results that are mapped by a {@link RowMapper} (e.g. from
+     * {@link ResultBearing#mapTo(Class)}), the result set is read by one thread at a time in batches of
+     * {@code batchSize} rows, and each batch is handed to a worker thread that runs the later stages of the stream. This
+     * spreads expensive processing of the results across cores. The rows are mapped by the thread that reads the
+     * result set, except for {@link ResultBearing#mapToMap()}, which copies the column values with
+     * {@link ResultSet#getObject(int)} and builds the maps on the worker threads. At most two batches per worker thread
+     * are read ahead of the workers. The stream is ordered; call {@link Stream#unordered()} if the order of the results
+     * does not matter. Other result iterables return {@code stream().parallel()}, which reads and maps all rows
+     * sequentially.
+     * <p>
+     * The returned stream must be closed to release database resources, as with {@link #stream()}.
+     *
+     * @param batchSize the number of rows that are read and mapped together
+     * @return a parallel stream of the results.
+     * @since 3.52.0
+     */
+    @Beta
+    default Stream<T> parallelStream(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        return stream().parallel();
+    }
+
+    /**
+     * Returns a result iterable that reads ahead. For results that are mapped by a {@link RowMapper}, a task on the
+     * given executor moves the result set forward, maps the rows and puts up to {@code depth} of them into a buffer,
+     * while the consuming thread processes the buffered rows. This overlaps the round trips of the driver to fetch
+     * more rows with the work of the consumer. For {@link ResultBearing#mapToMap()}, the reader task copies the column
+     * values with {@link ResultSet#getObject(int)} and the consuming thread builds the maps.
+     * <p>
+     * The executor must run the task on a different thread. The row mapper runs on that thread. The reader task is
+     * stopped and database resources are released when the iterator or stream is closed, when all rows have been
+     * consumed, or when the statement is closed. Other result iterables are returned unchanged.
+     *
+     * @param executor the executor that runs the reader task
+     * @param depth the maximum number of rows that are read ahead
+     * @return a result iterable that reads ahead
+     * @since 3.52.0
+     */
+    @Beta
+    default ResultIterable<T> prefetch(Executor executor, int depth) {
+        Objects.requireNonNull(executor, "executor is null");
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth must be positive");
+        }
+        return this;
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} that emits the results to a single subscriber. Rows are read from the result
+     * set on the given executor, and only as the subscriber requests them. An executor task emits at most as many rows
+     * as the fetch size of the statement (see {@link org.jdbi.v3.core.statement.Query#setFetchSize(int)}) before it
+     * yields the executor, so a dedicated thread is not required. A virtual thread executor works as well.
+     * <p>
+     * Database resources owned by the query are released when all rows have been emitted, the subscription is
+     * cancelled or an error occurs. The handle that created the query must stay open until then. If the subscription
+     * is cancelled before any rows were requested, the statement is not executed. If a subscriber method throws, the
+     * subscription is cancelled and the exception is thrown on the executor.
+     *
+     * @param executor the executor that reads rows from the result set and signals the subscriber
+     * @return a publisher of the results
+     * @since 3.52.0
+     */
+    @Beta
+    default Flow.Publisher<T> publisher(Executor executor) {
+        return new ResultIterablePublisher<>(this, executor);
+    }
+
     /**
      * Passes the stream of results to the consumer. Database resources owned by the query are
      * released before this method returns.
@@ -31,6 +31,9 @@ import org.jdbi.v3.core.statement.StatementContext;
  * <p>
  * The <code>remove()</code> operation is not supported in the default
  * version, and will raise an <code>UnsupportedOperationException</code>
+ * <p>
+ * A result iterator is not thread safe. It may be handed over to another thread, but it must not be used by more
+ * than one thread at a time. See {@link ResultProducers#setCheckIteratorConfinement(boolean)}.
  */
 public interface ResultIterator<T> extends Iterator<T>, Closeable {
     @Override
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.result.internal.EmptyResultSet;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Commonly used ResultProducer implementations.
@@ -29,11 +30,13 @@ import org.jdbi.v3.core.statement.StatementContext;
 public class ResultProducers implements JdbiConfig<ResultProducers> {
 
     private boolean allowNoResults = false;
+    private boolean checkIteratorConfinement = false;
 
     public ResultProducers() {}
 
     private ResultProducers(ResultProducers that) {
         this.allowNoResults = that.allowNoResults;
+        this.checkIteratorConfinement = that.checkIteratorConfinement;
     }
 
     /**
@@ -110,7 +113,7 @@ public class ResultProducers implements JdbiConfig<ResultProducers> {
                 ResultSet resultSet = resultSetCreator.createResultSet(preparedStatementSupplier.get());
 
                 if (resultSet == null) {
-                    if (ctx.getConfig(ResultProducers.class).allowNoResults) {
+                    if (ctx.getConfig().read(ResultProducers.class).allowNoResults) {
                         return new EmptyResultSet();
                     }
                     throw new NoResultsException("Statement returned no results", ctx);
@@ -142,6 +145,35 @@ public class ResultProducers implements JdbiConfig<ResultProducers> {
         return this;
     }
 
+    /**
+     * Returns true if result iterators check that they are not used by more than one thread at a time.
+     *
+     * @return True if result iterators check their thread confinement
+     * @see #setCheckIteratorConfinement(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isCheckIteratorConfinement() {
+        return checkIteratorConfinement;
+    }
+
+    /**
+     * Sets whether result iterators check that they are not used by more than one thread at a time. A
+     * {@link ResultIterator} is confined to one thread: it may be handed over to another thread, but it must never be
+     * used by two threads concurrently, so it does not synchronize its state. With this option, an iterator that is
+     * used concurrently throws an {@link IllegalStateException}. The check costs an atomic operation per row and is
+     * meant for testing. The default is false.
+     *
+     * @param checkIteratorConfinement If true, result iterators check their thread confinement
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public ResultProducers setCheckIteratorConfinement(boolean checkIteratorConfinement) {
+        this.checkIteratorConfinement = checkIteratorConfinement;
+        return this;
+    }
+
     /**
      * Returns a ResultSet from a Statement.
      */
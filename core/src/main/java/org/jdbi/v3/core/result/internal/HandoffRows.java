@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reads rows on the thread that moves the result set, so they can be handed to another thread. If the specialized
+ * row mapper is a {@link RowValuesMapper}, the values of the row are copied and mapped by the receiving thread.
+ * Otherwise the row is mapped when it is read, because other row mappers may use any getter of the result set.
+ */
+final class HandoffRows<T> {
+
+    private final RowMapper<T> rowMapper;
+    private final RowValuesMapper<T> valuesMapper;
+    private final int columnCount;
+
+    HandoffRows(RowMapper<T> rowMapper, ResultSet resultSet, StatementContext context) throws SQLException {
+        this.rowMapper = rowMapper.specialize(resultSet, context);
+        if (this.rowMapper instanceof RowValuesMapper<T> rvm) {
+            this.valuesMapper = rvm;
+            this.columnCount = resultSet.getMetaData().getColumnCount();
+        } else {
+            this.valuesMapper = null;
+            this.columnCount = 0;
+        }
+    }
+
+    /**
+     * Maps the current row on the reading thread.
+     */
+    T map(ResultSet resultSet, StatementContext context) throws SQLException {
+        return rowMapper.map(resultSet, context);
+    }
+
+    /**
+     * Reads the current row for {@link #complete(Object)}.
+     */
+    Object read(ResultSet resultSet, StatementContext context) throws SQLException {
+        if (valuesMapper == null) {
+            return rowMapper.map(resultSet, context);
+        }
+        final Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            values[i] = resultSet.getObject(i + 1);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the mapped row for a row that was returned by {@link #read(ResultSet, StatementContext)}.
+     */
+    @SuppressWarnings("unchecked")
+    T complete(Object row) {
+        if (valuesMapper == null) {
+            return (T) row;
+        }
+        return valuesMapper.mapValues((Object[]) row);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * A result iterator that reads ahead. A task on the executor moves the result set forward and puts the rows, read with
+ * {@link HandoffRows}, into a bounded buffer, while the consumer takes them from the buffer. Rows are mapped by the
+ * reader task, except for a {@link RowValuesMapper}, whose copied values are mapped by the consumer. The result set is
+ * only accessed by the reader task until it has finished; closing the iterator or the statement context stops the
+ * reader and waits for it before the result set is closed. A reader task that has not started when the iterator is
+ * closed does not touch the result set.
+ */
+@SuppressFBWarnings(value = {"AT_STALE_THREAD_WRITE_OF_PRIMITIVE", "AT_NONATOMIC_OPERATIONS_ON_SHARED_VARIABLE"},
+    justification = "the consumer state is only accessed by the consuming thread, the reader only uses the buffer and the result set")
+final class PrefetchingResultIterator<T> implements ResultIterator<T> {
+
+    private static final Object END = new Object();
+    private static final Object NULL_ROW = new Object();
+
+    private static final int READER_NEW = 0;
+    private static final int READER_RUNNING = 1;
+    private static final int READER_CANCELLED = 2;
+
+    private final ResultSetSupplier resultSetSupplier;
+    private final StatementContext context;
+    private final ResultSet resultSet;
+    private final HandoffRows<T> rows;
+
+    private final RowBuffer buffer;
+    private final AtomicInteger readerState = new AtomicInteger(READER_NEW);
+    private final CountDownLatch readerFinished = new CountDownLatch(1);
+
+    // only accessed by the consumer
+    private final List<Object> drained;
+    private int drainIndex;
+    private Object pending;
+    private long mappedRows;
+    private boolean closed;
+
+    PrefetchingResultIterator(Supplier<ResultSet> resultSetSupplier,
+        RowMapper<T> rowMapper,
+        StatementContext context,
+        Executor executor,
+        int depth) throws SQLException {
+
+        this.context = context;
+        this.buffer = new RowBuffer(depth);
+        this.drained = new ArrayList<>(depth);
+
+        if (resultSetSupplier instanceof ResultSetSupplier rss) {
+            this.resultSetSupplier = rss;
+        } else {
+            this.resultSetSupplier = ResultSetSupplier.closingContext(resultSetSupplier, context);
+        }
+
+        this.resultSet = this.resultSetSupplier.get();
+
+        if (resultSet == null) {
+            readerState.set(READER_CANCELLED);
+            close();
+            this.rows = null;
+            return;
+        }
+
+        context.addCleanable(resultSet::close);
+        this.rows = new HandoffRows<>(rowMapper, resultSet, context);
+
+        // runs before the result set is closed, the cleanables are closed in reverse order
+        context.addCleanable(this::stopReader);
+        try {
+            executor.execute(this::read);
+        } catch (RuntimeException e) {
+            // the task was rejected and will never run
+            readerState.set(READER_CANCELLED);
+            close();
+            throw e;
+        }
+    }
+
+    private void read() {
+        if (!readerState.compareAndSet(READER_NEW, READER_RUNNING)) {
+            // the iterator was closed before the task started
+            return;
+        }
+        try {
+            boolean offered = true;
+            while (offered && resultSet.next()) {
+                final Object row;
+                try {
+                    row = rows.read(resultSet, context);
+                } catch (SQLException e) {
+                    buffer.putFailure(new ResultSetException("Exception thrown mapping result set into return type", e, context));
+                    return;
+                }
+                offered = buffer.put(row == null ? NULL_ROW : row);
+            }
+            if (offered) {
+                buffer.put(END);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            buffer.putFailure(e);
+        } catch (Throwable t) {
+            buffer.putFailure(t);
+        } finally {
+            readerFinished.countDown();
+        }
+    }
+
+    private void stopReader() {
+        buffer.stop();
+        if (readerState.compareAndSet(READER_NEW, READER_CANCELLED)) {
+            // the reader task has not started and will not use the result set
+            return;
+        }
+        if (readerState.get() == READER_CANCELLED) {
+            return;
+        }
+        // wait until the reader no longer uses the result set, even if interrupted
+        boolean interrupted = false;
+        while (readerFinished.getCount() > 0) {
+            try {
+                readerFinished.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (pending == null) {
+            pending = take();
+        }
+
+        if (pending == END) {
+            close();
+            return false;
+        }
+
+        if (pending instanceof Failure failure) {
+            close();
+            throw failure.rethrow(context);
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+
+        final Object row = pending;
+        pending = null;
+        mappedRows++;
+
+        return row == NULL_ROW ? null : rows.complete(row);
+    }
+
+    private Object take() {
+        if (drainIndex == drained.size()) {
+            drained.clear();
+            drainIndex = 0;
+            try {
+                buffer.drainTo(drained);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new ResultSetException("Interrupted while waiting for the next row", e, context);
+            }
+        }
+        return drained.get(drainIndex++);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        context.setMappedRows(mappedRows);
+        stopReader();
+        try {
+            resultSetSupplier.close();
+        } catch (SQLException e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+
+    /**
+     * A bounded buffer between the reader and the consumer. Stopping the buffer drops the buffered rows and releases a
+     * reader that waits for room.
+     */
+    private static final class RowBuffer {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+        private final ArrayDeque<Object> rows;
+        private final int capacity;
+        private boolean stopped;
+
+        RowBuffer(int capacity) {
+            this.rows = new ArrayDeque<>(capacity);
+            this.capacity = capacity;
+        }
+
+        /**
+         * Adds a row, waiting for room. Returns false if the buffer was stopped.
+         */
+        boolean put(Object row) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (rows.size() == capacity && !stopped) {
+                    notFull.await();
+                }
+                if (stopped) {
+                    return false;
+                }
+                rows.add(row);
+                notEmpty.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Adds a failure, which may exceed the capacity because it is the last element.
+         */
+        void putFailure(Throwable failure) {
+            lock.lock();
+            try {
+                if (!stopped) {
+                    rows.add(new Failure(failure));
+                    notEmpty.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Moves all buffered rows to the target, waiting for at least one. Ends the rows if the buffer was stopped.
+         */
+        void drainTo(List<Object> target) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (rows.isEmpty() && !stopped) {
+                    notEmpty.await();
+                }
+                if (stopped) {
+                    target.add(END);
+                    return;
+                }
+                target.addAll(rows);
+                rows.clear();
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            lock.lock();
+            try {
+                stopped = true;
+                rows.clear();
+                notFull.signalAll();
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Failure(Throwable cause) {
+        RuntimeException rethrow(StatementContext context) {
+            if (cause instanceof SQLException e) {
+                return new ResultSetException("Unable to advance result set", e, context);
+            }
+            throw Sneaky.throwAnyway(cause);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+/**
+ * Creates primitive streams over the first column of a result set. The values are read with the primitive column
+ * mappers and are not boxed, unless the column mapper registered for the primitive type does not implement
+ * {@link IntColumnMapper}, {@link LongColumnMapper} or {@link DoubleColumnMapper}.
+ */
+public final class PrimitiveResultStreams {
+
+    private PrimitiveResultStreams() {
+        throw new UnsupportedOperationException("utility class");
+    }
+
+    public static IntStream intStream(Supplier<ResultSet> resultSetSupplier, StatementContext ctx) {
+        final ColumnMapper<Integer> mapper = findMapper(int.class, ctx);
+        final IntColumnMapper intMapper = mapper instanceof IntColumnMapper m ? m : (r, i, c) -> unbox(mapper.map(r, i, c), r, i);
+
+        final OfInt iterator = new OfInt(resultSetSupplier, ctx, intMapper);
+        return StreamSupport.intStream(spliteratorUnknownSize(iterator, 0), false).onClose(iterator::close);
+    }
+
+    public static LongStream longStream(Supplier<ResultSet> resultSetSupplier, StatementContext ctx) {
+        final ColumnMapper<Long> mapper = findMapper(long.class, ctx);
+        final LongColumnMapper longMapper = mapper instanceof LongColumnMapper m ? m : (r, i, c) -> unbox(mapper.map(r, i, c), r, i);
+
+        final OfLong iterator = new OfLong(resultSetSupplier, ctx, longMapper);
+        return StreamSupport.longStream(spliteratorUnknownSize(iterator, 0), false).onClose(iterator::close);
+    }
+
+    public static DoubleStream doubleStream(Supplier<ResultSet> resultSetSupplier, StatementContext ctx) {
+        final ColumnMapper<Double> mapper = findMapper(double.class, ctx);
+        final DoubleColumnMapper doubleMapper = mapper instanceof DoubleColumnMapper m ? m : (r, i, c) -> unbox(mapper.map(r, i, c), r, i);
+
+        final OfDouble iterator = new OfDouble(resultSetSupplier, ctx, doubleMapper);
+        return StreamSupport.doubleStream(spliteratorUnknownSize(iterator, 0), false).onClose(iterator::close);
+    }
+
+    private static <T> ColumnMapper<T> findMapper(Class<T> type, StatementContext ctx) {
+        return ctx.findColumnMapperFor(type)
+            .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for type " + type));
+    }
+
+    private static <T> T unbox(T value, ResultSet r, int i) throws SQLException {
+        if (value == null) {
+            String msg = String.format("Column mapper returned null for column %s (%s), which can not be mapped to a Java primitive.",
+                i, r.getMetaData().getColumnLabel(i));
+            throw new UnableToProduceResultException(msg);
+        }
+        return value;
+    }
+
+    private static final class OfInt extends ResultSetCursor implements PrimitiveIterator.OfInt {
+
+        private final IntColumnMapper mapper;
+
+        OfInt(Supplier<ResultSet> resultSetSupplier, StatementContext context, IntColumnMapper mapper) {
+            super(resultSetSupplier, context);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public int nextInt() {
+            advance();
+            try {
+                return mapper.mapInt(resultSet, 1, context);
+            } catch (SQLException e) {
+                throw mappingFailed(e);
+            }
+        }
+    }
+
+    private static final class OfLong extends ResultSetCursor implements PrimitiveIterator.OfLong {
+
+        private final LongColumnMapper mapper;
+
+        OfLong(Supplier<ResultSet> resultSetSupplier, StatementContext context, LongColumnMapper mapper) {
+            super(resultSetSupplier, context);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public long nextLong() {
+            advance();
+            try {
+                return mapper.mapLong(resultSet, 1, context);
+            } catch (SQLException e) {
+                throw mappingFailed(e);
+            }
+        }
+    }
+
+    private static final class OfDouble extends ResultSetCursor implements PrimitiveIterator.OfDouble {
+
+        private final DoubleColumnMapper mapper;
+
+        OfDouble(Supplier<ResultSet> resultSetSupplier, StatementContext context, DoubleColumnMapper mapper) {
+            super(resultSetSupplier, context);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public double nextDouble() {
+            advance();
+            try {
+                return mapper.mapDouble(resultSet, 1, context);
+            } catch (SQLException e) {
+                throw mappingFailed(e);
+            }
+        }
+    }
+}
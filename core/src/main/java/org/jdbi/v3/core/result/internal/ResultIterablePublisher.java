@@ -0,0 +1,264 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.Cleanable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes the results of a {@link ResultIterable} to a single subscriber. Rows are read from the result set on the
+ * executor only when the subscriber requests them. Each executor task emits at most one chunk of rows, aligned to the
+ * fetch size of the statement, so a long result does not occupy a shared executor.
+ * <p>
+ * If the subscription ends before the first row was requested, the statement is not executed. The optional release
+ * action frees the resources of the statement in that case. If a subscriber method throws, the subscription is
+ * cancelled and the exception is rethrown on the executor, see rule 2.13 of the Reactive Streams specification.
+ * If the executor rejects a task, the subscription ends with an error and the statement is closed.
+ */
+public final class ResultIterablePublisher<T> implements Flow.Publisher<T> {
+
+    static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private static final Flow.Subscription NO_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    };
+
+    private final ResultIterable<T> iterable;
+    private final Executor executor;
+    private final Cleanable release;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public ResultIterablePublisher(ResultIterable<T> iterable, Executor executor) {
+        this(iterable, executor, null);
+    }
+
+    /**
+     * Creates a publisher that calls the release action if the subscription ends before the statement was executed.
+     */
+    public ResultIterablePublisher(ResultIterable<T> iterable, Executor executor, Cleanable release) {
+        this.iterable = requireNonNull(iterable, "iterable is null");
+        this.executor = requireNonNull(executor, "executor is null");
+        this.release = release;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber is null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(NO_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("The results of a query can only be published to a single subscriber"));
+            return;
+        }
+        final ResultSubscription<T> subscription = new ResultSubscription<>(iterable, executor, release, subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @SuppressFBWarnings(value = "AT_STALE_THREAD_WRITE_OF_PRIMITIVE",
+        justification = "the drain loop state is only accessed by one task at a time, the pending counter orders the tasks")
+    private static final class ResultSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final ResultIterable<T> iterable;
+        private final Executor executor;
+        private final Cleanable release;
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+        // number of pending signals, only the task that moves it away from zero runs the drain loop
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        // only accessed by the drain loop
+        private ResultIterator<T> iterator;
+        private boolean opened;
+        private int chunkSize;
+        private boolean done;
+        private Throwable subscriberFailure;
+
+        ResultSubscription(ResultIterable<T> iterable, Executor executor, Cleanable release, Flow.Subscriber<? super T> subscriber) {
+            this.iterable = iterable;
+            this.executor = executor;
+            this.release = release;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Subscriber requested " + n + " rows, the number of rows must be positive");
+            } else {
+                demand.accumulateAndGet(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // no task runs, so this thread owns the drain loop state. End the subscription and release the
+                    // statement, later signals find the subscription done.
+                    if (!done) {
+                        finish(e, true);
+                    }
+                    pending.set(0);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    drain();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+
+            if (subscriberFailure != null) {
+                // the subscription is done and no further task runs, report the failure of the subscriber
+                throw Sneaky.throwAnyway(subscriberFailure);
+            }
+
+            // the chunk was exhausted while there is still demand, continue in a new task
+            if (!done && demand.get() > 0) {
+                schedule();
+            }
+        }
+
+        private void drain() {
+            if (cancelled) {
+                finish(null, false);
+                return;
+            }
+            if (invalidRequest != null) {
+                finish(invalidRequest, true);
+                return;
+            }
+
+            try {
+                if (!opened) {
+                    opened = true;
+                    iterator = iterable.iterator();
+                    chunkSize = chunkSize(iterator);
+                }
+
+                final long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested && emitted < chunkSize) {
+                    if (cancelled) {
+                        finish(null, false);
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish(null, true);
+                        return;
+                    }
+                    if (!emit(iterator.next())) {
+                        return;
+                    }
+                    emitted++;
+                }
+
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                // complete without waiting for more demand if the result is exhausted
+                if (!iterator.hasNext()) {
+                    finish(null, true);
+                }
+            } catch (Throwable t) {
+                finish(t, true);
+            }
+        }
+
+        private boolean emit(T item) {
+            try {
+                subscriber.onNext(item);
+                return true;
+            } catch (Throwable t) {
+                subscriberFailure = t;
+                finish(null, false);
+                return false;
+            }
+        }
+
+        private void finish(Throwable error, boolean signal) {
+            done = true;
+            Throwable failure = error;
+            try {
+                if (iterator != null) {
+                    iterator.close();
+                } else if (!opened && release != null) {
+                    // finished before the statement was executed, release its resources without executing it
+                    release.close();
+                }
+            } catch (Throwable t) {
+                if (failure == null) {
+                    failure = t;
+                } else {
+                    failure.addSuppressed(t);
+                }
+            }
+
+            if (signal) {
+                try {
+                    if (failure == null) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(failure);
+                    }
+                } catch (Throwable t) {
+                    subscriberFailure = t;
+                }
+            }
+        }
+
+        private static int chunkSize(ResultIterator<?> iterator) {
+            final PreparedStatement statement = iterator.getContext() == null ? null : iterator.getContext().getStatement();
+            try {
+                final int fetchSize = statement == null ? 0 : statement.getFetchSize();
+                return fetchSize > 0 ? fetchSize : DEFAULT_CHUNK_SIZE;
+            } catch (SQLException e) {
+                return DEFAULT_CHUNK_SIZE;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Moves forward through a result set and releases it, and the statement context if it owns it, when the end of the
+ * result set is reached or the cursor is closed. Subclasses map the current row.
+ */
+class ResultSetCursor {
+
+    final ResultSet resultSet;
+    final StatementContext context;
+
+    private final ResultSetSupplier resultSetSupplier;
+
+    private long mappedRows;
+    private boolean alreadyAdvanced;
+    private boolean hasNext;
+    private boolean closed;
+
+    ResultSetCursor(Supplier<ResultSet> resultSetSupplier, StatementContext context) {
+        this.context = context;
+
+        if (resultSetSupplier instanceof ResultSetSupplier rss) {
+            this.resultSetSupplier = rss;
+        } else {
+            this.resultSetSupplier = ResultSetSupplier.closingContext(resultSetSupplier, context);
+        }
+
+        this.resultSet = this.resultSetSupplier.get();
+
+        if (resultSet != null) {
+            context.addCleanable(resultSet::close);
+        } else {
+            close();
+        }
+    }
+
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (!alreadyAdvanced) {
+            try {
+                hasNext = resultSet.next();
+            } catch (SQLException e) {
+                throw new ResultSetException("Unable to advance result set", e, context);
+            }
+            alreadyAdvanced = true;
+
+            if (!hasNext) {
+                close();
+            }
+        }
+
+        return hasNext;
+    }
+
+    /**
+     * Moves to the next row, which must be mapped by the caller.
+     */
+    final void advance() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+        alreadyAdvanced = false;
+        mappedRows++;
+    }
+
+    final ResultSetException mappingFailed(SQLException e) {
+        return new ResultSetException("Exception thrown mapping result set into return type", e, context);
+    }
+
+    void close() {
+        closed = true;
+        context.setMappedRows(mappedRows);
+        try {
+            resultSetSupplier.close();
+        } catch (SQLException e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+}
@@ -18,8 +18,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -29,6 +33,8 @@ import org.jdbi.v3.core.result.ResultSetException;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.StatementContext;
 
+import static java.util.Objects.requireNonNull;
+
 public class ResultSetResultIterable<T> implements ResultIterable<T> {
 
     private final RowMapper<T> mapper;
@@ -53,6 +59,40 @@ public class ResultSetResultIterable<T> implements ResultIterable<T> {
         }
     }
 
+    @Override
+    public Stream<T> parallelStream(int batchSize) {
+        try {
+            final ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(resultSetSupplier, mapper, ctx, batchSize);
+            return StreamSupport.stream(spliterator, true).onClose(spliterator::close);
+        } catch (final SQLException e) {
+            throw new ResultSetException("Unable to iterate result set", e, ctx);
+        }
+    }
+
+    @Override
+    public ResultIterable<T> prefetch(Executor executor, int depth) {
+        requireNonNull(executor, "executor is null");
+        if (depth <= 0) {
+            throw new IllegalArgumentException("depth must be positive");
+        }
+        return () -> {
+            try {
+                return new PrefetchingResultIterator<>(resultSetSupplier, mapper, ctx, executor, depth);
+            } catch (final SQLException e) {
+                throw new ResultSetException("Unable to iterate result set", e, ctx);
+            }
+        };
+    }
+
+    @Override
+    public Flow.Publisher<T> publisher(Executor executor) {
+        // the statement resources are released without executing the statement if the subscription ends early
+        final ResultSetSupplier release = resultSetSupplier instanceof ResultSetSupplier rss
+            ? rss
+            : ResultSetSupplier.closingContext(resultSetSupplier, ctx);
+        return new ResultIterablePublisher<>(this, executor, release);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <R> R collectInto(Type containerType) {
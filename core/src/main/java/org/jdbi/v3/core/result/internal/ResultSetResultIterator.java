@@ -16,15 +16,24 @@ package org.jdbi.v3.core.result.internal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetException;
 import org.jdbi.v3.core.statement.StatementContext;
 
+/**
+ * Iterates over a result set and maps each row. The iterator is confined to one thread at a time (see
+ * {@link ResultIterator}), so its state is kept in plain fields. If {@link ResultProducers#isCheckIteratorConfinement()}
+ * is set, concurrent use is detected and rejected.
+ */
+@SuppressFBWarnings(value = {"AT_STALE_THREAD_WRITE_OF_PRIMITIVE", "AT_NONATOMIC_OPERATIONS_ON_SHARED_VARIABLE"},
+    justification = "result iterators are confined to one thread at a time")
 class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSet resultSet;
     private final RowMapper<T> rowMapper;
@@ -32,17 +41,20 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSetSupplier resultSetSupplier;
     private final StatementContext context;
 
-    private final AtomicLong mappedRows = new AtomicLong();
+    // the thread that currently uses the iterator, only tracked if the confinement is checked
+    private final AtomicReference<Thread> user;
 
-    private volatile boolean alreadyAdvanced = false;
-    private volatile boolean hasNext = false;
-    private volatile boolean closed = false;
+    private long mappedRows;
+    private boolean alreadyAdvanced;
+    private boolean hasNext;
+    private boolean closed;
 
     ResultSetResultIterator(Supplier<ResultSet> resultSetSupplier,
         RowMapper<T> rowMapper,
         StatementContext context) throws SQLException {
 
         this.context = context;
+        this.user = context.getConfig().read(ResultProducers.class).isCheckIteratorConfinement() ? new AtomicReference<>() : null;
 
         if (resultSetSupplier instanceof ResultSetSupplier rss) {
             this.resultSetSupplier = rss;
@@ -64,7 +76,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     @Override
     public void close() {
         closed = true;
-        context.setMappedRows(mappedRows.get());
+        context.setMappedRows(mappedRows);
         try {
             resultSetSupplier.close();
         } catch (SQLException e) {
@@ -74,6 +86,33 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
 
     @Override
     public boolean hasNext() {
+        if (user == null) {
+            return advance();
+        }
+
+        final boolean entered = enter();
+        try {
+            return advance();
+        } finally {
+            exit(entered);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (user == null) {
+            return mapNext();
+        }
+
+        final boolean entered = enter();
+        try {
+            return mapNext();
+        } finally {
+            exit(entered);
+        }
+    }
+
+    private boolean advance() {
         if (closed) {
             return false;
         }
@@ -93,14 +132,13 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         return hasNext;
     }
 
-    @Override
-    public T next() {
-        if (!hasNext()) {
+    private T mapNext() {
+        if (!advance()) {
             close();
             throw new NoSuchElementException("No element to advance to");
         }
 
-        mappedRows.incrementAndGet();
+        mappedRows++;
 
         try {
             return rowMapper.map(resultSet, context);
@@ -114,6 +152,26 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         }
     }
 
+    private boolean enter() {
+        final Thread current = Thread.currentThread();
+        final Thread other = user.compareAndExchange(null, current);
+        if (other == null) {
+            return true;
+        }
+        if (current.equals(other)) {
+            // a row mapper that iterates over the same result set
+            return false;
+        }
+        throw new IllegalStateException(String.format("Result iterator used by thread '%s' while it is in use by thread '%s'",
+            current.getName(), other.getName()));
+    }
+
+    private void exit(boolean entered) {
+        if (entered) {
+            user.set(null);
+        }
+    }
+
     @Override
     public StatementContext getContext() {
         return context;
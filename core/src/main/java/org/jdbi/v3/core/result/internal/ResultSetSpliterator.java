@@ -0,0 +1,210 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * A spliterator that reads a result set on one thread at a time and hands batches of rows to the worker threads of a
+ * parallel stream. Splitting reads the next batch of rows with {@link HandoffRows}: rows are mapped by the splitting
+ * thread, except for a {@link RowValuesMapper}, whose copied values are mapped by the worker that takes the batch.
+ * The later stages of the stream run on the workers.
+ * <p>
+ * At most two batches per worker of the pool are read ahead. A batch stops counting when the stream looks at it for
+ * the first time, which it also does for batches that a stream that stops early (e.g. {@code findFirst()} or
+ * {@code limit()}) skips. Before it reads another batch, the splitting thread waits in
+ * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)} until the count is below the limit, so the pool can
+ * activate another worker to take the queued batches.
+ */
+final class ResultSetSpliterator<T> extends ResultSetCursor implements Spliterator<T> {
+
+    private static final int BATCHES_PER_WORKER = 2;
+
+    private final HandoffRows<T> rows;
+    private final int batchSize;
+
+    private final Object readAheadLock = new Object();
+    private int pendingBatches;
+
+    ResultSetSpliterator(Supplier<ResultSet> resultSetSupplier, RowMapper<T> rowMapper, StatementContext context, int batchSize) throws SQLException {
+        super(resultSetSupplier, context);
+        if (batchSize <= 0) {
+            close();
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+        this.rows = resultSet == null ? null : new HandoffRows<>(rowMapper, resultSet, context);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return false;
+        }
+        advance();
+        try {
+            action.accept(rows.map(resultSet, context));
+        } catch (SQLException e) {
+            throw mappingFailed(e);
+        }
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        awaitReadAhead();
+        if (!hasNext()) {
+            return null;
+        }
+        final Object[] batch = new Object[batchSize];
+        int rowCount = 0;
+        try {
+            while (rowCount < batchSize && hasNext()) {
+                advance();
+                batch[rowCount++] = rows.read(resultSet, context);
+            }
+        } catch (SQLException e) {
+            throw mappingFailed(e);
+        }
+        synchronized (readAheadLock) {
+            pendingBatches++;
+        }
+        return new BatchSpliterator<>(this, batch, rowCount);
+    }
+
+    private void awaitReadAhead() {
+        final ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        final ReadAheadBlocker blocker = new ReadAheadBlocker(BATCHES_PER_WORKER * Math.max(1, pool.getParallelism()));
+        if (blocker.isReleasable()) {
+            return;
+        }
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResultSetException("Interrupted while waiting to read the next batch", e, context);
+        }
+    }
+
+    private void batchTaken() {
+        synchronized (readAheadLock) {
+            pendingBatches--;
+            readAheadLock.notifyAll();
+        }
+    }
+
+    /**
+     * The size of the result is not known. The estimate is the number of rows that the stream framework would split
+     * into about two batches per leaf task, which keeps it splitting off batches until the result set is exhausted.
+     */
+    @Override
+    public long estimateSize() {
+        return (long) batchSize * Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * 8;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    private static final class BatchSpliterator<T> implements Spliterator<T> {
+
+        private final ResultSetSpliterator<T> parent;
+        private final Object[] batch;
+        private final int rowCount;
+        private int index;
+        private boolean taken;
+
+        BatchSpliterator(ResultSetSpliterator<T> parent, Object[] batch, int rowCount) {
+            this.parent = parent;
+            this.batch = batch;
+            this.rowCount = rowCount;
+        }
+
+        private void take() {
+            if (!taken) {
+                taken = true;
+                parent.batchTaken();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            take();
+            if (index == rowCount) {
+                return false;
+            }
+            final Object row = batch[index];
+            batch[index++] = null;
+            action.accept(parent.rows.complete(row));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        /**
+         * The stream framework asks for the size of every batch that it took from a split, before it traverses the
+         * batch or skips it.
+         */
+        @Override
+        public long estimateSize() {
+            take();
+            return rowCount - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    private final class ReadAheadBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final int maxPendingBatches;
+
+        ReadAheadBlocker(int maxPendingBatches) {
+            this.maxPendingBatches = maxPendingBatches;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            synchronized (readAheadLock) {
+                while (pendingBatches >= maxPendingBatches) {
+                    readAheadLock.wait();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            synchronized (readAheadLock) {
+                return pendingBatches < maxPendingBatches;
+            }
+        }
+    }
+}
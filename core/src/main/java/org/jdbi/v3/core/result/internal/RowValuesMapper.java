@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+
+/**
+ * A specialized row mapper that reads each column of a row exactly once, in column order, with
+ * {@link ResultSet#getObject(int)}. A copy of these values can be mapped on a different thread than the one that
+ * reads the result set.
+ *
+ * @param <T> the mapped type
+ */
+public interface RowValuesMapper<T> extends RowMapper<T> {
+
+    /**
+     * Maps the values of a row.
+     *
+     * @param values the values of the columns, as returned by {@link ResultSet#getObject(int)}
+     * @return the mapped row
+     */
+    T mapValues(Object[] values);
+}
@@ -37,6 +37,7 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
 import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.internal.exceptions.CheckedConsumer;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -50,15 +51,19 @@ class ArgumentBinder {
     final StatementContext ctx;
     final ParsedParameters params;
 
+    private final Arguments arguments;
     private final Argument nullArgument;
     protected final ArgumentFactoryLocator factoryLocator;
 
+    private BindingPlan plan;
+
     ArgumentBinder(PreparedStatement stmt, StatementContext ctx, ParsedParameters params) {
         this.stmt = stmt;
         this.ctx = ctx;
         this.params = params;
 
-        this.nullArgument = ctx.getConfig(Arguments.class).getUntypedNullArgument();
+        this.arguments = ctx.getConfig().read(Arguments.class);
+        this.nullArgument = arguments.getUntypedNullArgument();
         this.factoryLocator = new ArgumentFactoryLocator(ctx);
     }
 
@@ -71,21 +76,21 @@ class ArgumentBinder {
     }
 
     void bindPositional(Binding binding) {
+        final PositionalValues positionals = binding.positionalValues;
+        findPlan(positionals, null);
         for (int index = 0; index < params.getParameterCount(); index++) {
-            if (!binding.positionals.containsKey(index)) {
+            if (!positionals.isSet(index)) {
                 throw new UnableToCreateStatementException(format("Missing positional parameter %d in binding:%s", index, binding), ctx);
             }
-            QualifiedType<?> type = factoryLocator.typeOf(binding.positionals.get(index));
             try {
-                factoryLocator.argumentFactoryForType(type)
-                    .apply(unwrap(binding.positionals.get(index)))
+                toArgument(index, positionals.get(index))
                     .apply(index + 1, stmt, ctx);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException("Exception while binding positional param at (0 based) position " + index, e, ctx);
             }
         }
-        boolean moreArgumentsProvidedThanDeclared = binding.positionals.size() != params.getParameterCount();
-        if (moreArgumentsProvidedThanDeclared && !ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
+        boolean moreArgumentsProvidedThanDeclared = positionals.size() != params.getParameterCount();
+        if (moreArgumentsProvidedThanDeclared && !ctx.getConfig().read(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException("Superfluous positional param at (0 based) position " + params.getParameterCount(), ctx);
         }
     }
@@ -94,35 +99,43 @@ class ArgumentBinder {
         final List<String> paramNames = params.getParameterNames();
         bindNamedCheck(binding, paramNames);
 
+        // the values are indexed by parameter position, parameters without a named value use the finders
+        final Object[] values = new Object[paramNames.size()];
+        Arrays.fill(values, BindingPlan.Slot.FINDER);
+        for (Entry<String, Object> entry : binding.named.entrySet()) {
+            final int[] slots = params.getSlots(entry.getKey());
+            if (slots != null) {
+                for (int slot : slots) {
+                    values[slot] = entry.getValue();
+                }
+            }
+        }
+        findPlan(null, values);
+
         assignNames:
         for (int i = 0; i < paramNames.size(); i++) {
             final String name = paramNames.get(i);
             try {
-                final Object value = binding.named.get(name);
+                final Object value = values[i];
                 if (value == null) {
-                    if (binding.named.containsKey(name)) {
-                        // bind a null for the given name
-                        nullArgument.apply(i + 1, stmt, ctx);
-                    } else {
-                        // binding was not set, look through the named argument finders
-                        for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
-                            Optional<Argument> found = naf.find(name, ctx);
-                            if (found.isPresent()) {
-                                found.get().apply(i + 1, stmt, ctx);
-                                continue assignNames;
-                            }
+                    // bind a null for the given name
+                    nullArgument.apply(i + 1, stmt, ctx);
+                } else if (value == BindingPlan.Slot.FINDER) {
+                    // binding was not set, look through the named argument finders
+                    for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
+                        Optional<Argument> found = naf.find(name, ctx);
+                        if (found.isPresent()) {
+                            found.get().apply(i + 1, stmt, ctx);
+                            continue assignNames;
                         }
-                        throw missingNamedParameter(name, binding);
                     }
+                    throw missingNamedParameter(name, binding);
+                } else if (value instanceof Argument argument) {
+                    argument.apply(i + 1, stmt, ctx);
                 } else {
-                    if (value instanceof Argument argument) {
-                        argument.apply(i + 1, stmt, ctx);
-                    } else {
-                        // value set, find an argument factory and assign the value
-                        factoryLocator.argumentFactoryForType(factoryLocator.typeOf(value))
-                            .apply(unwrap(value))
-                            .apply(i + 1, stmt, ctx);
-                    }
+                    // value set, find an argument factory and assign the value
+                    toArgument(i, value)
+                        .apply(i + 1, stmt, ctx);
                 }
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(format("Exception while binding named parameter '%s'", name), e, ctx);
@@ -133,7 +146,7 @@ class ArgumentBinder {
     void bindNamedCheck(Binding binding, List<String> paramNames) {
         // best effort: compare empty to non-empty because we can't list the individual binding names (unless we expose a method to do so)
         boolean argumentsProvidedButNoneDeclared = paramNames.isEmpty() && !binding.isEmpty();
-        if (argumentsProvidedButNoneDeclared && !ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
+        if (argumentsProvidedButNoneDeclared && !ctx.getConfig().read(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException(format(
                     "Superfluous named parameters provided while the query "
                             + "declares none: '%s'. This check may be disabled by calling "
@@ -142,6 +155,31 @@ class ArgumentBinder {
         }
     }
 
+    private void findPlan(PositionalValues positionals, Object[] namedValues) {
+        final JdbiCache<ParsedParameters, BindingPlan.Plans> planCache = ctx.getConfig().read(SqlStatements.class).getBindingPlanCache();
+        if (planCache == null) {
+            plan = null;
+            return;
+        }
+        // matching an existing plan compares the value classes and does not allocate
+        final Object generation = arguments.getResolutionGeneration();
+        final BindingPlan.Plans plans = planCache.get(params);
+        plan = plans.find(generation, positionals, namedValues);
+        if (plan == null) {
+            plan = BindingPlan.prepare(generation, positionals, namedValues, params.getParameterCount(), arguments, factoryLocator);
+            plans.add(plan);
+        }
+    }
+
+    private Argument toArgument(int index, Object value) {
+        final Function<Object, Argument> prepared = plan == null ? null : plan.factory(index);
+        if (prepared == null) {
+            return factoryLocator.argumentFactoryForType(factoryLocator.typeOf(value))
+                .apply(unwrap(value));
+        }
+        return DescribedArgument.wrap(ctx, prepared.apply(unwrap(value)), value);
+    }
+
     /**
      * @deprecated prepare the argument by type instead
      */
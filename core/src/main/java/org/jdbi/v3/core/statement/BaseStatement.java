@@ -33,10 +33,13 @@ abstract class BaseStatement<This> implements Closeable, Configurable<This> {
 
     BaseStatement(Handle handle) {
         this.handle = handle;
-        final ConfigRegistry config = handle.getConfig().createCopy();
+        final ConfigRegistry handleConfig = handle.getConfig();
+        // the statement config is a copy of the handle config at this point, so the handle settings can be used directly.
+        final SqlStatements sqlStatements = handleConfig.read(SqlStatements.class);
+        final ConfigRegistry config = sqlStatements.isLayeredConfig() ? handleConfig.createLayeredCopy() : handleConfig.createCopy();
         this.ctx = StatementContext.create(config, handle.getExtensionMethod(), getClass());
 
-        if (config.get(SqlStatements.class).isAttachAllStatementsForCleanup()) {
+        if (sqlStatements.isAttachAllStatementsForCleanup()) {
             attachToHandleForCleanup(this.handle, this.ctx);
         }
     }
@@ -108,7 +111,7 @@ abstract class BaseStatement<This> implements Closeable, Configurable<This> {
     }
 
     private Collection<StatementCustomizer> getCustomizers() {
-        return this.getConfig(SqlStatements.class).getCustomizers();
+        return getConfig().read(SqlStatements.class).getCustomizers();
     }
 
     @Override
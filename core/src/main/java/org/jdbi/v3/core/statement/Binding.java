@@ -22,7 +22,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 
 import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
@@ -35,7 +34,10 @@ import static org.jdbi.v3.core.statement.ArgumentBinder.unwrap;
  * Represents the arguments bound to a particular statement.
  */
 public class Binding {
-    protected final Map<Integer, Object> positionals = new TreeMap<>();
+    final PositionalValues positionalValues = new PositionalValues();
+    protected final Map<Integer, Object> positionals = positionalValues;
+    // named values are bound before the sql is parsed, they are moved to the parameter positions of the parsed
+    // statement (see ParsedParameters#getSlots) when the statement is executed
     protected final Map<String, Object> named = new LinkedHashMap<>();
     protected final List<NamedArgumentFinder> namedArgumentFinder = new ArrayList<>();
     private final ArgumentFactoryLocator locator;
@@ -68,7 +70,7 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addPositional(int position, Object argument) {
-        positionals.put(position, argument);
+        positionalValues.set(position, argument);
     }
 
     /**
@@ -86,7 +88,7 @@ public class Binding {
      * @param argument the argument to bind
      */
     public void addPositional(int position, Object argument, QualifiedType<?> type) {
-        positionals.put(position, new TypedValue(type, argument));
+        positionalValues.set(position, new TypedValue(type, argument));
     }
 
     /**
@@ -147,7 +149,7 @@ public class Binding {
      */
     @Deprecated(since = "3.11.0", forRemoval = true)
     public Optional<Argument> findForPosition(int position) {
-        var found = positionals.get(position);
+        var found = positionalValues.get(position);
         return Optional.ofNullable(locator.argumentFactoryForType(locator.typeOf(found)).apply(unwrap(found)));
     }
 
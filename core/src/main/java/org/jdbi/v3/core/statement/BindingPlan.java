@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.Arguments;
+import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+
+/**
+ * Maps each parameter of a statement to a prepared argument function. Plans are cached by {@link SqlStatements}
+ * for the parameters of a parsed statement, so that repeated executions with the same value types skip argument type
+ * resolution. A plan only holds argument functions that do not depend on the configuration of the statement that
+ * prepared them (see {@link Arguments#prepareSharedFor(QualifiedType)}), all other parameters are resolved by each
+ * statement.
+ */
+final class BindingPlan {
+
+    /** Shape of a parameter that is not bound to a typed value. */
+    enum Slot {
+        /** Parameter is bound to {@code null}. */
+        NULL,
+        /** Parameter is bound to an {@link Argument}. */
+        ARGUMENT,
+        /** Parameter is not bound, the named argument finders provide the value. */
+        FINDER,
+        /** Parameter is missing. */
+        MISSING
+    }
+
+    // the number of plans for different value types that are kept for the same parameters
+    static final int MAX_PLANS = 8;
+
+    private final Object generation;
+    // for each parameter the class of a value, the qualified type of a typed value or a slot
+    private final Object[] shape;
+    private final Function<Object, Argument>[] factories;
+
+    @SuppressWarnings("unchecked")
+    private BindingPlan(Object generation, int parameterCount) {
+        this.generation = generation;
+        this.shape = new Object[parameterCount];
+        this.factories = new Function[parameterCount];
+    }
+
+    /**
+     * Creates a plan for the given values.
+     *
+     * @param generation The resolution generation of the arguments.
+     * @param positionals The positional values or null for named parameters.
+     * @param namedValues The named values by parameter position, unbound parameters are {@link Slot#FINDER}.
+     * @param parameterCount The number of parameters.
+     * @param arguments The argument configuration of the statement.
+     * @param factoryLocator Determines the qualified type of a value.
+     * @return The new plan.
+     */
+    static BindingPlan prepare(Object generation, PositionalValues positionals, Object[] namedValues, int parameterCount,
+            Arguments arguments, ArgumentBinder.ArgumentFactoryLocator factoryLocator) {
+        final BindingPlan plan = new BindingPlan(generation, parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            if (positionals != null && !positionals.isSet(i)) {
+                plan.shape[i] = Slot.MISSING;
+                continue;
+            }
+            final Object value = positionals == null ? namedValues[i] : positionals.get(i);
+            plan.shape[i] = shapeOf(value);
+            if (!(plan.shape[i] instanceof Slot)) {
+                // types that can not be shared are resolved by each statement
+                plan.factories[i] = arguments.prepareSharedFor(factoryLocator.typeOf(value)).orElse(null);
+            }
+        }
+        return plan;
+    }
+
+    // returns an existing object, so matching a plan does not allocate
+    private static Object shapeOf(Object value) {
+        if (value == null) {
+            return Slot.NULL;
+        } else if (value == Slot.FINDER) {
+            return Slot.FINDER;
+        } else if (value instanceof Argument) {
+            return Slot.ARGUMENT;
+        } else if (value instanceof TypedValue typedValue) {
+            return typedValue.getType();
+        }
+        return value.getClass();
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals") // generations, classes and slots are compared by identity
+    private boolean matches(Object generation, PositionalValues positionals, Object[] namedValues) {
+        if (this.generation != generation) {
+            return false;
+        }
+        for (int i = 0; i < shape.length; i++) {
+            final Object expected = shape[i];
+            if (positionals != null && !positionals.isSet(i)) {
+                if (expected != Slot.MISSING) {
+                    return false;
+                }
+                continue;
+            }
+            final Object actual = shapeOf(positionals == null ? namedValues[i] : positionals.get(i));
+            if (actual != expected && !(actual instanceof QualifiedType && actual.equals(expected))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the prepared argument function for a parameter.
+     *
+     * @param index The (0 based) parameter index.
+     * @return The prepared argument function or null if the parameter needs to be resolved.
+     */
+    Function<Object, Argument> factory(int index) {
+        return factories[index];
+    }
+
+    @Override
+    public String toString() {
+        return "BindingPlan[shape=" + Arrays.toString(shape) + "]";
+    }
+
+    /**
+     * The plans for the parameters of a parsed statement, one for each combination of value types.
+     */
+    static final class Plans {
+
+        private final AtomicReference<BindingPlan[]> candidates = new AtomicReference<>(new BindingPlan[0]);
+
+        /**
+         * Returns the plan for the given values.
+         *
+         * @param generation The resolution generation of the arguments.
+         * @param positionals The positional values or null for named parameters.
+         * @param namedValues The named values by parameter position.
+         * @return The plan or null if no plan matches the values.
+         */
+        BindingPlan find(Object generation, PositionalValues positionals, Object[] namedValues) {
+            for (BindingPlan plan : candidates.get()) {
+                if (plan.matches(generation, positionals, namedValues)) {
+                    return plan;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a plan. If there are too many plans, the oldest plan is dropped.
+         *
+         * @param plan The new plan.
+         */
+        void add(BindingPlan plan) {
+            candidates.updateAndGet(current -> {
+                final int drop = current.length < MAX_PLANS ? 0 : 1;
+                final BindingPlan[] updated = Arrays.copyOfRange(current, drop, current.length + 1);
+                updated[updated.length - 1] = plan;
+                return updated;
+            });
+        }
+
+        int size() {
+            return candidates.get().length;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Loads a large number of rows with a single SQL statement. The rows are pulled lazily from a {@link Stream} or
+ * {@link Iterator}, bound to a {@link PreparedBatch} by a binder function and executed in chunks, so only a single
+ * chunk of rows is held in memory.
+ * <pre>
+ * BulkLoadResult result = handle.createBulkLoad("insert into users (id, name) values (:id, :name)")
+ *     .setChunkSize(5_000)
+ *     .setPrefetchExecutor(executor)
+ *     .execute(users, (batch, user) -&gt; batch.bind("id", user.getId()).bind("name", user.getName()));
+ * </pre>
+ * With a prefetch executor, the next chunk of rows is pulled from the source on the executor while the current chunk is
+ * bound and executed. The binder is always called on the calling thread as statements are not thread safe.
+ *
+ * @see Handle#createBulkLoad(CharSequence)
+ * @since 3.52.0
+ */
+@Beta
+public final class BulkLoad {
+
+    /** The default number of rows per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final Handle handle;
+    private final CharSequence sql;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean commitEachChunk;
+    private Executor prefetchExecutor;
+
+    public BulkLoad(Handle handle, CharSequence sql) {
+        this.handle = requireNonNull(handle, "handle is null");
+        this.sql = requireNonNull(sql, "sql is null");
+    }
+
+    /**
+     * Sets the number of rows that are executed at once. The default is {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkSize The number of rows per chunk. Must be positive.
+     * @return this
+     */
+    public BulkLoad setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * If true, each chunk is executed in its own transaction, which is committed after the chunk was executed. Rows
+     * of chunks that were committed stay in the database if a later chunk fails. The handle must not be in a
+     * transaction when the bulk load is executed. The default is false.
+     *
+     * @param commitEachChunk If true, each chunk is committed separately.
+     * @return this
+     */
+    public BulkLoad setCommitEachChunk(boolean commitEachChunk) {
+        this.commitEachChunk = commitEachChunk;
+        return this;
+    }
+
+    /**
+     * Sets an executor that pulls the next chunk of rows from the source while the current chunk is executed. This
+     * helps if producing the rows (e.g. parsing a file) is expensive. By default, rows are pulled on the calling thread.
+     *
+     * @param prefetchExecutor The executor, or null to pull rows on the calling thread.
+     * @return this
+     */
+    public BulkLoad setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        return this;
+    }
+
+    /**
+     * Loads all rows from the stream. The stream is closed when this method returns.
+     *
+     * @param rows The rows to load.
+     * @param binder Binds the values of a row to the batch. The binder must not call {@link PreparedBatch#add()}.
+     * @param <T> The row type.
+     * @return A summary of the bulk load.
+     */
+    public <T> BulkLoadResult execute(Stream<T> rows, BiConsumer<PreparedBatch, ? super T> binder) {
+        try (Stream<T> stream = rows) {
+            return execute(stream.iterator(), binder);
+        }
+    }
+
+    /**
+     * Loads all rows from the iterator.
+     *
+     * @param rows The rows to load.
+     * @param binder Binds the values of a row to the batch. The binder must not call {@link PreparedBatch#add()}.
+     * @param <T> The row type.
+     * @return A summary of the bulk load.
+     */
+    public <T> BulkLoadResult execute(Iterator<T> rows, BiConsumer<PreparedBatch, ? super T> binder) {
+        requireNonNull(rows, "rows is null");
+        requireNonNull(binder, "binder is null");
+        if (commitEachChunk && handle.isInTransaction()) {
+            throw new IllegalStateException("Can not commit each chunk of a bulk load while the handle is in a transaction");
+        }
+
+        final long start = System.nanoTime();
+        long rowCount = 0;
+        long chunkCount = 0;
+        // the update counts of each executed chunk are summed up, not kept for the whole load
+        final LongAdder modifiedRows = new LongAdder();
+
+        try (ChunkSource<T> chunks = prefetchExecutor == null
+                ? new ChunkSource<>(rows, chunkSize)
+                : new PrefetchingChunkSource<>(rows, chunkSize, prefetchExecutor);
+            PreparedBatch batch = handle.prepareBatch(sql).autoFlush(chunkSize, count -> modifiedRows.add(Math.max(count, 0)))) {
+
+            while (chunks.hasNext()) {
+                final List<T> chunk = chunks.next();
+                if (commitEachChunk) {
+                    handle.begin();
+                }
+                try {
+                    for (T row : chunk) {
+                        binder.accept(batch, row);
+                        batch.add();
+                    }
+                    // the batch executes a chunk when the last row is added, only the last chunk may need an explicit execution
+                    if (!chunks.hasNext()) {
+                        batch.execute();
+                    }
+                    if (commitEachChunk) {
+                        handle.commit();
+                    }
+                } catch (RuntimeException e) {
+                    if (commitEachChunk) {
+                        handle.rollback();
+                    }
+                    throw e;
+                }
+                rowCount += chunk.size();
+                chunkCount++;
+            }
+        }
+
+        return new BulkLoadResult(rowCount, chunkCount, modifiedRows.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static class ChunkSource<T> implements Iterator<List<T>>, AutoCloseable {
+
+        private final Iterator<T> rows;
+        private final int chunkSize;
+
+        ChunkSource(Iterator<T> rows, int chunkSize) {
+            this.rows = rows;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return nextChunk();
+        }
+
+        final List<T> nextChunk() {
+            final List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && !isClosed() && rows.hasNext()) {
+                chunk.add(rows.next());
+            }
+            return chunk;
+        }
+
+        boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class PrefetchingChunkSource<T> extends ChunkSource<T> {
+
+        private static final Object END = new Object();
+
+        private static final int PRODUCER_NEW = 0;
+        private static final int PRODUCER_RUNNING = 1;
+        private static final int PRODUCER_CANCELLED = 2;
+
+        // one prefetched chunk waits in the queue while the producer fills the next one
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(1);
+        private final AtomicInteger producerState = new AtomicInteger(PRODUCER_NEW);
+        private final CountDownLatch producerFinished = new CountDownLatch(1);
+        private volatile boolean closed;
+        private Object next;
+
+        PrefetchingChunkSource(Iterator<T> rows, int chunkSize, Executor executor) {
+            super(rows, chunkSize);
+            executor.execute(this::produce);
+        }
+
+        private void produce() {
+            if (!producerState.compareAndSet(PRODUCER_NEW, PRODUCER_RUNNING)) {
+                return;
+            }
+            try {
+                while (!closed && super.hasNext()) {
+                    offer(nextChunk());
+                }
+                offer(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException | Error e) {
+                try {
+                    offer(e);
+                } catch (InterruptedException e1) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                producerFinished.countDown();
+            }
+        }
+
+        private void offer(Object element) throws InterruptedException {
+            // close() empties the queue after setting the flag, so a waiting producer always gets a slot
+            if (!closed) {
+                queue.put(element);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the next chunk", e);
+                }
+            }
+            if (next instanceof Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+            return next != END;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<T> chunk = (List<T>) next;
+            next = null;
+            return chunk;
+        }
+
+        @Override
+        boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            queue.clear();
+            if (producerState.compareAndSet(PRODUCER_NEW, PRODUCER_CANCELLED)) {
+                // the producer has not started and will not use the source
+                return;
+            }
+            // the source must not be used any more when it is closed, so wait for the producer, even if interrupted
+            boolean interrupted = false;
+            while (producerFinished.getCount() > 0) {
+                try {
+                    producerFinished.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
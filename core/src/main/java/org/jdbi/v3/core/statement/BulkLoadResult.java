@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Summary of an executed {@link BulkLoad}.
+ *
+ * @since 3.52.0
+ */
+@Beta
+public final class BulkLoadResult {
+
+    private final long rows;
+    private final long chunks;
+    private final long modifiedRows;
+    private final Duration elapsed;
+
+    BulkLoadResult(long rows, long chunks, long modifiedRows, Duration elapsed) {
+        this.rows = rows;
+        this.chunks = chunks;
+        this.modifiedRows = modifiedRows;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the number of rows that were bound and executed.
+     *
+     * @return The number of rows.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of executed chunks.
+     *
+     * @return The number of chunks.
+     */
+    public long chunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns the sum of the update counts reported by the driver. Rows for which the driver does not report
+     * an update count (e.g. {@link java.sql.Statement#SUCCESS_NO_INFO}) are not counted.
+     *
+     * @return The number of modified rows.
+     */
+    public long modifiedRows() {
+        return modifiedRows;
+    }
+
+    /**
+     * Returns the time it took to load all rows.
+     *
+     * @return The elapsed time.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the average number of rows loaded per second.
+     *
+     * @return The number of rows per second.
+     */
+    public double rowsPerSecond() {
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", BulkLoadResult.class.getSimpleName() + "[", "]")
+            .add("rows=" + rows)
+            .add("chunks=" + chunks)
+            .add("modifiedRows=" + modifiedRows)
+            .add("elapsed=" + elapsed)
+            .toString();
+    }
+}
@@ -15,6 +15,7 @@ package org.jdbi.v3.core.statement;
 
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.meta.Beta;
 
@@ -51,5 +52,9 @@ public abstract class CachingSqlParser implements SqlParser {
         return parsedSqlCache.getStats();
     }
 
+    JdbiCacheStats getJdbiCacheStats() {
+        return parsedSqlCache.getJdbiCacheStats();
+    }
+
     abstract ParsedSql internalParse(String sql);
 }
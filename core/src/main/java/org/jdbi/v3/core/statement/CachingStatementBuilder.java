@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Statement builder for a single handle that keeps prepared statements open for reuse.
+ *
+ * @see CachingStatementBuilderFactory
+ */
+final class CachingStatementBuilder extends DefaultStatementBuilder {
+
+    private final CachingStatementBuilderFactory factory;
+
+    // idle statements in least recently used order
+    private final Map<StatementKey, CachedStatement> idle;
+    private final Map<Statement, CachedStatement> inUse = new IdentityHashMap<>();
+    private boolean closed;
+
+    CachingStatementBuilder(CachingStatementBuilderFactory factory) {
+        this.factory = factory;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+                if (size() > factory.getMaxStatements()) {
+                    factory.evictions.increment();
+                    eldest.getValue().closeQuietly();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        final StatementKey key = new StatementKey(sql, ctx);
+        CachedStatement cached;
+        synchronized (idle) {
+            if (closed) {
+                return super.create(conn, sql, ctx);
+            }
+            cached = idle.remove(key);
+        }
+
+        if (cached != null && !cached.statement.isClosed()) {
+            factory.hits.increment();
+        } else {
+            factory.misses.increment();
+            cached = new CachedStatement(key, super.create(conn, sql, ctx));
+        }
+
+        synchronized (idle) {
+            inUse.put(cached.statement, cached);
+        }
+        return cached.statement;
+    }
+
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        synchronized (idle) {
+            final CachedStatement cached = stmt == null ? null : inUse.remove(stmt);
+            // keep only one idle statement for each key
+            if (cached != null && !closed && !idle.containsKey(cached.key) && cached.reset()) {
+                idle.put(cached.key, cached);
+                return;
+            }
+        }
+        super.close(conn, sql, stmt);
+    }
+
+    @Override
+    public void close(Connection conn) {
+        synchronized (idle) {
+            closed = true;
+            idle.values().forEach(CachedStatement::closeQuietly);
+            idle.clear();
+        }
+    }
+
+    private static final class CachedStatement {
+
+        private final StatementKey key;
+        private final PreparedStatement statement;
+
+        // the statement settings that statement customizers may change
+        private final int queryTimeout;
+        private final int fetchSize;
+        private final int fetchDirection;
+        private final int maxRows;
+        private final int maxFieldSize;
+
+        CachedStatement(StatementKey key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.queryTimeout = statement.getQueryTimeout();
+            this.fetchSize = statement.getFetchSize();
+            this.fetchDirection = statement.getFetchDirection();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+        }
+
+        /**
+         * Prepares the statement for reuse. Returns false if the statement can not be reused.
+         */
+        boolean reset() {
+            try {
+                if (statement.isClosed()) {
+                    return false;
+                }
+                statement.clearParameters();
+                statement.clearWarnings();
+                try {
+                    statement.clearBatch();
+                } catch (SQLFeatureNotSupportedException ignored) {
+                    // the statement does not support batches, so there is nothing to clear
+                }
+                if (statement.getQueryTimeout() != queryTimeout) {
+                    statement.setQueryTimeout(queryTimeout);
+                }
+                if (statement.getFetchSize() != fetchSize) {
+                    statement.setFetchSize(fetchSize);
+                }
+                if (statement.getFetchDirection() != fetchDirection) {
+                    statement.setFetchDirection(fetchDirection);
+                }
+                if (statement.getMaxRows() != maxRows) {
+                    statement.setMaxRows(maxRows);
+                }
+                if (statement.getMaxFieldSize() != maxFieldSize) {
+                    statement.setMaxFieldSize(maxFieldSize);
+                }
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // the statement is no longer used
+            }
+        }
+    }
+
+    private static final class StatementKey {
+
+        private final String sql;
+        private final boolean returningGeneratedKeys;
+        private final String[] generatedKeysColumnNames;
+        private final boolean concurrentUpdatable;
+
+        StatementKey(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            this.generatedKeysColumnNames = returningGeneratedKeys ? ctx.getGeneratedKeysColumnNames() : null;
+            this.concurrentUpdatable = ctx.isConcurrentUpdatable();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return returningGeneratedKeys == that.returningGeneratedKeys
+                && concurrentUpdatable == that.concurrentUpdatable
+                && sql.equals(that.sql)
+                && Arrays.equals(generatedKeysColumnNames, that.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, returningGeneratedKeys, concurrentUpdatable) * 31 + Arrays.hashCode(generatedKeysColumnNames);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A {@link StatementBuilderFactory} that keeps the prepared statements of each handle open and reuses them when
+ * the same SQL is executed again on the handle. Useful for drivers that do not cache prepared statements themselves.
+ * <br>
+ * Each handle keeps up to {@link #getMaxStatements()} idle statements and closes the least recently used statement
+ * when the limit is reached. A statement that is returned to the cache has its parameters cleared and the
+ * settings that statement customizers may change (query timeout, fetch size, max rows etc.) reset. All cached
+ * statements are closed when the handle is closed.
+ * <pre>
+ * jdbi.setStatementBuilderFactory(new CachingStatementBuilderFactory());
+ * </pre>
+ *
+ * @since 3.52.0
+ */
+@Beta
+public final class CachingStatementBuilderFactory implements StatementBuilderFactory {
+
+    /** The default number of cached statements per handle. */
+    public static final int DEFAULT_MAX_STATEMENTS = 64;
+
+    private final int maxStatements;
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a factory that caches up to {@link #DEFAULT_MAX_STATEMENTS} statements per handle.
+     */
+    public CachingStatementBuilderFactory() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * Creates a factory that caches up to the given number of statements per handle.
+     *
+     * @param maxStatements The maximum number of idle statements per handle. Must be positive.
+     */
+    public CachingStatementBuilderFactory(int maxStatements) {
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("maxStatements must be positive");
+        }
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public StatementBuilder createStatementBuilder(Connection conn) {
+        return new CachingStatementBuilder(this);
+    }
+
+    /**
+     * Returns the maximum number of idle statements per handle.
+     *
+     * @return The maximum number of idle statements per handle.
+     */
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    /**
+     * Returns statistics for all statement builders created by this factory.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public StatementCacheStats getStats() {
+        return new StatementCacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+}
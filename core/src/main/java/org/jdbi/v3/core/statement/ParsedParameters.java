@@ -14,8 +14,11 @@
 package org.jdbi.v3.core.statement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static java.util.Collections.unmodifiableList;
@@ -27,10 +30,27 @@ public final class ParsedParameters {
     static final ParsedParameters NONE = new ParsedParameters(true, Collections.emptyList());
     private final boolean positional;
     private final List<String> parameterNames;
+    // the (0 based) positions of each named parameter, a name may be used more than once
+    private final Map<String, int[]> namedSlots;
+    private final int hashCode;
 
     ParsedParameters(boolean positional, List<String> parameterNames) {
         this.positional = positional;
         this.parameterNames = unmodifiableList(new ArrayList<>(parameterNames));
+        this.namedSlots = positional ? Collections.emptyMap() : slotsOf(this.parameterNames);
+        this.hashCode = Objects.hash(positional, this.parameterNames);
+    }
+
+    private static Map<String, int[]> slotsOf(List<String> parameterNames) {
+        final Map<String, int[]> slots = new HashMap<>();
+        for (int i = 0; i < parameterNames.size(); i++) {
+            slots.merge(parameterNames.get(i), new int[] {i}, (existing, slot) -> {
+                final int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = slot[0];
+                return merged;
+            });
+        }
+        return slots;
     }
 
     /**
@@ -61,6 +81,16 @@ public final class ParsedParameters {
         return parameterNames;
     }
 
+    /**
+     * Returns the positions of a named parameter. The positions are computed once per parsed statement.
+     *
+     * @param name the parameter name
+     * @return the (0 based) positions of the parameter, or null if the statement does not use the name
+     */
+    int[] getSlots(String name) {
+        return namedSlots.get(name);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -76,7 +106,7 @@ public final class ParsedParameters {
 
     @Override
     public int hashCode() {
-        return Objects.hash(positional, parameterNames);
+        return hashCode;
     }
 
     @Override
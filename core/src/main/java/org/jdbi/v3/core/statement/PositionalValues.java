@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Positional binding values, stored in an array indexed by position. Implements the map view of
+ * {@link Binding#positionals} with entries in position order, so it can replace the tree map that
+ * was used before, but binding and lookup by position neither box the position nor allocate nodes.
+ */
+final class PositionalValues extends AbstractMap<Integer, Object> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final Object UNSET = new Object();
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] values = EMPTY;
+    private int size;
+
+    boolean isSet(int position) {
+        return position >= 0 && position < values.length && values[position] != UNSET;
+    }
+
+    Object get(int position) {
+        return isSet(position) ? values[position] : null;
+    }
+
+    Object set(int position, Object value) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Positional parameter " + position + " is negative");
+        }
+        if (position >= values.length) {
+            final int length = values.length;
+            values = Arrays.copyOf(values, Math.max(position + 1, Math.max(INITIAL_CAPACITY, length * 2)));
+            Arrays.fill(values, length, values.length, UNSET);
+        }
+        final Object previous = values[position];
+        values[position] = value;
+        if (previous == UNSET) {
+            size++;
+            return null;
+        }
+        return previous;
+    }
+
+    private Object unset(int position) {
+        if (!isSet(position)) {
+            return null;
+        }
+        final Object previous = values[position];
+        values[position] = UNSET;
+        size--;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer position && isSet(position);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof Integer position ? get(position.intValue()) : null;
+    }
+
+    @Override
+    public Object put(Integer key, Object value) {
+        return set(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return key instanceof Integer position ? unset(position) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, UNSET);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Integer, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Integer, Object>> {
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+            int position = from;
+            while (position < values.length && values[position] == UNSET) {
+                position++;
+            }
+            return position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public Entry<Integer, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new SimpleImmutableEntry<>(last, values[last]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            unset(last);
+            last = -1;
+        }
+    }
+}
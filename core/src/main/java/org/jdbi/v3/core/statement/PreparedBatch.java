@@ -15,6 +15,7 @@ package org.jdbi.v3.core.statement;
 
 import java.lang.reflect.Type;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -34,6 +36,9 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
+import org.jdbi.v3.core.internal.exceptions.CheckedConsumer;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.BatchResultBearing;
 import org.jdbi.v3.core.result.ResultBearing;
@@ -43,6 +48,9 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -63,6 +71,16 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     private final List<PreparedBinding> bindings = new ArrayList<>();
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
 
+    // auto flush mode, see autoFlush()
+    private int autoFlushSize;
+    private CheckedConsumer<ResultSet> generatedKeysHandler;
+    private ArgumentBinder streamingBinder;
+    private int streamedRows;
+    private int pendingRows;
+    private int[] streamedUpdateCounts = new int[0];
+    // receives the update counts of each flushed batch instead of keeping them for execute(), see BulkLoad
+    private IntConsumer updateCountConsumer;
+
     public PreparedBatch(Handle handle, CharSequence sql) {
         super(handle, sql);
         getContext().setBinding(new PreparedBinding(getContext()));
@@ -198,6 +216,9 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     private <R> R execute(ResultProducer<R> producer, Consumer<ExecutedBatch> batchConsumer) {
+        if (autoFlushSize > 0) {
+            throw new IllegalStateException("An auto flushing batch only supports execute(), generated keys are passed to the consumer given to autoFlush()");
+        }
         try {
             return producer.produce(() -> {
                 ExecutedBatch executedBatch = internalBatchExecute();
@@ -216,6 +237,10 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             add();
         }
 
+        if (autoFlushSize > 0) {
+            return streamingBatchExecute();
+        }
+
         beforeTemplating();
 
         final StatementContext ctx = getContext();
@@ -287,11 +312,196 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             throw new IllegalStateException("Attempt to add() an empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (autoFlushSize > 0) {
+            addStreaming(currentBinding);
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new PreparedBinding(getContext()));
         return this;
     }
 
+    /**
+     * Binds every row to the statement when it is added and executes the batch every {@code batchSize} rows,
+     * instead of keeping all rows in memory until {@link #execute()} is called. {@link #execute()} executes the remaining
+     * rows and returns the number of rows affected for every row of the batch.
+     * <br>
+     * The statement is prepared when the first row is added, so all attributes must be defined before that.
+     * An auto flushing batch only supports {@link #execute()} and {@link #executeAndGetModCount()}.
+     *
+     * @param batchSize The number of rows executed at once. Must be positive.
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public PreparedBatch autoFlush(int batchSize) {
+        return setAutoFlush(batchSize, null);
+    }
+
+    /**
+     * Binds every row to the statement when it is added and executes the batch every {@code batchSize} rows. The generated
+     * keys of each executed batch are mapped and passed to the given consumer.
+     *
+     * @param batchSize The number of rows executed at once. Must be positive.
+     * @param generatedKeysMapper Maps the generated keys.
+     * @param generatedKeysConsumer Receives the generated keys.
+     * @param columnNames The column names for generated keys.
+     * @param <T> The type of the mapped generated keys.
+     * @return this
+     * @see #autoFlush(int)
+     * @since 3.52.0
+     */
+    @Beta
+    public <T> PreparedBatch autoFlush(int batchSize, RowMapper<T> generatedKeysMapper, Consumer<? super T> generatedKeysConsumer, String... columnNames) {
+        requireNonNull(generatedKeysMapper, "generatedKeysMapper is null");
+        requireNonNull(generatedKeysConsumer, "generatedKeysConsumer is null");
+
+        getContext().setReturningGeneratedKeys(true);
+        if (columnNames.length > 0) {
+            getContext().setGeneratedKeysColumnNames(columnNames);
+        }
+
+        return setAutoFlush(batchSize, rs -> {
+            final RowMapper<T> mapper = generatedKeysMapper.specialize(rs, getContext());
+            while (rs.next()) {
+                generatedKeysConsumer.accept(mapper.map(rs, getContext()));
+            }
+        });
+    }
+
+    /**
+     * Auto flushing batch that passes the update count of each row to the consumer instead of keeping all update
+     * counts, so {@link #execute()} returns an empty array.
+     */
+    PreparedBatch autoFlush(int batchSize, IntConsumer updateCountConsumer) {
+        setAutoFlush(batchSize, null);
+        this.updateCountConsumer = requireNonNull(updateCountConsumer, "updateCountConsumer is null");
+        return this;
+    }
+
+    private PreparedBatch setAutoFlush(int batchSize, CheckedConsumer<ResultSet> generatedKeysHandler) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (!bindings.isEmpty() || streamingBinder != null) {
+            throw new IllegalStateException("autoFlush() must be called before adding rows to the batch");
+        }
+        this.autoFlushSize = batchSize;
+        this.generatedKeysHandler = generatedKeysHandler;
+        return this;
+    }
+
+    @SuppressWarnings("PMD.ExceptionAsFlowControl")
+    private void addStreaming(PreparedBinding binding) {
+        final StatementContext ctx = getContext();
+        try {
+            if (streamingBinder == null) {
+                // the first row is the template for binding all rows
+                streamingBinder = new ArgumentBinder.Prepared(this, prepareStreamingStatement(), binding);
+                beforeBinding();
+            }
+
+            try {
+                streamingBinder.bind(binding);
+                stmt.addBatch();
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+            }
+
+            streamedRows++;
+            if (++pendingRows >= autoFlushSize) {
+                flush();
+            }
+        } catch (RuntimeException e) {
+            try {
+                close();
+            } catch (Exception e1) {
+                e.addSuppressed(e1);
+            }
+            throw e;
+        }
+    }
+
+    private ParsedParameters prepareStreamingStatement() {
+        beforeTemplating();
+
+        final ParsedSql parsedSql = parseSql();
+        try {
+            stmt = createStatement(parsedSql.getSql());
+            getContext().addCleanable(() -> cleanupStatement(stmt));
+            getConfig(SqlStatements.class).customize(stmt);
+        } catch (SQLException e) {
+            throw new UnableToCreateStatementException(e, getContext());
+        }
+        return parsedSql.getParameters();
+    }
+
+    private void flush() {
+        final StatementContext ctx = getContext();
+        final SqlStatements stmtConfig = getConfig(SqlStatements.class);
+
+        beforeExecution();
+
+        final int[] modifiedRows;
+        try {
+            modifiedRows = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, stmtConfig.getSqlLogger());
+        } catch (SQLException e) {
+            throw stmtConfig.handleException(Batch.mungeBatchException(e), ctx);
+        }
+
+        afterExecution();
+
+        if (updateCountConsumer != null) {
+            for (int count : modifiedRows) {
+                updateCountConsumer.accept(count);
+            }
+        } else {
+            final int offset = streamedRows - pendingRows;
+            if (streamedUpdateCounts.length < offset + modifiedRows.length) {
+                streamedUpdateCounts = Arrays.copyOf(streamedUpdateCounts, Math.max(streamedUpdateCounts.length * 2, offset + modifiedRows.length));
+            }
+            System.arraycopy(modifiedRows, 0, streamedUpdateCounts, offset, modifiedRows.length);
+        }
+        pendingRows = 0;
+
+        if (generatedKeysHandler != null) {
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                generatedKeysHandler.accept(generatedKeys);
+            } catch (SQLException e) {
+                throw new UnableToProduceResultException("Exception producing batch result", e, ctx);
+            } catch (Exception e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        }
+    }
+
+    private ExecutedBatch streamingBatchExecute() {
+        try {
+            if (streamingBinder == null) {
+                prepareStreamingStatement();
+                return new ExecutedBatch(stmt, new int[0]);
+            }
+            if (pendingRows > 0) {
+                flush();
+            }
+            getContext().setBinding(new PreparedBinding(getContext()));
+            return new ExecutedBatch(stmt, updateCountConsumer != null ? new int[0] : Arrays.copyOf(streamedUpdateCounts, streamedRows));
+        } catch (RuntimeException e) {
+            try {
+                close();
+            } catch (Exception e1) {
+                e.addSuppressed(e1);
+            }
+            throw e;
+        } finally {
+            // the next row prepares a new statement, as for a batch that is not auto flushing
+            streamingBinder = null;
+            streamedRows = 0;
+            pendingRows = 0;
+            streamedUpdateCounts = new int[0];
+        }
+    }
+
     /**
      * Bind arguments positionally, add the binding as a saved batch, and
      * then clear the current binding.
@@ -325,7 +535,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      * @return the number of bindings in this batch.
      */
     public int size() {
-        return bindings.size();
+        return autoFlushSize > 0 ? streamedRows : bindings.size();
     }
 
     private static class ExecutedBatch {
@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -53,6 +54,7 @@ import org.jdbi.v3.core.internal.IterableLike;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.immutables.JdbiImmutables;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
 import org.jdbi.v3.core.qualifier.NVarchar;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.statement.internal.JfrSupport;
@@ -194,7 +196,8 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
                 prefix,
                 bean,
                 bean.getClass(),
-                () -> new BeanPropertyArguments(prefix, bean, getConfig()));
+                () -> GeneratedMappers.findArgumentFinder(prefix, bean, getConfig())
+                    .orElseGet(() -> new BeanPropertyArguments(prefix, bean, getConfig())));
         }
         return typedThis;
     }
@@ -266,7 +269,10 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
                 prefix,
                 pojo,
                 type,
-                () -> new PojoPropertyArguments(prefix, pojo, type, getConfig()));
+                () -> Optional.of(type)
+                    .filter(pojo.getClass()::equals)
+                    .flatMap(t -> GeneratedMappers.findArgumentFinder(prefix, pojo, getConfig()))
+                    .orElseGet(() -> new PojoPropertyArguments(prefix, pojo, type, getConfig())));
         }
         return typedThis;
     }
@@ -1552,7 +1558,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      * @param key     attribute name
      * @param values  list of values that will be comma-spliced into the defined attribute value.
      * @return this
-     * @throws IllegalArgumentException if the list is empty.
+     * @throws IllegalArgumentException if the list is null or empty and {@code onEmpty} is {@link EmptyHandling#THROW}.
      * @see EmptyHandling
      */
     public final This bindList(BiConsumer<SqlStatement, String> onEmpty, String key, List<?> values) {
@@ -1561,18 +1567,88 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
             return typedThis;
         }
 
-        StringBuilder names = new StringBuilder();
+        return bindListValues(key, values, values.size());
+    }
+
+    /**
+     * see {@link #bindPaddedList(BiConsumer, String, List)}
+     *
+     * @param key    attribute name
+     * @param values list of values that will be comma-spliced into the defined attribute value.
+     * @return this
+     * @throws IllegalArgumentException if the list is null or empty.
+     * @see #bindPaddedList(BiConsumer, String, List)
+     * @since 3.52.0
+     */
+    @Beta
+    public final This bindPaddedList(String key, Iterable<?> values) {
+        return bindPaddedList(EmptyHandling.THROW, key, values == null ? null : IterableLike.toList(values));
+    }
+
+    /**
+     * Like {@link #bindList(BiConsumer, String, List)}, but pads the number of bound parameters to the next power
+     * of two by repeating the last value. Lists of 5 to 8 values all render {@code <key>} with 8 parameters, so
+     * IN-lists of varying length produce a small number of distinct SQL statements. This keeps the parsed SQL
+     * and template caches and the prepared statement caches of the driver and the database effective.
+     * <p>
+     * Lists are padded to at most {@link SqlStatements#getMaxPaddedListSize()} parameters, 1000 by default, so
+     * that a padded list does not exceed the limits of a database, e.g. the 1000 expressions that Oracle allows in an
+     * {@code IN} list. Lists of 513 to 999 values are padded to 1000 parameters, and lists of 1000 or more values
+     * are not padded.
+     * <p>
+     * Only use this for {@code IN} lists, where a repeated value does not change the result. Databases that
+     * support array parameters can avoid the expansion altogether, e.g. with {@code where id = any(:ids)}
+     * on PostgreSQL and a single array bound with {@link #bindArray(String, Type, Iterable)}.
+     * <p>
+     * Example:
+     * <pre>
+     * List&lt;Thing&gt; things = handle.createQuery("select * from things where id in (&lt;ids&gt;)")
+     *     .bindPaddedList(EmptyHandling.NULL_KEYWORD, "ids", ids)
+     *     .mapTo(Thing.class)
+     *     .list();
+     * </pre>
+     *
+     * @param onEmpty handler for null/empty list
+     * @param key     attribute name
+     * @param values  list of values that will be comma-spliced into the defined attribute value.
+     * @return this
+     * @throws IllegalArgumentException if the list is null or empty and {@code onEmpty} is {@link EmptyHandling#THROW}.
+     * @see EmptyHandling
+     * @since 3.52.0
+     */
+    @Beta
+    public final This bindPaddedList(BiConsumer<SqlStatement, String> onEmpty, String key, List<?> values) {
+        if (values == null || values.isEmpty()) {
+            onEmpty.accept(this, key);
+            return typedThis;
+        }
+
+        return bindListValues(key, values, paddedSize(values.size(), getConfig().read(SqlStatements.class).getMaxPaddedListSize()));
+    }
+
+    static int paddedSize(int size, int maxSize) {
+        if (size <= 1 || size >= maxSize) {
+            return size;
+        }
+        final int padded = Integer.highestOneBit(size - 1) << 1;
+        return padded > 0 ? Math.min(padded, maxSize) : maxSize;
+    }
+
+    private This bindListValues(String key, List<?> values, int size) {
+        final SqlParser parser = getConfig().read(SqlStatements.class).getSqlParser();
+        final StatementContext ctx = getContext();
+        final StringBuilder names = new StringBuilder();
+        final Object lastValue = values.get(values.size() - 1);
 
-        for (int i = 0; i < values.size(); i++) {
+        for (int i = 0; i < size; i++) {
             String name = "__" + key + "_" + i;
 
             if (i > 0) {
                 names.append(',');
             }
-            String paramName = getConfig().get(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
-            names.append(paramName);
+            names.append(parser.nameParameter(name, ctx));
 
-            bind(name, values.get(i));
+            bind(name, i < values.size() ? values.get(i) : lastValue);
         }
 
         return define(key, names.toString());
@@ -1796,7 +1872,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         ParsedSql parsedSql = parseSql();
 
-        final SqlStatements stmtConfig = getConfig(SqlStatements.class);
+        final SqlStatements stmtConfig = getConfig().read(SqlStatements.class);
         try {
             try {
                 stmt = createStatement(parsedSql.getSql());
@@ -1847,7 +1923,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
     ParsedSql parseSql() {
         StatementContext ctx = getContext();
-        SqlStatements statements = getConfig(SqlStatements.class);
+        SqlStatements statements = getConfig().read(SqlStatements.class);
 
         String renderedSql = statements.preparedRender(sql, ctx);
         ctx.setRenderedSql(renderedSql);
@@ -1869,7 +1945,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
     }
 
     RowMapper<?> mapperForType(Type type) {
-        return getConfig(Mappers.class).findFor(type)
+        return getConfig().read(Mappers.class).findFor(type)
             .orElseThrow(() -> new UnsupportedOperationException("No mapper registered for " + type));
     }
 
@@ -1896,7 +1972,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
                     final var evt = (JdbiStatementEvent) statementEvent;
                     evt.traceId = ctx.getTraceId();
                     evt.type = ctx.describeJdbiStatementType();
-                    final var stmtConfig = getConfig(SqlStatements.class);
+                    final var stmtConfig = getConfig().read(SqlStatements.class);
                     final String renderedSql = ctx.getRenderedSql();
                     if (renderedSql != null) {
                         evt.sql = renderedSql.substring(0,
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -36,7 +37,10 @@ import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+import org.jdbi.v3.core.cache.internal.ClockJdbiCacheBuilder;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.meta.Beta;
@@ -49,9 +53,27 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     /** The default size of the SQL template cache. */
     public static final int SQL_TEMPLATE_CACHE_SIZE = 1_000;
 
-    private final Map<String, Object> attributes;
+    /**
+     * The default size of the binding plan cache, which holds the plans for this many distinct statement parameter lists.
+     *
+     * @since 3.52.0
+     */
+    public static final int BINDING_PLAN_CACHE_SIZE = 1_000;
+
+    /**
+     * The default maximum number of parameters of a padded list. Oracle allows at most 1000 expressions in an
+     * {@code IN} list.
+     *
+     * @since 3.52.0
+     */
+    public static final int MAX_PADDED_LIST_SIZE = 1_000;
+
+    private static final JdbiCacheLoader<ParsedParameters, BindingPlan.Plans> NEW_BINDING_PLANS = parameters -> new BindingPlan.Plans();
+
+    private final Attributes attributes;
     private TemplateEngine templateEngine;
     private JdbiCache<StatementCacheKey, Function<StatementContext, String>> templateCache;
+    private JdbiCache<ParsedParameters, BindingPlan.Plans> bindingPlanCache;
     private SqlParser sqlParser;
     private SqlLogger sqlLogger;
     private Integer queryTimeout;
@@ -59,6 +81,8 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private volatile boolean attachAllStatementsForCleanup;
     private volatile boolean attachCallbackStatementsForCleanup = true;
     private volatile boolean scriptStatementsNeedSemicolon = true;
+    private volatile boolean layeredConfig;
+    private volatile int maxPaddedListSize = MAX_PADDED_LIST_SIZE;
     private final Collection<StatementCustomizer> customizers;
     private final Deque<SqlExceptionHandler> exceptionHandlers;
 
@@ -71,7 +95,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private volatile boolean includeBindingsInTelemetry = true;
 
     public SqlStatements() {
-        attributes = Collections.synchronizedMap(new HashMap<>());
+        attributes = new Attributes(new HashMap<>(), false);
         templateEngine = new DefinedAttributeTemplateEngine();
         sqlParser = new ColonPrefixSqlParser();
         sqlLogger = SqlLogger.NOP_SQL_LOGGER;
@@ -83,7 +107,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     }
 
     private SqlStatements(SqlStatements that) {
-        this.attributes = Collections.synchronizedMap(that.getAttributes()); // already copied
+        this.attributes = that.attributes.share();
         this.templateEngine = that.templateEngine;
         this.sqlParser = that.sqlParser;
         this.sqlLogger = that.sqlLogger;
@@ -92,9 +116,12 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.attachAllStatementsForCleanup = that.attachAllStatementsForCleanup;
         this.attachCallbackStatementsForCleanup = that.attachCallbackStatementsForCleanup;
         this.scriptStatementsNeedSemicolon = that.scriptStatementsNeedSemicolon;
+        this.layeredConfig = that.layeredConfig;
+        this.maxPaddedListSize = that.maxPaddedListSize;
         this.customizers = new CopyOnWriteArrayList<>(that.customizers);
         this.contextListeners = new CopyOnWriteArraySet<>(that.contextListeners);
         this.templateCache = that.templateCache;
+        this.bindingPlanCache = that.bindingPlanCache;
         this.jfrSqlMaxLength = that.jfrSqlMaxLength;
         this.jfrParamMaxLength = that.jfrParamMaxLength;
         this.includeBindingsInTelemetry = that.includeBindingsInTelemetry;
@@ -142,7 +169,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
      * @return the defined attributes.
      */
     public Map<String, Object> getAttributes() {
-        return new HashMap<>(attributes);
+        return attributes.copy();
     }
 
     /**
@@ -199,6 +226,52 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    /**
+     * Returns true if statements cache their binding plans.
+     *
+     * @return True if the binding plan cache is enabled
+     * @see #setBindingPlanCacheEnabled(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isBindingPlanCacheEnabled() {
+        return bindingPlanCache != null;
+    }
+
+    /**
+     * Sets whether statements cache their binding plans. A binding plan maps each parameter of a statement to a
+     * prepared argument function. It is cached for the parameters of the parsed statement and the types of the bound
+     * values, so that repeated executions of the same statement skip looking up argument factories. The cache is shared
+     * by all copies of this configuration. The default is false.
+     * <br>
+     * Plans are shared between statements that use the same argument factories. A plan only holds argument functions
+     * that do not depend on other configuration objects (e.g. a JSON mapper or the registered array types), the
+     * arguments for all other types are looked up by each statement.
+     *
+     * @param enabled If true, statements cache their binding plans
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public SqlStatements setBindingPlanCacheEnabled(boolean enabled) {
+        bindingPlanCache = enabled ? ClockJdbiCacheBuilder.builder().maxSize(BINDING_PLAN_CACHE_SIZE).buildWithLoader(NEW_BINDING_PLANS) : null;
+        return this;
+    }
+
+    /**
+     * Enables the binding plan cache using the given cache builder.
+     *
+     * @param cacheBuilder the cache builder to use to create the cache.
+     * @return this
+     * @see #setBindingPlanCacheEnabled(boolean)
+     * @since 3.52.0
+     */
+    @Beta
+    public SqlStatements setBindingPlanCache(JdbiCacheBuilder cacheBuilder) {
+        bindingPlanCache = cacheBuilder.buildWithLoader(NEW_BINDING_PLANS);
+        return this;
+    }
+
     public SqlParser getSqlParser() {
         return sqlParser;
     }
@@ -370,6 +443,68 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return scriptStatementsNeedSemicolon;
     }
 
+    /**
+     * If true, statements use a layered copy of the handle configuration.
+     *
+     * @return True if statements use a layered copy of the handle configuration
+     * @see ConfigRegistry#createLayeredCopy()
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isLayeredConfig() {
+        return layeredConfig;
+    }
+
+    /**
+     * Sets whether statements use a layered copy of the handle configuration instead of a full copy. A layered copy
+     * only copies configuration objects that are modified through a statement, which reduces the cost of creating
+     * statements considerably. However, changes to the handle configuration made after a statement was created
+     * may become visible to that statement. The default is false.
+     *
+     * @param layeredConfig If true, statements use a layered copy of the handle configuration
+     * @return this
+     * @see ConfigRegistry#createLayeredCopy()
+     * @since 3.52.0
+     */
+    @Beta
+    public SqlStatements setLayeredConfig(boolean layeredConfig) {
+        this.layeredConfig = layeredConfig;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of parameters that a padded list is padded to.
+     *
+     * @return the maximum number of parameters of a padded list
+     * @see SqlStatement#bindPaddedList(java.util.function.BiConsumer, String, java.util.List)
+     * @since 3.52.0
+     */
+    @Beta
+    public int getMaxPaddedListSize() {
+        return maxPaddedListSize;
+    }
+
+    /**
+     * Sets the maximum number of parameters that a padded list is padded to. A list that is shorter than the maximum
+     * is padded to the next power of two, but to at most this many parameters. A list of this size or longer is not
+     * padded. The default is {@link #MAX_PADDED_LIST_SIZE}, which keeps padded lists within the 1000 expressions
+     * that Oracle allows in an {@code IN} list. Lower it for databases with a smaller limit on the number of
+     * parameters of a statement, e.g. 2100 parameters on SQL Server for all parameters of a statement.
+     *
+     * @param maxPaddedListSize the maximum number of parameters of a padded list, must be positive
+     * @return this
+     * @see SqlStatement#bindPaddedList(java.util.function.BiConsumer, String, java.util.List)
+     * @since 3.52.0
+     */
+    @Beta
+    public SqlStatements setMaxPaddedListSize(int maxPaddedListSize) {
+        if (maxPaddedListSize <= 0) {
+            throw new IllegalArgumentException("maxPaddedListSize must be positive");
+        }
+        this.maxPaddedListSize = maxPaddedListSize;
+        return this;
+    }
+
     /**
      * Sets whether statements created within the {@link Jdbi#withHandle}, {@link Jdbi#useHandle}, {@link Jdbi#inTransaction} and {@link Jdbi#useTransaction}
      * callback methods will automatically attached to the {@link Handle} object and therefore cleaned up when the callback ends. The default is true.
@@ -453,6 +588,28 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return templateCache.getStats();
     }
 
+    /**
+     * Returns statistics for all caches of this configuration, keyed by cache name. The map contains
+     * the template cache ({@code sqlTemplates}), the parsed SQL cache ({@code sqlParser}) if the
+     * SQL parser caches its results and the binding plan cache ({@code bindingPlans}) if it is enabled.
+     *
+     * @return A map of cache names to cache statistics.
+     * @see Jdbi#getCacheStats()
+     * @since 3.52.0
+     */
+    @Beta
+    public Map<String, JdbiCacheStats> getCacheStats() {
+        final Map<String, JdbiCacheStats> stats = new LinkedHashMap<>();
+        stats.put("sqlTemplates", templateCache.getJdbiCacheStats());
+        if (sqlParser instanceof CachingSqlParser cachingSqlParser) {
+            stats.put("sqlParser", cachingSqlParser.getJdbiCacheStats());
+        }
+        if (bindingPlanCache != null) {
+            stats.put("bindingPlans", bindingPlanCache.getJdbiCacheStats());
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
 
     void customize(Statement statement) throws SQLException {
         if (queryTimeout != null) {
@@ -465,6 +622,10 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return new SqlStatements(this);
     }
 
+    JdbiCache<ParsedParameters, BindingPlan.Plans> getBindingPlanCache() {
+        return bindingPlanCache;
+    }
+
     Collection<StatementCustomizer> getCustomizers() {
         return customizers;
     }
@@ -548,4 +709,57 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
                     .toString();
         }
     }
+
+    /**
+     * The defined attributes. Copies of the config share the map until one of them defines an attribute, so defining
+     * n attributes on a statement copies the map only once.
+     */
+    private static final class Attributes {
+        private Map<String, Object> map;
+        private boolean shared;
+
+        Attributes(Map<String, Object> map, boolean shared) {
+            this.map = map;
+            this.shared = shared;
+        }
+
+        Attributes share() {
+            synchronized (this) {
+                shared = true;
+                return new Attributes(map, true);
+            }
+        }
+
+        Object get(String key) {
+            synchronized (this) {
+                return map.get(key);
+            }
+        }
+
+        Map<String, Object> copy() {
+            synchronized (this) {
+                return new HashMap<>(map);
+            }
+        }
+
+        void put(String key, Object value) {
+            synchronized (this) {
+                writableMap().put(key, value);
+            }
+        }
+
+        void putAll(Map<String, ?> values) {
+            synchronized (this) {
+                writableMap().putAll(values);
+            }
+        }
+
+        private Map<String, Object> writableMap() {
+            if (shared) {
+                map = new HashMap<>(map);
+                shared = false;
+            }
+            return map;
+        }
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.StringJoiner;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Statistics for the prepared statements cached by a {@link CachingStatementBuilderFactory}. The values in this
+ * object are a snapshot of the cache status, summed over all connections that used the factory.
+ *
+ * @since 3.52.0
+ */
+@Beta
+public final class StatementCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    StatementCacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns the number of statements that were served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of statements that had to be prepared because no cached statement was available.
+     *
+     * @return The number of cache misses.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of cached statements that were closed because the cache was full.
+     *
+     * @return The number of evicted statements.
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", StatementCacheStats.class.getSimpleName() + "[", "]")
+            .add("hits=" + hits)
+            .add("misses=" + misses)
+            .add("evictions=" + evictions)
+            .toString();
+    }
+}
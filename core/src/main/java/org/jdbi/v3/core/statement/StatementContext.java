@@ -136,6 +136,11 @@ public class StatementContext implements Closeable {
         return config.get(configClass);
     }
 
+    // config objects that are only read do not copy the config of a layered registry
+    private <C extends JdbiConfig<C>> C readConfig(Class<C> configClass) {
+        return config.read(configClass);
+    }
+
     /**
      * Returns the {@code ConfigRegistry}.
      *
@@ -151,7 +156,7 @@ public class StatementContext implements Closeable {
      * @return the defined attributes.
      */
     public Map<String, Object> getAttributes() {
-        return getConfig(SqlStatements.class).getAttributes();
+        return readConfig(SqlStatements.class).getAttributes();
     }
 
     /**
@@ -161,7 +166,7 @@ public class StatementContext implements Closeable {
      * @return the value of the attribute
      */
     public Object getAttribute(String key) {
-        return getConfig(SqlStatements.class).getAttribute(key);
+        return readConfig(SqlStatements.class).getAttribute(key);
     }
 
     /**
@@ -182,7 +187,7 @@ public class StatementContext implements Closeable {
      * @return an Argument for the given value.
      */
     public Optional<Argument> findArgumentFor(Type type, Object value) {
-        return getConfig(Arguments.class).findFor(type, value);
+        return readConfig(Arguments.class).findFor(type, value);
     }
 
     /**
@@ -193,7 +198,7 @@ public class StatementContext implements Closeable {
      * @return an Argument for the given value.
      */
     public Optional<Argument> findArgumentFor(QualifiedType<?> type, Object value) {
-        return getConfig(Arguments.class).findFor(type, value);
+        return readConfig(Arguments.class).findFor(type, value);
     }
 
     /**
@@ -202,7 +207,7 @@ public class StatementContext implements Closeable {
      * @return the strategy used to bind array-type arguments to SQL statements
      */
     public SqlArrayArgumentStrategy getSqlArrayArgumentStrategy() {
-        return getConfig(SqlArrayTypes.class).getArgumentStrategy();
+        return readConfig(SqlArrayTypes.class).getArgumentStrategy();
     }
 
     /**
@@ -212,7 +217,7 @@ public class StatementContext implements Closeable {
      * @return an {@link SqlArrayType} for the given element type.
      */
     public Optional<SqlArrayType<?>> findSqlArrayTypeFor(Type elementType) {
-        return getConfig(SqlArrayTypes.class).findFor(elementType);
+        return readConfig(SqlArrayTypes.class).findFor(elementType);
     }
 
     /**
@@ -224,7 +229,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(Class<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return readConfig(Mappers.class).findFor(type);
     }
 
     /**
@@ -236,7 +241,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(GenericType<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return readConfig(Mappers.class).findFor(type);
     }
 
     /**
@@ -247,7 +252,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public Optional<RowMapper<?>> findMapperFor(Type type) {
-        return getConfig(Mappers.class).findFor(type);
+        return readConfig(Mappers.class).findFor(type);
     }
 
     /**
@@ -258,7 +263,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(QualifiedType<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return readConfig(Mappers.class).findFor(type);
     }
 
     /**
@@ -269,7 +274,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(Class<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return readConfig(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -280,7 +285,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(GenericType<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return readConfig(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -290,7 +295,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public Optional<ColumnMapper<?>> findColumnMapperFor(Type type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return readConfig(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -300,7 +305,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(QualifiedType<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return readConfig(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -310,7 +315,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public Optional<RowMapper<?>> findRowMapperFor(Type type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return readConfig(RowMappers.class).findFor(type);
     }
 
     /**
@@ -321,7 +326,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findRowMapperFor(Class<T> type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return readConfig(RowMappers.class).findFor(type);
     }
 
     /**
@@ -332,7 +337,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findRowMapperFor(GenericType<T> type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return readConfig(RowMappers.class).findFor(type);
     }
 
     /**
@@ -342,7 +347,7 @@ public class StatementContext implements Closeable {
      * @return a Collector for the given container type, or empty null if no collector is registered for the given type.
      */
     public Optional<Collector<?, ?, ?>> findCollectorFor(Type containerType) {
-        return getConfig(JdbiCollectors.class).findFor(containerType);
+        return readConfig(JdbiCollectors.class).findFor(containerType);
     }
 
     /**
@@ -352,7 +357,7 @@ public class StatementContext implements Closeable {
      * @return the element type for the given container type, if available.
      */
     public Optional<Type> findElementTypeFor(Type containerType) {
-        return getConfig(JdbiCollectors.class).findElementTypeFor(containerType);
+        return readConfig(JdbiCollectors.class).findElementTypeFor(containerType);
     }
 
     StatementContext setRawSql(String rawSql) {
@@ -673,7 +678,7 @@ public class StatementContext implements Closeable {
     }
 
     private Collection<StatementContextListener> getListeners() {
-        return getConfig(SqlStatements.class).getContextListeners();
+        return readConfig(SqlStatements.class).getContextListeners();
     }
 
     private void notifyContextCreated() {
@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.core.transaction.LocalTransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionException;
@@ -69,6 +70,27 @@ public class TestHandle {
         assertThat(value).isEqualTo("Keith");
     }
 
+    @Test
+    public void testLayeredConfig() {
+        Jdbi jdbi = h2Extension.getJdbi();
+        jdbi.getConfig(Handles.class).setLayeredConfig(true);
+        jdbi.getConfig(SqlStatements.class).setLayeredConfig(true);
+
+        try (Handle handle = jdbi.open()) {
+            handle.execute("insert into something (id, name) values (1, 'Brian')");
+
+            String name = handle.createQuery("select name from something where id = :id")
+                    .define("unused", "value")
+                    .bind("id", 1)
+                    .mapTo(String.class)
+                    .one();
+
+            assertThat(name).isEqualTo("Brian");
+            assertThat(handle.getConfig(SqlStatements.class).getAttribute("unused")).isNull();
+            assertThat(jdbi.getConfig(SqlStatements.class).getAttribute("unused")).isNull();
+        }
+    }
+
     @SuppressWarnings("resource")
     @Test
     public void testIsClosed() {
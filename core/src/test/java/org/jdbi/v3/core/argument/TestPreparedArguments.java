@@ -13,12 +13,21 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Function;
+
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.array.SqlArrayTypes;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestPreparedArguments {
     @RegisterExtension
@@ -37,4 +46,90 @@ public class TestPreparedArguments {
         assertThat(arguments.prepareFor(int.class))
                 .isEmpty();
     }
+
+    @Test
+    public void copySharesConfigIndependentPreparedArguments() {
+        final ConfigRegistry registry = new ConfigRegistry();
+        final Arguments arguments = registry.get(Arguments.class);
+        final Function<Object, Argument> prepared = arguments.prepareFor(int.class).orElseThrow();
+
+        final Arguments copy = registry.createCopy().get(Arguments.class);
+        assertThat(copy.getResolutionGeneration()).isSameAs(arguments.getResolutionGeneration());
+        assertThat(copy.prepareFor(int.class)).containsSame(prepared);
+
+        // resolved by the copy, published to the original
+        final Function<Object, Argument> preparedByCopy = copy.prepareFor(String.class).orElseThrow();
+        assertThat(arguments.prepareFor(String.class)).containsSame(preparedByCopy);
+        assertThat(arguments.prepareSharedFor(QualifiedType.of(String.class))).containsSame(preparedByCopy);
+
+        copy.register(new PrimitivesArgumentFactory());
+
+        assertThat(copy.getResolutionGeneration()).isNotSameAs(arguments.getResolutionGeneration());
+        assertThat(copy.prepareFor(int.class).orElseThrow()).isNotSameAs(prepared);
+        assertThat(arguments.prepareFor(int.class)).containsSame(prepared);
+    }
+
+    @Test
+    public void copyDoesNotShareConfigDependentPreparedArguments() {
+        final ConfigRegistry registry = new ConfigRegistry();
+        final Arguments arguments = registry.get(Arguments.class);
+        final Function<Object, Argument> prepared = arguments.prepareFor(UUID[].class).orElseThrow();
+
+        final Arguments copy = registry.createCopy().get(Arguments.class);
+        assertThat(copy.prepareFor(UUID[].class).orElseThrow()).isNotSameAs(prepared);
+        assertThat(copy.prepareSharedFor(QualifiedType.of(UUID[].class))).isEmpty();
+    }
+
+    @Test
+    public void copyDoesNotShareArgumentsHoldingTheRegistry() {
+        final ConfigRegistry registry = new ConfigRegistry();
+        final Arguments arguments = registry.get(Arguments.class);
+
+        // prepared by JavaTimeZoneIdArgumentFactory, an AbstractArgumentFactory that builds arguments with the registry
+        final ConfigRegistry copyRegistry = registry.createCopy();
+        final Arguments copy = copyRegistry.get(Arguments.class);
+        assertThat(copy.prepareFor(ZoneId.class)).isPresent();
+        assertThat(copy.prepareSharedFor(QualifiedType.of(ZoneId.class))).isEmpty();
+        assertThat(arguments.prepareFor(ZoneId.class).orElseThrow()).isNotSameAs(copy.prepareFor(ZoneId.class).orElseThrow());
+    }
+
+    @Test
+    public void getFactoriesReturnsRegisteredFactories() {
+        final Arguments arguments = new ConfigRegistry().get(Arguments.class);
+        final ArgumentFactory.Preparable factory = new PrimitivesArgumentFactory();
+        arguments.register(factory);
+
+        // the adapted factory, not a wrapper that Arguments uses internally
+        assertThat(arguments.getFactories().get(0)).hasToString("Qualified[" + factory + "]");
+        assertThat(arguments.getFactories()).noneMatch(f -> f.getClass().getEnclosingClass() == Arguments.class);
+    }
+
+    @Test
+    public void copyUsesItsOwnArrayTypes() {
+        final ConfigRegistry registry = new ConfigRegistry();
+        registry.get(SqlArrayTypes.class).register(UUID.class, "parent_uuid");
+        final UUID[] value = {UUID.randomUUID()};
+
+        assertThat(registry.get(Arguments.class).prepareFor(UUID[].class).orElseThrow().apply(value))
+                .hasToString("parent_uuid[] - " + Arrays.toString(value));
+
+        final ConfigRegistry copy = registry.createCopy();
+        copy.get(SqlArrayTypes.class).register(UUID.class, "child_uuid");
+
+        assertThat(copy.get(Arguments.class).prepareFor(UUID[].class).orElseThrow().apply(value))
+                .hasToString("child_uuid[] - " + Arrays.toString(value));
+    }
+
+    @Test
+    public void copyChecksNullsForPrimitives() {
+        final ConfigRegistry registry = new ConfigRegistry();
+        final Arguments arguments = registry.get(Arguments.class);
+        assertThat(arguments.prepareFor(int.class).orElseThrow().apply(null)).isNotNull();
+
+        final Arguments copy = registry.createCopy().get(Arguments.class);
+        copy.setBindingNullToPrimitivesPermitted(false);
+
+        assertThatThrownBy(() -> copy.prepareFor(int.class).orElseThrow().apply(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedJdbiExecutorTest {
+
+    @RegisterExtension
+    private final H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.USERS_INITIALIZER);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testWithHandle() {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 2, Duration.ofSeconds(10));
+
+        assertThat(jdbiExecutor.withHandle(handle -> handle.createQuery("SELECT COUNT(*) FROM users").mapTo(int.class).one()))
+            .succeedsWithin(Duration.ofSeconds(10))
+            .isEqualTo(2);
+        assertThat(jdbiExecutor.getAcquireCount()).isOne();
+        assertThat(jdbiExecutor.getActiveCount()).isZero();
+    }
+
+    @Test
+    void testLimitsConcurrency() throws Exception {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 2, Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(jdbiExecutor.useHandle(handle -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                release.await();
+                running.decrementAndGet();
+            }).toCompletableFuture());
+        }
+
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(jdbiExecutor.getActiveCount()).isEqualTo(2);
+        assertThat(futures).noneMatch(CompletableFuture::isDone);
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning).hasValue(2);
+        assertThat(jdbiExecutor.getAcquireCount()).isEqualTo(4);
+        assertThat(jdbiExecutor.getQueueDepth()).isZero();
+        assertThat(jdbiExecutor.getMaxWaitTime()).isPositive();
+    }
+
+    @Test
+    void testAcquireTimeout() throws Exception {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 1, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletionStage<Void> blocking = jdbiExecutor.useHandle(handle -> {
+            started.countDown();
+            release.await();
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(jdbiExecutor.getActiveCount()).isOne();
+
+        assertThat(jdbiExecutor.withHandle(handle -> 1))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(TimeoutException.class);
+        assertThat(jdbiExecutor.getTimeoutCount()).isOne();
+
+        release.countDown();
+        assertThat(blocking).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(jdbiExecutor.getActiveCount()).isZero();
+    }
+
+    @Test
+    void testCallbackFailureReleasesPermit() {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 1, Duration.ofSeconds(10));
+
+        assertThat(jdbiExecutor.withHandle(handle -> {
+            throw new IllegalStateException("boom");
+        }))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(jdbiExecutor.withHandle(handle -> 1))
+            .succeedsWithin(Duration.ofSeconds(10))
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testCloseKeepsCallerExecutor() {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 1, Duration.ofSeconds(10));
+
+        jdbiExecutor.close();
+
+        assertThat(executor.isShutdown()).isFalse();
+        assertThat(jdbiExecutor.withHandle(handle -> 1))
+            .succeedsWithin(Duration.ofSeconds(10))
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testCloseShutsDownOwnedExecutor() throws Exception {
+        ExecutorService ownedExecutor = Executors.newFixedThreadPool(2);
+        BoundedJdbiExecutor jdbiExecutor = new BoundedJdbiExecutor(h2Extension.getJdbi(), ownedExecutor, true, 1, Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletionStage<Void> running = jdbiExecutor.useHandle(handle -> {
+            started.countDown();
+            release.await();
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> closed = CompletableFuture.runAsync(jdbiExecutor::close, executor);
+        assertThat(closed).isNotDone();
+
+        release.countDown();
+        assertThat(closed).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(running).isCompleted();
+        assertThat(ownedExecutor.isTerminated()).isTrue();
+        assertThatThrownBy(() -> jdbiExecutor.withHandle(handle -> 1))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testInvalidConcurrency() {
+        assertThatThrownBy(() -> JdbiExecutor.createBounded(h2Extension.getJdbi(), executor, 0, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache;
+
+import java.util.Map;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestJdbiCacheStats {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    @Test
+    void testDefaultCaches() {
+        Jdbi jdbi = h2Extension.getJdbi();
+
+        assertThat(jdbi.getCacheStats()).containsOnlyKeys("sqlTemplates", "sqlParser", "configCaches");
+
+        // the database initializer already executed statements
+        JdbiCacheStats before = jdbi.getCacheStats().get("sqlParser");
+
+        try (Handle handle = jdbi.open()) {
+            for (int i = 0; i < 3; i++) {
+                handle.createQuery("select name from something where id = :id")
+                    .bind("id", i)
+                    .mapTo(String.class)
+                    .findOne();
+            }
+        }
+
+        JdbiCacheStats parserStats = jdbi.getCacheStats().get("sqlParser");
+        assertThat(parserStats.cacheSize()).isEqualTo(before.cacheSize() + 1);
+        assertThat(parserStats.loadCount()).isEqualTo(before.loadCount() + 1);
+        assertThat(parserStats.missCount()).isEqualTo(before.missCount() + 1);
+        assertThat(parserStats.hitCount()).isEqualTo(before.hitCount() + 2);
+        assertThat(parserStats.totalLoadTimeNanos()).isPositive();
+    }
+
+    @Test
+    void testOptionalCaches() {
+        Jdbi jdbi = h2Extension.getJdbi();
+        jdbi.getConfig(SqlStatements.class).setBindingPlanCacheEnabled(true);
+        jdbi.getConfig(ReflectionMappers.class).setSpecializedMapperCacheEnabled(true);
+
+        try (Handle handle = jdbi.open()) {
+            handle.execute("insert into something (id, name) values (1, 'eric')");
+            handle.createQuery("select id, name from something where id = :id")
+                .bind("id", 1)
+                .map(BeanMapper.of(Something.class))
+                .one();
+        }
+
+        Map<String, JdbiCacheStats> stats = jdbi.getCacheStats();
+        assertThat(stats).containsOnlyKeys("sqlTemplates", "sqlParser", "bindingPlans", "specializedMappers", "configCaches");
+        assertThat(stats.get("bindingPlans").cacheSize()).isEqualTo(2);
+        assertThat(stats.get("specializedMappers").cacheSize()).isOne();
+        assertThat(stats.get("configCaches").cacheSize()).isPositive();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClockJdbiCacheTest extends JdbiCacheTest {
+
+    @Override
+    protected JdbiCacheBuilder setupBuilder() {
+        return ClockJdbiCacheBuilder.builder();
+    }
+
+    @Test
+    void testUntouchedCacheExpunge() {
+        int size = 10;
+        JdbiCache<String, String> cache = setupBuilder().maxSize(size).buildWithLoader(cacheLoader);
+
+        for (int i = 0; i < size * 2; i++) {
+            cache.get("key" + i);
+        }
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isEqualTo(size);
+        assertThat(stats.maxSize()).isEqualTo(size);
+        assertThat(stats.evictionCount()).isEqualTo(size);
+
+        // untouched entries are evicted in insertion order, the last ones are still cached
+        for (int i = size; i < size * 2; i++) {
+            cache.get("key" + i);
+        }
+        assertThat(cacheLoader.created()).isEqualTo(size * 2);
+
+        cache.get("key0");
+        assertThat(cacheLoader.created()).isEqualTo(size * 2 + 1);
+    }
+
+    @Test
+    void testSecondChance() {
+        int size = 10;
+        JdbiCache<String, String> cache = setupBuilder().maxSize(size).buildWithLoader(cacheLoader);
+
+        for (int i = 0; i < size; i++) {
+            cache.get("key" + i);
+        }
+
+        // touch the first half, the untouched entries are evicted first
+        for (int i = 0; i < size / 2; i++) {
+            cache.get("key" + i);
+        }
+
+        for (int i = size; i < size + size / 2; i++) {
+            cache.get("key" + i);
+        }
+        assertThat(cacheLoader.created()).isEqualTo(size + size / 2);
+
+        // cache now holds 0..4 and 10..14
+        for (int i = 0; i < size / 2; i++) {
+            cache.get("key" + i);
+            cache.get("key" + (size + i));
+        }
+        assertThat(cacheLoader.created()).isEqualTo(size + size / 2);
+
+        cache.get("key5");
+        assertThat(cacheLoader.created()).isEqualTo(size + size / 2 + 1);
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        JdbiCache<String, String> cache = setupBuilder().maxSize(10).buildWithLoader(cacheLoader);
+
+        assertThatThrownBy(() -> cache.getWithLoader("key", k -> {
+            throw new IllegalStateException(k);
+        })).isInstanceOf(IllegalStateException.class);
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isZero();
+
+        assertThat(cache.get("key")).isEqualTo(cacheLoader.checkKey("key"));
+        assertThat(cacheLoader.created()).isOne();
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        int size = 100;
+        JdbiCache<Integer, String> cache = ClockJdbiCacheBuilder.builder().maxSize(size).buildWithLoader(String::valueOf);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(size * 2);
+                        assertThat(cache.get(key)).isEqualTo(String.valueOf(key));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // a load without concurrent eviction trims the cache to its maximum size
+        cache.get(-1);
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isEqualTo(size);
+    }
+
+    @Test
+    void testConcurrentFailedLoads() throws Exception {
+        int keys = 4;
+        JdbiCache<Integer, String> cache = ClockJdbiCacheBuilder.builder().maxSize(keys * 10).build();
+        // a slow load lets other threads wait for the same entry
+        JdbiCacheLoader<Integer, String> failingLoader = key -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                throw new IllegalStateException("load failed for " + key);
+            }
+            return String.valueOf(key);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(keys);
+                        try {
+                            assertThat(cache.getWithLoader(key, failingLoader)).isEqualTo(String.valueOf(key));
+                        } catch (IllegalStateException e) {
+                            assertThat(e).hasMessage("load failed for " + key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int key = 0; key < keys; key++) {
+            assertThat(cache.getWithLoader(key, String::valueOf)).isEqualTo(String.valueOf(key));
+        }
+
+        // failed loads are neither cached nor counted, so each key is counted exactly once
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isEqualTo(keys);
+        assertThat(stats.evictionCount()).isZero();
+        // a caller that retries after a failed load of another thread is counted once
+        assertThat(stats.hitCount() + stats.missCount()).isEqualTo(8 * 2_000 + keys);
+    }
+}
@@ -53,6 +53,7 @@ public class DefaultJdbiCacheTest extends JdbiCacheTest {
 
         stats = cache.getStats();
         assertThat(stats.cacheSize()).isEqualTo(stats.maxSize());
+        assertThat(stats.evictionCount()).isEqualTo(size);
 
         // test LRU behavior. Change this part if the algorithm changes
 
@@ -20,6 +20,7 @@ import java.util.UUID;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +42,27 @@ public abstract class JdbiCacheTest {
         doTestWithLoader(setupBuilder().build());
     }
 
+    @Test
+    void testStats() {
+        doTestStats(setupBuilder().buildWithLoader(cacheLoader));
+    }
+
+    protected void doTestStats(JdbiCache<String, String> cache) {
+        String key = UUID.randomUUID().toString();
+
+        // miss and load, then hit
+        cache.get(key);
+        cache.get(key);
+
+        JdbiCacheStats stats = cache.getJdbiCacheStats();
+        assertThat(stats.cacheSize()).isOne();
+        assertThat(stats.hitCount()).isOne();
+        assertThat(stats.missCount()).isOne();
+        assertThat(stats.loadCount()).isOne();
+        assertThat(stats.totalLoadTimeNanos()).isPositive();
+        assertThat(stats.evictionCount()).isZero();
+    }
+
     protected void doTestWithGlobalLoader(JdbiCache<String, String> cache) {
         assertThat(cacheLoader.created()).isZero();
 
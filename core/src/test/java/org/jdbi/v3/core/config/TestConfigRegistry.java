@@ -21,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -163,6 +164,106 @@ public class TestConfigRegistry {
         validateDoubleConfig(child2Config);
     }
 
+    @Test
+    public void testLayeredInheritParentValues() {
+        child1 = parent.createLayeredCopy();
+        TestConfig child1Config = child1.get(TestConfig.class);
+        validateSingleConfig(child1Config);
+        assertThat(child1Config).isNotSameAs(parentConfig);
+
+        grandchild1 = child1.createLayeredCopy();
+        TestConfig grandchild1Config = grandchild1.get(TestConfig.class);
+        validateSingleConfig(grandchild1Config);
+        assertThat(grandchild1Config).isNotSameAs(child1Config);
+    }
+
+    @Test
+    public void testLayeredCopiesOnFirstAccess() {
+        child1 = parent.createLayeredCopy();
+        grandchild1 = child1.createLayeredCopy();
+
+        // not yet accessed, changes to the parent are visible
+        parentConfig.addList("list2");
+        parentConfig.addSet("set2");
+
+        TestConfig grandchild1Config = grandchild1.get(TestConfig.class);
+        validateDoubleConfig(grandchild1Config);
+        assertThat(grandchild1.get(TestConfig.class)).isSameAs(grandchild1Config);
+
+        // accessed, changes to the parent are no longer visible
+        parentConfig.addList("list3");
+        parentConfig.addSet("set3");
+
+        validateTripleConfig(parentConfig);
+        validateDoubleConfig(grandchild1Config);
+        validateTripleConfig(child1.get(TestConfig.class));
+    }
+
+    @Test
+    public void testModifyLayeredChild() {
+        child1 = parent.createLayeredCopy();
+        TestConfig child1Config = child1.get(TestConfig.class);
+
+        child1Config.addList("list2");
+        child1Config.addSet("set2");
+
+        validateDoubleConfig(child1Config);
+        validateSingleConfig(parentConfig);
+
+        child2 = parent.createLayeredCopy();
+        validateSingleConfig(child2.get(TestConfig.class));
+    }
+
+    @Test
+    public void testLayeredReadSharesParentConfig() {
+        child1 = parent.createLayeredCopy();
+        grandchild1 = child1.createLayeredCopy();
+
+        // reading from unmodified layers copies nothing
+        assertThat(grandchild1.read(TestConfig.class)).isSameAs(parentConfig);
+        assertThat(grandchild1.read(SqlStatements.class)).isSameAs(parent.get(SqlStatements.class));
+
+        // a mutable config is copied, after that reads return copies as well
+        TestConfig grandchild1Config = grandchild1.get(TestConfig.class);
+        assertThat(grandchild1Config).isNotSameAs(parentConfig);
+        assertThat(grandchild1.read(TestConfig.class)).isSameAs(grandchild1Config);
+        assertThat(grandchild1.read(SqlStatements.class)).isNotSameAs(parent.get(SqlStatements.class));
+
+        grandchild1Config.addList("list2");
+        grandchild1Config.addSet("set2");
+
+        validateSingleConfig(parentConfig);
+        validateSingleConfig(child1.read(TestConfig.class));
+        validateDoubleConfig(grandchild1.read(TestConfig.class));
+    }
+
+    @Test
+    public void testCopyLayeredChild() {
+        child1 = parent.createLayeredCopy();
+        grandchild1 = child1.createCopy();
+
+        parentConfig.addList("list2");
+        parentConfig.addSet("set2");
+
+        validateSingleConfig(grandchild1.get(TestConfig.class));
+        validateDoubleConfig(child1.get(TestConfig.class));
+    }
+
+    @Test
+    public void testSharedStatementAttributes() {
+        parent.get(SqlStatements.class).define("a", 1);
+        child1 = parent.createCopy();
+        child2 = parent.createCopy();
+
+        // attributes are shared by the copies until one of them defines an attribute
+        parent.get(SqlStatements.class).define("b", 2);
+        child1.get(SqlStatements.class).define("c", 3).define("d", 4);
+
+        assertThat(parent.get(SqlStatements.class).getAttributes()).containsOnlyKeys("a", "b");
+        assertThat(child1.get(SqlStatements.class).getAttributes()).containsOnlyKeys("a", "c", "d");
+        assertThat(child2.get(SqlStatements.class).getAttributes()).containsOnlyKeys("a");
+    }
+
     private static void validateSingleConfig(TestConfig config) {
         assertThat(config.getList())
                 .hasSize(1)
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConfigCaches {
+
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private final ConfigCache<Integer, String> cache = ConfigCaches.declare(key -> {
+        computed.incrementAndGet();
+        return "value" + key;
+    });
+
+    @Test
+    void testCachedValue() {
+        ConfigRegistry config = new ConfigRegistry();
+
+        assertThat(cache.get(1, config)).isEqualTo("value1");
+        assertThat(cache.get(1, config)).isEqualTo("value1");
+        assertThat(computed).hasValue(1);
+
+        // a copy shares the caches
+        assertThat(cache.get(1, config.createCopy())).isEqualTo("value1");
+        assertThat(computed).hasValue(1);
+    }
+
+    @Test
+    void testDeclarationsDoNotShareEntries() {
+        ConfigRegistry config = new ConfigRegistry();
+        ConfigCache<Integer, String> other = ConfigCaches.declare(key -> "other" + key);
+
+        assertThat(cache.get(1, config)).isEqualTo("value1");
+        assertThat(other.get(1, config)).isEqualTo("other1");
+    }
+
+    @Test
+    void testBoundedCache() {
+        ConfigRegistry config = new ConfigRegistry();
+        ConfigCaches configCaches = config.get(ConfigCaches.class);
+        configCaches.setCacheBuilder(DefaultJdbiCacheBuilder.builder().maxSize(10));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get(i, config)).isEqualTo("value" + i);
+        }
+
+        assertThat(configCaches.getStats().cacheSize()).isEqualTo(10);
+        assertThat(configCaches.getStats().evictionCount()).isEqualTo(90);
+
+        // evicted entries are computed again
+        assertThat(cache.get(0, config)).isEqualTo("value0");
+        assertThat(computed).hasValue(101);
+    }
+
+    @Test
+    void testDeclarationsDoNotEvictEachOther() {
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(ConfigCaches.class).setCacheBuilder(DefaultJdbiCacheBuilder.builder().maxSize(10));
+        ConfigCache<Integer, Object> other = ConfigCaches.declare(key -> new Object());
+
+        String value = cache.get(0, config);
+        for (int i = 0; i < 100; i++) {
+            other.get(i, config);
+        }
+
+        // the entry is not computed again, so callers can rely on its identity
+        assertThat(cache.get(0, config)).isSameAs(value);
+        assertThat(computed).hasValue(1);
+    }
+
+    @Test
+    void testStats() {
+        ConfigRegistry config = new ConfigRegistry();
+        ConfigCaches configCaches = config.get(ConfigCaches.class);
+        long hits = configCaches.getStats().hitCount();
+        long misses = configCaches.getStats().missCount();
+
+        cache.get(1, config);
+        cache.get(1, config);
+
+        assertThat(configCaches.getStats().missCount()).isEqualTo(misses + 1);
+        assertThat(configCaches.getStats().hitCount()).isEqualTo(hits + 1);
+        assertThat(configCaches.getStats().maxSize()).isEqualTo(ConfigCaches.CONFIG_CACHE_SIZE);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResolutionCacheTest {
+
+    @Test
+    void childSharesParentEntries() {
+        ResolutionCache<String, String> parent = new ResolutionCache<>();
+        parent.put("a", "1");
+
+        ResolutionCache<String, String> child = parent.createChild();
+        assertThat(child.get("a")).isEqualTo("1");
+
+        child.put("b", "2");
+        assertThat(child.get("b")).isEqualTo("2");
+        assertThat(parent.get("b")).isNull();
+
+        child.put("a", "3");
+        assertThat(child.get("a")).isEqualTo("3");
+        assertThat(parent.get("a")).isEqualTo("1");
+    }
+
+    @Test
+    void putIfAbsent() {
+        ResolutionCache<String, String> parent = new ResolutionCache<>();
+        assertThat(parent.putIfAbsent("a", "1")).isTrue();
+        assertThat(parent.putIfAbsent("a", "2")).isFalse();
+
+        ResolutionCache<String, String> child = parent.createChild();
+        assertThat(child.putIfAbsent("a", "3")).isFalse();
+        assertThat(child.putIfAbsent("b", "4")).isTrue();
+        assertThat(child.get("a")).isEqualTo("1");
+        assertThat(parent.get("b")).isNull();
+    }
+
+    @Test
+    void deepHierarchy() {
+        ResolutionCache<String, String> cache = new ResolutionCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, "value" + i);
+            cache = cache.createChild();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get("key" + i)).isEqualTo("value" + i);
+        }
+    }
+}
@@ -55,6 +55,20 @@ public class PrimitiveMapperFactoryTest {
             .hasMessageContaining("column 1 (FOO)");
     }
 
+    @Test
+    public void primitiveMappersAreUnboxed() {
+        ColumnMappers mappers = h2Extension.getJdbi().getConfig(ColumnMappers.class);
+
+        assertThat(mappers.findFor(int.class)).containsInstanceOf(IntColumnMapper.class);
+        assertThat(mappers.findFor(long.class)).containsInstanceOf(LongColumnMapper.class);
+        assertThat(mappers.findFor(double.class)).containsInstanceOf(DoubleColumnMapper.class);
+        assertThat(mappers.findFor(boolean.class)).containsInstanceOf(BooleanColumnMapper.class);
+        assertThat(mappers.findFor(Integer.class)).containsInstanceOf(IntColumnMapper.class);
+        assertThat(mappers.findFor(Long.class)).containsInstanceOf(LongColumnMapper.class);
+        assertThat(mappers.findFor(Double.class)).containsInstanceOf(DoubleColumnMapper.class);
+        assertThat(mappers.findFor(Boolean.class)).containsInstanceOf(BooleanColumnMapper.class);
+    }
+
     @Test
     public void doesntApplyToBoxed() {
         Integer value = h2Extension.getJdbi().withHandle(h ->
@@ -16,6 +16,8 @@ package org.jdbi.v3.core.mapper;
 import java.util.List;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.internal.ConfigCaches;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +65,31 @@ public class TestEnums {
         }
     }
 
+    public enum Color {
+        red, green
+    }
+
+    @Test
+    public void testEvictedEnumNamesAreLoadedAgain() {
+        ConfigCaches configCaches = handle.getConfig(ConfigCaches.class);
+        configCaches.setCacheBuilder(DefaultJdbiCacheBuilder.builder().maxSize(1));
+
+        assertThat(handle.createQuery("select 'eric'").mapTo(SomethingElse.Name.class).one()).isEqualTo(SomethingElse.Name.eric);
+        assertThat(handle.createQuery("select 'red'").mapTo(Color.class).one()).isEqualTo(Color.red);
+        int cacheSize = configCaches.getStats().cacheSize();
+        long evictions = configCaches.getStats().evictionCount();
+
+        for (int i = 0; i < 20; i++) {
+            // each enum evicts the names of the other one
+            assertThat(handle.createQuery("select 'ERIC'").mapTo(SomethingElse.Name.class).one()).isEqualTo(SomethingElse.Name.eric);
+            assertThat(handle.createQuery("select 'green'").mapTo(Color.class).one()).isEqualTo(Color.green);
+        }
+
+        assertThat(configCaches.getStats().evictionCount()).isGreaterThanOrEqualTo(evictions + 40);
+        // loading the names of an enum again does not add caches
+        assertThat(configCaches.getStats().cacheSize()).isLessThanOrEqualTo(cacheSize);
+    }
+
     @Test
     public void testMapEnumValues() {
         handle.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
@@ -13,6 +13,12 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jdbi.v3.core.Handle;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestMapMapper {
 
@@ -65,4 +72,51 @@ public class TestMapMapper {
 
         assertThat(noOne).containsOnlyKeys("ID", "FIRSTNAME");
     }
+
+    @Test
+    public void testCompactRows() {
+        h.getConfig(MapMappers.class).setCompactRows(true);
+        h.execute("insert into Foo(Id, FirstName) values(2, null)");
+
+        List<Map<String, Object>> rows = h.createQuery("select * from Foo order by Id").mapToMap().list();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isInstanceOf(CompactRowMap.class)
+            .containsExactly(Map.entry("id", 1), Map.entry("firstname", "No one"));
+        assertThat(rows.get(1)).containsEntry("firstname", null)
+            .containsKey("firstname")
+            .doesNotContainKey("lastname");
+        assertThat(rows.get(1).get("lastname")).isNull();
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("firstname", "No one");
+        assertThat(rows.get(0)).isEqualTo(expected).hasSameHashCodeAs(expected);
+    }
+
+    @Test
+    public void testCompactRowsAreReadOnly() {
+        h.getConfig(MapMappers.class).setCompactRows(true);
+
+        Map<String, Object> noOne = h.createQuery("select * from Foo").mapToMap().one();
+
+        assertThatThrownBy(() -> noOne.put("id", 2)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> noOne.remove("id")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(noOne::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testCompactRowsSerializeAsMap() throws Exception {
+        h.getConfig(MapMappers.class).setCompactRows(true);
+
+        Map<String, Object> noOne = h.createQuery("select * from Foo").mapToMap().one();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(noOne);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isInstanceOf(LinkedHashMap.class).isEqualTo(noOne);
+        }
+    }
 }
@@ -62,6 +62,75 @@ public class BeanMapperTest {
         assertThat(bean.getI()).isOne();
     }
 
+    @Test
+    public void testPrimitivePropertiesAreNotBoxed() {
+        UnboxedOnlyMappers.register(handle);
+        handle.registerRowMapper(BeanMapper.factory(PrimitiveBean.class));
+
+        PrimitiveBean bean = handle.createQuery("select 1 as i, 2 as l, 1.5 as d, true as b")
+            .mapTo(PrimitiveBean.class)
+            .one();
+
+        assertThat(bean.getI()).isOne();
+        assertThat(bean.getL()).isEqualTo(2L);
+        assertThat(bean.getD()).isEqualTo(1.5d);
+        assertThat(bean.isB()).isTrue();
+    }
+
+    @Test
+    public void testNullPrimitivePropertiesAreNotSet() {
+        handle.registerRowMapper(BeanMapper.factory(PrimitiveBean.class));
+
+        PrimitiveBean bean = handle.createQuery("select cast(null as int) as i, cast(null as bigint) as l, "
+                + "cast(null as double) as d, cast(null as boolean) as b")
+            .mapTo(PrimitiveBean.class)
+            .one();
+
+        assertThat(bean.getI()).isEqualTo(-1);
+        assertThat(bean.getL()).isEqualTo(-1L);
+        assertThat(bean.getD()).isEqualTo(-1d);
+        assertThat(bean.isB()).isTrue();
+    }
+
+    public static class PrimitiveBean {
+        private int i = -1;
+        private long l = -1;
+        private double d = -1;
+        private boolean b = true;
+
+        public int getI() {
+            return i;
+        }
+
+        public void setI(int i) {
+            this.i = i;
+        }
+
+        public long getL() {
+            return l;
+        }
+
+        public void setL(long l) {
+            this.l = l;
+        }
+
+        public double getD() {
+            return d;
+        }
+
+        public void setD(double d) {
+            this.d = d;
+        }
+
+        public boolean isB() {
+            return b;
+        }
+
+        public void setB(boolean b) {
+            this.b = b;
+        }
+    }
+
     public static class ColumnNameBean {
         private int i;
         private String s;
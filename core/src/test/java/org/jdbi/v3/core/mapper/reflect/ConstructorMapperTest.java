@@ -90,6 +90,71 @@ public class ConstructorMapperTest {
         }
     }
 
+    @Test
+    public void testPrimitiveParametersAreNotBoxed() {
+        UnboxedOnlyMappers.register(handle);
+        handle.registerRowMapper(ConstructorMapper.factory(PrimitiveBean.class))
+            .registerRowMapper(ConstructorMapper.factory(PrimitiveFactoryBean.class, PrimitiveFactoryBean.class));
+
+        String query = "select 'x' as s, 1 as i, 2 as l, 1.5 as d, true as b";
+        PrimitiveBean bean = selectOne(query, PrimitiveBean.class);
+        PrimitiveFactoryBean factoryBean = selectOne(query, PrimitiveFactoryBean.class);
+
+        for (PrimitiveBean b : new PrimitiveBean[] {bean, factoryBean.bean}) {
+            assertThat(b.s).isEqualTo("x");
+            assertThat(b.i).isOne();
+            assertThat(b.l).isEqualTo(2L);
+            assertThat(b.d).isEqualTo(1.5d);
+            assertThat(b.b).isTrue();
+        }
+    }
+
+    @Test
+    public void testPrimitiveParameterWithPropagateNull() {
+        handle.registerRowMapper(ConstructorMapper.factory(PropagateNullPrimitiveBean.class));
+
+        assertThat(selectOne("select 'x' as s, 1 as i", PropagateNullPrimitiveBean.class).i).isOne();
+        assertThat(selectOne("select 'x' as s, cast(null as int) as i", PropagateNullPrimitiveBean.class)).isNull();
+    }
+
+    static class PrimitiveBean {
+        final String s;
+        final int i;
+        final long l;
+        final double d;
+        final boolean b;
+
+        PrimitiveBean(String s, int i, long l, double d, boolean b) {
+            this.s = s;
+            this.i = i;
+            this.l = l;
+            this.d = d;
+            this.b = b;
+        }
+    }
+
+    static class PrimitiveFactoryBean {
+        final PrimitiveBean bean;
+
+        private PrimitiveFactoryBean(PrimitiveBean bean) {
+            this.bean = bean;
+        }
+
+        static PrimitiveFactoryBean create(String s, int i, long l, double d, boolean b) {
+            return new PrimitiveFactoryBean(new PrimitiveBean(s, i, l, d, b));
+        }
+    }
+
+    static class PropagateNullPrimitiveBean {
+        final String s;
+        final int i;
+
+        PropagateNullPrimitiveBean(String s, @PropagateNull int i) {
+            this.s = s;
+            this.i = i;
+        }
+    }
+
     @Test
     public void testDuplicate() {
         assertThatThrownBy(() -> selectOne("SELECT i, s, s FROM bean", ConstructorBean.class))
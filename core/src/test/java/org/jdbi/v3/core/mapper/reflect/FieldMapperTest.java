@@ -59,6 +59,28 @@ public class FieldMapperTest {
         assertThat(thing.s).isEqualTo("foo");
     }
 
+    static class PrimitiveThing {
+        int i;
+        long l;
+        double d;
+        boolean b;
+    }
+
+    @Test
+    public void testPrimitiveFieldsAreNotBoxed() {
+        Handle handle = h2Extension.getSharedHandle();
+        UnboxedOnlyMappers.register(handle);
+
+        PrimitiveThing thing = handle.createQuery("select 1 as i, 2 as l, 1.5 as d, true as b")
+            .map(FieldMapper.of(PrimitiveThing.class))
+            .one();
+
+        assertThat(thing.i).isOne();
+        assertThat(thing.l).isEqualTo(2L);
+        assertThat(thing.d).isEqualTo(1.5d);
+        assertThat(thing.b).isTrue();
+    }
+
     @Test
     public void testNested() {
         Handle handle = h2Extension.getSharedHandle();
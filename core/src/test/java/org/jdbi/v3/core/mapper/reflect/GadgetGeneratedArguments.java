@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.jdbi.v3.core.argument.internal.GeneratedPropertyArguments;
+import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.statement.StatementContext;
+
+// the argument finder that the jdbi3-generator annotation processor creates for Gadget
+public final class GadgetGeneratedArguments extends GeneratedPropertyArguments {
+    private static final Set<String> NAMES = Set.of("id", "name", "note");
+
+    private static final QualifiedType<?> TYPE_0 = QualifiedType.of(int.class);
+
+    private static final QualifiedType<?> TYPE_1 = GeneratedMappers.qualifiedType(String.class, GeneratedMappers.method(Gadget.class, "name"));
+
+    private static final QualifiedType<?> TYPE_2 = QualifiedType.of(String.class);
+
+    public GadgetGeneratedArguments(String prefix, Gadget value, ConfigRegistry config) {
+        super(prefix, value, config, NAMES);
+    }
+
+    @Override
+    protected Optional<TypedValue> getValue(String name, StatementContext ctx) {
+        final Gadget value = (Gadget) obj;
+        switch (name) {
+            case "id":
+                return Optional.of(new TypedValue(TYPE_0, value.id()));
+            case "name":
+                return Optional.of(new TypedValue(TYPE_1, value.name()));
+            case "note":
+                return Optional.of(new TypedValue(TYPE_2, value.note()));
+            default:
+                return Optional.empty();
+        }
+    }
+}
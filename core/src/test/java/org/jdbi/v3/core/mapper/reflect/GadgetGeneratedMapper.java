@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.statement.StatementContext;
+
+// the row mapper that the jdbi3-generator annotation processor creates for Gadget
+public final class GadgetGeneratedMapper implements RowMapper<Gadget> {
+    private static final String[] COLUMNS = {"id", "name"};
+
+    private static final boolean[] REQUIRED = {true, true};
+
+    private static final QualifiedType<?> TYPE_0 = QualifiedType.of(int.class);
+
+    private static final QualifiedType<?> TYPE_1 = GeneratedMappers.qualifiedType(String.class, GeneratedMappers.recordParameter(Gadget.class, 1));
+
+    @Override
+    public Gadget map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<Gadget> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        final int[] columns = GeneratedMappers.findColumns(rs, ctx, Gadget.class, COLUMNS, REQUIRED);
+        final int c0 = columns[0];
+        final ColumnMapper<Integer> m0 = c0 == 0 ? null : GeneratedMappers.findColumnMapper(ctx, TYPE_0);
+        final int c1 = columns[1];
+        final ColumnMapper<String> m1 = c1 == 0 ? null : GeneratedMappers.findColumnMapper(ctx, TYPE_1);
+        return (r, c) -> new Gadget(m0.map(r, c0, c), m1.map(r, c1, c), null);
+    }
+}
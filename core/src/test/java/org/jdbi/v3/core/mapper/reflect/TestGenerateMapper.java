@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.qualifier.ReversedStringArgumentFactory;
+import org.jdbi.v3.core.qualifier.ReversedStringMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Gadget has hand written equivalents of the classes that the jdbi3-generator annotation processor creates
+public class TestGenerateMapper {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        handle = h2Extension.openHandle();
+        handle.registerArgument(new ReversedStringArgumentFactory());
+        handle.registerColumnMapper(new ReversedStringMapper());
+        handle.execute("create table gadget (id int, name varchar, note varchar)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    void testUsesGeneratedMapper() {
+        assertThat(handle.getConfig(RowMappers.class).findFor(Gadget.class)).containsInstanceOf(GadgetGeneratedMapper.class);
+    }
+
+    @Test
+    void testQualifiedProperty() {
+        handle.createUpdate("insert into gadget (id, name, note) values (:id, :name, :note)")
+            .bindPojo(new Gadget(1, "abc", "first"))
+            .execute();
+
+        assertThat(handle.createQuery("select name, note from gadget").map((r, ctx) -> r.getString(1) + " " + r.getString(2)).one())
+            .isEqualTo("cba first");
+        assertThat(handle.createQuery("select id, name from gadget").mapTo(Gadget.class).one())
+            .isEqualTo(new Gadget(1, "abc", null));
+    }
+
+    @Test
+    void testNotMappedProperty() {
+        handle.execute("insert into gadget (id, name, note) values (1, 'cba', 'first')");
+
+        assertThat(handle.createQuery("select * from gadget").mapTo(Gadget.class).one().note()).isNull();
+    }
+
+    @Test
+    void testRegisteredColumnMappers() {
+        handle.execute("insert into gadget (id, name) values (null, 'cba')");
+        handle.registerColumnMapper(int.class, (r, c, ctx) -> r.getObject(c) == null ? -1 : r.getInt(c));
+
+        assertThat(handle.createQuery("select id, name from gadget").mapTo(Gadget.class).one())
+            .isEqualTo(new Gadget(-1, "abc", null));
+    }
+
+    @Test
+    void testBindMethodsBindsAllMethods() {
+        assertThat(handle.createQuery("select :label")
+            .bindMethods(new Gadget(1, "abc", null))
+            .mapTo(String.class)
+            .one())
+            .isEqualTo("abc (1)");
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheStats;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSpecializedMapperCache {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        h2Extension.getJdbi().getConfig(ReflectionMappers.class).setSpecializedMapperCacheEnabled(true);
+        handle = h2Extension.openHandle();
+        handle.execute("insert into something (id, name, integerValue) values (1, 'eric', 10)");
+        handle.execute("insert into something (id, name, integerValue) values (2, 'brian', 20)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertThat(new ReflectionMappers().isSpecializedMapperCacheEnabled()).isFalse();
+        assertThat(new ReflectionMappers().getSpecializedMapperCache()).isNull();
+    }
+
+    @Test
+    void testReuseSpecializedMapper() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(handle.createQuery("select id, name from something order by id")
+                .mapToBean(Something.class)
+                .list())
+                .containsExactly(new Something(1, "eric"), new Something(2, "brian"));
+        }
+
+        assertThat(cacheSize()).isOne();
+    }
+
+    @Test
+    void testSpecializedMapperPerColumnLabels() {
+        assertThat(handle.createQuery("select id, name from something where id = 1")
+            .mapToBean(Something.class)
+            .one().getIntegerValue()).isNull();
+        assertThat(handle.createQuery("select id, name, integerValue from something where id = 1")
+            .mapToBean(Something.class)
+            .one().getIntegerValue()).isEqualTo(10);
+        assertThat(handle.createQuery("select name, id from something where id = 2")
+            .mapToBean(Something.class)
+            .one()).isEqualTo(new Something(2, "brian"));
+
+        assertThat(cacheSize()).isEqualTo(3);
+    }
+
+    @Test
+    void testStrictMatchingIsPartOfTheKey() {
+        assertThat(handle.createQuery("select id, name, 1 as other from something where id = 1")
+            .mapToBean(Something.class)
+            .one()).isEqualTo(new Something(1, "eric"));
+
+        try (Query query = handle.createQuery("select id, name, 1 as other from something where id = 1")) {
+            query.getConfig(ReflectionMappers.class).setStrictMatching(true);
+            assertThatThrownBy(() -> query.mapToBean(Something.class).one())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other");
+        }
+    }
+
+    @Test
+    void testRegisterColumnMapperStartsNewGeneration() {
+        assertThat(handle.createQuery("select id, name from something where id = 1")
+            .mapToBean(Something.class)
+            .one().getName()).isEqualTo("eric");
+
+        handle.registerColumnMapper(String.class, (rs, col, ctx) -> rs.getString(col).toUpperCase());
+
+        assertThat(handle.createQuery("select id, name from something where id = 1")
+            .mapToBean(Something.class)
+            .one().getName()).isEqualTo("ERIC");
+    }
+
+    @Test
+    void testEnumStrategyIsPartOfTheKey() {
+        assertThat(handle.createQuery("select 'GREEN' as color")
+            .mapToBean(ColorBean.class)
+            .one().getColor()).isEqualTo(Color.GREEN);
+
+        try (Query query = handle.createQuery("select 0 as color")) {
+            query.getConfig(Enums.class).setEnumStrategy(EnumStrategy.BY_ORDINAL);
+            assertThat(query.mapToBean(ColorBean.class).one().getColor()).isEqualTo(Color.RED);
+        }
+
+        assertThat(cacheSize()).isEqualTo(2);
+    }
+
+    private int cacheSize() {
+        DefaultJdbiCacheStats stats = handle.getConfig(ReflectionMappers.class).getSpecializedMapperCache().getStats();
+        return stats.cacheSize();
+    }
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    public static class ColorBean {
+        private Color color;
+
+        public Color getColor() {
+            return color;
+        }
+
+        public void setColor(Color color) {
+            this.color = color;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.BooleanColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Column mappers for the primitive types and their boxes that fail if a mapper asks for a boxed value.
+ */
+final class UnboxedOnlyMappers {
+
+    private UnboxedOnlyMappers() {}
+
+    static void register(Handle handle) {
+        IntColumnMapper intMapper = new IntColumnMapper() {
+            @Override
+            public int mapInt(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+                return r.getInt(columnNumber);
+            }
+
+            @Override
+            public Integer map(ResultSet r, int columnNumber, StatementContext ctx) {
+                throw new AssertionError("boxed int");
+            }
+        };
+        LongColumnMapper longMapper = new LongColumnMapper() {
+            @Override
+            public long mapLong(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+                return r.getLong(columnNumber);
+            }
+
+            @Override
+            public Long map(ResultSet r, int columnNumber, StatementContext ctx) {
+                throw new AssertionError("boxed long");
+            }
+        };
+        DoubleColumnMapper doubleMapper = new DoubleColumnMapper() {
+            @Override
+            public double mapDouble(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+                return r.getDouble(columnNumber);
+            }
+
+            @Override
+            public Double map(ResultSet r, int columnNumber, StatementContext ctx) {
+                throw new AssertionError("boxed double");
+            }
+        };
+        BooleanColumnMapper booleanMapper = new BooleanColumnMapper() {
+            @Override
+            public boolean mapBoolean(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+                return r.getBoolean(columnNumber);
+            }
+
+            @Override
+            public Boolean map(ResultSet r, int columnNumber, StatementContext ctx) {
+                throw new AssertionError("boxed boolean");
+            }
+        };
+
+        handle.registerColumnMapper(int.class, intMapper)
+            .registerColumnMapper(Integer.class, intMapper)
+            .registerColumnMapper(long.class, longMapper)
+            .registerColumnMapper(Long.class, longMapper)
+            .registerColumnMapper(double.class, doubleMapper)
+            .registerColumnMapper(Double.class, doubleMapper)
+            .registerColumnMapper(boolean.class, booleanMapper)
+            .registerColumnMapper(Boolean.class, booleanMapper);
+    }
+}
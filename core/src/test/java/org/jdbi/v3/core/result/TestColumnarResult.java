@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.StatementContextAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestColumnarResult {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("CREATE TABLE measurements (id BIGINT, sensor INT, val DOUBLE, valid BOOLEAN, label VARCHAR(20), amount DECIMAL(10, 2))");
+        handle.execute("INSERT INTO measurements VALUES (1, 10, 1.5, true, 'a', 1)");
+        handle.execute("INSERT INTO measurements VALUES (2, null, 2.5, false, 'b', 2)");
+        handle.execute("INSERT INTO measurements VALUES (3, 30, null, null, null, 3)");
+    }
+
+    @Test
+    public void testCollectColumns() {
+        ColumnarResult result = handle.createQuery("SELECT * FROM measurements ORDER BY id").collectColumns();
+
+        assertThat(result.getRowCount()).isEqualTo(3);
+        assertThat(result.getColumnCount()).isEqualTo(6);
+        assertThat(result.getColumnNames()).containsExactly("ID", "SENSOR", "VAL", "VALID", "LABEL", "AMOUNT");
+
+        assertThat(result.getLongs(1)).containsExactly(1L, 2L, 3L);
+        assertThat(result.getInts(result.getColumnNumber("sensor"))).containsExactly(10, 0, 30);
+        assertThat(result.getDoubles(3)).containsExactly(1.5, 2.5, 0.0);
+        assertThat(result.getBooleans(4)).containsExactly(true, false, false);
+        assertThat(result.getStrings(5)).containsExactly("a", "b", null);
+        assertThat(result.getColumnType(6)).isEqualTo(Object.class);
+        assertThat(result.getObjects(6)).hasSize(3);
+    }
+
+    @Test
+    public void testNulls() {
+        ColumnarResult result = handle.createQuery("SELECT * FROM measurements ORDER BY id").collectColumns();
+
+        assertThat(result.isNull(1, 0)).isFalse();
+        assertThat(result.isNull(2, 1)).isTrue();
+        assertThat(result.isNull(2, 2)).isFalse();
+        assertThat(result.isNull(3, 2)).isTrue();
+        assertThat(result.isNull(4, 2)).isTrue();
+        assertThat(result.isNull(5, 2)).isTrue();
+        assertThatThrownBy(() -> result.isNull(1, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testColumnTypes() {
+        ColumnarResult result = handle.createQuery("SELECT id, amount, sensor FROM measurements ORDER BY id")
+            .collectColumns(int.class, double.class);
+
+        assertThat(result.getInts(1)).containsExactly(1, 2, 3);
+        assertThat(result.getDoubles(2)).containsExactly(1.0, 2.0, 3.0);
+        assertThat(result.getColumnType(3)).isEqualTo(int.class);
+        assertThatThrownBy(() -> result.getLongs(1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("stored as int");
+    }
+
+    @Test
+    public void testUnsupportedColumnType() {
+        assertThatThrownBy(() -> handle.createQuery("SELECT id FROM measurements").collectColumns(Integer.class))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handle.createQuery("SELECT id FROM measurements").collectColumns(long.class, long.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testManyRows() {
+        handle.execute("CREATE TABLE numbers AS SELECT x AS n FROM system_range(1, 10000)");
+
+        ColumnarResult result = handle.createQuery("SELECT n FROM numbers ORDER BY n").collectColumns(long.class);
+
+        assertThat(result.getRowCount()).isEqualTo(10_000);
+        assertThat(result.getLongs(1)).hasSize(10_000).startsWith(1L, 2L).endsWith(10_000L);
+    }
+
+    @Test
+    public void testFetchSize() {
+        handle.execute("CREATE TABLE numbers AS SELECT x AS n FROM system_range(1, 1000)");
+
+        for (int fetchSize : new int[] {1, 7, 1000, 5000}) {
+            ColumnarResult result = handle.createQuery("SELECT n, CAST(n AS VARCHAR) AS s FROM numbers ORDER BY n")
+                .setFetchSize(fetchSize)
+                .collectColumns(long.class);
+
+            assertThat(result.getRowCount()).isEqualTo(1000);
+            assertThat(result.getLongs(1)).hasSize(1000).startsWith(1L, 2L).endsWith(1000L);
+            assertThat(result.getStrings(2)).hasSize(1000).startsWith("1", "2").endsWith("1000");
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        ColumnarResult result = handle.createQuery("SELECT * FROM measurements WHERE id < 0").collectColumns();
+
+        assertThat(result.getRowCount()).isZero();
+        assertThat(result.getLongs(1)).isEmpty();
+    }
+
+    @Test
+    public void testBitColumnTypes() throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("flag");
+        when(metaData.getColumnLabel(2)).thenReturn("bits");
+        when(metaData.getColumnType(1)).thenReturn(Types.BIT);
+        when(metaData.getColumnType(2)).thenReturn(Types.BIT);
+        when(metaData.getPrecision(1)).thenReturn(1);
+        when(metaData.getPrecision(2)).thenReturn(8);
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+
+        ColumnarResult result = ColumnarResult.read(resultSet);
+
+        assertThat(result.getColumnType(1)).isEqualTo(boolean.class);
+        assertThat(result.getColumnType(2)).isEqualTo(Object.class);
+    }
+
+    @Test
+    public void testNoResults() {
+        ResultBearing resultBearing = ResultBearing.of(() -> null, StatementContextAccess.createContext());
+
+        assertThatThrownBy(resultBearing::collectColumns)
+            .isInstanceOf(NoResultsException.class)
+            .hasMessageContaining("no results");
+    }
+}
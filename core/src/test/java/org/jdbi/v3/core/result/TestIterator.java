@@ -15,6 +15,7 @@ package org.jdbi.v3.core.result;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
@@ -263,4 +264,68 @@ public class TestIterator {
             assertThat(h.isClosed()).isFalse();
         }
     }
+
+    @Test
+    public void testConfinementCheck() throws Exception {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+        h.getConfig(ResultProducers.class).setCheckIteratorConfinement(true);
+
+        AtomicReference<ResultIterator<String>> iterator = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ResultIterator<String> it = h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .map((rs, ctx) -> {
+                // another thread uses the iterator while this row is mapped
+                Thread other = new Thread(() -> {
+                    try {
+                        iterator.get().hasNext();
+                    } catch (Throwable t) {
+                        failure.set(t);
+                    }
+                });
+                other.start();
+                try {
+                    other.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                return rs.getString("name");
+            })
+            .iterator()) {
+            iterator.set(it);
+
+            assertThat(it.next()).isEqualTo("eric");
+        }
+
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("while it is in use by thread");
+    }
+
+    @Test
+    public void testConfinementCheckAllowsHandOver() throws Exception {
+        h.createUpdate("insert into something (id, name) values (1, 'eric')").execute();
+        h.createUpdate("insert into something (id, name) values (2, 'brian')").execute();
+        h.getConfig(ResultProducers.class).setCheckIteratorConfinement(true);
+
+        ResultIterator<String> it = h.createQuery("select name from something order by id")
+            .cleanupHandleRollback()
+            .mapTo(String.class)
+            .iterator();
+
+        assertThat(it.next()).isEqualTo("eric");
+
+        AtomicReference<String> second = new AtomicReference<>();
+        Thread other = new Thread(() -> {
+            second.set(it.next());
+            it.close();
+        });
+        other.start();
+        other.join();
+
+        assertThat(second.get()).isEqualTo("brian");
+        assertThat(it).isExhausted();
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.MapMappers;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestParallelStream {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("CREATE TABLE readings (id INT PRIMARY KEY, name VARCHAR(20), amount DECIMAL(10, 2), taken DATE, recorded TIMESTAMP)");
+        handle.execute("INSERT INTO readings SELECT x, 'name' || x, x / 4.0, DATEADD(DAY, x, DATE '2024-01-01'), DATEADD(MINUTE, x, TIMESTAMP '2024-01-01 10:00:00')"
+            + " FROM system_range(1, 5000)");
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() {
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM readings ORDER BY id").mapTo(Integer.class).parallelStream(100)) {
+            List<Integer> ids = stream.map(id -> id * 2).collect(Collectors.toList());
+
+            assertThat(ids).hasSize(5000).startsWith(2, 4, 6).endsWith(10_000).isSorted();
+        }
+    }
+
+    @Test
+    public void testParallelStreamMatchesSequential() {
+        List<Reading> expected = query().list();
+
+        try (Stream<Reading> stream = query().parallelStream(128)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testUnordered() {
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM readings").mapTo(int.class).parallelStream()) {
+            assertThat(stream.unordered().mapToInt(Integer::intValue).sum()).isEqualTo(5000 * 5001 / 2);
+        }
+    }
+
+    @Test
+    public void testRowsAreMappedFromTheResultSet() {
+        AtomicInteger mapped = new AtomicInteger();
+        RowMapper<Integer> mapper = (rs, ctx) -> {
+            assertThat(rs.getClass().getName()).startsWith("org.h2");
+            mapped.incrementAndGet();
+            return rs.getInt("id");
+        };
+
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM readings").map(mapper).parallelStream(50)) {
+            assertThat(stream.count()).isEqualTo(5000);
+        }
+        assertThat(mapped.get()).isEqualTo(5000);
+    }
+
+    @Test
+    public void testEarlyClose() {
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM readings ORDER BY id").mapTo(Integer.class).parallelStream(10)) {
+            assertThat(stream.limit(15).collect(Collectors.toList())).hasSize(15).startsWith(1, 2, 3);
+        }
+    }
+
+    @Test
+    public void testMapToMap() {
+        List<Map<String, Object>> expected = handle.createQuery("SELECT * FROM readings ORDER BY id").mapToMap().list();
+
+        try (Stream<Map<String, Object>> stream = handle.createQuery("SELECT * FROM readings ORDER BY id").mapToMap().parallelStream(64)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testCompactMapToMap() {
+        handle.getConfig(MapMappers.class).setCompactRows(true);
+        List<Map<String, Object>> expected = handle.createQuery("SELECT * FROM readings ORDER BY id").mapToMap().list();
+
+        try (Stream<Map<String, Object>> stream = handle.createQuery("SELECT * FROM readings ORDER BY id").mapToMap().parallelStream(64)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testLargeObjectsAndArrays() {
+        handle.execute("CREATE TABLE documents (id INT PRIMARY KEY, body CLOB, content BLOB, tags VARCHAR ARRAY)");
+        handle.execute("INSERT INTO documents SELECT x, REPEAT('text', x), CAST(REPEAT('ab', x) AS BINARY VARYING), ARRAY['tag' || x, 'all'] FROM system_range(1, 200)");
+
+        List<String> expected = handle.createQuery("SELECT body FROM documents ORDER BY id").mapTo(String.class).list();
+        try (Stream<String> stream = handle.createQuery("SELECT body FROM documents ORDER BY id").mapTo(String.class).parallelStream(16)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+        }
+
+        try (Stream<Integer> stream = handle.createQuery("SELECT content FROM documents ORDER BY id").mapTo(byte[].class).parallelStream(16).map(b -> b.length)) {
+            assertThat(stream.collect(Collectors.toList())).hasSize(200).startsWith(2, 4, 6);
+        }
+
+        try (Stream<String[]> stream = handle.createQuery("SELECT tags FROM documents ORDER BY id").mapTo(String[].class).parallelStream(16)) {
+            assertThat(stream.collect(Collectors.toList())).hasSize(200).first().isEqualTo(new String[] {"tag1", "all"});
+        }
+    }
+
+    @Test
+    public void testStringsMatchSequential() {
+        String sql = "SELECT recorded, amount / 3.0E0, id % 2 = 0, taken FROM readings ORDER BY id";
+        for (int column = 1; column <= 4; column++) {
+            int index = column;
+            RowMapper<String> mapper = (rs, ctx) -> rs.getString(index);
+            List<String> expected = handle.createQuery(sql).map(mapper).list();
+
+            try (Stream<String> stream = handle.createQuery(sql).map(mapper).parallelStream(64)) {
+                assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+            }
+        }
+
+        List<String> expected = handle.createQuery("SELECT recorded FROM readings ORDER BY id").mapTo(String.class).list();
+        try (Stream<String> stream = handle.createQuery("SELECT recorded FROM readings ORDER BY id").mapTo(String.class).parallelStream(16)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        assertThatThrownBy(() -> handle.createQuery("SELECT id FROM readings").mapTo(Integer.class).parallelStream(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResultIterable<Reading> query() {
+        return handle.createQuery("SELECT * FROM readings ORDER BY id").map(ConstructorMapper.of(Reading.class));
+    }
+
+    public record Reading(int id, String name, BigDecimal amount, LocalDate taken, LocalDateTime recorded) {}
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class TestPrefetchingResultIterator {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("CREATE TABLE items (id INT PRIMARY KEY, name VARCHAR(20))");
+        handle.execute("INSERT INTO items SELECT x, 'item' || x FROM system_range(1, 1000)");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testPrefetchMatchesSequential() {
+        List<String> expected = query().list();
+
+        assertThat(query().prefetch(executor, 16).list()).isEqualTo(expected).hasSize(1000);
+    }
+
+    @Test
+    public void testRowsAreMappedByTheReader() {
+        Thread consumer = Thread.currentThread();
+        RowMapper<Integer> mapper = (rs, ctx) -> {
+            assertThat(Thread.currentThread()).isNotSameAs(consumer);
+            return rs.getInt("id");
+        };
+
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM items ORDER BY id").map(mapper).prefetch(executor, 4).stream()) {
+            assertThat(stream.mapToInt(Integer::intValue).sum()).isEqualTo(1000 * 1001 / 2);
+        }
+    }
+
+    @Test
+    public void testEarlyClose() {
+        try (ResultIterator<String> iterator = query().prefetch(executor, 2).iterator()) {
+            assertThat(iterator.next()).isEqualTo("item1");
+            assertThat(iterator.next()).isEqualTo("item2");
+        }
+
+        assertThat(handle.createQuery("SELECT count(*) FROM items").mapTo(int.class).one()).isEqualTo(1000);
+    }
+
+    @Test
+    public void testStreamLimit() {
+        try (Stream<String> stream = query().prefetch(executor, 8).stream()) {
+            assertThat(stream.limit(3).collect(Collectors.toList())).containsExactly("item1", "item2", "item3");
+        }
+    }
+
+    @Test
+    public void testMappingFailure() {
+        RowMapper<Integer> mapper = (rs, ctx) -> {
+            int id = rs.getInt("id");
+            if (id == 500) {
+                throw new IllegalStateException("bad row");
+            }
+            return id;
+        };
+
+        try (Stream<Integer> stream = handle.createQuery("SELECT id FROM items ORDER BY id").map(mapper).prefetch(executor, 32).stream()) {
+            assertThatThrownBy(stream::count).isInstanceOf(IllegalStateException.class).hasMessage("bad row");
+        }
+    }
+
+    @Test
+    public void testNullRows() {
+        handle.execute("UPDATE items SET name = NULL WHERE id % 2 = 0");
+
+        assertThat(query().prefetch(executor, 4).list()).hasSize(1000).startsWith("item1", null, "item3");
+    }
+
+    @Test
+    public void testEmptyResult() {
+        assertThat(handle.createQuery("SELECT name FROM items WHERE id < 0").mapTo(String.class).prefetch(executor, 4).list()).isEmpty();
+    }
+
+    @Test
+    public void testMapToMap() {
+        List<Map<String, Object>> expected = handle.createQuery("SELECT * FROM items ORDER BY id").mapToMap().list();
+
+        assertThat(handle.createQuery("SELECT * FROM items ORDER BY id").mapToMap().prefetch(executor, 8).list()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testReaderNeverRuns() {
+        Executor discarding = task -> {};
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (ResultIterator<String> iterator = query().prefetch(discarding, 4).iterator()) {
+                assertThat(iterator.getContext()).isNotNull();
+            }
+        });
+    }
+
+    @Test
+    public void testReaderRejected() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("no threads");
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            assertThatThrownBy(() -> query().prefetch(rejecting, 4).list())
+                .isInstanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    public void testInvalidDepth() {
+        assertThatThrownBy(() -> query().prefetch(executor, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResultIterable<String> query() {
+        return handle.createQuery("SELECT name FROM items ORDER BY id").mapTo(String.class);
+    }
+}
@@ -13,13 +13,18 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.util.stream.IntStream;
+
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestResultBearing {
 
@@ -44,6 +49,64 @@ public class TestResultBearing {
             .isEqualTo(10);
     }
 
+    @Test
+    public void testMapToInt() {
+        assertThat(h2Extension.getSharedHandle().createQuery("SELECT * FROM reduce ORDER BY u")
+            .mapToInt()
+            .toArray())
+            .containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testMapToLong() {
+        assertThat(h2Extension.getSharedHandle().createQuery("SELECT u * 10000000000 FROM reduce")
+            .mapToLong()
+            .sum())
+            .isEqualTo(100_000_000_000L);
+    }
+
+    @Test
+    public void testMapToDouble() {
+        assertThat(h2Extension.getSharedHandle().createQuery("SELECT u / 2.0 FROM reduce")
+            .mapToDouble()
+            .sum())
+            .isEqualTo(5.0);
+    }
+
+    @Test
+    public void testMapToIntLimit() {
+        try (IntStream stream = h2Extension.getSharedHandle().createQuery("SELECT * FROM reduce ORDER BY u").mapToInt()) {
+            assertThat(stream.limit(2).toArray()).containsExactly(0, 1);
+        }
+    }
+
+    @Test
+    public void testMapToIntCustomMapper() {
+        ColumnMapper<Integer> doubling = (r, i, ctx) -> r.getInt(i) * 2;
+
+        assertThat(h2Extension.getSharedHandle().createQuery("SELECT * FROM reduce")
+            .registerColumnMapper(int.class, doubling)
+            .mapToInt()
+            .sum())
+            .isEqualTo(20);
+    }
+
+    @Test
+    public void testMapToIntNull() {
+        assertThat(h2Extension.getSharedHandle().createQuery("SELECT null")
+            .mapToInt()
+            .toArray())
+            .containsExactly(0);
+
+        try (IntStream stream = h2Extension.getSharedHandle().createQuery("SELECT null AS foo")
+            .configure(ColumnMappers.class, mappers -> mappers.setCoalesceNullPrimitivesToDefaults(false))
+            .mapToInt()) {
+            assertThatThrownBy(stream::toArray)
+                .isInstanceOf(UnableToProduceResultException.class)
+                .hasMessageContaining("column 1 (FOO)");
+        }
+    }
+
     public static Integer add(Integer u, Integer v) {
         return u + v;
     }
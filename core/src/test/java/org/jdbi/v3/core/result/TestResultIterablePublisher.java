@@ -0,0 +1,310 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestResultIterablePublisher {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private ExecutorService executor;
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        handle = h2Extension.openHandle();
+        for (int i = 1; i <= 10; i++) {
+            handle.execute("insert into something (id, name) values (?, ?)", i, "name" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPublishAll() throws Exception {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        query().publisher(executor).subscribe(subscriber);
+
+        subscriber.completed.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void testBackpressure() {
+        // the direct executor emits synchronously within request(), so the emitted rows can be checked against the demand
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(3);
+        query().publisher(Runnable::run).subscribe(subscriber);
+
+        assertThat(subscriber.requested).hasValue(3);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isNotDone();
+
+        subscriber.request(4);
+        assertThat(subscriber.items).hasSize(7);
+        assertThat(subscriber.completed).isNotDone();
+
+        subscriber.request(3);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(subscriber.completed).isCompleted();
+    }
+
+    @Test
+    void testCancel() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(2);
+        query().publisher(Runnable::run).subscribe(subscriber);
+
+        assertThat(subscriber.items).containsExactly(1, 2);
+
+        subscriber.subscription.cancel();
+        subscriber.request(5);
+
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.completed).isNotDone();
+    }
+
+    @Test
+    void testCancelBeforeRequest() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        AtomicBoolean released = new AtomicBoolean();
+        Query query = handle.createQuery("select id from something order by id")
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                    executions.incrementAndGet();
+                }
+            });
+        query.getContext().addCleanable(() -> released.set(true));
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        query.mapTo(Integer.class).publisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+
+        assertThat(subscriber.items).isEmpty();
+        assertThat(executions).hasValue(0);
+        assertThat(released).isTrue();
+    }
+
+    @Test
+    void testRejectingExecutor() {
+        AtomicInteger executions = new AtomicInteger();
+        AtomicBoolean released = new AtomicBoolean();
+        Query query = handle.createQuery("select id from something order by id")
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                    executions.incrementAndGet();
+                }
+            });
+        query.getContext().addCleanable(() -> released.set(true));
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("executor is shut down");
+        };
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(5);
+        query.mapTo(Integer.class).publisher(rejecting).subscribe(subscriber);
+
+        assertThat(subscriber.completed).isCompletedExceptionally();
+        assertThat(subscriber.completed).failsWithin(Duration.ZERO)
+            .withThrowableThat()
+            .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(executions).hasValue(0);
+        assertThat(released).isTrue();
+
+        // the subscription is done, later signals are ignored
+        subscriber.request(5);
+        subscriber.subscription.cancel();
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @Test
+    void testExecutorRejectsLaterChunk() {
+        AtomicInteger tasks = new AtomicInteger();
+        // runs the first task, rejects all later tasks
+        Executor rejectingLater = task -> {
+            if (tasks.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("executor is shut down");
+            }
+            task.run();
+        };
+        AtomicBoolean released = new AtomicBoolean();
+        Query query = handle.createQuery("select id from something order by id");
+        query.getContext().addCleanable(() -> released.set(true));
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(2);
+        query.mapTo(Integer.class).publisher(rejectingLater).subscribe(subscriber);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(released).isFalse();
+
+        subscriber.request(2);
+
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.completed).isCompletedExceptionally();
+        assertThat(released).isTrue();
+    }
+
+    @Test
+    void testFailingSubscriberIsCancelled() throws Exception {
+        CompletableFuture<Throwable> thrown = new CompletableFuture<>();
+        Executor reporting = task -> executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                thrown.complete(t);
+            }
+        });
+        AtomicBoolean released = new AtomicBoolean();
+        Query query = handle.createQuery("select id from something order by id");
+        query.getContext().addCleanable(() -> released.set(true));
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                throw new IllegalStateException("subscriber failed");
+            }
+        };
+        query.mapTo(Integer.class).publisher(reporting).subscribe(subscriber);
+
+        assertThat(thrown.get(10, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class).hasMessage("subscriber failed");
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.completed).isNotDone();
+        assertThat(released).isTrue();
+    }
+
+    @Test
+    void testChunksFollowFetchSize() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        };
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        handle.createQuery("select id from something order by id")
+            .setFetchSize(3)
+            .mapTo(Integer.class)
+            .publisher(countingExecutor)
+            .subscribe(subscriber);
+
+        subscriber.completed.get(10, TimeUnit.SECONDS);
+        assertThat(subscriber.items).hasSize(10);
+        assertThat(tasks.get()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void testSingleSubscriber() throws Exception {
+        Flow.Publisher<Integer> publisher = query().publisher(executor);
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        first.completed.get(10, TimeUnit.SECONDS);
+        assertThat(second.completed).failsWithin(Duration.ZERO)
+            .withThrowableThat()
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testInvalidRequest() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        query().publisher(executor).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.completed).failsWithin(Duration.ofSeconds(10))
+            .withThrowableThat()
+            .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ResultIterable<Integer> query() {
+        return handle.createQuery("select id from something order by id").mapTo(Integer.class);
+    }
+
+    private static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> completed = new CompletableFuture<>();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile Flow.Subscription subscription;
+
+        TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                request(initialRequest);
+            }
+        }
+
+        void request(long n) {
+            requested.addAndGet(n);
+            subscription.request(n);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(null);
+        }
+    }
+}
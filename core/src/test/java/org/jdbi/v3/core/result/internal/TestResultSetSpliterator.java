@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementContextAccess;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TestResultSetSpliterator {
+
+    private static final int ROWS = 2000;
+    private static final int BATCH_SIZE = 10;
+    private static final int PARALLELISM = 2;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    @Test
+    void testReadAheadIsBounded() throws Exception {
+        AtomicInteger read = new AtomicInteger();
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger maxReadAhead = new AtomicInteger();
+
+        long sum = withSpliterator(read, () -> maxReadAhead.accumulateAndGet(read.get() - processed.get(), Math::max),
+            spliterator -> StreamSupport.stream(spliterator, true)
+                .map(id -> {
+                    // processing is slower than reading the result set
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(20));
+                    processed.incrementAndGet();
+                    return id;
+                })
+                .mapToLong(Integer::longValue)
+                .sum());
+
+        assertThat(sum).isEqualTo((long) ROWS * (ROWS + 1) / 2);
+        // two queued batches per worker, the batches that are processed by the workers and the spare worker that the
+        // pool may start while the reading thread waits, and the batch that is being read
+        assertThat(maxReadAhead.get()).isLessThanOrEqualTo(BATCH_SIZE * (3 * PARALLELISM + 2));
+    }
+
+    @Test
+    void testSkippedBatchesEndTheReadAhead() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            AtomicInteger read = new AtomicInteger();
+
+            long first = withSpliterator(read, () -> {},
+                spliterator -> StreamSupport.stream(spliterator, true)
+                    .filter(id -> id > 100)
+                    .findFirst()
+                    .orElseThrow());
+
+            assertThat(first).isEqualTo(101);
+        });
+    }
+
+    private <R> R withSpliterator(AtomicInteger read, Runnable onRead, Function<ResultSetSpliterator<Integer>, R> stream) throws Exception {
+        Handle handle = h2Extension.getSharedHandle();
+        StatementContext context = StatementContextAccess.createContext();
+        RowMapper<Integer> mapper = (rs, ctx) -> rs.getInt(1);
+
+        try (Statement statement = handle.getConnection().createStatement()) {
+            ResultSet resultSet = countingNext(statement.executeQuery("SELECT x FROM system_range(1, " + ROWS + ")"), read, onRead);
+            ResultSetSpliterator<Integer> spliterator = new ResultSetSpliterator<>(() -> resultSet, mapper, context, BATCH_SIZE);
+
+            ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+            try {
+                return pool.submit(() -> stream.apply(spliterator)).get();
+            } finally {
+                spliterator.close();
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static ResultSet countingNext(ResultSet resultSet, AtomicInteger read, Runnable onRead) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+            try {
+                Object result = method.invoke(resultSet, args);
+                if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                    read.incrementAndGet();
+                    onRead.run();
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
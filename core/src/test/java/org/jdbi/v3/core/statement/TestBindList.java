@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.statement;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import static java.util.Collections.emptyList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.jdbi.v3.core.statement.EmptyHandling.NULL_KEYWORD;
 
@@ -127,6 +129,63 @@ public class TestBindList {
         }
     }
 
+    @Test
+    public void testBindPaddedList() {
+        handle.execute("insert into thing (id, foo) values (?, ?)", 3, "foo3");
+
+        try (Query query = handle.createQuery("select id, foo from thing where id in (<ids>) order by id")) {
+            List<Thing> list = query.bindPaddedList("ids", List.of(1, 3, 5))
+                    .mapTo(Thing.class)
+                    .list();
+
+            assertThat(list).extracting(Thing::getId).containsExactly(1, 3);
+            assertThat(query.getContext().getRenderedSql()).endsWith("in (:__ids_0,:__ids_1,:__ids_2,:__ids_3) order by id");
+        }
+    }
+
+    @Test
+    public void testBindPaddedListEmpty() {
+        String out = handle.createQuery("select (<empty>)")
+                .bindPaddedList(NULL_KEYWORD, "empty", emptyList())
+                .mapTo(String.class)
+                .one();
+
+        assertThat(out).isNull();
+    }
+
+    @Test
+    public void testPaddedSize() {
+        assertThat(IntStream.of(0, 1, 2, 3, 4, 5, 8, 9, 512, 513, 999, 1000, 1001, 1025).map(size -> SqlStatement.paddedSize(size, 1000)))
+                .containsExactly(0, 1, 2, 4, 4, 8, 8, 16, 512, 1000, 1000, 1000, 1001, 1025);
+        assertThat(SqlStatement.paddedSize(Integer.MAX_VALUE, Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(SqlStatement.paddedSize(Integer.MAX_VALUE - 1, Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testBindPaddedListMaxSize() {
+        handle.getConfig(SqlStatements.class).setMaxPaddedListSize(6);
+
+        try (Query query = handle.createQuery("select id, foo from thing where id in (<ids>) order by id")) {
+            query.bindPaddedList("ids", List.of(1, 2, 3, 4, 5)).mapTo(Thing.class).list();
+
+            assertThat(query.getContext().getRenderedSql()).contains(":__ids_5)").doesNotContain(":__ids_6");
+        }
+
+        try (Query query = handle.createQuery("select id, foo from thing where id in (<ids>) order by id")) {
+            query.bindPaddedList("ids", List.of(1, 2, 3, 4, 5, 6, 7)).mapTo(Thing.class).list();
+
+            assertThat(query.getContext().getRenderedSql()).contains(":__ids_6)").doesNotContain(":__ids_7");
+        }
+    }
+
+    @Test
+    public void testBindPaddedListEmptyThrows() {
+        try (Query query = handle.createQuery("select id from thing where id in (<ids>)")) {
+            assertThatThrownBy(() -> query.bindPaddedList("ids", List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     public static class Thing {
 
         public int id;
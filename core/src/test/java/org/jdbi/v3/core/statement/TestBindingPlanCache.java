@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.argument.AbstractArgumentFactory;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.Arguments;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestBindingPlanCache {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        h2Extension.getJdbi().getConfig(SqlStatements.class).setBindingPlanCacheEnabled(true);
+        handle = h2Extension.openHandle();
+        handle.execute("insert into something (id, name) values (1, 'eric')");
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertThat(new SqlStatements().isBindingPlanCacheEnabled()).isFalse();
+        assertThat(new SqlStatements().getBindingPlanCache()).isNull();
+    }
+
+    @Test
+    void testReusePlan() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(findName(1)).isEqualTo("eric");
+            assertThat(findName(2)).isEqualTo("brian");
+        }
+
+        assertThat(idPlans().size()).isOne();
+        assertThat(idPlan(1).factory(0)).isNotNull();
+    }
+
+    @Test
+    void testPlanPerValueType() {
+        assertThat(findName(1)).isEqualTo("eric");
+        assertThat(findName(2L)).isEqualTo("brian");
+        assertThat(findName("1")).isEqualTo("eric");
+
+        assertThat(idPlans().size()).isEqualTo(3);
+        assertThat(idPlan(1L)).isNotNull().isNotSameAs(idPlan(1));
+    }
+
+    @Test
+    void testPlansAreBounded() {
+        final Object[] ids = {1, 1L, (short) 1, (byte) 1, "1", BigDecimal.ONE, 1.0d, 1.0f, Optional.of(1)};
+        for (Object id : ids) {
+            assertThat(findName(id)).isEqualTo("eric");
+        }
+
+        assertThat(idPlans().size()).isEqualTo(BindingPlan.MAX_PLANS);
+        assertThat(idPlan(1)).isNull();
+        assertThat(idPlan(Optional.of(1))).isNotNull();
+    }
+
+    @Test
+    void testPositional() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(handle.createQuery("select name from something where id = ? and name = ?")
+                .bind(0, 2)
+                .bind(1, "brian")
+                .mapTo(String.class)
+                .one()).isEqualTo("brian");
+        }
+
+        assertThatThrownBy(() -> handle.createQuery("select name from something where id = ? and name = ?")
+            .bind(0, 2)
+            .mapTo(String.class)
+            .one()).isInstanceOf(UnableToCreateStatementException.class);
+    }
+
+    @Test
+    void testNullsArgumentsAndFinders() {
+        Something something = new Something(3, "keith");
+        for (int i = 0; i < 3; i++) {
+            handle.execute("delete from something where id = 3");
+            handle.createUpdate("insert into something (id, name, integerValue) values (:id, :name, :value)")
+                .bindBean(something)
+                .bind("value", (Integer) null)
+                .execute();
+            assertThat(handle.createQuery("select integerValue from something where id = :id and name = :name")
+                .bind("id", (Argument) (position, statement, ctx) -> statement.setInt(position, 3))
+                .bindByType("name", "keith", String.class)
+                .mapTo(Integer.class)
+                .one()).isNull();
+        }
+    }
+
+    @Test
+    void testRegisterArgumentFactoryStartsNewPlan() {
+        handle.registerArgument(new IdArgumentFactory(0));
+        assertThat(handle.createQuery("select name from something where id = :id")
+            .bind("id", new Id(1))
+            .mapTo(String.class)
+            .one()).isEqualTo("eric");
+
+        handle.registerArgument(new IdArgumentFactory(1));
+
+        assertThat(handle.createQuery("select name from something where id = :id")
+            .bind("id", new Id(1))
+            .mapTo(String.class)
+            .one()).isEqualTo("brian");
+    }
+
+    private String findName(Object id) {
+        return handle.createQuery("select name from something where id = :id")
+            .bind("id", id)
+            .mapTo(String.class)
+            .one();
+    }
+
+    @Test
+    void testPlanDoesNotCaptureStatementConfig() {
+        handle.registerArgument(new OffsetIdArgumentFactory());
+        for (int i = 0; i < 2; i++) {
+            assertThat(handle.createQuery("select name from something where id = :id")
+                .configure(OffsetConfig.class, config -> config.offset = 1)
+                .bind("id", new Id(0))
+                .mapTo(String.class)
+                .one()).isEqualTo("eric");
+
+            assertThat(handle.createQuery("select name from something where id = :id")
+                .configure(OffsetConfig.class, config -> config.offset = 2)
+                .bind("id", new Id(0))
+                .mapTo(String.class)
+                .one()).isEqualTo("brian");
+        }
+
+        // the argument function of the factory captures the statement configuration, it is not part of the plan
+        assertThat(idPlan(new Id(0)).factory(0)).isNull();
+    }
+
+    private BindingPlan.Plans idPlans() {
+        return handle.getConfig(SqlStatements.class).getBindingPlanCache().get(new ParsedParameters(false, List.of("id")));
+    }
+
+    private BindingPlan idPlan(Object id) {
+        return idPlans().find(handle.getConfig(Arguments.class).getResolutionGeneration(), null, new Object[] {id});
+    }
+
+    public record Id(int value) {}
+
+    public static class OffsetConfig implements JdbiConfig<OffsetConfig> {
+        int offset;
+
+        public OffsetConfig() {}
+
+        private OffsetConfig(OffsetConfig that) {
+            this.offset = that.offset;
+        }
+
+        @Override
+        public OffsetConfig createCopy() {
+            return new OffsetConfig(this);
+        }
+    }
+
+    static class OffsetIdArgumentFactory extends AbstractArgumentFactory<Id> {
+
+        OffsetIdArgumentFactory() {
+            super(Types.INTEGER);
+        }
+
+        @Override
+        protected Argument build(Id value, ConfigRegistry config) {
+            final int offset = config.get(OffsetConfig.class).offset;
+            return (position, statement, ctx) -> statement.setInt(position, value.value() + offset);
+        }
+    }
+
+    static class IdArgumentFactory extends AbstractArgumentFactory<Id> {
+
+        private final int offset;
+
+        IdArgumentFactory(int offset) {
+            super(Types.INTEGER);
+            this.offset = offset;
+        }
+
+        @Override
+        protected Argument build(Id value, ConfigRegistry config) {
+            return (position, statement, ctx) -> statement.setInt(position, value.value() + offset);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestBulkLoad {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private static final String INSERT = "insert into something (id, name) values (:id, :name)";
+
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        handle = h2Extension.openHandle();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    void testBulkLoad() {
+        BulkLoadResult result = handle.bulkLoad(INSERT, IntStream.range(0, 2_500).boxed(),
+            (batch, id) -> batch.bind("id", id).bind("name", "name" + id));
+
+        assertThat(result.rows()).isEqualTo(2_500);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.modifiedRows()).isEqualTo(2_500);
+        assertThat(result.rowsPerSecond()).isPositive();
+        assertThat(countRows()).isEqualTo(2_500);
+    }
+
+    @Test
+    void testChunkSize() {
+        BulkLoadResult result = handle.createBulkLoad(INSERT)
+            .setChunkSize(10)
+            .execute(IntStream.range(0, 30).boxed(), (batch, id) -> batch.bind("id", id).bind("name", "name" + id));
+
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.modifiedRows()).isEqualTo(30);
+        assertThat(handle.createQuery("select name from something where id = 29").mapTo(String.class).one()).isEqualTo("name29");
+    }
+
+    @Test
+    void testPrefetchExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BulkLoadResult result = handle.createBulkLoad(INSERT)
+                .setChunkSize(7)
+                .setPrefetchExecutor(executor)
+                .execute(IntStream.range(0, 100).boxed(), (batch, id) -> batch.bind("id", id).bind("name", "name" + id));
+
+            assertThat(result.rows()).isEqualTo(100);
+            assertThat(result.chunks()).isEqualTo(15);
+            assertThat(countRows()).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPrefetchFailure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Stream<Integer> rows = IntStream.range(0, 100).boxed().peek(id -> {
+                if (id == 50) {
+                    throw new IllegalArgumentException("bad row");
+                }
+            });
+
+            assertThatThrownBy(() -> handle.createBulkLoad(INSERT)
+                .setChunkSize(10)
+                .setPrefetchExecutor(executor)
+                .execute(rows, (batch, id) -> batch.bind("id", id).bind("name", "name" + id)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad row");
+
+            assertThat(countRows()).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPrefetchStopsBeforeSourceIsClosed() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicBoolean closed = new AtomicBoolean();
+            AtomicBoolean pulledAfterClose = new AtomicBoolean();
+            Stream<Integer> rows = Stream.iterate(0, id -> id + 1).peek(id -> {
+                if (closed.get()) {
+                    pulledAfterClose.set(true);
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }).onClose(() -> closed.set(true));
+
+            assertThatThrownBy(() -> handle.createBulkLoad(INSERT)
+                .setChunkSize(10)
+                .setPrefetchExecutor(executor)
+                .execute(rows, (batch, id) -> {
+                    // fails while the producer pulls the rows of the second chunk
+                    if (id == 0) {
+                        throw new IllegalStateException("bad binder");
+                    }
+                    batch.bind("id", id).bind("name", "name" + id);
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("bad binder");
+
+            assertThat(closed).isTrue();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+            assertThat(pulledAfterClose).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCommitEachChunk() {
+        assertThatThrownBy(() -> handle.createBulkLoad(INSERT)
+            .setChunkSize(10)
+            .setCommitEachChunk(true)
+            .execute(IntStream.range(0, 25).boxed(), (batch, id) -> batch.bind("id", id == 24 ? 0 : id).bind("name", "name" + id)))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+
+        // the first two chunks are committed, the last chunk with the duplicate key is rolled back
+        assertThat(handle.isInTransaction()).isFalse();
+        assertThat(countRows()).isEqualTo(20);
+    }
+
+    @Test
+    void testCommitEachChunkInTransaction() {
+        handle.useTransaction(h ->
+            assertThatThrownBy(() -> h.createBulkLoad(INSERT)
+                .setCommitEachChunk(true)
+                .execute(Stream.of(1), (batch, id) -> batch.bind("id", id).bind("name", "name")))
+                .isInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void testEmptyStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        BulkLoadResult result = handle.bulkLoad(INSERT, Stream.<Integer>empty().onClose(() -> closed.set(true)),
+            (batch, id) -> batch.bind("id", id).bind("name", "name"));
+
+        assertThat(result.rows()).isZero();
+        assertThat(result.chunks()).isZero();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        assertThatThrownBy(() -> handle.createBulkLoad(INSERT).setChunkSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int countRows() {
+        return handle.createQuery("select count(*) from something").mapTo(int.class).one();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingStatementBuilder {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private final List<PreparedStatement> statements = new ArrayList<>();
+
+    private CachingStatementBuilderFactory factory;
+    private Handle handle;
+
+    @BeforeEach
+    void setUp() {
+        factory = new CachingStatementBuilderFactory(2);
+        h2Extension.getJdbi().setStatementBuilderFactory(factory);
+        h2Extension.getJdbi().addCustomizer(new StatementCustomizer() {
+            @Override
+            public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                statements.add(stmt);
+            }
+        });
+        handle = h2Extension.openHandle();
+        handle.execute("insert into something (id, name) values (1, 'eric')");
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+        statements.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    void testReuseStatement() {
+        StatementCacheStats before = factory.getStats();
+
+        for (int i = 1; i <= 2; i++) {
+            assertThat(handle.createQuery("select name from something where id = :id")
+                .bind("id", i)
+                .mapTo(String.class)
+                .one()).isEqualTo(i == 1 ? "eric" : "brian");
+        }
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(1)).isSameAs(statements.get(0));
+        assertThat(factory.getStats().hits()).isEqualTo(before.hits() + 1);
+        assertThat(factory.getStats().misses()).isEqualTo(before.misses() + 1);
+    }
+
+    @Test
+    void testStatementsInUseAreNotShared() {
+        try (ResultIterator<String> first = handle.createQuery("select name from something order by id").mapTo(String.class).iterator();
+            ResultIterator<String> second = handle.createQuery("select name from something order by id").mapTo(String.class).iterator()) {
+            assertThat(first.next()).isEqualTo("eric");
+            assertThat(second.next()).isEqualTo("eric");
+            assertThat(first.next()).isEqualTo("brian");
+        }
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(1)).isNotSameAs(statements.get(0));
+    }
+
+    @Test
+    void testResetStatementSettings() {
+        assertThat(handle.createQuery("select name from something order by id")
+            .setMaxRows(1)
+            .mapTo(String.class)
+            .list()).containsExactly("eric");
+
+        assertThat(handle.createQuery("select name from something order by id")
+            .mapTo(String.class)
+            .list()).containsExactly("eric", "brian");
+
+        assertThat(statements.get(1)).isSameAs(statements.get(0));
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsed() throws SQLException {
+        StatementCacheStats before = factory.getStats();
+
+        handle.createQuery("select 1").mapTo(int.class).one();
+        handle.createQuery("select 2").mapTo(int.class).one();
+        handle.createQuery("select 3").mapTo(int.class).one();
+
+        // the two inserts from setUp and "select 1" were evicted
+        assertThat(factory.getStats().evictions()).isEqualTo(before.evictions() + 3);
+        assertThat(statements.get(0).isClosed()).isTrue();
+        assertThat(statements.get(1).isClosed()).isFalse();
+        assertThat(statements.get(2).isClosed()).isFalse();
+    }
+
+    @Test
+    void testCloseHandleClosesStatements() throws SQLException {
+        handle.createQuery("select 1").mapTo(int.class).one();
+        assertThat(statements.get(0).isClosed()).isFalse();
+
+        handle.close();
+
+        assertThat(statements.get(0).isClosed()).isTrue();
+    }
+
+    @Test
+    void testGeneratedKeysUseSeparateStatement() {
+        handle.createUpdate("insert into something (id, name) values (:id, 'keith')")
+            .bind("id", 3)
+            .execute();
+        handle.createUpdate("insert into something (id, name) values (:id, 'keith')")
+            .bind("id", 4)
+            .executeAndReturnGeneratedKeys("id")
+            .mapTo(int.class)
+            .one();
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(1)).isNotSameAs(statements.get(0));
+    }
+}
@@ -35,6 +35,17 @@ public class TestParsedParameters {
         assertThat(parameters.getParameterNames()).containsExactly("a", "b", "c");
     }
 
+    @Test
+    public void testNamedParameterSlots() {
+        final ParsedParameters parameters = ParsedParameters.named(Arrays.asList("a", "b", "a", "c", "a"));
+
+        assertThat(parameters.getSlots("a")).containsExactly(0, 2, 4);
+        assertThat(parameters.getSlots("b")).containsExactly(1);
+        assertThat(parameters.getSlots("c")).containsExactly(3);
+        assertThat(parameters.getSlots("d")).isNull();
+        assertThat(ParsedParameters.positional(2).getSlots("?")).isNull();
+    }
+
     @Test
     public void testFactoryNamedAndPositionalParametersMix() {
         assertThatThrownBy(() -> ParsedParameters.named(Arrays.asList("a", "b", "?")))
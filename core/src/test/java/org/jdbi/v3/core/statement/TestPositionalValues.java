@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TestPositionalValues {
+
+    @Test
+    public void testSetAndGet() {
+        PositionalValues values = new PositionalValues();
+        values.set(2, "c");
+        values.set(0, null);
+        values.set(17, "r");
+
+        assertThat(values.isSet(0)).isTrue();
+        assertThat(values.isSet(1)).isFalse();
+        assertThat(values.isSet(-1)).isFalse();
+        assertThat(values.get(0)).isNull();
+        assertThat(values.get(2)).isEqualTo("c");
+        assertThat(values.get(100)).isNull();
+        assertThat(values).hasSize(3)
+            .containsKeys(0, 2, 17)
+            .doesNotContainKey(1);
+    }
+
+    @Test
+    public void testReplaceAndRemove() {
+        PositionalValues values = new PositionalValues();
+        assertThat(values.put(1, "a")).isNull();
+        assertThat(values.put(1, "b")).isEqualTo("a");
+        assertThat(values).hasSize(1);
+
+        assertThat(values.remove(1)).isEqualTo("b");
+        assertThat(values.remove(1)).isNull();
+        assertThat(values).isEmpty();
+    }
+
+    @Test
+    public void testEntriesInPositionOrder() {
+        PositionalValues values = new PositionalValues();
+        values.set(9, "j");
+        values.set(3, "d");
+        values.set(0, "a");
+
+        assertThat(values).containsExactly(entry(0, "a"), entry(3, "d"), entry(9, "j"));
+        assertThat(values).isEqualTo(Map.of(0, "a", 3, "d", 9, "j"));
+
+        Iterator<Map.Entry<Integer, Object>> iterator = values.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertThat(values).containsExactly(entry(3, "d"), entry(9, "j"));
+
+        values.clear();
+        assertThat(values).isEmpty();
+        assertThat(values.entrySet().iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    public void testNegativePosition() {
+        PositionalValues values = new PositionalValues();
+        assertThatThrownBy(() -> values.set(-1, "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
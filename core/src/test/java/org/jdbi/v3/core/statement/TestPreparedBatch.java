@@ -18,6 +18,7 @@ import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -86,6 +88,120 @@ public class TestPreparedBatch {
         assertThat(rowCount).isEqualTo(count);
     }
 
+    @Test
+    public void testAutoFlush() {
+        Handle h = h2Extension.getSharedHandle();
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .autoFlush(10);
+
+        int count = 25;
+        for (int i = 0; i < count; ++i) {
+            b.bind("id", i).bind("name", "A Name").add();
+            // rows are executed in batches of 10 while they are added
+            int expectedRows = (i + 1) / 10 * 10;
+            assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(expectedRows);
+        }
+        assertThat(b.size()).isEqualTo(count);
+
+        int[] modCount = b.execute();
+
+        assertThat(modCount).hasSize(count).containsOnly(1);
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(count);
+        assertThat(b.getContext().isClean()).isTrue();
+    }
+
+    @Test
+    public void testAutoFlushUpdateCountConsumer() {
+        Handle h = h2Extension.getSharedHandle();
+        List<Integer> counts = new ArrayList<>();
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .autoFlush(10, counts::add);
+
+        for (int i = 0; i < 25; ++i) {
+            b.bind("id", i).bind("name", "A Name").add();
+        }
+        assertThat(counts).hasSize(20);
+
+        // the update counts are passed to the consumer and not kept
+        assertThat(b.execute()).isEmpty();
+        assertThat(counts).hasSize(25).containsOnly(1);
+    }
+
+    @Test
+    public void testAutoFlushPositional() {
+        Handle h = h2Extension.getSharedHandle();
+
+        int[] modCount = h.prepareBatch("insert into something (id, name) values (?, ?)")
+            .autoFlush(2)
+            .add(1, "Eric")
+            .add(2, "Brian")
+            .add(3, "Keith")
+            .execute();
+
+        assertThat(modCount).containsExactly(1, 1, 1);
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Eric", "Brian", "Keith");
+    }
+
+    @Test
+    public void testAutoFlushGeneratedKeys() {
+        Handle h = h2Extension.getSharedHandle();
+        h.execute("create table generated_keys (id identity primary key, name varchar(50))");
+
+        List<Long> keys = new ArrayList<>();
+        PreparedBatch b = h.prepareBatch("insert into generated_keys (name) values (:name)")
+            .autoFlush(2, (rs, ctx) -> rs.getLong(1), keys::add, "id");
+        for (String name : List.of("Eric", "Brian", "Keith")) {
+            b.bind("name", name).add();
+        }
+        assertThat(keys).hasSize(2);
+
+        assertThat(b.execute()).containsExactly(1, 1, 1);
+        assertThat(keys).containsExactlyElementsOf(h.createQuery("select id from generated_keys order by id").mapTo(Long.class).list());
+    }
+
+    @Test
+    public void testAutoFlushEmpty() {
+        Handle h = h2Extension.getSharedHandle();
+
+        final PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)").autoFlush(10);
+        assertThat(batch.execute()).isEmpty();
+        assertThat(batch.getContext().isClean()).isTrue();
+    }
+
+    @Test
+    public void testAutoFlushMultipleExecute() {
+        Handle h = h2Extension.getSharedHandle();
+
+        final PreparedBatch b = h.prepareBatch("insert into something (id, name) values (?, ?)").autoFlush(2);
+
+        b.add(1, "Eric").add(2, "Brian").add(3, "Keith");
+        assertThat(b.execute()).containsExactly(1, 1, 1);
+
+        // the streamed rows are reset after execute()
+        assertThat(b.size()).isZero();
+
+        b.add(4, "Alan").add(5, "Cora");
+        assertThat(b.size()).isEqualTo(2);
+        assertThat(b.execute()).containsExactly(1, 1);
+        assertThat(b.getContext().isClean()).isTrue();
+
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("Eric", "Brian", "Keith", "Alan", "Cora");
+    }
+
+    @Test
+    public void testAutoFlushAfterAdd() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")) {
+            b.bind("id", 1).bind("name", "Eric").add();
+            assertThatThrownBy(() -> b.autoFlush(10)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Test
     public void testBindProperties() {
         Handle h = h2Extension.getSharedHandle();
@@ -0,0 +1,548 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import org.jdbi.v3.core.annotation.JdbiProperty;
+import org.jdbi.v3.core.argument.internal.GeneratedPropertyArguments;
+import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifier;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.lang.String.format;
+
+/**
+ * Creates a row mapper and an argument finder for each record or bean annotated with
+ * {@link org.jdbi.v3.core.mapper.reflect.GenerateMapper}. The generated code reads and binds properties with direct
+ * method calls. Column values are read with the registered column mappers, which are looked up once per result set.
+ * Properties with a {@link Qualifier qualifying annotation} look up their annotated elements once, when the generated
+ * class is initialized.
+ */
+@SupportedAnnotationTypes(GenerateMapperProcessor.GENERATE_MAPPER_ANNOTATION_NAME)
+public class GenerateMapperProcessor extends AbstractProcessor {
+
+    public static final String GENERATE_MAPPER_ANNOTATION_NAME = "org.jdbi.v3.core.mapper.reflect.GenerateMapper";
+
+    private static final TypeName QUALIFIED_TYPE = ParameterizedTypeName.get(ClassName.get(QualifiedType.class), WildcardTypeName.subtypeOf(Object.class));
+
+    private Elements elementUtils;
+    private Types typeUtils;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elementUtils = processingEnv.getElementUtils();
+        this.typeUtils = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement generateMapperAnnotation = elementUtils.getTypeElement(GENERATE_MAPPER_ANNOTATION_NAME);
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(generateMapperAnnotation)) {
+            final TypeElement typeElement = (TypeElement) element;
+            if (element.getKind() == ElementKind.RECORD) {
+                generateSourceFiles(typeElement, recordProperties(typeElement));
+            } else if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                checkBeanConstructor(typeElement);
+                generateSourceFiles(typeElement, beanProperties(typeElement));
+            } else {
+                throw new IllegalStateException("@GenerateMapper annotation on unsupported element: " + element);
+            }
+        }
+
+        return false;
+    }
+
+    private void generateSourceFiles(TypeElement typeElement, List<Property> properties) {
+        messager.printMessage(Kind.NOTE, format("[jdbi] generating mapper for %s", typeElement));
+
+        try {
+            final MapperFile mapperFile = new MapperFile(typeElement, properties);
+            writeFile(typeElement, GeneratedMappers.ROW_MAPPER_SUFFIX, mapperFile.rowMapper());
+            writeFile(typeElement, GeneratedMappers.ARGUMENTS_SUFFIX, mapperFile.arguments());
+        } catch (RuntimeException e) {
+            messager.printMessage(Kind.ERROR, format("@GenerateMapper processor threw an exception for '%s': %s", typeElement, e));
+            throw e;
+        }
+    }
+
+    private List<Property> recordProperties(TypeElement typeElement) {
+        final Map<String, VariableElement> fields = ElementFilter.fieldsIn(typeElement.getEnclosedElements()).stream()
+                .collect(Collectors.toMap(f -> f.getSimpleName().toString(), f -> f));
+        final List<? extends RecordComponentElement> components = typeElement.getRecordComponents();
+        final ExecutableElement canonicalConstructor = canonicalConstructor(typeElement, components);
+        final TypeName erasedType = TypeName.get(typeUtils.erasure(typeElement.asType()));
+
+        final List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            final RecordComponentElement component = components.get(i);
+            final String name = component.getSimpleName().toString();
+            final ExecutableElement accessor = component.getAccessor();
+            final List<Element> annotated = Arrays.asList(component, accessor, fields.get(name));
+            final Optional<JdbiProperty> jdbiProperty = jdbiProperty(accessor, fields.get(name));
+
+            // like the constructor mapper, the qualifiers of the constructor parameter are used for mapping, and
+            // like the method arguments, the qualifiers of the accessor are used for binding
+            properties.add(new Property(name,
+                    columnName(name, annotated),
+                    component.asType(),
+                    component.asType(),
+                    accessor.getSimpleName().toString(),
+                    null,
+                    !isNullable(component.asType(), annotated),
+                    jdbiProperty.map(JdbiProperty::map).orElse(true),
+                    jdbiProperty.map(JdbiProperty::bind).orElse(true),
+                    hasQualifiers(canonicalConstructor.getParameters().get(i))
+                            ? List.of(CodeBlock.of("$T.recordParameter($T.class, $L)", GeneratedMappers.class, erasedType, i))
+                            : List.of(),
+                    hasQualifiers(accessor)
+                            ? List.of(methodLookup(erasedType, accessor))
+                            : List.of()));
+        }
+        return properties;
+    }
+
+    private ExecutableElement canonicalConstructor(TypeElement typeElement, List<? extends RecordComponentElement> components) {
+        return ElementFilter.constructorsIn(typeElement.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getParameters().size() == components.size())
+                .filter(constructor -> {
+                    for (int i = 0; i < components.size(); i++) {
+                        if (!typeUtils.isSameType(typeUtils.erasure(constructor.getParameters().get(i).asType()), typeUtils.erasure(components.get(i).asType()))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                })
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(format("@GenerateMapper record %s has no canonical constructor", typeElement)));
+    }
+
+    private List<Property> beanProperties(TypeElement typeElement) {
+        final Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        final Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(typeElement))) {
+            if (!isAccessible(typeElement, method)) {
+                continue;
+            }
+            final String methodName = method.getSimpleName().toString();
+            final int parameters = method.getParameters().size();
+            final TypeKind returnKind = method.getReturnType().getKind();
+
+            if (parameters == 0 && methodName.length() > 3 && methodName.startsWith("get") && returnKind != TypeKind.VOID) {
+                getters.putIfAbsent(propertyName(methodName.substring(3)), method);
+            } else if (parameters == 0 && methodName.length() > 2 && methodName.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+                getters.putIfAbsent(propertyName(methodName.substring(2)), method);
+            } else if (parameters == 1 && methodName.length() > 3 && methodName.startsWith("set")) {
+                setters.putIfAbsent(propertyName(methodName.substring(3)), method);
+            }
+        }
+
+        final Map<String, VariableElement> fields = ElementFilter.fieldsIn(elementUtils.getAllMembers(typeElement)).stream()
+                .collect(Collectors.toMap(f -> f.getSimpleName().toString(), f -> f, (a, b) -> a));
+
+        final List<String> names = new ArrayList<>(setters.keySet());
+        getters.keySet().stream().filter(name -> !setters.containsKey(name)).forEach(names::add);
+
+        final TypeName erasedType = TypeName.get(typeUtils.erasure(typeElement.asType()));
+        final List<Property> properties = new ArrayList<>();
+        for (String name : names) {
+            final ExecutableElement getter = getters.get(name);
+            final ExecutableElement setter = setters.get(name);
+            final List<Element> annotated = new ArrayList<>();
+            if (setter != null) {
+                annotated.add(setter);
+                annotated.add(setter.getParameters().get(0));
+            }
+            annotated.add(getter);
+            annotated.add(fields.get(name));
+            final Optional<JdbiProperty> jdbiProperty = jdbiProperty(setter, getter);
+
+            // like the bean mapper, the qualifiers of the getter, the setter and its parameter are used
+            final List<CodeBlock> qualified = new ArrayList<>();
+            if (hasQualifiers(getter, setter, setter == null ? null : setter.getParameters().get(0))) {
+                if (getter != null) {
+                    qualified.add(methodLookup(erasedType, getter));
+                }
+                if (setter != null) {
+                    qualified.add(methodLookup(erasedType, setter));
+                    qualified.add(CodeBlock.of("$L.getParameters()[0]", methodLookup(erasedType, setter)));
+                }
+            }
+
+            properties.add(new Property(name,
+                    columnName(name, annotated),
+                    setter == null ? null : setter.getParameters().get(0).asType(),
+                    getter == null ? null : getter.getReturnType(),
+                    getter == null ? null : getter.getSimpleName().toString(),
+                    setter == null ? null : setter.getSimpleName().toString(),
+                    false,
+                    jdbiProperty.map(JdbiProperty::map).orElse(true),
+                    jdbiProperty.map(JdbiProperty::bind).orElse(true),
+                    qualified,
+                    qualified));
+        }
+        return properties;
+    }
+
+    private CodeBlock methodLookup(TypeName erasedType, ExecutableElement method) {
+        final CodeBlock.Builder lookup = CodeBlock.builder()
+                .add("$T.method($T.class, $S", GeneratedMappers.class, erasedType, method.getSimpleName());
+        for (VariableElement parameter : method.getParameters()) {
+            lookup.add(", $T.class", TypeName.get(typeUtils.erasure(parameter.asType())));
+        }
+        return lookup.add(")").build();
+    }
+
+    private void checkBeanConstructor(TypeElement typeElement) {
+        ElementFilter.constructorsIn(typeElement.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getParameters().isEmpty())
+                .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(format("@GenerateMapper bean %s has no accessible no-argument constructor", typeElement)));
+    }
+
+    private boolean isAccessible(TypeElement typeElement, ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        final TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        if (declaringType.getQualifiedName().contentEquals(Object.class.getName())) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || elementUtils.getPackageOf(declaringType).equals(elementUtils.getPackageOf(typeElement));
+    }
+
+    private static String propertyName(String name) {
+        // same rules as java.beans.Introspector#decapitalize
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+    }
+
+    private static String columnName(String name, List<Element> elements) {
+        return elements.stream()
+                .filter(e -> e != null && e.getAnnotation(ColumnName.class) != null)
+                .map(e -> e.getAnnotation(ColumnName.class).value())
+                .findFirst()
+                .orElse(name);
+    }
+
+    private static Optional<JdbiProperty> jdbiProperty(Element... elements) {
+        return Arrays.stream(elements)
+                .filter(Objects::nonNull)
+                .map(e -> e.getAnnotation(JdbiProperty.class))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    private static boolean hasQualifiers(Element... elements) {
+        return Arrays.stream(elements)
+                .filter(Objects::nonNull)
+                .flatMap(e -> e.getAnnotationMirrors().stream())
+                .anyMatch(annotation -> annotation.getAnnotationType().asElement().getAnnotationMirrors().stream()
+                        .anyMatch(meta -> ((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().contentEquals(Qualifier.class.getName())));
+    }
+
+    private static boolean isNullable(TypeMirror type, List<Element> elements) {
+        // like the constructor mapper, any annotation named "Nullable" marks a parameter as optional
+        return type.getAnnotationMirrors().stream().anyMatch(GenerateMapperProcessor::isNullableAnnotation)
+                || elements.stream()
+                        .filter(e -> e != null)
+                        .flatMap(e -> e.getAnnotationMirrors().stream())
+                        .anyMatch(GenerateMapperProcessor::isNullableAnnotation);
+    }
+
+    private static boolean isNullableAnnotation(AnnotationMirror annotation) {
+        return annotation.getAnnotationType().asElement().getSimpleName().contentEquals("Nullable");
+    }
+
+    private void writeFile(TypeElement typeElement, String suffix, TypeSpec typeSpec) {
+        try {
+            final PackageElement typePackage = elementUtils.getPackageOf(typeElement);
+
+            final JavaFileObject file = filer.createSourceFile(format("%s.%s%s", typePackage, typeElement.getSimpleName(), suffix), typeElement);
+            try (Writer out = file.openWriter()) {
+                JavaFile.builder(typePackage.toString(), typeSpec)
+                        .build()
+                        .writeTo(out);
+            }
+        } catch (IOException e) {
+            // see GenerateSqlObjectProcessor, the file may already have been written in an earlier round
+            messager.printMessage(Kind.WARNING, format("Could not write generated class %s%s: %s", typeElement, suffix, e));
+        }
+    }
+
+    /**
+     * A property of the mapped type. The map type is null if the property can not be mapped (a bean property without
+     * a setter), the bind type is null if it can not be bound (a bean property without a getter). The qualified
+     * elements are the expressions that look up the annotated elements of a qualified property, they are empty if the
+     * property is not qualified.
+     */
+    private record Property(String name, String columnName, TypeMirror mapType, TypeMirror bindType,
+                            String getter, String setter, boolean required, boolean mapped, boolean bound,
+                            List<CodeBlock> mapQualifiedElements, List<CodeBlock> bindQualifiedElements) {}
+
+    private final class MapperFile {
+
+        private final TypeElement typeElement;
+        private final TypeName typeName;
+        private final List<Property> properties;
+        private final boolean isRecord;
+
+        private MapperFile(TypeElement typeElement, List<Property> properties) {
+            this.typeElement = typeElement;
+            this.typeName = TypeName.get(typeUtils.erasure(typeElement.asType()));
+            this.properties = properties;
+            this.isRecord = typeElement.getKind() == ElementKind.RECORD;
+        }
+
+        private TypeSpec rowMapper() {
+            // properties that are not mapped get the default value of their type in a record
+            final List<Property> mapped = properties.stream().filter(p -> p.mapType() != null && p.mapped()).toList();
+
+            final TypeSpec.Builder builder = TypeSpec.classBuilder(typeElement.getSimpleName() + GeneratedMappers.ROW_MAPPER_SUFFIX)
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addSuperinterface(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName));
+
+            builder.addField(FieldSpec.builder(String[].class, "COLUMNS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("{$L}", mapped.stream().map(p -> CodeBlock.of("$S", p.columnName())).collect(CodeBlock.joining(", ")))
+                    .build());
+            builder.addField(FieldSpec.builder(boolean[].class, "REQUIRED", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("{$L}", mapped.stream().map(p -> CodeBlock.of("$L", p.required())).collect(CodeBlock.joining(", ")))
+                    .build());
+
+            final CodeBlock.Builder specialize = CodeBlock.builder()
+                    .addStatement("final int[] columns = $T.findColumns(rs, ctx, $T.class, COLUMNS, REQUIRED)", GeneratedMappers.class, typeName);
+
+            // all values are read with the registered column mappers, which also handle nulls of primitive types
+            final List<CodeBlock> values = new ArrayList<>();
+            for (int i = 0; i < mapped.size(); i++) {
+                final Property property = mapped.get(i);
+                builder.addField(FieldSpec.builder(QUALIFIED_TYPE, "TYPE_" + i, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(qualifiedType(property.mapType(), property.mapQualifiedElements()))
+                        .build());
+                specialize.addStatement("final int c$L = columns[$L]", i, i)
+                        .addStatement("final $T m$L = c$L == 0 ? null : $T.findColumnMapper(ctx, TYPE_$L)",
+                                ParameterizedTypeName.get(ClassName.get(ColumnMapper.class), TypeName.get(property.mapType()).box()), i, i, GeneratedMappers.class, i);
+                values.add(CodeBlock.of("m$L.map(r, c$L, c)", i, i));
+            }
+
+            if (isRecord) {
+                final List<CodeBlock> arguments = new ArrayList<>();
+                for (Property property : properties) {
+                    final int i = mapped.indexOf(property);
+                    if (i < 0) {
+                        arguments.add(defaultValue(property.mapType()));
+                    } else {
+                        arguments.add(property.required()
+                                ? values.get(i)
+                                : CodeBlock.of("c$L == 0 ? $L : $L", i, defaultValue(property.mapType()), values.get(i)));
+                    }
+                }
+                specialize.addStatement("return (r, c) -> new $T($L)", typeName, CodeBlock.join(arguments, ", "));
+            } else {
+                specialize.add("return (r, c) -> {\n$>")
+                        .addStatement("final $T bean = new $T()", typeName, typeName);
+                for (int i = 0; i < mapped.size(); i++) {
+                    specialize.beginControlFlow("if (c$L != 0)", i)
+                            .addStatement("bean.$L($L)", mapped.get(i).setter(), values.get(i))
+                            .endControlFlow();
+                }
+                specialize.addStatement("return bean")
+                        .add("$<};\n");
+            }
+
+            builder.addMethod(MethodSpec.methodBuilder("map")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(typeName)
+                    .addParameter(ResultSet.class, "rs")
+                    .addParameter(StatementContext.class, "ctx")
+                    .addException(SQLException.class)
+                    .addStatement("return specialize(rs, ctx).map(rs, ctx)")
+                    .build());
+
+            builder.addMethod(MethodSpec.methodBuilder("specialize")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName))
+                    .addParameter(ResultSet.class, "rs")
+                    .addParameter(StatementContext.class, "ctx")
+                    .addException(SQLException.class)
+                    .addCode(specialize.build())
+                    .build());
+
+            return builder.build();
+        }
+
+        private TypeSpec arguments() {
+            final List<Property> bound = properties.stream().filter(p -> p.bindType() != null && p.bound()).toList();
+
+            final TypeSpec.Builder builder = TypeSpec.classBuilder(typeElement.getSimpleName() + GeneratedMappers.ARGUMENTS_SUFFIX)
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .superclass(GeneratedPropertyArguments.class);
+
+            builder.addField(FieldSpec.builder(ParameterizedTypeName.get(Set.class, String.class), "NAMES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.of($L)", Set.class, bound.stream().map(p -> CodeBlock.of("$S", p.name())).collect(CodeBlock.joining(", ")))
+                    .build());
+
+            final CodeBlock.Builder getValue = CodeBlock.builder()
+                    .addStatement("final $T value = ($T) obj", typeName, typeName)
+                    .beginControlFlow("switch (name)");
+
+            for (int i = 0; i < bound.size(); i++) {
+                final Property property = bound.get(i);
+                builder.addField(FieldSpec.builder(QUALIFIED_TYPE, "TYPE_" + i, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(qualifiedType(property.bindType(), property.bindQualifiedElements()))
+                        .build());
+                getValue.add("case $S:\n$>", property.name())
+                        .addStatement("return $T.of(new $T(TYPE_$L, value.$L()))", Optional.class, TypedValue.class, i, property.getter())
+                        .add("$<");
+            }
+
+            getValue.add("default:\n$>")
+                    .addStatement("return $T.empty()", Optional.class)
+                    .add("$<")
+                    .endControlFlow();
+
+            builder.addMethod(MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(String.class, "prefix")
+                    .addParameter(typeName, "value")
+                    .addParameter(ConfigRegistry.class, "config")
+                    .addStatement("super(prefix, value, config, NAMES)")
+                    .build());
+
+            builder.addMethod(MethodSpec.methodBuilder("getValue")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(ParameterizedTypeName.get(Optional.class, TypedValue.class))
+                    .addParameter(String.class, "name")
+                    .addParameter(StatementContext.class, "ctx")
+                    .addCode(getValue.build())
+                    .build());
+
+            return builder.build();
+        }
+
+        private CodeBlock qualifiedType(TypeMirror type, List<CodeBlock> qualifiedElements) {
+            if (qualifiedElements.isEmpty()) {
+                return CodeBlock.of("$T.of($L)", QualifiedType.class, typeToken(type));
+            }
+            return CodeBlock.of("$T.qualifiedType($L, $L)", GeneratedMappers.class, typeToken(type), CodeBlock.join(qualifiedElements, ", "));
+        }
+
+        private CodeBlock defaultValue(TypeMirror type) {
+            return switch (type.getKind()) {
+                case BOOLEAN -> CodeBlock.of("false");
+                case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, CHAR -> CodeBlock.of("($T) 0", TypeName.get(type));
+                default -> CodeBlock.of("null");
+            };
+        }
+
+        private CodeBlock typeToken(TypeMirror type) {
+            checkType(type);
+            if (type instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty()) {
+                return CodeBlock.of("new $T<$T>() {}.getType()", GenericType.class, TypeName.get(type));
+            }
+            if (type instanceof ArrayType arrayType && TypeName.get(arrayType) instanceof ArrayTypeName arrayTypeName
+                    && arrayTypeName.componentType instanceof ParameterizedTypeName) {
+                return CodeBlock.of("new $T<$T>() {}.getType()", GenericType.class, arrayTypeName);
+            }
+            return CodeBlock.of("$T.class", TypeName.get(type));
+        }
+
+        private void checkType(TypeMirror type) {
+            final TypeKind kind = type.getKind();
+            if (kind == TypeKind.TYPEVAR || kind == TypeKind.WILDCARD || kind == TypeKind.ERROR) {
+                throw new IllegalStateException(format("@GenerateMapper type %s has a property of unsupported type %s", typeElement, type));
+            } else if (kind == TypeKind.DECLARED) {
+                ((DeclaredType) type).getTypeArguments().forEach(this::checkType);
+            } else if (kind == TypeKind.ARRAY) {
+                checkType(((ArrayType) type).getComponentType());
+            }
+        }
+    }
+}
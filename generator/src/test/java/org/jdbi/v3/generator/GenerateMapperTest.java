@@ -0,0 +1,301 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.annotation.Nullable;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.annotation.JdbiProperty;
+import org.jdbi.v3.core.argument.AbstractArgumentFactory;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.GenerateMapper;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifier;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GenerateMapperTest {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table item (id bigint primary key, name varchar, price decimal(10, 2), created_on date)");
+        handle.registerArgument(new ReversedArgumentFactory());
+        handle.registerColumnMapper(QualifiedType.of(String.class).with(Reversed.class), (r, c, ctx) -> reverse(r.getString(c)));
+    }
+
+    @Test
+    public void usesGeneratedMappers() {
+        assertThat(handle.getConfig(RowMappers.class).findFor(Item.class)).containsInstanceOf(ItemGeneratedMapper.class);
+        assertThat(handle.getConfig(RowMappers.class).findFor(Account.class)).containsInstanceOf(AccountGeneratedMapper.class);
+    }
+
+    @Test
+    public void bindAndMapRecord() {
+        final Item first = new Item(1, "first", new BigDecimal("1.50"), LocalDate.of(2024, 1, 1));
+        final Item second = new Item(2, "second", null, LocalDate.of(2024, 2, 1));
+
+        handle.createUpdate("insert into item (id, name, price, created_on) values (:id, :name, :price, :createdOn)")
+            .bindMethods(first)
+            .execute();
+        handle.createUpdate("insert into item (id, name, price, created_on) values (:item.id, :item.name, :item.price, :item.createdOn)")
+            .bindPojo("item", second)
+            .execute();
+
+        assertThat(handle.createQuery("select * from item order by id").mapTo(Item.class).list())
+            .containsExactly(first, second);
+    }
+
+    @Test
+    public void mapRecordWithoutOptionalColumn() {
+        handle.execute("insert into item (id, name, created_on) values (1, 'first', DATE '2024-01-01')");
+
+        assertThat(handle.createQuery("select id, name, created_on from item").mapTo(Item.class).one())
+            .isEqualTo(new Item(1, "first", null, LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    public void missingRequiredColumn() {
+        handle.execute("insert into item (id, name, created_on) values (1, 'first', DATE '2024-01-01')");
+
+        try (Query query = handle.createQuery("select id, price from item")) {
+            assertThatThrownBy(() -> query.mapTo(Item.class).one())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[name, created_on]");
+        }
+    }
+
+    @Test
+    public void bindAndMapBean() {
+        final Account account = new Account();
+        account.setId(1);
+        account.setName("savings");
+        account.setBalance(new BigDecimal("10.25"));
+
+        handle.execute("create table account (id int, account_name varchar, balance decimal(10, 2))");
+        handle.createUpdate("insert into account (id, account_name, balance) values (:id, :name, :balance)")
+            .bindBean(account)
+            .execute();
+
+        final List<Account> accounts = handle.createQuery("select id, account_name from account").mapTo(Account.class).list();
+        assertThat(accounts).hasSize(1);
+        assertThat(accounts.get(0).getId()).isOne();
+        assertThat(accounts.get(0).getName()).isEqualTo("savings");
+        assertThat(accounts.get(0).getBalance()).isNull();
+    }
+
+    @Test
+    public void bindMethodsBindsAllMethodsOfRecord() {
+        final Item item = new Item(1, "first", new BigDecimal("1.50"), LocalDate.of(2024, 1, 1));
+
+        assertThat(handle.createQuery("select :label")
+            .bindMethods(item)
+            .mapTo(String.class)
+            .one())
+            .isEqualTo("first (1)");
+    }
+
+    @Test
+    public void readsStringsWithRegisteredColumnMapper() {
+        handle.execute("insert into item (id, name, created_on) values (1, ' first ', DATE '2024-01-01')");
+        handle.registerColumnMapper(String.class, (r, c, ctx) -> r.getString(c).trim());
+
+        assertThat(handle.createQuery("select id, name, created_on from item").mapTo(Item.class).one().name())
+            .isEqualTo("first");
+    }
+
+    @Test
+    public void honorsQualifiers() {
+        handle.execute("create table note (id int, body varchar, author varchar)");
+
+        handle.createUpdate("insert into note (id, body, author) values (:id, :body, :author)")
+            .bindPojo(new Note(1, "hello", "alice"))
+            .execute();
+        final Memo memo = new Memo();
+        memo.setId(2);
+        memo.setBody("world");
+        handle.createUpdate("insert into note (id, body) values (:id, :body)")
+            .bindBean(memo)
+            .execute();
+
+        assertThat(handle.createQuery("select body from note order by id").mapTo(String.class).list())
+            .containsExactly("olleh", "dlrow");
+        assertThat(handle.createQuery("select id, body from note where id = 1").mapTo(Note.class).one().body())
+            .isEqualTo("hello");
+        assertThat(handle.createQuery("select id, body from note where id = 2").mapTo(Memo.class).one().getBody())
+            .isEqualTo("world");
+    }
+
+    @Test
+    public void honorsJdbiProperty() {
+        handle.execute("create table note (id int, body varchar, author varchar)");
+        handle.execute("create table memo (id int, body varchar, internal varchar)");
+
+        handle.createUpdate("insert into note (id, body, author) values (:id, :body, :author)")
+            .bindPojo(new Note(1, "hello", "alice"))
+            .execute();
+        assertThat(handle.createQuery("select author from note").mapTo(String.class).one())
+            .isEqualTo("alice");
+        assertThat(handle.createQuery("select id, body, author from note").mapTo(Note.class).one())
+            .isEqualTo(new Note(1, "hello", null));
+
+        final Memo memo = new Memo();
+        memo.setId(1);
+        memo.setBody("hello");
+        memo.setInternal("secret");
+        try (Update update = handle.createUpdate("insert into memo (id, body, internal) values (:id, :body, :internal)")) {
+            assertThatThrownBy(() -> update.bindBean(memo).execute())
+                .hasMessageContaining("internal");
+        }
+
+        handle.execute("insert into memo (id, body, internal) values (1, 'olleh', 'secret')");
+        assertThat(handle.createQuery("select * from memo").mapTo(Memo.class).one().getInternal())
+            .isEqualTo("secret");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Qualifier
+    public @interface Reversed {}
+
+    @Reversed
+    public static class ReversedArgumentFactory extends AbstractArgumentFactory<String> {
+        public ReversedArgumentFactory() {
+            super(Types.VARCHAR);
+        }
+
+        @Override
+        protected Argument build(String value, ConfigRegistry config) {
+            return (position, statement, ctx) -> statement.setString(position, reverse(value));
+        }
+    }
+
+    private static String reverse(String value) {
+        return new StringBuilder(value).reverse().toString();
+    }
+
+    @GenerateMapper
+    public record Note(int id, @Reversed String body, @JdbiProperty(map = false) String author) {}
+
+    @GenerateMapper
+    public record Item(long id, String name, @Nullable BigDecimal price, @ColumnName("created_on") LocalDate createdOn) {
+        public String label() {
+            return name + " (" + id + ")";
+        }
+    }
+
+    @GenerateMapper
+    public static class Account {
+        private int id;
+        private String name;
+        private BigDecimal balance;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        @ColumnName("account_name")
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getBalance() {
+            return balance;
+        }
+
+        public void setBalance(BigDecimal balance) {
+            this.balance = balance;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Account account = (Account) o;
+            return id == account.id && Objects.equals(name, account.name) && Objects.equals(balance, account.balance);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name, balance);
+        }
+    }
+
+    @GenerateMapper
+    public static class Memo {
+        private int id;
+        private String body;
+        private String internal;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        @Reversed
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+
+        @JdbiProperty(bind = false)
+        public String getInternal() {
+            return internal;
+        }
+
+        public void setInternal(String internal) {
+            this.internal = internal;
+        }
+    }
+}
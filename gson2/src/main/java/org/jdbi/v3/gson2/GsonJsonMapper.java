@@ -14,6 +14,7 @@
 package org.jdbi.v3.gson2;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import com.google.gson.TypeAdapter;
@@ -25,7 +26,7 @@ import org.jdbi.v3.json.JsonMapper;
 class GsonJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(Type type, ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             @SuppressWarnings("rawtypes")
             private final TypeAdapter adapter = config.get(Gson2Config.class)
                     .getGson().getAdapter(TypeToken.get(type));
@@ -44,6 +45,15 @@ class GsonJsonMapper implements JsonMapper {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            @Override
+            public Object fromJson(Reader in, ConfigRegistry config) {
+                try {
+                    return adapter.fromJson(in);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
         };
     }
 }
@@ -14,6 +14,7 @@
 package org.jdbi.v3.jackson2;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -28,7 +29,7 @@ import org.jdbi.v3.json.JsonMapper;
 class JacksonJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(Type type, ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             private final Jackson2Config jacksonConfig = config.get(Jackson2Config.class);
             private final ObjectMapper mapper = jacksonConfig.getMapper();
             private final JavaType mappedType = mapper.constructType(type);
@@ -54,17 +55,28 @@ class JacksonJsonMapper implements JsonMapper {
 
             @Override
             public Object fromJson(String json, ConfigRegistry config) {
-                final Class<?> view = config.get(Jackson2Config.class).getDeserializationView();
-                final ObjectReader viewReader =
-                          view == null
-                        ? reader
-                        : reader.withView(view);
                 try {
-                    return viewReader.readValue(json);
+                    return viewReader(config).readValue(json);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
+            @Override
+            public Object fromJson(Reader in, ConfigRegistry config) {
+                try {
+                    return viewReader(config).readValue(in);
                 } catch (IOException e) {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            private ObjectReader viewReader(ConfigRegistry config) {
+                final Class<?> view = config.get(Jackson2Config.class).getDeserializationView();
+                return view == null
+                        ? reader
+                        : reader.withView(view);
+            }
         };
     }
 }
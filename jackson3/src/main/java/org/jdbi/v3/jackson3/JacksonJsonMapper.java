@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.jackson3;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -27,7 +28,7 @@ import tools.jackson.databind.ObjectWriter;
 class JacksonJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(final Type type, final ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             private final Jackson3Config jacksonConfig = config.get(Jackson3Config.class);
             private final ObjectMapper mapper = jacksonConfig.getMapper();
             private final JavaType mappedType = mapper.constructType(type);
@@ -53,17 +54,28 @@ class JacksonJsonMapper implements JsonMapper {
 
             @Override
             public Object fromJson(final String json, final ConfigRegistry config) {
-                final Class<?> view = config.get(Jackson3Config.class).getDeserializationView();
-                final ObjectReader viewReader =
-                          view == null
-                        ? reader
-                        : reader.withView(view);
                 try {
-                    return viewReader.readValue(json);
+                    return viewReader(config).readValue(json);
+                } catch (final JacksonException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
+            @Override
+            public Object fromJson(final Reader in, final ConfigRegistry config) {
+                try {
+                    return viewReader(config).readValue(in);
                 } catch (final JacksonException e) {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            private ObjectReader viewReader(final ConfigRegistry config) {
+                final Class<?> view = config.get(Jackson3Config.class).getDeserializationView();
+                return view == null
+                        ? reader
+                        : reader.withView(view);
+            }
         };
     }
 }
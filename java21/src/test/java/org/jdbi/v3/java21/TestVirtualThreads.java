@@ -13,8 +13,10 @@
  */
 package org.jdbi.v3.java21;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.IntStream;
@@ -22,6 +24,7 @@ import java.util.stream.IntStream;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.async.JdbiExecutor;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
 import org.jdbi.v3.sqlobject.customizer.BindMethods;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -99,6 +102,27 @@ class TestVirtualThreads {
         }
     }
 
+    @Test
+    void boundedVirtualThreadExecutor() throws Exception {
+        final var hikariCfg = new HikariConfig();
+        hikariCfg.setMaximumPoolSize(10);
+        hikariCfg.setJdbcUrl(h2Extension.getUrl());
+        try (var pool = new HikariDataSource(hikariCfg)) {
+            final var jdbi = Jdbi.create(pool).installPlugin(new SqlObjectPlugin());
+            final var executor = JdbiExecutor.createVirtual(jdbi, hikariCfg.getMaximumPoolSize(), Duration.ofSeconds(30));
+
+            final var futures = IntStream.range(100, 1100)
+                    .mapToObj(id -> executor.useExtension(UserDao.class, dao -> dao.insertUser(new User(id, "User " + id))).toCompletableFuture())
+                    .toArray(CompletableFuture<?>[]::new);
+            CompletableFuture.allOf(futures).get();
+
+            assertThat(jdbi.onDemand(UserDao.class).countUsers()).isEqualTo(1002);
+            assertThat(executor.getAcquireCount()).isEqualTo(1000);
+            assertThat(executor.getTimeoutCount()).isZero();
+            assertThat(executor.getQueueDepth()).isZero();
+        }
+    }
+
     public record User(int id, String name) {}
 
     interface UserDao extends Transactional<UserDao> {
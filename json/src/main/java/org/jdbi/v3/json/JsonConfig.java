@@ -15,9 +15,11 @@ package org.jdbi.v3.json;
 
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.json.internal.UnimplementedJsonMapper;
+import org.jdbi.v3.meta.Beta;
 
 public class JsonConfig implements JdbiConfig<JsonConfig> {
     private JsonMapper mapper;
+    private boolean streaming;
 
     public JsonConfig() {
         mapper = new UnimplementedJsonMapper();
@@ -25,6 +27,7 @@ public class JsonConfig implements JdbiConfig<JsonConfig> {
 
     private JsonConfig(JsonConfig other) {
         this.mapper = other.mapper;
+        this.streaming = other.streaming;
     }
 
     public JsonConfig setJsonMapper(JsonMapper jsonMapper) {
@@ -36,6 +39,38 @@ public class JsonConfig implements JdbiConfig<JsonConfig> {
         return mapper;
     }
 
+    /**
+     * Map JSON columns from character streams instead of Strings. This is used when the {@link JsonMapper}
+     * implements {@link JsonMapper.StreamingTypedJsonMapper} and no {@link EncodedJson @EncodedJson String} column
+     * mapper is registered. Values are read with {@link java.sql.ResultSet#getCharacterStream}; if the driver does not
+     * support character streams, Strings are used. Bound values are always serialized to Strings. Disabled by default.
+     * <br>
+     * Drivers that return a reader over a value they have already fetched, such as the PostgreSQL driver and H2, save
+     * the String that the JSON mapper would otherwise parse, but not their own copy. Drivers that read large values
+     * lazily, as some do for {@code CLOB} columns, avoid the contiguous copy completely.
+     * The {@code JsonStreamingBenchmark} in the benchmark module compares both modes on H2.
+     *
+     * @param streaming whether to use character streams
+     * @return this
+     * @since 3.52.0
+     */
+    @Beta
+    public JsonConfig setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Returns whether JSON columns are mapped from character streams.
+     *
+     * @return true if character streams are used
+     * @since 3.52.0
+     */
+    @Beta
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     @Override
     public JsonConfig createCopy() {
         return new JsonConfig(this);
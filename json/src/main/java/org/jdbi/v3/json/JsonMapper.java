@@ -13,9 +13,11 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Deserializes JSON to Java objects, and serializes Java objects to JSON.
@@ -43,4 +45,22 @@ public interface JsonMapper {
         String toJson(Object value, ConfigRegistry config);
         Object fromJson(String json, ConfigRegistry config);
     }
+
+    /**
+     * A {@link TypedJsonMapper} that also deserializes from character streams, without holding the JSON document
+     * in a {@link String}. Used to map columns when {@link JsonConfig#setStreaming(boolean)} is enabled.
+     *
+     * @since 3.52.0
+     */
+    @Beta
+    interface StreamingTypedJsonMapper extends TypedJsonMapper {
+        /**
+         * Deserializes a value from JSON text read from a reader.
+         *
+         * @param reader provides the JSON text
+         * @param config the configuration
+         * @return the deserialized value
+         */
+        Object fromJson(Reader reader, ConfigRegistry config);
+    }
 }
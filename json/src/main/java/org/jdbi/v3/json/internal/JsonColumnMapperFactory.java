@@ -26,10 +26,12 @@ import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.json.EncodedJson;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.json.JsonConfig;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
 import org.jdbi.v3.json.JsonMapper.TypedJsonMapper;
 
 /**
- * converts a {@code (@Json) String} fetched by another mapper into a value object
+ * converts a {@code (@Json) String} fetched by another mapper into a value object,
+ * or reads the json text as a character stream if streaming is enabled
  */
 @Json
 public class JsonColumnMapperFactory implements ColumnMapperFactory {
@@ -42,12 +44,18 @@ public class JsonColumnMapperFactory implements ColumnMapperFactory {
     public Optional<ColumnMapper<?>> build(Type type, ConfigRegistry config) {
         ColumnMappers cm = config.get(ColumnMappers.class);
         // look for specialized json support first, revert to simple String mapping if absent
+        Optional<ColumnMapper<String>> encodedJsonMapper = cm.findFor(QualifiedType.of(String.class).with(EncodedJson.class));
         ColumnMapper<String> jsonStringMapper = JdbiOptionals.findFirstPresent(
-                () -> cm.findFor(QualifiedType.of(String.class).with(EncodedJson.class)),
+                () -> encodedJsonMapper,
                 () -> cm.findFor(String.class))
                 .orElseThrow(() -> new UnableToProduceResultException(JSON_NOT_RETRIEVABLE));
 
-        final TypedJsonMapper mapper = config.get(JsonConfig.class).getJsonMapper().forType(type, config);
+        final JsonConfig jsonConfig = config.get(JsonConfig.class);
+        final TypedJsonMapper mapper = jsonConfig.getJsonMapper().forType(type, config);
+        if (jsonConfig.isStreaming() && encodedJsonMapper.isEmpty() && mapper instanceof StreamingTypedJsonMapper streamingMapper) {
+            return Optional.of(new StreamingJsonColumnMapper(streamingMapper, jsonStringMapper, config));
+        }
+
         return Optional.of((rs, i, ctx) ->
             mapper.fromJson(
                     Optional.ofNullable(jsonStringMapper.map(rs, i, ctx))
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.json.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
+
+/**
+ * Deserializes a value from the character stream of a column. Falls back to reading a String if the driver does not
+ * support character streams.
+ */
+class StreamingJsonColumnMapper implements ColumnMapper<Object> {
+    private final StreamingTypedJsonMapper mapper;
+    private final ColumnMapper<String> jsonStringMapper;
+    private final ConfigRegistry config;
+
+    StreamingJsonColumnMapper(StreamingTypedJsonMapper mapper, ColumnMapper<String> jsonStringMapper, ConfigRegistry config) {
+        this.mapper = mapper;
+        this.jsonStringMapper = jsonStringMapper;
+        this.config = config;
+    }
+
+    @Override
+    public Object map(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+        Reader reader;
+        try {
+            reader = r.getCharacterStream(columnNumber);
+        } catch (SQLFeatureNotSupportedException e) {
+            String json = jsonStringMapper.map(r, columnNumber, ctx);
+            return mapper.fromJson(json == null ? "null" : json, config);
+        }
+
+        if (reader == null) {
+            // sql null -> json null
+            return mapper.fromJson("null", config);
+        }
+        try (reader) {
+            return mapper.fromJson(reader, config);
+        } catch (IOException e) {
+            throw new UnableToProduceResultException(e, ctx);
+        }
+    }
+}
@@ -13,13 +13,17 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.StringReader;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.assertj.core.groups.Tuple;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
+import org.jdbi.v3.json.JsonMapper.TypedJsonMapper;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.junit.jupiter.api.Test;
@@ -122,6 +126,20 @@ public abstract class AbstractJsonMapperTest {
         });
     }
 
+    @Test
+    public void testStreamingRoundTrip() {
+        ConfigRegistry config = jdbi.getConfig();
+        TypedJsonMapper mapper = config.get(JsonConfig.class).getJsonMapper().forType(JsonBean.class, config);
+        assertThat(mapper).isInstanceOf(StreamingTypedJsonMapper.class);
+        StreamingTypedJsonMapper streamingMapper = (StreamingTypedJsonMapper) mapper;
+
+        // larger than the internal buffers, with surrogate pairs crossing chunk boundaries
+        JsonBean in = new JsonBean("y\u00e4ms \uD83C\uDF60 \u20ac".repeat(2_000), 42);
+
+        Object out = streamingMapper.fromJson(new StringReader(mapper.toJson(in, config)), config);
+        assertThat(out).isEqualTo(in);
+    }
+
     public static class JsonBean {
         private final String food;
         private final int bitcoins;
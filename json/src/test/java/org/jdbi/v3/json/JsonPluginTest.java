@@ -13,11 +13,17 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,6 +82,95 @@ public class JsonPluginTest {
         assertThat(result).isSameAs(instance);
     }
 
+    @Test
+    public void streamingFactoryChainWorks() {
+        Jdbi jdbi = h2Extension.getJdbi();
+        Object instance = new Foo();
+        String json = "{\"foo\":\"" + "x".repeat(10_000) + "\"}";
+
+        jdbi.getConfig(JsonConfig.class)
+            .setStreaming(true)
+            .setJsonMapper((type, config) -> new StreamingTypedJsonMapper() {
+                @Override
+                public Object fromJson(Reader reader, ConfigRegistry config) {
+                    try {
+                        StringWriter readJson = new StringWriter();
+                        reader.transferTo(readJson);
+                        assertThat(readJson).hasToString(json);
+                        return instance;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public String toJson(Object value, ConfigRegistry config) {
+                    return json;
+                }
+
+                @Override
+                public Object fromJson(String readJson, ConfigRegistry config) {
+                    assertThat(readJson).isEqualTo("null");
+                    return null;
+                }
+            });
+
+        Object result = jdbi.withHandle(h -> {
+            h.createUpdate("insert into foo(bar) values(:foo)")
+                .bindByType("foo", instance, QualifiedType.of(Foo.class).with(Json.class))
+                .execute();
+
+            assertThat(h.createQuery("select bar from foo").mapTo(String.class).one())
+                .isEqualTo(json);
+
+            return h.createQuery("select bar from foo")
+                .mapTo(QualifiedType.of(Foo.class).with(Json.class))
+                .one();
+        });
+
+        assertThat(result).isSameAs(instance);
+    }
+
+    @Test
+    public void streamingJsonNullIsSqlNull() {
+        Jdbi jdbi = h2Extension.getJdbi();
+
+        jdbi.getConfig(JsonConfig.class)
+            .setStreaming(true)
+            .setJsonMapper((type, config) -> new StreamingTypedJsonMapper() {
+                @Override
+                public Object fromJson(Reader reader, ConfigRegistry config) {
+                    throw new AssertionError("sql null must not be streamed");
+                }
+
+                @Override
+                public String toJson(Object value, ConfigRegistry config) {
+                    return "null";
+                }
+
+                @Override
+                public Object fromJson(String readJson, ConfigRegistry config) {
+                    assertThat(readJson).isEqualTo("null");
+                    return null;
+                }
+            });
+
+        Object result = jdbi.withHandle(h -> {
+            h.createUpdate("insert into foo(bar) values(:foo)")
+                .bindByType("foo", new Foo(), QualifiedType.of(Foo.class).with(Json.class))
+                .execute();
+
+            assertThat(h.createQuery("select bar from foo").mapTo(String.class).one())
+                .isNull();
+
+            return h.createQuery("select bar from foo")
+                .mapTo(QualifiedType.of(Foo.class).with(Json.class))
+                .findOne();
+        });
+
+        assertThat(result).isEqualTo(Optional.empty());
+    }
+
     public static class Foo {
 
         @Override
@@ -14,9 +14,13 @@
 package org.jdbi.v3.moshi;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import okio.Okio;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.json.JsonMapper;
@@ -24,7 +28,7 @@ import org.jdbi.v3.json.JsonMapper;
 class MoshiJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(Type type, ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             private final JsonAdapter<Object> adapter = config.get(MoshiConfig.class).getMoshi().adapter(type);
 
             @Override
@@ -40,6 +44,20 @@ class MoshiJsonMapper implements JsonMapper {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            @Override
+            public Object fromJson(Reader in, ConfigRegistry config) {
+                try (JsonReader reader = JsonReader.of(Okio.buffer(OkioCharStreams.source(in)))) {
+                    Object value = adapter.fromJson(reader);
+                    // same check as JsonAdapter#fromJson(String)
+                    if (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+                        throw new JsonDataException("JSON document was not fully consumed.");
+                    }
+                    return value;
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
         };
     }
 }
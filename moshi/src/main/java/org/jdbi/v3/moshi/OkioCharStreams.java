@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.moshi;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import okio.Buffer;
+import okio.Source;
+import okio.Timeout;
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Adapts a character stream to the okio byte stream that Moshi reads, converting chars to UTF-8 bytes in small chunks.
+ */
+final class OkioCharStreams {
+    private static final int BUFFER_SIZE = 8192;
+
+    private OkioCharStreams() {
+        throw new UtilityClassException();
+    }
+
+    static Source source(Reader reader) {
+        return new ReaderSource(reader);
+    }
+
+    private static final class ReaderSource implements Source {
+        private final Reader reader;
+        private final char[] chars = new char[BUFFER_SIZE];
+        // a high surrogate that was read without its low surrogate is kept at the start of the buffer
+        private boolean pendingSurrogate;
+
+        ReaderSource(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            int start = pendingSurrogate ? 1 : 0;
+            // a char is encoded as at most three bytes
+            int maxChars = (int) Math.min(chars.length - start, Math.max(1, byteCount / 3));
+            int read = reader.read(chars, start, maxChars);
+            if (read < 0) {
+                if (!pendingSurrogate) {
+                    return -1;
+                }
+                // flushes the unpaired high surrogate
+                read = 0;
+            }
+
+            int end = start + read;
+            int complete = end;
+            if (read > 0 && Character.isHighSurrogate(chars[end - 1])) {
+                complete--;
+            }
+            long before = sink.size();
+            sink.writeUtf8(new String(chars, 0, complete));
+            pendingSurrogate = complete < end;
+            if (pendingSurrogate) {
+                chars[0] = chars[complete];
+            }
+            return sink.size() - before;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+
+/**
+ * Applies a Jdbi {@link Argument} to a statement that only records the bound value, so that the value can be
+ * written in the copy text format.
+ */
+final class CopyArgumentRecorder implements InvocationHandler {
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+
+    // set by the proxied statement while an argument is applied
+    @SuppressWarnings("PMD.SingularField")
+    private Object value;
+
+    CopyArgumentRecorder(Connection connection) {
+        this.connection = connection;
+        this.statement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, this);
+    }
+
+    Object record(Object argumentValue, StatementContext ctx) throws SQLException {
+        if (argumentValue == null) {
+            return null;
+        }
+        Argument argument = ctx.findArgumentFor(argumentValue.getClass(), argumentValue)
+            .orElseThrow(() -> new UnableToCreateStatementException("No argument factory registered for '" + argumentValue + "' of type " + argumentValue.getClass(), ctx));
+        value = null;
+        argument.apply(1, statement, ctx);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if ("getConnection".equals(name)) {
+            return connection;
+        } else if ("setNull".equals(name)) {
+            value = null;
+            return null;
+        } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            value = read(args[1]);
+            return null;
+        } else if ("hashCode".equals(name)) {
+            return System.identityHashCode(proxy);
+        } else if ("equals".equals(name)) {
+            return proxy == args[0];
+        } else if ("toString".equals(name)) {
+            return "CopyArgumentRecorder";
+        }
+        throw new SQLFeatureNotSupportedException("Copy arguments do not support " + name);
+    }
+
+    private static Object read(Object boundValue) throws SQLException, IOException {
+        if (boundValue instanceof InputStream stream) {
+            return stream.readAllBytes();
+        } else if (boundValue instanceof Reader reader) {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        } else if (boundValue instanceof Blob blob) {
+            return blob.getBytes(1, (int) blob.length());
+        } else if (boundValue instanceof Clob clob) {
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return boundValue;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Presents the current row of a text format copy as a {@link ResultSet}, so that it can be mapped by row and column
+ * mappers. Only the getters that mappers use are supported; values are converted from their text representation.
+ */
+final class CopyRowResultSet implements InvocationHandler {
+
+    private static final DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE)
+        .appendLiteral(' ')
+        .append(DateTimeFormatter.ISO_LOCAL_TIME)
+        .appendOffset("+HH:mm", "+00")
+        .toFormatter(Locale.ROOT);
+
+    private final List<String> columnNames;
+    private final ResultSet resultSet;
+    private final ResultSetMetaData metaData;
+
+    private String[] row;
+    private boolean wasNull;
+
+    CopyRowResultSet(List<String> columnNames) {
+        this.columnNames = List.copyOf(columnNames);
+        this.resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, this);
+        this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] {ResultSetMetaData.class},
+            this::invokeMetaData);
+    }
+
+    ResultSet getResultSet() {
+        return resultSet;
+    }
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly") // each parsed row is a new array
+    void setRow(String[] newRow) throws SQLException {
+        if (newRow.length != columnNames.size()) {
+            throw new SQLException(String.format("Copy returned %d columns, but %d column names %s were given", newRow.length, columnNames.size(), columnNames));
+        }
+        this.row = newRow;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "getMetaData" -> metaData;
+            case "findColumn" -> findColumn((String) args[0]);
+            case "wasNull" -> wasNull;
+            case "isClosed" -> false;
+            case "close" -> null;
+            case "getObject" -> args.length == 2 && args[1] instanceof Class<?> type ? get(args[0], type) : get(args[0], String.class);
+            case "getString", "getNString" -> get(args[0], String.class);
+            case "getBoolean" -> primitive(get(args[0], Boolean.class), false);
+            case "getByte" -> primitive(get(args[0], Byte.class), (byte) 0);
+            case "getShort" -> primitive(get(args[0], Short.class), (short) 0);
+            case "getInt" -> primitive(get(args[0], Integer.class), 0);
+            case "getLong" -> primitive(get(args[0], Long.class), 0L);
+            case "getFloat" -> primitive(get(args[0], Float.class), 0f);
+            case "getDouble" -> primitive(get(args[0], Double.class), 0d);
+            case "getBigDecimal" -> get(args[0], BigDecimal.class);
+            case "getBytes" -> get(args[0], byte[].class);
+            case "getDate" -> get(args[0], Date.class);
+            case "getTime" -> get(args[0], Time.class);
+            case "getTimestamp" -> get(args[0], Timestamp.class);
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "CopyRowResultSet" + columnNames;
+            default -> throw new SQLFeatureNotSupportedException("Copy rows do not support " + method.getName());
+        };
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private Object invokeMetaData(Object proxy, Method method, Object[] args) throws SQLException {
+        return switch (method.getName()) {
+            case "getColumnCount" -> columnNames.size();
+            case "getColumnLabel", "getColumnName" -> columnNames.get(checkColumn((Integer) args[0]) - 1);
+            case "getColumnType" -> Types.VARCHAR;
+            case "getColumnTypeName" -> "text";
+            case "getColumnClassName" -> String.class.getName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "CopyRowMetaData" + columnNames;
+            default -> throw new SQLFeatureNotSupportedException("Copy rows do not support " + method.getName());
+        };
+    }
+
+    private int findColumn(String label) throws SQLException {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("Column '" + label + "' not found in " + columnNames);
+    }
+
+    private int checkColumn(int column) throws SQLException {
+        if (column < 1 || column > columnNames.size()) {
+            throw new SQLException("Column index " + column + " out of range, copy has " + columnNames.size() + " columns");
+        }
+        return column;
+    }
+
+    private Object primitive(Object value, Object defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private Object get(Object column, Class<?> type) throws SQLException {
+        int index = column instanceof String label ? findColumn(label) : checkColumn((Integer) column);
+        if (row == null) {
+            throw new SQLException("No current row");
+        }
+        String value = row[index - 1];
+        wasNull = value == null;
+        if (value == null) {
+            return null;
+        }
+        try {
+            return convert(value, type);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new SQLException(String.format("Could not convert '%s' in column %d to %s", value, index, type.getName()), e);
+        }
+    }
+
+    private static Object convert(String value, Class<?> type) throws SQLException {
+        if (type == String.class || type == Object.class) {
+            return value;
+        } else if (type == Integer.class) {
+            return Integer.valueOf(value);
+        } else if (type == Long.class) {
+            return Long.valueOf(value);
+        } else if (type == Short.class) {
+            return Short.valueOf(value);
+        } else if (type == Byte.class) {
+            return Byte.valueOf(value);
+        } else if (type == Double.class) {
+            return Double.valueOf(value);
+        } else if (type == Float.class) {
+            return Float.valueOf(value);
+        } else if (type == Boolean.class) {
+            return "t".equals(value) || "true".equalsIgnoreCase(value);
+        } else if (type == BigDecimal.class) {
+            return new BigDecimal(value);
+        } else if (type == byte[].class) {
+            return value.startsWith("\\x") ? HexFormat.of().parseHex(value, 2, value.length()) : value.getBytes(StandardCharsets.UTF_8);
+        } else if (type == UUID.class) {
+            return UUID.fromString(value);
+        } else if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        } else if (type == LocalTime.class) {
+            return LocalTime.parse(value);
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } else if (type == OffsetDateTime.class) {
+            return OffsetDateTime.parse(value, OFFSET_DATE_TIME);
+        } else if (type == Instant.class) {
+            return OffsetDateTime.parse(value, OFFSET_DATE_TIME).toInstant();
+        } else if (type == Date.class) {
+            return Date.valueOf(value);
+        } else if (type == Time.class) {
+            return Time.valueOf(value);
+        } else if (type == Timestamp.class) {
+            // timestamp with time zone columns contain an offset
+            return value.indexOf('+', 10) > 0 || value.lastIndexOf('-') > 10
+                ? Timestamp.from(OffsetDateTime.parse(value, OFFSET_DATE_TIME).toInstant())
+                : Timestamp.valueOf(value);
+        }
+        throw new SQLFeatureNotSupportedException("Copy rows can not convert text to " + type.getName());
+    }
+}
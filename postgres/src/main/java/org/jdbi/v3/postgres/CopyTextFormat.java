@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.postgresql.util.PGobject;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Encodes and decodes the text format of the Postgres <code>COPY</code> command. Columns are separated by tabs,
+ * rows by newlines and <code>\N</code> represents null.
+ */
+final class CopyTextFormat {
+
+    static final String NULL = "\\N";
+
+    // like the driver, java.sql date and time values are sent in the default time zone of the JVM with its offset
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSSxxxxx");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd xxxxx");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSSxxxxx");
+
+    private CopyTextFormat() {
+        throw new UtilityClassException();
+    }
+
+    static void appendValue(StringBuilder row, Object value) {
+        if (value == null) {
+            row.append(NULL);
+        } else if (value instanceof byte[] bytes) {
+            // bytea hex format, the backslash is escaped for the copy format
+            row.append("\\\\x").append(HexFormat.of().formatHex(bytes));
+        } else if (value instanceof Boolean b) {
+            row.append(b ? 't' : 'f');
+        } else if (value instanceof PGobject pgObject) {
+            appendEscaped(row, pgObject.getValue());
+        } else if (value instanceof Timestamp timestamp) {
+            // rounded to microseconds, the precision of the server
+            row.append(TIMESTAMP_FORMAT.format(inDefaultZone(timestamp.toInstant().plusNanos(500).truncatedTo(ChronoUnit.MICROS))));
+        } else if (value instanceof Date date) {
+            row.append(DATE_FORMAT.format(inDefaultZone(Instant.ofEpochMilli(date.getTime()))));
+        } else if (value instanceof Time time) {
+            row.append(TIME_FORMAT.format(inDefaultZone(Instant.ofEpochMilli(time.getTime()))));
+        } else {
+            appendEscaped(row, value.toString());
+        }
+    }
+
+    private static ZonedDateTime inDefaultZone(Instant instant) {
+        return instant.atZone(ZoneId.systemDefault());
+    }
+
+    private static void appendEscaped(StringBuilder row, String value) {
+        if (value == null) {
+            row.append(NULL);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+    }
+
+    static String[] parseRow(String line) {
+        List<String> columns = new ArrayList<>();
+        int start = 0;
+        int tab = line.indexOf('\t');
+        while (tab >= 0) {
+            columns.add(parseColumn(line.substring(start, tab)));
+            start = tab + 1;
+            tab = line.indexOf('\t', start);
+        }
+        columns.add(parseColumn(line.substring(start)));
+        return columns.toArray(new String[0]);
+    }
+
+    private static String parseColumn(String column) {
+        if (NULL.equals(column)) {
+            return null;
+        }
+        int backslash = column.indexOf('\\');
+        if (backslash < 0) {
+            return column;
+        }
+
+        StringBuilder value = new StringBuilder(column.length());
+        value.append(column, 0, backslash);
+        // \x and octal escapes are bytes in the client encoding, which the driver always sets to UTF-8. Consecutive
+        // bytes are collected and decoded together, as a character may be escaped as several bytes.
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int i = backslash;
+        while (i < column.length()) {
+            char c = column.charAt(i++);
+            if (c != '\\' || i == column.length()) {
+                appendBytes(value, bytes);
+                value.append(c);
+                continue;
+            }
+            char escaped = column.charAt(i++);
+            int radix = escaped == 'x' ? 16 : 8;
+            int start = escaped == 'x' ? i : i - 1;
+            int end = digits(column, start, escaped == 'x' ? 2 : 3, radix);
+            if (end > start) {
+                // like the server, only the low byte of an octal escape is used
+                bytes.write(Integer.parseInt(column, start, end, radix) & 0xff);
+                i = end;
+                continue;
+            }
+            appendBytes(value, bytes);
+            switch (escaped) {
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'v' -> value.append('\u000b');
+                default -> value.append(escaped);
+            }
+        }
+        appendBytes(value, bytes);
+        return value.toString();
+    }
+
+    private static void appendBytes(StringBuilder value, ByteArrayOutputStream bytes) {
+        if (bytes.size() > 0) {
+            value.append(bytes.toString(UTF_8));
+            bytes.reset();
+        }
+    }
+
+    private static int digits(String column, int start, int maxDigits, int radix) {
+        int end = start;
+        while (end < column.length() && end - start < maxDigits && Character.digit(column.charAt(end), radix) >= 0) {
+            end++;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Streams rows in and out of the database with the Postgres <code>COPY</code> command, using the text format.
+ * <p>
+ * Rows are encoded and decoded one at a time while the copy runs, so neither direction holds the whole data set
+ * in memory. The connection can not be used for other statements until a copy has finished.
+ *
+ * @since 3.52.0
+ */
+@Beta
+public interface PgCopyApi {
+
+    /**
+     * Copies rows into the database. Each column value is bound with the argument factories registered on the handle
+     * and written in the text format.
+     *
+     * @param sql a <code>COPY ... FROM STDIN</code> statement
+     * @param rows the rows to copy
+     * @param columns returns the column values of a row, in the order of the columns in the statement
+     * @param <T> the row type
+     * @return the number of rows copied
+     */
+    <T> long copyIn(String sql, Iterator<T> rows, Function<? super T, Object[]> columns);
+
+    /**
+     * Copies rows into the database. The stream is consumed but not closed.
+     *
+     * @param sql a <code>COPY ... FROM STDIN</code> statement
+     * @param rows the rows to copy
+     * @param columns returns the column values of a row, in the order of the columns in the statement
+     * @param <T> the row type
+     * @return the number of rows copied
+     * @see #copyIn(String, Iterator, Function)
+     */
+    default <T> long copyIn(String sql, Stream<T> rows, Function<? super T, Object[]> columns) {
+        return copyIn(sql, rows.iterator(), columns);
+    }
+
+    /**
+     * Copies rows out of the database and maps each row with the given row mapper. The text format does not contain
+     * column names, so they must be given in the order of the columns in the statement. The returned stream must be
+     * closed; closing it before all rows were read cancels the copy.
+     *
+     * @param sql a <code>COPY ... TO STDOUT</code> statement
+     * @param columnNames the names of the copied columns
+     * @param mapper maps a row
+     * @param <T> the row type
+     * @return a stream of mapped rows
+     */
+    <T> Stream<T> copyOut(String sql, List<String> columnNames, RowMapper<T> mapper);
+
+    /**
+     * Copies rows out of the database and maps each row with the row mapper registered for the given type.
+     *
+     * @param sql a <code>COPY ... TO STDOUT</code> statement
+     * @param columnNames the names of the copied columns
+     * @param type the row type
+     * @param <T> the row type
+     * @return a stream of mapped rows
+     * @see #copyOut(String, List, RowMapper)
+     */
+    <T> Stream<T> copyOut(String sql, List<String> columnNames, Class<T> type);
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class PgCopyApiImpl implements PgCopyApi {
+    private static final int BUF_SIZE = 1024 * 64;
+    private final Handle handle;
+
+    PgCopyApiImpl(Handle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public <T> long copyIn(String sql, Iterator<T> rows, Function<? super T, Object[]> columns) {
+        try (Query query = handle.createQuery(sql);
+            PGCopyOutputStream out = new PGCopyOutputStream(pgConnection(), sql, BUF_SIZE)) {
+            StatementContext ctx = query.getContext();
+            CopyArgumentRecorder recorder = new CopyArgumentRecorder(handle.getConnection());
+            try {
+                StringBuilder row = new StringBuilder();
+                while (rows.hasNext()) {
+                    row.setLength(0);
+                    Object[] values = columns.apply(rows.next());
+                    for (int i = 0; i < values.length; i++) {
+                        if (i > 0) {
+                            row.append('\t');
+                        }
+                        CopyTextFormat.appendValue(row, recorder.record(values[i], ctx));
+                    }
+                    row.append('\n');
+                    out.write(row.toString().getBytes(UTF_8));
+                }
+                return out.endCopy();
+            } catch (RuntimeException | Error | SQLException | IOException e) {
+                // closing an active copy ends it, a failed copy must be cancelled instead
+                cancel(out, e);
+                throw e;
+            }
+        } catch (SQLException | IOException e) {
+            throw new CopyException(e);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> copyOut(String sql, List<String> columnNames, Class<T> type) {
+        RowMapper<T> mapper = handle.getConfig(RowMappers.class).findFor(type)
+            .orElseThrow(() -> new NoSuchMapperException("No row mapper registered for " + type));
+        return copyOut(sql, columnNames, mapper);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.ExceptionAsFlowControl")
+    public <T> Stream<T> copyOut(String sql, List<String> columnNames, RowMapper<T> mapper) {
+        Query query = handle.createQuery(sql);
+        try {
+            StatementContext ctx = query.getContext();
+            CopyRowResultSet rowResultSet = new CopyRowResultSet(columnNames);
+            RowMapper<T> rowMapper = mapper.specialize(rowResultSet.getResultSet(), ctx);
+            PGCopyInputStream in = new PGCopyInputStream(pgConnection(), sql);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8), BUF_SIZE);
+
+            Iterator<T> iterator = new Iterator<>() {
+                private String line;
+
+                @Override
+                public boolean hasNext() {
+                    if (line == null) {
+                        try {
+                            line = reader.readLine();
+                        } catch (IOException e) {
+                            throw new CopyException(e);
+                        }
+                    }
+                    return line != null;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    try {
+                        rowResultSet.setRow(CopyTextFormat.parseRow(line));
+                        return rowMapper.map(rowResultSet.getResultSet(), ctx);
+                    } catch (SQLException e) {
+                        throw new CopyException(e);
+                    } finally {
+                        line = null;
+                    }
+                }
+            };
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try (query) {
+                        // cancels the copy if not all rows were read
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        } catch (SQLException e) {
+            query.close();
+            throw new CopyException(e);
+        } catch (RuntimeException e) {
+            query.close();
+            throw e;
+        }
+    }
+
+    private PGConnection pgConnection() throws SQLException {
+        return handle.getConnection().unwrap(PGConnection.class);
+    }
+
+    private static void cancel(PGCopyOutputStream out, Throwable e) {
+        try {
+            if (out.isActive()) {
+                out.cancelCopy();
+            }
+        } catch (SQLException ce) {
+            e.addSuppressed(ce);
+        }
+    }
+}
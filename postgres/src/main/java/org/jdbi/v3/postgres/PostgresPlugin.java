@@ -29,6 +29,7 @@ import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.postgres.internal.BitStringEnumSetArgumentFactory;
 import org.jdbi.v3.postgres.internal.BitStringEnumSetMapperFactory;
 import org.jdbi.v3.postgres.internal.ByteaArrayType;
+import org.jdbi.v3.postgres.internal.PgVectorFactory;
 import org.postgresql.PGConnection;
 import org.postgresql.geometric.PGbox;
 import org.postgresql.geometric.PGcircle;
@@ -56,6 +57,7 @@ import org.postgresql.util.PGmoney;
  * <li>{@link java.io.InputStream} and {@link java.io.Reader} from {@code oid} large object columns</li>
  * <li>@MacAddr {@link java.lang.String} (for {@code MACADDR} columns)</li>
  * <li>@HStore {@link Map} (for {@code HSTORE} columns)</li>
+ * <li>@Vector, @HalfVec and @SparseVec {@code float[]} (for pgvector {@code VECTOR}, {@code HALFVEC} and {@code SPARSEVEC} columns)</li>
  * </ul>
  *
  * <p>
@@ -153,6 +155,10 @@ public class PostgresPlugin extends JdbiPlugin.Singleton {
         jdbi.registerColumnMapper(new BlobInputStreamColumnMapperFactory());
         jdbi.registerColumnMapper(new ClobReaderColumnMapperFactory());
 
+        PgVectorFactory vectorFactory = new PgVectorFactory();
+        jdbi.registerArgument(vectorFactory);
+        jdbi.registerColumnMapper(vectorFactory);
+
         if (installLegacy) {
             // legacy unqualified HSTORE
             // Do *NOT* replace with `new HStoreArgumentFactory()`, the AI/Intellij whatever hint is wrong.
@@ -176,6 +182,7 @@ public class PostgresPlugin extends JdbiPlugin.Singleton {
         return handle.configure(PostgresTypes.class, pt -> {
             pt.addTypesToConnection(pgConnection);
             pt.setLobApi(new PgLobApiImpl(conn));
+            pt.setCopyApi(new PgCopyApiImpl(handle));
         });
     }
 
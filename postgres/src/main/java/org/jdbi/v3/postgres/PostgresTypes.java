@@ -20,6 +20,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.meta.Beta;
 import org.postgresql.PGConnection;
 import org.postgresql.util.PGobject;
 
@@ -30,6 +31,7 @@ public class PostgresTypes implements JdbiConfig<PostgresTypes> {
     private final Map<Class<? extends PGobject>, String> types;
     private ConfigRegistry registry;
     private PgLobApi lob;
+    private PgCopyApi copy;
 
     @SuppressWarnings("unused")
     public PostgresTypes() {
@@ -39,6 +41,7 @@ public class PostgresTypes implements JdbiConfig<PostgresTypes> {
     private PostgresTypes(PostgresTypes that) {
         this.types = new CopyOnWriteHashMap<>(that.types);
         this.lob = that.lob;
+        this.copy = that.copy;
     }
 
     @Override
@@ -73,6 +76,21 @@ public class PostgresTypes implements JdbiConfig<PostgresTypes> {
         return lob;
     }
 
+    PostgresTypes setCopyApi(PgCopyApi newCopy) {
+        this.copy = newCopy;
+        return this;
+    }
+
+    /**
+     * Provide access to streaming <code>COPY</code> operations via Postgres specific API.
+     * @return the postgres copy api
+     * @since 3.52.0
+     */
+    @Beta
+    public PgCopyApi getCopyApi() {
+        return copy;
+    }
+
     /**
      * Add handler for each registered PostgreSQL custom type
      *
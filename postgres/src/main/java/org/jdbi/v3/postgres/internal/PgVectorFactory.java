@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres.internal;
+
+import java.lang.annotation.Annotation;
+import java.sql.Types;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.QualifiedArgumentFactory;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.QualifiedColumnMapperFactory;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.postgres.HalfVec;
+import org.jdbi.v3.postgres.SparseVec;
+import org.jdbi.v3.postgres.Vector;
+
+/**
+ * Binds and maps {@code @Vector float[]}, {@code @HalfVec float[]} and {@code @SparseVec float[]} without going
+ * through the text representation of {@link org.postgresql.util.PGobject} where the driver allows it.
+ */
+public class PgVectorFactory implements QualifiedArgumentFactory.Preparable, QualifiedColumnMapperFactory {
+    private static final Map<Class<? extends Annotation>, PgVectorFormat> FORMATS = Map.of(
+        Vector.class, PgVectorFormat.VECTOR,
+        HalfVec.class, PgVectorFormat.HALFVEC,
+        SparseVec.class, PgVectorFormat.SPARSEVEC);
+
+    @Override
+    public Optional<Function<Object, Argument>> prepare(QualifiedType<?> type, ConfigRegistry config) {
+        return findFormat(type).map(format -> value -> (position, statement, ctx) -> {
+            if (value == null) {
+                statement.setNull(position, Types.OTHER);
+            } else {
+                statement.setObject(position, new PgVectorObject(format, (float[]) value));
+            }
+        });
+    }
+
+    @Override
+    public Optional<Argument> build(QualifiedType<?> type, Object value, ConfigRegistry config) {
+        return prepare(type, config).map(argument -> argument.apply(value));
+    }
+
+    @Override
+    public Optional<ColumnMapper<?>> build(QualifiedType<?> type, ConfigRegistry config) {
+        return findFormat(type).map(format -> (r, columnNumber, ctx) -> {
+            // the raw column value, binary if the driver received the column in binary format
+            byte[] bytes = r.getBytes(columnNumber);
+            return bytes == null ? null : format.parse(bytes);
+        });
+    }
+
+    private static Optional<PgVectorFormat> findFormat(QualifiedType<?> type) {
+        Set<Annotation> qualifiers = type.getQualifiers();
+        if (type.getType() != float[].class || qualifiers.size() != 1) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(FORMATS.get(qualifiers.iterator().next().annotationType()));
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres.internal;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Encodes and decodes the pgvector data types from and to {@code float[]}. The binary format is the format of the
+ * {@code send} and {@code recv} functions of the extension, all values are big endian.
+ */
+public enum PgVectorFormat {
+    /** {@code vector}: int16 dimensions, int16 unused, float4 values. */
+    VECTOR("vector") {
+        @Override
+        public int binaryLength(float[] vector) {
+            return 4 + 4 * vector.length;
+        }
+
+        @Override
+        public void toBinary(float[] vector, byte[] bytes, int offset) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, binaryLength(vector));
+            buffer.putShort(checkDimensions(vector.length)).putShort((short) 0);
+            for (float value : vector) {
+                buffer.putFloat(value);
+            }
+        }
+
+        @Override
+        float[] fromBinary(ByteBuffer buffer) {
+            float[] vector = new float[buffer.getShort() & 0xffff];
+            buffer.getShort();
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = buffer.getFloat();
+            }
+            return vector;
+        }
+    },
+
+    /** {@code halfvec}: int16 dimensions, int16 unused, IEEE 754 half precision values. */
+    HALFVEC("halfvec") {
+        @Override
+        public int binaryLength(float[] vector) {
+            return 4 + 2 * vector.length;
+        }
+
+        @Override
+        public void toBinary(float[] vector, byte[] bytes, int offset) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, binaryLength(vector));
+            buffer.putShort(checkDimensions(vector.length)).putShort((short) 0);
+            for (float value : vector) {
+                buffer.putShort(floatToHalf(value));
+            }
+        }
+
+        @Override
+        float[] fromBinary(ByteBuffer buffer) {
+            float[] vector = new float[buffer.getShort() & 0xffff];
+            buffer.getShort();
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = halfToFloat(buffer.getShort());
+            }
+            return vector;
+        }
+    },
+
+    /** {@code sparsevec}: int32 dimensions, int32 number of non zero elements, int32 unused, int32 indices, float4 values. */
+    SPARSEVEC("sparsevec") {
+        @Override
+        public int binaryLength(float[] vector) {
+            return 12 + 8 * nonZero(vector);
+        }
+
+        @Override
+        public void toBinary(float[] vector, byte[] bytes, int offset) {
+            int nonZero = nonZero(vector);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, 12 + 8 * nonZero);
+            buffer.putInt(vector.length).putInt(nonZero).putInt(0);
+            for (int i = 0; i < vector.length; i++) {
+                if (vector[i] != 0) {
+                    buffer.putInt(i);
+                }
+            }
+            for (float value : vector) {
+                if (value != 0) {
+                    buffer.putFloat(value);
+                }
+            }
+        }
+
+        @Override
+        float[] fromBinary(ByteBuffer buffer) {
+            float[] vector = new float[buffer.getInt()];
+            int[] indices = new int[buffer.getInt()];
+            buffer.getInt();
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = buffer.getInt();
+            }
+            for (int index : indices) {
+                vector[index] = buffer.getFloat();
+            }
+            return vector;
+        }
+
+        @Override
+        public String toText(float[] vector) {
+            StringBuilder text = new StringBuilder(16 + 8 * vector.length).append('{');
+            for (int i = 0; i < vector.length; i++) {
+                if (vector[i] != 0) {
+                    if (text.length() > 1) {
+                        text.append(',');
+                    }
+                    text.append(i + 1).append(':').append(vector[i]);
+                }
+            }
+            return text.append("}/").append(vector.length).toString();
+        }
+
+        @Override
+        float[] fromText(byte[] text) {
+            int slash = lastIndexOf(text, '/');
+            if (text[0] != '{' || slash < 2 || text[slash - 1] != '}') {
+                throw new IllegalArgumentException("Invalid sparsevec: " + new String(text, US_ASCII));
+            }
+            float[] vector = new float[parseInt(text, slash + 1, text.length)];
+            int start = 1;
+            while (start < slash - 1) {
+                int end = indexOf(text, ',', start, slash - 1);
+                int colon = indexOf(text, ':', start, end);
+                vector[parseInt(text, start, colon) - 1] = parseFloat(text, colon + 1, end);
+                start = end + 1;
+            }
+            return vector;
+        }
+    };
+
+    private final String typeName;
+
+    PgVectorFormat(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Returns the name of the Postgres data type.
+     *
+     * @return the type name
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the number of bytes of the binary representation.
+     *
+     * @param vector the vector
+     * @return the number of bytes
+     */
+    public abstract int binaryLength(float[] vector);
+
+    /**
+     * Writes the binary representation, which is {@link #binaryLength(float[])} bytes long.
+     *
+     * @param vector the vector
+     * @param bytes the target array
+     * @param offset the offset in the target array
+     */
+    public abstract void toBinary(float[] vector, byte[] bytes, int offset);
+
+    abstract float[] fromBinary(ByteBuffer buffer);
+
+    /**
+     * Returns the text representation.
+     *
+     * @param vector the vector
+     * @return the text representation
+     */
+    public String toText(float[] vector) {
+        StringBuilder text = new StringBuilder(2 + 8 * vector.length).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(vector[i]);
+        }
+        return text.append(']').toString();
+    }
+
+    float[] fromText(byte[] text) {
+        if (text[0] != '[' || text[text.length - 1] != ']') {
+            throw new IllegalArgumentException("Invalid " + typeName + ": " + new String(text, US_ASCII));
+        }
+        int end = text.length - 1;
+        if (end == 1) {
+            return new float[0];
+        }
+        int count = 1;
+        for (int i = 1; i < end; i++) {
+            if (text[i] == ',') {
+                count++;
+            }
+        }
+        float[] vector = new float[count];
+        int start = 1;
+        for (int i = 0; i < count; i++) {
+            int comma = indexOf(text, ',', start, end);
+            vector[i] = parseFloat(text, start, comma);
+            start = comma + 1;
+        }
+        return vector;
+    }
+
+    /**
+     * Decodes a column value as returned by {@link java.sql.ResultSet#getBytes(int)}. The driver returns the binary
+     * representation if the column was transferred in binary format and the text representation otherwise. A text
+     * representation starts with {@code [} or <code>{</code>, which is not a valid first byte of the binary format
+     * for the supported number of dimensions.
+     *
+     * @param bytes the column value
+     * @return the vector
+     */
+    public float[] parse(byte[] bytes) {
+        if (bytes.length > 0 && (bytes[0] == '[' || bytes[0] == '{')) {
+            return fromText(bytes);
+        }
+        return fromBinary(ByteBuffer.wrap(bytes));
+    }
+
+    private static short checkDimensions(int dimensions) {
+        if (dimensions > 0xffff) {
+            throw new IllegalArgumentException("Vector has " + dimensions + " dimensions, at most 65535 are supported");
+        }
+        return (short) dimensions;
+    }
+
+    private static int nonZero(float[] vector) {
+        int count = 0;
+        for (float value : vector) {
+            if (value != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int indexOf(byte[] text, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text[i] == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int lastIndexOf(byte[] text, char c) {
+        for (int i = text.length - 1; i >= 0; i--) {
+            if (text[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static float parseFloat(byte[] text, int start, int end) {
+        return Float.parseFloat(new String(text, start, end - start, US_ASCII));
+    }
+
+    private static int parseInt(byte[] text, int start, int end) {
+        return Integer.parseInt(new String(text, start, end - start, US_ASCII).trim());
+    }
+
+    // IEEE 754 binary16 conversion, rounds to nearest even
+    static short floatToHalf(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        if (Float.isNaN(value)) {
+            return (short) (sign | 0x7e00);
+        }
+        float abs = Math.abs(value);
+        // larger than the maximum half value plus half an ulp
+        if (abs >= 65_520f) {
+            return (short) (sign | 0x7c00);
+        }
+        // half of the smallest subnormal half value and smaller round to zero
+        if (abs <= 0x1.0p-25f) {
+            return (short) sign;
+        }
+
+        int exponent = Math.getExponent(value);
+        int shift = 13;
+        int significand = bits & 0x007f_ffff;
+        if (exponent < -14) {
+            // subnormal half value, include the implicit bit
+            shift += -14 - exponent;
+            exponent = -15;
+            significand |= 0x0080_0000;
+        }
+
+        int half = significand >> shift;
+        int round = 1 << (shift - 1);
+        int rest = significand & ((round << 1) - 1);
+        if (rest > round || (rest == round && (half & 1) != 0)) {
+            half++;
+        }
+        // a carry from rounding increments the exponent
+        return (short) (sign | (((exponent + 15) << 10) + half));
+    }
+
+    static float halfToFloat(short half) {
+        int sign = half & 0x8000;
+        int exponent = (half >>> 10) & 0x1f;
+        int significand = half & 0x03ff;
+        if (exponent == 0) {
+            float value = 0x1.0p-24f * significand;
+            return sign == 0 ? value : -value;
+        }
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign << 16 | 0x7f80_0000 | significand << 13);
+        }
+        return Float.intBitsToFloat(sign << 16 | (exponent - 15 + 127) << 23 | significand << 13);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres.internal;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * Binds a {@code float[]} as a pgvector data type. The driver sends the binary representation if binary transfer is
+ * enabled for the type with the {@code binaryTransferEnable} connection property, otherwise the text representation
+ * is created on demand.
+ */
+@SuppressFBWarnings(value = "EQ_DOESNT_OVERRIDE_EQUALS", justification = "PGobject compares getValue(), which renders the vector")
+final class PgVectorObject extends PGobject implements PGBinaryObject {
+    private static final long serialVersionUID = 1L;
+
+    private final PgVectorFormat format;
+    private float[] vector;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly") // the vector is only read while the statement is executed
+    PgVectorObject(PgVectorFormat format, float[] vector) {
+        this.format = format;
+        this.vector = vector;
+        this.type = format.getTypeName();
+    }
+
+    @Override
+    public String getValue() {
+        if (value == null && vector != null) {
+            value = format.toText(vector);
+        }
+        return value;
+    }
+
+    @Override
+    public void setValue(String newValue) throws SQLException {
+        super.setValue(newValue);
+        this.vector = null;
+    }
+
+    @Override
+    public void setByteValue(byte[] bytes, int offset) throws SQLException {
+        this.vector = format.parse(Arrays.copyOfRange(bytes, offset, bytes.length));
+        this.value = null;
+    }
+
+    @Override
+    public int lengthInBytes() {
+        return format.binaryLength(vector);
+    }
+
+    @Override
+    public void toBytes(byte[] bytes, int offset) {
+        format.toBinary(vector, bytes, offset);
+    }
+}
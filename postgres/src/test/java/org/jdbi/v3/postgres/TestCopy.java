@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import de.softwareforge.testing.postgres.junit5.EmbeddedPgExtension;
+import de.softwareforge.testing.postgres.junit5.MultiDatabaseBuilder;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCopy {
+
+    @RegisterExtension
+    public static EmbeddedPgExtension pg = MultiDatabaseBuilder.instanceWithDefaults().build();
+
+    @RegisterExtension
+    public JdbiExtension pgExtension = JdbiExtension.postgres(pg).withPlugin(new PostgresPlugin())
+        .withInitializer((ds, h) -> h.execute("CREATE TABLE item (id int, name text, created date)"));
+
+    private Handle h;
+    private PgCopyApi copy;
+
+    @BeforeEach
+    public void setUp() {
+        this.h = pgExtension.getSharedHandle();
+        this.copy = h.getConfig(PostgresTypes.class).getCopyApi();
+        h.registerRowMapper(ConstructorMapper.factory(Item.class));
+    }
+
+    @Test
+    public void copyInAndOut() {
+        List<Item> items = List.of(
+            new Item(1, "plain", LocalDate.of(2024, 1, 2)),
+            new Item(2, "tab\tnewline\nbackslash\\ümlaut€", null),
+            new Item(3, null, LocalDate.of(2025, 12, 31)));
+
+        assertThat(copy.copyIn("COPY item (id, name, created) FROM STDIN", items.stream(),
+            item -> new Object[] {item.id(), item.name(), item.created()})).isEqualTo(3);
+
+        assertThat(h.createQuery("SELECT id, name, created FROM item ORDER BY id").mapTo(Item.class).list())
+            .containsExactlyElementsOf(items);
+
+        try (Stream<Item> stream = copy.copyOut("COPY (SELECT id, name, created FROM item ORDER BY id) TO STDOUT",
+            List.of("id", "name", "created"), Item.class)) {
+            assertThat(stream).containsExactlyElementsOf(items);
+        }
+    }
+
+    @Test
+    public void copyManyRows() {
+        int count = 100_000;
+        assertThat(copy.copyIn("COPY item (id, name) FROM STDIN", IntStream.range(0, count).iterator(),
+            id -> new Object[] {id, "item " + id})).isEqualTo(count);
+
+        try (Stream<Integer> ids = copy.copyOut("COPY item (id) TO STDOUT", List.of("id"), (rs, ctx) -> rs.getInt("id"))) {
+            assertThat(ids.mapToLong(Integer::longValue).sum()).isEqualTo((long) count * (count - 1) / 2);
+        }
+    }
+
+    @Test
+    public void closeCancelsCopyOut() {
+        copy.copyIn("COPY item (id) FROM STDIN", IntStream.range(0, 1000).boxed(), id -> new Object[] {id});
+
+        try (Stream<Integer> ids = copy.copyOut("COPY item (id) TO STDOUT", List.of("id"), (rs, ctx) -> rs.getInt(1))) {
+            assertThat(ids.limit(10)).hasSize(10);
+        }
+
+        assertThat(h.createQuery("SELECT count(*) FROM item").mapTo(int.class).one()).isEqualTo(1000);
+    }
+
+    @Test
+    public void copyInDateTimeValuesLikeTheDriver() {
+        // a session time zone that differs from the time zone of the JVM
+        h.execute("SET TIME ZONE 'Asia/Kathmandu'");
+        h.execute("CREATE TABLE event (id int, at timestamptz, local_at timestamp, day date, clock time, clock_tz timetz, offset_at timestamptz, plain_at timestamp)");
+
+        Instant instant = Instant.parse("2024-03-31T01:30:15.123456Z");
+        List<Object[]> rows = List.of(
+            new Object[] {1, instant, Timestamp.from(instant), Date.valueOf("2024-03-31"), Time.valueOf("23:59:58"), Time.valueOf("00:00:01"),
+                OffsetDateTime.parse("2024-01-01T10:00:00+01:00"), LocalDateTime.parse("2024-01-01T10:00:00.5")},
+            new Object[] {2, Instant.EPOCH, new Timestamp(0), new Date(0), new Time(0), new Time(0), null, null});
+
+        assertThat(copy.copyIn("COPY event FROM STDIN", rows.stream(), row -> row)).isEqualTo(2);
+
+        for (Object[] row : rows) {
+            h.createUpdate("INSERT INTO event VALUES (:id + 10, :at, :local_at, :day, :clock, :clock_tz, :offset_at, :plain_at)")
+                .bind("id", row[0]).bind("at", row[1]).bind("local_at", row[2]).bind("day", row[3])
+                .bind("clock", row[4]).bind("clock_tz", row[5]).bind("offset_at", row[6]).bind("plain_at", row[7])
+                .execute();
+        }
+
+        String sql = "SELECT concat_ws('|', at, local_at, day, clock, clock_tz, offset_at, plain_at) FROM event WHERE id %s 10 ORDER BY id";
+        assertThat(h.createQuery(String.format(sql, "<")).mapTo(String.class).list())
+            .containsExactlyElementsOf(h.createQuery(String.format(sql, ">")).mapTo(String.class).list());
+        assertThat(h.createQuery("SELECT at FROM event WHERE id = 1").mapTo(Instant.class).one()).isEqualTo(instant);
+    }
+
+    public record Item(int id, String name, LocalDate created) {}
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCopyTextFormat {
+
+    @Test
+    public void parseEscapes() {
+        assertThat(CopyTextFormat.parseRow("a\\tb\\\\c\t\\N\t\\n\\r\\b\\f\\v\tx\\y"))
+            .containsExactly("a\tb\\c", null, "\n\r\b\f\u000b", "xy");
+    }
+
+    @Test
+    public void parseByteEscapesAsUtf8() {
+        // "ü" and "€" escaped as their UTF-8 bytes, mixed with hex and octal escapes
+        assertThat(CopyTextFormat.parseRow("\\xc3\\xbc\t\\342\\202\\254 = \\xe2\\202\\xac\t\\x41\\102"))
+            .containsExactly("ü", "€ = €", "AB");
+    }
+
+    @Test
+    public void parseIncompleteEscapes() {
+        assertThat(CopyTextFormat.parseRow("\\xg\t\\9\tend\\"))
+            .containsExactly("xg", "9", "end\\");
+    }
+
+    @Test
+    public void appendValueRoundTrip() {
+        StringBuilder row = new StringBuilder();
+        CopyTextFormat.appendValue(row, "tab\tnewline\nbackslash\\ümlaut");
+
+        assertThat(CopyTextFormat.parseRow(row.toString())).containsExactly("tab\tnewline\nbackslash\\ümlaut");
+    }
+}
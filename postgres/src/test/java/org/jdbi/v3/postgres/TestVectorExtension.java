@@ -13,15 +13,22 @@
  */
 package org.jdbi.v3.postgres;
 
+import java.lang.annotation.Annotation;
+
 import com.pgvector.PGhalfvec;
 import com.pgvector.PGsparsevec;
 import com.pgvector.PGvector;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
 import org.jdbi.v3.testing.junit5.tc.JdbiTestcontainersExtension;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.postgresql.PGResultSetMetaData;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 import org.testcontainers.containers.PgVectorContainerProvider;
 import org.testcontainers.junit.jupiter.Container;
@@ -85,4 +92,98 @@ public class TestVectorExtension {
             assertThat(actual.toArray()).isEqualTo(expected.toArray());
         }
     }
+
+    @Test
+    void testFloatArrayVector() {
+        assertFloatArrayRoundTrip("vector(3)", Vector.class, new float[] { 2, 4.5f, -8 });
+    }
+
+    @Test
+    void testFloatArrayHalfVector() {
+        assertFloatArrayRoundTrip("halfvec(3)", HalfVec.class, new float[] { 2, 4.5f, -8 });
+    }
+
+    @Test
+    void testFloatArraySparseVector() {
+        assertFloatArrayRoundTrip("sparsevec(4)", SparseVec.class, new float[] { 2, 0, -8, 0 });
+    }
+
+    @Test
+    void testFloatArrayBinaryTransfer() {
+        // the type OIDs are assigned when the extension is created, binary transfer must be enabled for them
+        final String oids = extension.getSharedHandle()
+                .createQuery("select string_agg(oid::text, ',') from pg_type where typname in ('vector', 'halfvec', 'sparsevec')")
+                .mapTo(String.class)
+                .one();
+        final String url = dbContainer.getJdbcUrl() + (dbContainer.getJdbcUrl().contains("?") ? "&" : "?")
+                // prepareThreshold=-1 uses server prepared statements, and with them binary results, from the first execution
+                + "binaryTransferEnable=" + oids + "&prepareThreshold=-1";
+        final Jdbi jdbi = Jdbi.create(url, dbContainer.getUsername(), dbContainer.getPassword())
+                .installPlugin(new PostgresPlugin());
+
+        assertBinaryRoundTrip(jdbi, "vector(3)", Vector.class, new float[] { 2, 4.5f, -8 });
+        assertBinaryRoundTrip(jdbi, "halfvec(3)", HalfVec.class, new float[] { 2, 4.5f, -8 });
+        assertBinaryRoundTrip(jdbi, "sparsevec(4)", SparseVec.class, new float[] { 2, 0, -8, 0 });
+    }
+
+    private void assertBinaryRoundTrip(Jdbi jdbi, String columnType, Class<? extends Annotation> qualifier, float[] expected) {
+        final QualifiedType<float[]> type = QualifiedType.of(float[].class).with(qualifier);
+        jdbi.useHandle(h -> {
+            h.execute("create temporary table binary_embeddings (embedding " + columnType + ")");
+            h.createUpdate("insert into binary_embeddings (embedding) values (:embedding)")
+                    .bindByType("embedding", expected, type)
+                    .execute();
+
+            // the server parsed the binary value
+            assertThat(h.createQuery("select embedding::text from binary_embeddings").mapTo(String.class).one())
+                    .isEqualTo(h.createQuery("select cast(:text as " + columnType + ")::text")
+                            .bind("text", pgvectorText(qualifier, expected))
+                            .mapTo(String.class)
+                            .one());
+
+            final ColumnMapper<float[]> mapper = h.getConfig(ColumnMappers.class).findFor(type).orElseThrow();
+            final float[] actual = h.createQuery("select embedding from binary_embeddings")
+                    .map((rs, ctx) -> {
+                        assertThat(rs.getMetaData().unwrap(PGResultSetMetaData.class).getFormat(1)).as("binary format").isOne();
+                        return mapper.map(rs, 1, ctx);
+                    })
+                    .one();
+            assertThat(actual).containsExactly(expected);
+        });
+    }
+
+    private static String pgvectorText(Class<? extends Annotation> qualifier, float[] vector) {
+        if (qualifier == Vector.class) {
+            return new PGvector(vector).getValue();
+        } else if (qualifier == HalfVec.class) {
+            return new PGhalfvec(vector).getValue();
+        }
+        return new PGsparsevec(vector).getValue();
+    }
+
+    private void assertFloatArrayRoundTrip(String columnType, Class<? extends Annotation> qualifier, float[] expected) {
+        final QualifiedType<float[]> type = QualifiedType.of(float[].class).with(qualifier);
+        try (var h = extension.openHandle()) {
+            h.execute("create temporary table embeddings (id int primary key, embedding " + columnType + ")");
+            // the driver switches to server prepared statements and binary transfer after a few executions
+            for (int i = 0; i < 10; i++) {
+                h.createUpdate("insert into embeddings (id, embedding) values (:id, :embedding)")
+                        .bind("id", i)
+                        .bindByType("embedding", expected, type)
+                        .execute();
+                final var actual = h.createQuery("select embedding from embeddings where id = :id")
+                        .bind("id", i)
+                        .mapTo(type)
+                        .one();
+
+                assertThat(actual).containsExactly(expected);
+            }
+
+            h.createUpdate("insert into embeddings (id, embedding) values (:id, :embedding)")
+                    .bind("id", -1)
+                    .bindByType("embedding", null, type)
+                    .execute();
+            assertThat(h.createQuery("select embedding from embeddings where id = -1").mapTo(type).one()).isNull();
+        }
+    }
 }
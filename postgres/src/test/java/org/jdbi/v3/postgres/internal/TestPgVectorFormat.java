@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres.internal;
+
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPgVectorFormat {
+
+    private static final float[] VECTOR = {1.5f, 0, -0.25f, 300f, 0, 0.5f};
+
+    @Test
+    public void binaryRoundTrip() {
+        for (PgVectorFormat format : PgVectorFormat.values()) {
+            byte[] bytes = new byte[format.binaryLength(VECTOR)];
+            format.toBinary(VECTOR, bytes, 0);
+
+            assertThat(format.parse(bytes)).describedAs("%s", format).containsExactly(VECTOR);
+        }
+    }
+
+    @Test
+    public void textRoundTrip() {
+        for (PgVectorFormat format : PgVectorFormat.values()) {
+            assertThat(format.parse(format.toText(VECTOR).getBytes(US_ASCII))).describedAs("%s", format).containsExactly(VECTOR);
+        }
+    }
+
+    @Test
+    public void vectorBinary() {
+        byte[] bytes = new byte[PgVectorFormat.VECTOR.binaryLength(new float[] {1f, -2f})];
+        PgVectorFormat.VECTOR.toBinary(new float[] {1f, -2f}, bytes, 0);
+
+        assertThat(bytes).containsExactly(0, 2, 0, 0, 0x3f, 0x80, 0, 0, 0xc0, 0, 0, 0);
+    }
+
+    @Test
+    public void sparseVectorBinary() {
+        float[] vector = {0, 2f, 0};
+        byte[] bytes = new byte[PgVectorFormat.SPARSEVEC.binaryLength(vector)];
+        PgVectorFormat.SPARSEVEC.toBinary(vector, bytes, 0);
+
+        assertThat(bytes).containsExactly(0, 0, 0, 3, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 0x40, 0, 0, 0);
+    }
+
+    // the output of vector_send('[1,2,3]'), halfvec_send('[0.5,-1.5,65504]') and so on from a pgvector server:
+    // vector: int16 dim, int16 unused, float4 values
+    // halfvec: int16 dim, int16 unused, float2 values
+    // sparsevec: int32 dim, int32 nnz, int32 unused, int32 0-based indices, float4 values
+
+    @Test
+    public void vectorServerBinary() {
+        assertGolden(PgVectorFormat.VECTOR, "00030000" + "3f800000" + "40000000" + "40400000", 1f, 2f, 3f);
+        assertGolden(PgVectorFormat.VECTOR, "00020000" + "3fc00000" + "be800000", 1.5f, -0.25f);
+    }
+
+    @Test
+    public void halfVectorServerBinary() {
+        assertGolden(PgVectorFormat.HALFVEC, "00030000" + "3c00" + "4000" + "4200", 1f, 2f, 3f);
+        assertGolden(PgVectorFormat.HALFVEC, "00030000" + "3800" + "be00" + "7bff", 0.5f, -1.5f, 65504f);
+    }
+
+    @Test
+    public void sparseVectorServerBinary() {
+        // '{1:1,3:2}/5', the text format counts indices from 1
+        assertGolden(PgVectorFormat.SPARSEVEC, "00000005" + "00000002" + "00000000" + "00000000" + "00000002" + "3f800000" + "40000000",
+            1f, 0, 2f, 0, 0);
+        // '{}/3'
+        assertGolden(PgVectorFormat.SPARSEVEC, "00000003" + "00000000" + "00000000", 0, 0, 0);
+    }
+
+    private static void assertGolden(PgVectorFormat format, String hex, float... vector) {
+        byte[] golden = HexFormat.of().parseHex(hex);
+
+        byte[] bytes = new byte[format.binaryLength(vector)];
+        format.toBinary(vector, bytes, 0);
+        assertThat(bytes).describedAs("%s", format).containsExactly(golden);
+
+        assertThat(format.parse(golden)).describedAs("%s", format).containsExactly(vector);
+    }
+
+    @Test
+    public void parseText() {
+        assertThat(PgVectorFormat.VECTOR.parse("[1,2.5,-3e-05]".getBytes(US_ASCII))).containsExactly(1f, 2.5f, -3e-05f);
+        assertThat(PgVectorFormat.SPARSEVEC.parse("{1:1.5,3:2}/4".getBytes(US_ASCII))).containsExactly(1.5f, 0, 2f, 0);
+        assertThat(PgVectorFormat.SPARSEVEC.parse("{}/2".getBytes(US_ASCII))).containsExactly(0, 0);
+        assertThat(PgVectorFormat.SPARSEVEC.toText(new float[] {0, 1f})).isEqualTo("{2:1.0}/2");
+
+        assertThatThrownBy(() -> PgVectorFormat.SPARSEVEC.parse("{1:1}".getBytes(US_ASCII)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void halfPrecision() {
+        assertThat(PgVectorFormat.floatToHalf(1f)).isEqualTo((short) 0x3c00);
+        assertThat(PgVectorFormat.floatToHalf(-2f)).isEqualTo((short) 0xc000);
+        assertThat(PgVectorFormat.floatToHalf(65504f)).isEqualTo((short) 0x7bff);
+        assertThat(PgVectorFormat.floatToHalf(1e6f)).isEqualTo((short) 0x7c00);
+        assertThat(PgVectorFormat.floatToHalf(0x1.0p-24f)).isEqualTo((short) 0x0001);
+        assertThat(PgVectorFormat.floatToHalf(0x1.0p-26f)).isZero();
+        // 1 + 2^-11 is halfway between two half values and rounds to even
+        assertThat(PgVectorFormat.floatToHalf(1f + 0x1.0p-11f)).isEqualTo((short) 0x3c00);
+        assertThat(PgVectorFormat.floatToHalf(1f + 0x1.8p-10f)).isEqualTo((short) 0x3c02);
+
+        for (int half = 0; half < 0x7c00; half++) {
+            assertThat(PgVectorFormat.floatToHalf(PgVectorFormat.halfToFloat((short) half))).isEqualTo((short) half);
+        }
+        assertThat(PgVectorFormat.halfToFloat((short) 0x8001)).isEqualTo(-0x1.0p-24f);
+    }
+}
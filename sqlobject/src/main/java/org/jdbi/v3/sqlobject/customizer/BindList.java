@@ -19,6 +19,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.meta.Beta;
 import org.jdbi.v3.sqlobject.customizer.internal.BindListFactory;
 
 import static org.jdbi.v3.core.statement.EmptyHandling.BLANK;
@@ -59,6 +60,20 @@ public @interface BindList {
      */
     EmptyHandling onEmpty() default BindList.EmptyHandling.THROW;
 
+    /**
+     * Pad the number of bound parameters to the next power of two by repeating the last value, so that lists of
+     * different sizes share a small number of SQL statements. Lists are padded to at most
+     * {@link org.jdbi.v3.core.statement.SqlStatements#getMaxPaddedListSize()} parameters. Only use this for
+     * {@code IN} lists.
+     *
+     * @return true if the list is padded.
+     *
+     * @see SqlStatement#bindPaddedList(java.util.function.BiConsumer, String, java.util.List)
+     * @since 3.52.0
+     */
+    @Beta
+    boolean padded() default false;
+
     // TODO jdbi4 remove this duplicate of `core` EmptyHandling
     /**
      * describes what needs to be done if the passed argument is null or empty
@@ -18,7 +18,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.sql.SQLException;
-import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.mapper.Mappers;
@@ -40,24 +39,22 @@ public class BindFactory implements SqlStatementCustomizerFactory {
                                                               Type type) {
         Bind b = (Bind) annotation;
         String nameFromAnnotation = b == null ? Bind.NO_VALUE : b.value();
-        Optional<String> name = ParameterUtil.findParameterName(nameFromAnnotation, param);
+        String name = ParameterUtil.findParameterName(nameFromAnnotation, param).orElse(null);
+        // qualifiers are found by annotation type and do not depend on the configuration
+        QualifiedType<?> qualifiedType = QualifiedType.of(type).withAnnotations(new Qualifiers().findFor(param));
 
         return new SqlStatementParameterCustomizer() {
             @Override
             public void apply(SqlStatement<?> stmt, Object arg) throws SQLException {
-                QualifiedType<?> qualifiedType = qualifiedType(stmt.getConfig());
                 stmt.bindByType(index, arg, qualifiedType);
-                name.ifPresent(n -> stmt.bindByType(n, arg, qualifiedType));
+                if (name != null) {
+                    stmt.bindByType(name, arg, qualifiedType);
+                }
             }
 
             @Override
             public void warm(ConfigRegistry config) {
-                config.get(Mappers.class).findFor(qualifiedType(config));
-            }
-
-            private QualifiedType<?> qualifiedType(ConfigRegistry config) {
-                return QualifiedType.of(type).withAnnotations(
-                        config.get(Qualifiers.class).findFor(param));
+                config.get(Mappers.class).findFor(qualifiedType);
             }
         };
     }
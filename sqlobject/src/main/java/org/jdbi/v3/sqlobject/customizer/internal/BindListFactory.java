@@ -38,6 +38,9 @@ public final class BindListFactory implements SqlStatementCustomizerFactory {
                         + "and parameter name data is not present in the class file, for: "
                         + param.getDeclaringExecutable() + "::" + param));
 
+        if (bindList.padded()) {
+            return (stmt, arg) -> stmt.bindPaddedList(bindList.onEmpty().getCoreImpl(), name, arg == null ? null : IterableLike.toList(arg));
+        }
         return (stmt, arg) -> stmt.bindList(bindList.onEmpty().getCoreImpl(), name, arg == null ? null : IterableLike.toList(arg));
     }
 }
@@ -38,4 +38,9 @@ public class BindParameterCustomizerFactory implements ParameterCustomizerFactor
                                                               Type type) {
         return bindSqlStatementCustomizerFactory.createForParameter(null, sqlObjectType, method, param, index, type);
     }
+
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
 }
@@ -17,6 +17,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 
+import org.jdbi.v3.meta.Beta;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
 
 @FunctionalInterface
@@ -37,4 +38,17 @@ public interface ParameterCustomizerFactory {
                                                        Parameter param,
                                                        int index,
                                                        Type type);
+
+    /**
+     * Returns true if the customizers created by this factory hold no per-invocation state.
+     * The customizer created for a parameter is then reused by all invocations of the method,
+     * possibly on different threads. Otherwise the factory is called on every invocation.
+     *
+     * @return true if created customizers may be shared between invocations
+     * @since 3.52.0
+     */
+    @Beta
+    default boolean isShareable() {
+        return false;
+    }
 }
@@ -33,6 +33,7 @@ import org.jdbi.v3.core.extension.AttachedExtensionHandler;
 import org.jdbi.v3.core.extension.ExtensionHandler;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.internal.JdbiClassUtils.MethodHandleHolder;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.SqlStatement;
@@ -49,6 +50,7 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 import static java.util.stream.Stream.concat;
 
 import static org.jdbi.v3.core.internal.JdbiClassUtils.checkedCreateInstance;
+import static org.jdbi.v3.core.internal.JdbiClassUtils.findConstructor;
 import static org.jdbi.v3.core.internal.JdbiClassUtils.safeVarargs;
 import static org.jdbi.v3.core.internal.JdbiClassUtils.superTypes;
 
@@ -57,14 +59,14 @@ import static org.jdbi.v3.core.internal.JdbiClassUtils.superTypes;
  */
 abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements ExtensionHandler {
 
-    private final List<BoundCustomizer> statementCustomizers;
+    private final BoundCustomizer[] statementCustomizers;
     private final Class<?> sqlObjectType;
     private final Method method;
 
     CustomizingStatementHandler(Class<?> sqlObjectType, Method method) {
         this.sqlObjectType = sqlObjectType;
         this.method = method;
-        this.statementCustomizers = new ArrayList<>();
+        final List<BoundCustomizer> statementCustomizers = new ArrayList<>();
 
         // type customizers, including annotations on the interface's supertypes
         concat(superTypes(sqlObjectType), Stream.of(sqlObjectType))
@@ -81,6 +83,8 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
 
         // parameter customizers
         parameterCustomizers().forEach(statementCustomizers::add);
+
+        this.statementCustomizers = statementCustomizers.toArray(new BoundCustomizer[0]);
     }
 
     private static Stream<Annotation> annotationsFor(AnnotatedElement... elements) {
@@ -140,11 +144,14 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     /**
-     * Default parameter customizer for parameters with no annotations.
+     * Default parameter customizer for parameters with no annotations. The configured default factory
+     * is called on every use, unless it is shareable. Then its customizer is reused until the factory changes.
      */
     private BoundCustomizer defaultParameterCustomizer(Parameter parameter, Integer i) {
         final Type parameterType = getParameterType(parameter);
         return new BoundCustomizer() {
+            private volatile DefaultCustomizer current;
+
             @Override
             public void warm(ConfigRegistry config) {
                 create(config).warm(config);
@@ -156,8 +163,17 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
             }
 
             private SqlStatementParameterCustomizer create(ConfigRegistry config) {
-                return getDefaultParameterCustomizerFactory(config)
-                        .createForParameter(sqlObjectType, method, parameter, i, parameterType);
+                final ParameterCustomizerFactory factory = getDefaultParameterCustomizerFactory(config);
+                if (!factory.isShareable()) {
+                    return factory.createForParameter(sqlObjectType, method, parameter, i, parameterType);
+                }
+                final DefaultCustomizer cached = current;
+                if (cached != null && cached.factory().equals(factory)) {
+                    return cached.customizer();
+                }
+                final SqlStatementParameterCustomizer customizer = factory.createForParameter(sqlObjectType, method, parameter, i, parameterType);
+                current = new DefaultCustomizer(factory, customizer);
+                return customizer;
             }
         };
     }
@@ -197,7 +213,9 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
 
             @Override
             public void warm(ConfigRegistry config) {
-                statementCustomizers.forEach(s -> s.warm(config));
+                for (BoundCustomizer customizer : statementCustomizers) {
+                    customizer.warm(config);
+                }
                 CustomizingStatementHandler.this.warm(config);
             }
         };
@@ -206,13 +224,13 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     protected void warm(ConfigRegistry config) {}
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
-            try {
-                b.apply(stmt, args);
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException(e, stmt.getContext());
+        try {
+            for (BoundCustomizer customizer : statementCustomizers) {
+                customizer.apply(stmt, args);
             }
-        });
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(e, stmt.getContext());
+        }
     }
 
     abstract void configureReturner(StatementType stmt, SqlObjectStatementConfiguration cfg);
@@ -238,8 +256,19 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
         return checkedCreateInstance(useRowMapper.value());
     }
 
-    static RowReducer<?, ?> rowReducerFor(UseRowReducer useRowReducer) {
-        return checkedCreateInstance(useRowReducer.value());
+    // the constructor is looked up once, each call creates a new mapper or reducer because it may hold state
+    static Supplier<RowMapper<?>> rowMapperFactoryFor(UseRowMapper useRowMapper) {
+        return instanceFactory(useRowMapper.value());
+    }
+
+    static Supplier<RowReducer<?, ?>> rowReducerFactoryFor(UseRowReducer useRowReducer) {
+        return instanceFactory(useRowReducer.value());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> instanceFactory(Class<? extends T> type) {
+        final MethodHandleHolder<? extends T> constructor = findConstructor(type);
+        return () -> (T) constructor.invoke(handle -> handle.invokeExact());
     }
 
     /**
@@ -266,4 +295,6 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
             };
         }
     }
+
+    private record DefaultCustomizer(ParameterCustomizerFactory factory, SqlStatementParameterCustomizer customizer) {}
 }
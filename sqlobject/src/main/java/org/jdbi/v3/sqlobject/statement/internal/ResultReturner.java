@@ -302,6 +302,8 @@ abstract class ResultReturner {
     static class CollectedResultReturner<T> extends ResultReturner {
 
         private final QualifiedType<T> returnType;
+        // collectors do not hold state, the collector is found once and reused until a collector factory is registered
+        private volatile ResolvedCollector resolved;
 
         CollectedResultReturner(QualifiedType<T> returnType) {
             this.returnType = returnType;
@@ -310,7 +312,7 @@ abstract class ResultReturner {
         @Override
         @SuppressWarnings({"unchecked", "rawtypes"})
         protected Object mappedResult(ResultIterable<?> iterable, StatementContext ctx) {
-            Collector collector = ctx.findCollectorFor(returnType.getType()).orElse(null);
+            Collector collector = collectorFor(ctx.getConfig());
             if (collector != null) {
                 return iterable.collect(collector);
             }
@@ -320,7 +322,7 @@ abstract class ResultReturner {
         @Override
         @SuppressWarnings({"unchecked", "rawtypes"})
         protected Object reducedResult(Stream<?> stream, StatementContext ctx) {
-            Collector collector = ctx.findCollectorFor(returnType.getType()).orElse(null);
+            Collector collector = collectorFor(ctx.getConfig());
             if (collector != null) {
                 return stream.collect(collector);
             }
@@ -330,7 +332,19 @@ abstract class ResultReturner {
         @Override
         protected void warm(ConfigRegistry config) {
             super.warm(config);
-            config.get(JdbiCollectors.class).findFor(returnType.getType());
+            collectorFor(config);
+        }
+
+        @SuppressWarnings("PMD.CompareObjectsWithEquals") // generations are compared by identity
+        private Collector<?, ?, ?> collectorFor(ConfigRegistry config) {
+            final JdbiCollectors collectors = config.get(JdbiCollectors.class);
+            final Object generation = collectors.getResolutionGeneration();
+            ResolvedCollector current = resolved;
+            if (current == null || current.generation() != generation) {
+                current = new ResolvedCollector(generation, collectors.findFor(returnType.getType()).orElse(null));
+                resolved = current;
+            }
+            return current.collector();
         }
 
         @Override
@@ -541,4 +555,6 @@ abstract class ResultReturner {
             return Optional.of(new FunctionResultReturner<>(functionIndex, iterableType, (s, f) -> f.apply((Iterable<?>) s::iterator)));
         }
     }
+
+    private record ResolvedCollector(Object generation, Collector<?, ?, ?> collector) {}
 }
@@ -14,11 +14,14 @@
 package org.jdbi.v3.sqlobject.statement.internal;
 
 import java.lang.reflect.Method;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.statement.UseRowMapper;
@@ -26,19 +29,22 @@ import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
     private final ResultReturner resultReturner;
-    private final UseRowMapper useRowMapper;
-    private final UseRowReducer useRowReducer;
+    private final Supplier<RowMapper<?>> rowMapperFactory;
+    private final Supplier<RowReducer<?, ?>> rowReducerFactory;
 
     public SqlQueryHandler(Class<?> sqlObjectType, Method method) {
         super(sqlObjectType, method);
         this.resultReturner = ResultReturner.forMethod(sqlObjectType, method);
 
-        this.useRowMapper = method.getAnnotation(UseRowMapper.class);
-        this.useRowReducer = method.getAnnotation(UseRowReducer.class);
+        final UseRowMapper useRowMapper = method.getAnnotation(UseRowMapper.class);
+        final UseRowReducer useRowReducer = method.getAnnotation(UseRowReducer.class);
 
-        if (this.useRowReducer != null && this.useRowMapper != null) {
+        if (useRowReducer != null && useRowMapper != null) {
             throw new IllegalStateException("Cannot declare @UseRowMapper and @UseRowReducer on the same method.");
         }
+
+        this.rowMapperFactory = useRowMapper == null ? null : rowMapperFactoryFor(useRowMapper);
+        this.rowReducerFactory = useRowReducer == null ? null : rowReducerFactoryFor(useRowReducer);
     }
 
     @Override
@@ -51,15 +57,16 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
 
         cfg.setReturner(() -> {
             StatementContext ctx = query.getContext();
-            QualifiedType<?> elementType = resultReturner.elementType(ctx.getConfig());
 
-            if (useRowReducer != null) {
-                return resultReturner.reducedResult(query.reduceRows(rowReducerFor(useRowReducer)), ctx);
+            if (rowReducerFactory != null) {
+                return resultReturner.reducedResult(query.reduceRows(rowReducerFactory.get()), ctx);
             }
 
-            ResultIterable<?> iterable = useRowMapper == null
+            QualifiedType<?> elementType = rowMapperFactory == null ? resultReturner.elementType(ctx.getConfig()) : null;
+
+            ResultIterable<?> iterable = rowMapperFactory == null
                     ? query.mapTo(elementType)
-                    : query.map(rowMapperFor(useRowMapper));
+                    : query.map(rowMapperFactory.get());
             return resultReturner.mappedResult(iterable, ctx);
         });
     }
@@ -15,10 +15,12 @@ package org.jdbi.v3.sqlobject.statement.internal;
 
 import java.lang.reflect.Method;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.result.ResultBearing;
@@ -51,18 +53,17 @@ public class SqlUpdateHandler extends CustomizingStatementHandler<Update> {
         if (getGeneratedKeys != null) {
             String[] columnNames = getGeneratedKeys.value();
             var resultReturner = ResultReturner.forMethod(sqlObjectType, method);
+            UseRowMapper useRowMapper = method.getAnnotation(UseRowMapper.class);
+            Supplier<RowMapper<?>> rowMapperFactory = useRowMapper == null ? null : rowMapperFactoryFor(useRowMapper);
 
             this.resultTransformer = new WarmableResultTransformer() {
                 @Override
                 public Object apply(Update update) {
-                    var ctx = update.getContext();
-                    var elementType = resultReturner.elementType(ctx.getConfig());
                     ResultBearing resultBearing = update.executeAndReturnGeneratedKeys(columnNames);
 
-                    UseRowMapper useRowMapper = method.getAnnotation(UseRowMapper.class);
-                    ResultIterable<?> iterable = useRowMapper == null
-                        ? resultBearing.mapTo(elementType)
-                        : resultBearing.map(rowMapperFor(useRowMapper));
+                    ResultIterable<?> iterable = rowMapperFactory == null
+                        ? resultBearing.mapTo(resultReturner.elementType(update.getConfig()))
+                        : resultBearing.map(rowMapperFactory.get());
 
                     return resultReturner.mappedResult(iterable, update.getContext());
                 }
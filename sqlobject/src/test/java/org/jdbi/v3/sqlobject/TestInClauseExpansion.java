@@ -52,9 +52,22 @@ public class TestInClauseExpansion {
         assertThat(dao.findIdsForNames(asList(1, 2))).containsExactly("Brian", "Jeff");
     }
 
+    @Test
+    public void testPaddedInClauseExpansion() {
+        handle.execute("insert into something (name, id) values ('Brian', 1), ('Jeff', 2), ('Tom', 3)");
+
+        DAO dao = handle.attach(DAO.class);
+
+        assertThat(dao.findIdsForNamesPadded(asList(1, 2, 3))).containsExactly("Brian", "Jeff", "Tom");
+        assertThat(dao.findIdsForNamesPadded(asList(3))).containsExactly("Tom");
+    }
+
     public interface DAO {
         @SqlQuery("select name from something where id in (<names>)")
         ImmutableSet<String> findIdsForNames(@BindList List<Integer> names);
+
+        @SqlQuery("select name from something where id in (<names>) order by id")
+        ImmutableSet<String> findIdsForNamesPadded(@BindList(padded = true) List<Integer> names);
     }
 
 }
@@ -13,10 +13,16 @@
  */
 package org.jdbi.v3.sqlobject;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -70,9 +76,38 @@ public class TestReturningQuery {
         ResultIterable<Something> findById(@Bind("id") int id);
     }
 
+    @Test
+    public void testExplicitMapperIsCreatedForEachCall() {
+        handle.execute("insert into something (id, name) values (7, 'Tim')");
+        CountingMapper.INSTANCES.set(0);
+
+        Spiffy2 spiffy = handle.attach(Spiffy2.class);
+        assertThat(spiffy.findByIdWithCountingMapper(7)).isEqualTo("Tim");
+        assertThat(spiffy.findByIdWithCountingMapper(7)).isEqualTo("Tim");
+
+        assertThat(CountingMapper.INSTANCES.get()).isEqualTo(2);
+    }
+
+    public static class CountingMapper implements RowMapper<String> {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingMapper() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String map(ResultSet rs, StatementContext ctx) throws SQLException {
+            return rs.getString("name");
+        }
+    }
+
     public interface Spiffy2 {
         @SqlQuery("select id, name from something where id = :id")
         @UseRowMapper(SomethingMapper.class)
         ResultIterable<Something> findByIdWithExplicitMapper(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something where id = :id")
+        @UseRowMapper(CountingMapper.class)
+        String findByIdWithCountingMapper(@Bind("id") int id);
     }
 }
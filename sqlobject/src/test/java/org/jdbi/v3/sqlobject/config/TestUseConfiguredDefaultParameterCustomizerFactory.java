@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.sqlobject.config;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jdbi.v3.core.Handle;
@@ -22,6 +25,7 @@ import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
 import org.jdbi.v3.sqlobject.statement.ParameterCustomizerFactory;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
@@ -79,6 +83,30 @@ public class TestUseConfiguredDefaultParameterCustomizerFactory {
         assertThat(invocationCounter.get()).isEqualTo(2);
     }
 
+    @Test
+    public void shouldShareCustomizersOfShareableFactory() {
+        handle.getConfig(SqlObjects.class).setDefaultParameterCustomizerFactory(new ParameterCustomizerFactory() {
+            @Override
+            public SqlStatementParameterCustomizer createForParameter(Class<?> sqlObjectType, Method method, Parameter param, int index, Type type) {
+                invocationCounter.incrementAndGet();
+                return (stmt, arg) -> stmt.bind("mybind" + index, arg);
+            }
+
+            @Override
+            public boolean isShareable() {
+                return true;
+            }
+        });
+
+        SomethingDao h = handle.attach(SomethingDao.class);
+        h.findByNameAndIdNoBindAnnotation(1, "Joy");
+        h.findByNameAndIdNoBindAnnotation(2, "Joy");
+
+        // factory is called once for each parameter, warm() and all
+        // invocations share the created customizers
+        assertThat(invocationCounter.get()).isEqualTo(2);
+    }
+
     @RegisterRowMapper(SomethingMapper.class)
     public interface SomethingDao {
 